@@ -26,6 +26,10 @@
 
 package java.io;
 
+import java.nio.ByteOrder;
+import java.security.AccessController;
+import sun.misc.Unsafe;
+
 /**
  * Utility methods for packing/unpacking primitive values in/out of byte arrays
  * using big-endian byte ordering.
@@ -129,4 +133,143 @@ class Bits {
     static void putDouble(byte[] b, int off, double val) {
         putLong(b, off, Double.doubleToLongBits(val));
     }
+
+    /*
+     * Methods for converting ranges of primitive arrays to and from byte
+     * arrays.  Each is equivalent to repeated invocation of the corresponding
+     * single-value method, but where the platform permits unaligned access
+     * a value is moved as a whole, and on big-endian platforms the range is
+     * copied with a single memory copy.
+     * <p>
+     *  在原始数组范围和字节数组之间转换的方法。每个方法等效于重复调用相应的单值方法,但在平台允许非对齐访问时,值被整体移动,而在大端平台上,范围通过单次内存复制来复制。
+     */
+
+    private static final Unsafe unsafe = Unsafe.getUnsafe();
+    private static final long BYTE_BASE = unsafe.arrayBaseOffset(byte[].class);
+    private static final long CHAR_BASE = unsafe.arrayBaseOffset(char[].class);
+    private static final long SHORT_BASE = unsafe.arrayBaseOffset(short[].class);
+    private static final long INT_BASE = unsafe.arrayBaseOffset(int[].class);
+    private static final long LONG_BASE = unsafe.arrayBaseOffset(long[].class);
+    private static final boolean BIG_ENDIAN =
+        ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+    private static final boolean UNALIGNED = unaligned();
+
+    private static boolean unaligned() {
+        String arch = AccessController.doPrivileged(
+            new sun.security.action.GetPropertyAction("os.arch"));
+        return arch.equals("i386") || arch.equals("x86")
+            || arch.equals("amd64") || arch.equals("x86_64");
+    }
+
+    static void getChars(byte[] b, int off, char[] v, int voff, int len) {
+        if (!UNALIGNED) {
+            for (int end = voff + len; voff < end; voff++, off += 2)
+                v[voff] = getChar(b, off);
+        } else if (BIG_ENDIAN) {
+            unsafe.copyMemory(b, BYTE_BASE + off,
+                              v, CHAR_BASE + ((long) voff << 1), (long) len << 1);
+        } else {
+            long a = BYTE_BASE + off;
+            for (int end = voff + len; voff < end; voff++, a += 2)
+                v[voff] = Character.reverseBytes(unsafe.getChar(b, a));
+        }
+    }
+
+    static void putChars(byte[] b, int off, char[] v, int voff, int len) {
+        if (!UNALIGNED) {
+            for (int end = voff + len; voff < end; voff++, off += 2)
+                putChar(b, off, v[voff]);
+        } else if (BIG_ENDIAN) {
+            unsafe.copyMemory(v, CHAR_BASE + ((long) voff << 1),
+                              b, BYTE_BASE + off, (long) len << 1);
+        } else {
+            long a = BYTE_BASE + off;
+            for (int end = voff + len; voff < end; voff++, a += 2)
+                unsafe.putChar(b, a, Character.reverseBytes(v[voff]));
+        }
+    }
+
+    static void getShorts(byte[] b, int off, short[] v, int voff, int len) {
+        if (!UNALIGNED) {
+            for (int end = voff + len; voff < end; voff++, off += 2)
+                v[voff] = getShort(b, off);
+        } else if (BIG_ENDIAN) {
+            unsafe.copyMemory(b, BYTE_BASE + off,
+                              v, SHORT_BASE + ((long) voff << 1), (long) len << 1);
+        } else {
+            long a = BYTE_BASE + off;
+            for (int end = voff + len; voff < end; voff++, a += 2)
+                v[voff] = Short.reverseBytes(unsafe.getShort(b, a));
+        }
+    }
+
+    static void putShorts(byte[] b, int off, short[] v, int voff, int len) {
+        if (!UNALIGNED) {
+            for (int end = voff + len; voff < end; voff++, off += 2)
+                putShort(b, off, v[voff]);
+        } else if (BIG_ENDIAN) {
+            unsafe.copyMemory(v, SHORT_BASE + ((long) voff << 1),
+                              b, BYTE_BASE + off, (long) len << 1);
+        } else {
+            long a = BYTE_BASE + off;
+            for (int end = voff + len; voff < end; voff++, a += 2)
+                unsafe.putShort(b, a, Short.reverseBytes(v[voff]));
+        }
+    }
+
+    static void getInts(byte[] b, int off, int[] v, int voff, int len) {
+        if (!UNALIGNED) {
+            for (int end = voff + len; voff < end; voff++, off += 4)
+                v[voff] = getInt(b, off);
+        } else if (BIG_ENDIAN) {
+            unsafe.copyMemory(b, BYTE_BASE + off,
+                              v, INT_BASE + ((long) voff << 2), (long) len << 2);
+        } else {
+            long a = BYTE_BASE + off;
+            for (int end = voff + len; voff < end; voff++, a += 4)
+                v[voff] = Integer.reverseBytes(unsafe.getInt(b, a));
+        }
+    }
+
+    static void putInts(byte[] b, int off, int[] v, int voff, int len) {
+        if (!UNALIGNED) {
+            for (int end = voff + len; voff < end; voff++, off += 4)
+                putInt(b, off, v[voff]);
+        } else if (BIG_ENDIAN) {
+            unsafe.copyMemory(v, INT_BASE + ((long) voff << 2),
+                              b, BYTE_BASE + off, (long) len << 2);
+        } else {
+            long a = BYTE_BASE + off;
+            for (int end = voff + len; voff < end; voff++, a += 4)
+                unsafe.putInt(b, a, Integer.reverseBytes(v[voff]));
+        }
+    }
+
+    static void getLongs(byte[] b, int off, long[] v, int voff, int len) {
+        if (!UNALIGNED) {
+            for (int end = voff + len; voff < end; voff++, off += 8)
+                v[voff] = getLong(b, off);
+        } else if (BIG_ENDIAN) {
+            unsafe.copyMemory(b, BYTE_BASE + off,
+                              v, LONG_BASE + ((long) voff << 3), (long) len << 3);
+        } else {
+            long a = BYTE_BASE + off;
+            for (int end = voff + len; voff < end; voff++, a += 8)
+                v[voff] = Long.reverseBytes(unsafe.getLong(b, a));
+        }
+    }
+
+    static void putLongs(byte[] b, int off, long[] v, int voff, int len) {
+        if (!UNALIGNED) {
+            for (int end = voff + len; voff < end; voff++, off += 8)
+                putLong(b, off, v[voff]);
+        } else if (BIG_ENDIAN) {
+            unsafe.copyMemory(v, LONG_BASE + ((long) voff << 3),
+                              b, BYTE_BASE + off, (long) len << 3);
+        } else {
+            long a = BYTE_BASE + off;
+            for (int end = voff + len; voff < end; voff++, a += 8)
+                unsafe.putLong(b, a, Long.reverseBytes(v[voff]));
+        }
+    }
 }
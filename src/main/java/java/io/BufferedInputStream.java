@@ -25,6 +25,7 @@
  */
 
 package java.io;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
@@ -207,7 +208,7 @@ class BufferedInputStream extends FilterInputStream {
      *  检查以确保底层输入流没有因为关闭而被清零;如果不返回它;
      * 
      */
-    private InputStream getInIfOpen() throws IOException {
+    InputStream getInIfOpen() throws IOException {
         InputStream input = in;
         if (input == null)
             throw new IOException("Stream closed");
@@ -221,7 +222,7 @@ class BufferedInputStream extends FilterInputStream {
      *  检查以确保缓冲区没有因为关闭而被清零;如果不返回它;
      * 
      */
-    private byte[] getBufIfOpen() throws IOException {
+    byte[] getBufIfOpen() throws IOException {
         byte[] buffer = buf;
         if (buffer == null)
             throw new IOException("Stream closed");
@@ -280,7 +281,7 @@ class BufferedInputStream extends FilterInputStream {
      *  用更多的数据填充缓冲区,考虑洗牌和其他处理标记的技巧。假设它正在被一个同步方法调用。此方法还假定所有数据都已读入,因此pos> count。
      * 
      */
-    private void fill() throws IOException {
+    void fill() throws IOException {
         byte[] buffer = getBufIfOpen();
         if (markpos < 0)
             pos = 0;            /* no mark: throw away the buffer */
@@ -350,7 +351,7 @@ class BufferedInputStream extends FilterInputStream {
      *  将字符读入数组的一部分,如果需要,从底层流读取最多一次。
      * 
      */
-    private int read1(byte[] b, int off, int len) throws IOException {
+    int read1(byte[] b, int off, int len) throws IOException {
         int avail = count - pos;
         if (avail <= 0) {
             /* If the requested length is at least as large as the buffer, and
@@ -455,6 +456,46 @@ class BufferedInputStream extends FilterInputStream {
         }
     }
 
+    /**
+     * Reads all bytes from this input stream and writes the bytes to the
+     * given output stream in the order that they are read.
+     *
+     * <p> If no mark is set, the bytes already buffered are written first
+     * and the rest are transferred by the underlying input stream's own
+     * <code>transferTo</code> method, so that a fast path of that stream,
+     * such as the one of {@link FileInputStream}, is not lost behind the
+     * buffer.
+     *
+     * <p>
+     *  从此输入流读取所有字节,并按读取顺序将字节写入给定的输出流。
+     *
+     *  <p>如果未设置标记,则首先写入已缓冲的字节,其余字节由底层输入流自己的<code>transferTo</code>方法传输,
+     * 因此该流的快速路径(例如{@link FileInputStream}的快速路径)不会因缓冲区而丢失。
+     *
+     *
+     * @param      out   the output stream, non-null
+     * @return     the number of bytes transferred
+     * @exception  IOException if this input stream has been closed by
+     *             invoking its {@link #close()} method, or an I/O error
+     *             occurs when reading or writing
+     * @exception  NullPointerException if {@code out} is {@code null}
+     *
+     * @since 1.8
+     */
+    public synchronized long transferTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        // A subclass may override read, so only the exact class delegates
+        if (getClass() == BufferedInputStream.class && markpos < 0) {
+            int avail = count - pos;
+            if (avail > 0) {
+                out.write(getBufIfOpen(), pos, avail);
+                pos = count;
+            }
+            return avail + getInIfOpen().transferTo(out);
+        }
+        return super.transferTo(out);
+    }
+
     /**
      * See the general contract of the <code>skip</code>
      * method of <code>InputStream</code>.
@@ -87,24 +87,24 @@ import java.util.stream.StreamSupport;
 
 public class BufferedReader extends Reader {
 
-    private Reader in;
+    Reader in;
 
-    private char cb[];
-    private int nChars, nextChar;
+    char cb[];
+    int nChars, nextChar;
 
-    private static final int INVALIDATED = -2;
-    private static final int UNMARKED = -1;
-    private int markedChar = UNMARKED;
-    private int readAheadLimit = 0; /* Valid only when markedChar > 0 */
+    static final int INVALIDATED = -2;
+    static final int UNMARKED = -1;
+    int markedChar = UNMARKED;
+    int readAheadLimit = 0; /* Valid only when markedChar > 0 */
 
     /** If the next character is a line feed, skip it */
-    private boolean skipLF = false;
+    boolean skipLF = false;
 
     /** The skipLF flag when the mark was set */
-    private boolean markedSkipLF = false;
+    boolean markedSkipLF = false;
 
     private static int defaultCharBufferSize = 8192;
-    private static int defaultExpectedLineLength = 80;
+    static int defaultExpectedLineLength = 80;
 
     /**
      * Creates a buffering character-input stream that uses an input buffer of
@@ -143,7 +143,7 @@ public class BufferedReader extends Reader {
     }
 
     /** Checks to make sure that the stream has not been closed */
-    private void ensureOpen() throws IOException {
+    void ensureOpen() throws IOException {
         if (in == null)
             throw new IOException("Stream closed");
     }
@@ -154,7 +154,7 @@ public class BufferedReader extends Reader {
      *  填充输入缓冲区,如果它是有效的,考虑标记。
      * 
      */
-    private void fill() throws IOException {
+    void fill() throws IOException {
         int dst;
         if (markedChar <= UNMARKED) {
             /* No mark */
@@ -235,7 +235,7 @@ public class BufferedReader extends Reader {
      * 将字符读入数组的一部分,如果需要,从底层流读取。
      * 
      */
-    private int read1(char[] cbuf, int off, int len) throws IOException {
+    int read1(char[] cbuf, int off, int len) throws IOException {
         if (nextChar >= nChars) {
             /* If the requested length is at least as large as the buffer, and
                if there is no mark/reset activity, and if line feeds are not
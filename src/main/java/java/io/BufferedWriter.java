@@ -84,10 +84,10 @@ package java.io;
 
 public class BufferedWriter extends Writer {
 
-    private Writer out;
+    Writer out;
 
-    private char cb[];
-    private int nChars, nextChar;
+    char cb[];
+    int nChars, nextChar;
 
     private static int defaultCharBufferSize = 8192;
 
@@ -141,7 +141,7 @@ public class BufferedWriter extends Writer {
     }
 
     /** Checks to make sure that the stream has not been closed */
-    private void ensureOpen() throws IOException {
+    void ensureOpen() throws IOException {
         if (out == null)
             throw new IOException("Stream closed");
     }
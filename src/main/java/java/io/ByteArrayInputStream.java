@@ -26,6 +26,8 @@
 
 package java.io;
 
+import java.util.Arrays;
+
 /**
  * A <code>ByteArrayInputStream</code> contains
  * an internal buffer that contains bytes that
@@ -248,6 +250,96 @@ class ByteArrayInputStream extends InputStream {
         return len;
     }
 
+    /**
+     * Reads all remaining bytes from this input stream.
+     *
+     * <p> The remaining bytes are copied from the buffer with one array
+     * copy and the stream is left at its end.
+     *
+     * <p>
+     *  从此输入流读取所有剩余字节。
+     *
+     *  <p>剩余字节通过一次数组复制从缓冲区复制,流停留在其末尾。
+     *
+     *
+     * @return  a byte array containing the remaining bytes
+     * @since   1.8
+     */
+    public synchronized byte[] readAllBytes() {
+        byte[] result = Arrays.copyOfRange(buf, pos, count);
+        pos = count;
+        return result;
+    }
+
+    /**
+     * Reads up to a specified number of bytes from this input stream.
+     *
+     * <p>
+     *  从此输入流读取最多指定数量的字节。
+     *
+     *
+     * @param   len   the maximum number of bytes to read
+     * @return  a byte array containing the bytes read
+     * @exception  IllegalArgumentException if {@code len} is negative
+     * @since   1.8
+     */
+    public synchronized byte[] readNBytes(int len) {
+        if (len < 0) {
+            throw new IllegalArgumentException("len < 0");
+        }
+        int n = Math.min(len, count - pos);
+        byte[] result = Arrays.copyOfRange(buf, pos, pos + n);
+        pos += n;
+        return result;
+    }
+
+    /**
+     * Reads up to {@code len} bytes from this input stream into the given
+     * array, returning zero rather than {@code -1} at the end of the
+     * stream.
+     *
+     * <p>
+     *  从此输入流将最多{@code len}个字节读入给定数组,在流的结尾返回零而不是{@code -1}。
+     *
+     *
+     * @param   b     the byte array into which the data is read
+     * @param   off   the start offset in {@code b} at which the data is
+     *                written
+     * @param   len   the maximum number of bytes to read
+     * @return  the actual number of bytes read into the buffer
+     * @exception  NullPointerException if {@code b} is {@code null}
+     * @exception  IndexOutOfBoundsException If {@code off} is negative,
+     * {@code len} is negative, or {@code len} is greater than
+     * {@code b.length - off}
+     * @since   1.8
+     */
+    public int readNBytes(byte[] b, int off, int len) {
+        int n = read(b, off, len);
+        return n == -1 ? 0 : n;
+    }
+
+    /**
+     * Writes the remaining bytes of this input stream to the given output
+     * stream with a single <code>write</code> and leaves this stream at its
+     * end.
+     *
+     * <p>
+     *  使用一次<code>write</code>将此输入流的剩余字节写入给定的输出流,并使此流停留在其末尾。
+     *
+     *
+     * @param   out   the output stream, non-null
+     * @return  the number of bytes transferred
+     * @exception  IOException if an I/O error occurs when writing
+     * @exception  NullPointerException if {@code out} is {@code null}
+     * @since   1.8
+     */
+    public synchronized long transferTo(OutputStream out) throws IOException {
+        int len = count - pos;
+        out.write(buf, pos, len);
+        pos = count;
+        return len;
+    }
+
     /**
      * Skips <code>n</code> bytes of input from this input stream. Fewer
      * bytes might be skipped if the end of the input stream is reached.
@@ -26,6 +26,7 @@
 
 package java.io;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -112,7 +113,7 @@ public class ByteArrayOutputStream extends OutputStream {
      * interpreted as a request for the unsatisfiably large capacity
      * {@code (long) Integer.MAX_VALUE + (minCapacity - Integer.MAX_VALUE)}.
      */
-    private void ensureCapacity(int minCapacity) {
+    void ensureCapacity(int minCapacity) {
         // overflow-conscious code
         if (minCapacity - buf.length > 0)
             grow(minCapacity);
@@ -243,6 +244,32 @@ public class ByteArrayOutputStream extends OutputStream {
         return Arrays.copyOf(buf, count);
     }
 
+    /**
+     * Returns a read-only byte buffer over the valid contents of this
+     * output stream, without copying them.
+     *
+     * <p> The buffer's position is zero and its capacity and limit are the
+     * current size of this output stream.  It shares this stream's internal
+     * array: it sees later writes only up to its capacity, and it no longer
+     * reflects this stream once the array has been reallocated to make room
+     * for more bytes.  It must not be used after {@link #reset()}.
+     *
+     * <p>
+     *  返回此输出流有效内容上的只读字节缓冲区,而不复制它们。
+     *
+     *  <p>缓冲区的位置为零,其容量和限制为此输出流的当前大小。它共享此流的内部数组:它只能看到其容量范围内的后续写入,
+     * 一旦数组被重新分配以容纳更多字节,它就不再反映此流。在{@link #reset()}之后不得使用它。
+     *
+     *
+     * @return  the current contents of this output stream, as a read-only
+     *          byte buffer.
+     * @see     java.io.ByteArrayOutputStream#toByteArray()
+     * @since   1.8
+     */
+    public synchronized ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, count).slice().asReadOnlyBuffer();
+    }
+
     /**
      * Returns the current size of the buffer.
      *
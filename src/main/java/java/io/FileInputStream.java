@@ -384,6 +384,55 @@ class FileInputStream extends InputStream
      */
     public native int available() throws IOException;
 
+    /**
+     * Reads all bytes from this input stream and writes the bytes to the
+     * given output stream in the order that they are read.
+     *
+     * <p> If the output stream is a {@link FileOutputStream} with a file
+     * channel, and this stream reads from a regular file, then the bytes
+     * are moved with {@link FileChannel#transferTo FileChannel.transferTo}
+     * and need not be copied through the Java heap.  Bytes appended to the
+     * file meanwhile, and bytes of any other kind of file, are then copied
+     * as by {@link InputStream#transferTo InputStream.transferTo}.
+     *
+     * <p>
+     *  从此输入流读取所有字节,并按读取顺序将字节写入给定的输出流。
+     *
+     *  <p>如果输出流是具有文件通道的{@link FileOutputStream},并且此流从常规文件读取,则字节通过
+     * {@link FileChannel#transferTo FileChannel.transferTo}移动,无需通过Java堆复制。
+     * 然后,同时追加到文件的字节以及任何其他类型文件的字节将像通过{@link InputStream#transferTo InputStream.transferTo}一样被复制。
+     *
+     *
+     * @param      out   the output stream, non-null
+     * @return     the number of bytes transferred
+     * @exception  IOException if an I/O error occurs when reading or writing
+     * @exception  NullPointerException if {@code out} is {@code null}
+     *
+     * @since 1.8
+     */
+    public long transferTo(OutputStream out) throws IOException {
+        long transferred = 0L;
+        if (out instanceof FileOutputStream) {
+            FileChannel fc = getChannel();
+            FileChannel oc = ((FileOutputStream)out).getChannel();
+            // The size of a pipe or device is zero; such files are not
+            // positionable and are copied below
+            if (fc != null && oc != null && fc.size() > 0) {
+                long pos = fc.position();
+                try {
+                    long n;
+                    while ((n = fc.transferTo(pos, Long.MAX_VALUE, oc)) > 0) {
+                        pos += n;
+                        transferred += n;
+                    }
+                } finally {
+                    fc.position(pos);
+                }
+            }
+        }
+        return transferred + super.transferTo(out);
+    }
+
     /**
      * Closes this file input stream and releases any system resources
      * associated with the stream.
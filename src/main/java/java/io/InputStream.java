@@ -26,6 +26,11 @@
 
 package java.io;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
 /**
  * This abstract class is the superclass of all classes representing
  * an input stream of bytes.
@@ -55,6 +60,16 @@ public abstract class InputStream implements Closeable {
     // use when skipping.
     private static final int MAX_SKIP_BUFFER_SIZE = 2048;
 
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The maximum size of array to allocate.
+     * Some VMs reserve some header words in an array.
+     * Attempts to allocate larger arrays may result in
+     * OutOfMemoryError: Requested array size exceeds VM limit
+     */
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
     /**
      * Reads the next byte of data from the input stream. The value byte is
      * returned as an <code>int</code> in the range <code>0</code> to
@@ -237,6 +252,242 @@ public abstract class InputStream implements Closeable {
         return i;
     }
 
+    /**
+     * Reads all remaining bytes from the input stream. This method blocks
+     * until all remaining bytes have been read and end of stream is
+     * detected, or an exception is thrown. This method does not close the
+     * input stream.
+     *
+     * <p> When this stream reaches end of stream, further invocations of
+     * this method will return an empty byte array.
+     *
+     * <p> This method is intended for simple cases where it is convenient
+     * to read all bytes into a byte array. It is not intended for reading
+     * input streams with large amounts of data.
+     *
+     * <p> The first array is sized from {@link #available()}, so that a
+     * stream that knows how many bytes remain, such as a file input
+     * stream, is read into a single array of the right size.
+     *
+     * <p>
+     *  从输入流读取所有剩余字节。此方法阻塞,直到读取了所有剩余字节并检测到流的结尾,或抛出异常。此方法不会关闭输入流。
+     *
+     *  <p>当此流到达流的结尾时,此方法的进一步调用将返回一个空字节数组。
+     *
+     *  <p>此方法适用于方便地将所有字节读入字节数组的简单情况。它不适用于读取包含大量数据的输入流。
+     *
+     *  <p>第一个数组的大小根据{@link #available()}确定,因此知道剩余字节数的流(例如文件输入流)会被读入一个大小正确的数组。
+     *
+     *
+     * @return     a byte array containing the bytes read from this input stream
+     * @exception  IOException if an I/O error occurs
+     * @exception  OutOfMemoryError if an array of the required size cannot be
+     *             allocated.
+     *
+     * @since 1.8
+     */
+    public byte[] readAllBytes() throws IOException {
+        return readNBytes(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads up to a specified number of bytes from the input stream. This
+     * method blocks until the requested number of bytes have been read, end
+     * of stream is detected, or an exception is thrown. This method does not
+     * close the input stream.
+     *
+     * <p> The length of the returned array equals the number of bytes read
+     * from the stream. If {@code len} is zero, then no bytes are read and
+     * an empty byte array is returned. Otherwise, up to {@code len} bytes
+     * are read from the stream. Fewer than {@code len} bytes may be read if
+     * end of stream is encountered.
+     *
+     * <p> Bytes are read into arrays sized from {@link #available()} and
+     * are copied into the result only when more than one array was needed.
+     *
+     * <p>
+     *  从输入流读取最多指定数量的字节。此方法阻塞,直到读取了请求的字节数、检测到流的结尾或抛出异常。此方法不会关闭输入流。
+     *
+     *  <p>返回数组的长度等于从流中读取的字节数。如果{@code len}为零,则不读取任何字节并返回一个空字节数组。
+     * 否则,从流中读取最多{@code len}个字节。如果遇到流的结尾,读取的字节可能少于{@code len}。
+     *
+     *  <p>字节被读入大小根据{@link #available()}确定的数组,只有在需要多个数组时才会被复制到结果中。
+     *
+     *
+     * @param      len   the maximum number of bytes to read
+     * @return     a byte array containing the bytes read from this input stream
+     * @exception  IllegalArgumentException if {@code len} is negative
+     * @exception  IOException if an I/O error occurs
+     * @exception  OutOfMemoryError if an array of the required size cannot be
+     *             allocated.
+     *
+     * @since 1.8
+     */
+    public byte[] readNBytes(int len) throws IOException {
+        if (len < 0) {
+            throw new IllegalArgumentException("len < 0");
+        }
+
+        List<byte[]> bufs = null;
+        byte[] result = null;
+        int total = 0;
+        int remaining = len;
+        int size = Math.max(DEFAULT_BUFFER_SIZE, available());
+        int n;
+        do {
+            byte[] buf = new byte[Math.min(remaining, size)];
+            int nread = 0;
+
+            // read to EOF which may read more or less than buffer size
+            while ((n = read(buf, nread,
+                    Math.min(buf.length - nread, remaining))) > 0) {
+                nread += n;
+                remaining -= n;
+            }
+
+            if (nread > 0) {
+                if (MAX_BUFFER_SIZE - total < nread) {
+                    throw new OutOfMemoryError("Required array size too large");
+                }
+                total += nread;
+                if (result == null) {
+                    result = buf;
+                } else {
+                    if (bufs == null) {
+                        bufs = new ArrayList<>();
+                        bufs.add(result);
+                    }
+                    bufs.add(buf);
+                }
+            }
+            size = DEFAULT_BUFFER_SIZE;
+            // if the last call to read returned -1 or the number of bytes
+            // requested have been read then break
+        } while (n >= 0 && remaining > 0);
+
+        if (bufs == null) {
+            if (result == null) {
+                return new byte[0];
+            }
+            return result.length == total ?
+                result : Arrays.copyOf(result, total);
+        }
+
+        result = new byte[total];
+        int offset = 0;
+        remaining = total;
+        for (byte[] b : bufs) {
+            int count = Math.min(b.length, remaining);
+            System.arraycopy(b, 0, result, offset, count);
+            offset += count;
+            remaining -= count;
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads the requested number of bytes from the input stream into the
+     * given byte array. This method blocks until {@code len} bytes of input
+     * data have been read, end of stream is detected, or an exception is
+     * thrown. The number of bytes actually read, possibly zero, is returned.
+     * This method does not close the input stream.
+     *
+     * <p> In the case where end of stream is reached before {@code len}
+     * bytes have been read, then the actual number of bytes read will be
+     * returned. When this stream reaches end of stream, further invocations
+     * of this method will return zero.
+     *
+     * <p>
+     *  从输入流将请求的字节数读入给定的字节数组。此方法阻塞,直到读取了{@code len}个字节的输入数据、检测到流的结尾或抛出异常。
+     * 返回实际读取的字节数,可能为零。此方法不会关闭输入流。
+     *
+     *  <p>如果在读取{@code len}个字节之前到达流的结尾,则返回实际读取的字节数。当此流到达流的结尾时,此方法的进一步调用将返回零。
+     *
+     *
+     * @param      b     the byte array into which the data is read
+     * @param      off   the start offset in {@code b} at which the data is
+     *                   written
+     * @param      len   the maximum number of bytes to read
+     * @return     the actual number of bytes read into the buffer
+     * @exception  IOException if an I/O error occurs
+     * @exception  NullPointerException if {@code b} is {@code null}
+     * @exception  IndexOutOfBoundsException If {@code off} is negative,
+     * {@code len} is negative, or {@code len} is greater than
+     * {@code b.length - off}
+     *
+     * @since 1.8
+     */
+    public int readNBytes(byte[] b, int off, int len) throws IOException {
+        if (b == null) {
+            throw new NullPointerException();
+        } else if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int n = 0;
+        while (n < len) {
+            int count = read(b, off + n, len - n);
+            if (count < 0)
+                break;
+            n += count;
+        }
+        return n;
+    }
+
+    /**
+     * Reads all bytes from this input stream and writes the bytes to the
+     * given output stream in the order that they are read. On return, this
+     * input stream will be at end of stream. This method does not close
+     * either stream.
+     *
+     * <p> This method may block indefinitely reading from the input stream,
+     * or writing to the output stream. The behavior for the case where the
+     * input and/or output stream is <i>asynchronously closed</i>, or the
+     * thread interrupted during the transfer, is highly input and output
+     * stream specific, and therefore not specified.
+     *
+     * <p> If an I/O error occurs reading from the input stream or writing
+     * to the output stream, then it may do so after some bytes have been
+     * read or written. Consequently the input stream may not be at end of
+     * stream and one, or both, streams may be in an inconsistent state. It
+     * is strongly recommended that both streams be promptly closed if an
+     * I/O error occurs.
+     *
+     * <p> Subclasses are encouraged to override this method where the bytes
+     * can be moved without copying them through an intermediate array, as
+     * {@link FileInputStream} does for a file output stream.
+     *
+     * <p>
+     *  从此输入流读取所有字节,并按读取顺序将字节写入给定的输出流。返回时,此输入流将位于流的结尾。此方法不会关闭任何一个流。
+     *
+     *  <p>此方法可能会在从输入流读取或写入输出流时无限期阻塞。输入和/或输出流被<i>异步关闭</i>或线程在传输期间被中断的情况下的行为高度特定于输入和输出流,因此未指定。
+     *
+     *  <p>如果从输入流读取或写入输出流时发生I/O错误,则可能在读取或写入某些字节之后发生。因此,输入流可能不在流的结尾,并且一个或两个流可能处于不一致的状态。
+     * 强烈建议在发生I/O错误时立即关闭两个流。
+     *
+     *  <p>鼓励子类在可以移动字节而无需通过中间数组复制的情况下重写此方法,就像{@link FileInputStream}对文件输出流所做的那样。
+     *
+     *
+     * @param      out   the output stream, non-null
+     * @return     the number of bytes transferred
+     * @exception  IOException if an I/O error occurs when reading or writing
+     * @exception  NullPointerException if {@code out} is {@code null}
+     *
+     * @since 1.8
+     */
+    public long transferTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        long transferred = 0;
+        byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+        int read;
+        while ((read = this.read(buffer, 0, DEFAULT_BUFFER_SIZE)) >= 0) {
+            out.write(buffer, 0, read);
+            transferred += read;
+        }
+        return transferred;
+    }
+
     /**
      * Skips over and discards <code>n</code> bytes of data from this input
      * stream. The <code>skip</code> method may, for a variety of reasons, end
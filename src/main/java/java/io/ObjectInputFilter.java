@@ -0,0 +1,602 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import sun.util.logging.PlatformLogger;
+
+/**
+ * Filter classes, array lengths, and graph metrics during deserialization.
+ *
+ * <p> A filter is invoked by an {@link ObjectInputStream} before it
+ * allocates anything on behalf of the stream: for each class descriptor
+ * read, before each array is allocated, and for each back-reference.  The
+ * filter is given the class (if any), the array length (if any), and the
+ * current depth of the object graph, number of object references and
+ * number of bytes consumed from the underlying stream, and returns {@link
+ * Status#ALLOWED ALLOWED}, {@link Status#REJECTED REJECTED} or {@link
+ * Status#UNDECIDED UNDECIDED}.  A rejected stream fails with an {@link
+ * InvalidClassException}, before the memory the rejected item asks for is
+ * committed.
+ *
+ * <p> A process-wide filter is configured by the system property
+ * {@code jdk.serialFilter}, or else the security property of the same name,
+ * or set once with {@link Config#setSerialFilter Config.setSerialFilter}.
+ * Each {@code ObjectInputStream} starts out with the process-wide filter
+ * and may be given its own filter with {@link
+ * ObjectInputStream#setObjectInputFilter setObjectInputFilter}.  Filters
+ * for common needs, limits and class name patterns, are created from a
+ * string by {@link Config#createFilter Config.createFilter}.
+ *
+ * <p>
+ *  在反序列化期间过滤类、数组长度和图度量。
+ *
+ *  <p>在{@link ObjectInputStream}代表流分配任何内容之前调用过滤器：对于读取的每个类描述符、每个数组分配之前以及每个反向引用。
+ * 过滤器获得类(如果有)、数组长度(如果有)以及对象图的当前深度、对象引用数和从底层流消耗的字节数,并返回{@link Status#ALLOWED ALLOWED}、
+ * {@link Status#REJECTED REJECTED}或{@link Status#UNDECIDED UNDECIDED}。
+ * 被拒绝的流以{@link InvalidClassException}失败,在被拒绝项请求的内存被提交之前。
+ *
+ *  <p>进程范围的过滤器由系统属性{@code jdk.serialFilter}配置,否则由同名的安全属性配置,
+ * 或使用{@link Config#setSerialFilter Config.setSerialFilter}设置一次。
+ * 每个{@code ObjectInputStream}以进程范围的过滤器开始,并且可以使用{@link ObjectInputStream#setObjectInputFilter setObjectInputFilter}
+ * 为其提供自己的过滤器。常见需求(限制和类名模式)的过滤器由{@link Config#createFilter Config.createFilter}从字符串创建。
+ *
+ * @see ObjectInputStream#setObjectInputFilter
+ * @since 1.8
+ */
+@FunctionalInterface
+public interface ObjectInputFilter {
+
+    /**
+     * Checks the class, array length, number of object references, depth,
+     * stream size, and other available filtering information.
+     *
+     * <p>
+     *  检查类、数组长度、对象引用数、深度、流大小和其他可用的过滤信息。
+     *
+     * @param filterInfo provides information about the current object
+     *          being deserialized, if any, and the status of the
+     *          {@link ObjectInputStream}
+     * @return  {@link Status#ALLOWED Status.ALLOWED} if accepted,
+     *          {@link Status#REJECTED Status.REJECTED} if rejected,
+     *          {@link Status#UNDECIDED Status.UNDECIDED} if undecided.
+     */
+    Status checkInput(FilterInfo filterInfo);
+
+    /**
+     * FilterInfo provides access to information about the current object
+     * being deserialized and the status of the {@link ObjectInputStream}.
+     *
+     * <p>
+     *  FilterInfo提供对正在反序列化的当前对象的信息以及{@link ObjectInputStream}状态的访问。
+     *
+     * @since 1.8
+     */
+    interface FilterInfo {
+        /**
+         * The class of an object being deserialized.  For arrays, it is the
+         * array type; for back-references and other checks without a class,
+         * it is null.
+         *
+         * <p>
+         *  正在反序列化的对象的类。对于数组,它是数组类型;对于反向引用和其他没有类的检查,它为null。
+         *
+         * @return class of an object being deserialized; may be null
+         */
+        Class<?> serialClass();
+
+        /**
+         * The number of array elements when deserializing an array of the
+         * class.
+         *
+         * <p>
+         *  反序列化该类的数组时的数组元素数。
+         *
+         * @return the non-negative number of array elements when
+         *          deserializing an array of the class, otherwise -1
+         */
+        long arrayLength();
+
+        /**
+         * The current depth.  The depth starts at 1 and increases for each
+         * nested object and decrements when each nested object returns.
+         *
+         * <p>
+         *  当前深度。深度从1开始,每个嵌套对象递增,每个嵌套对象返回时递减。
+         *
+         * @return the current depth
+         */
+        long depth();
+
+        /**
+         * The current number of object references.
+         *
+         * <p>
+         *  当前对象引用数。
+         *
+         * @return the non-negative current number of object references
+         */
+        long references();
+
+        /**
+         * The current number of bytes consumed.
+         *
+         * <p>
+         *  当前消耗的字节数。
+         *
+         * @return the non-negative current number of bytes consumed
+         */
+        long streamBytes();
+    }
+
+    /**
+     * The status of a check on the class, array length, number of
+     * references, depth, and stream size.
+     *
+     * <p>
+     *  对类、数组长度、引用数、深度和流大小的检查状态。
+     *
+     * @since 1.8
+     */
+    enum Status {
+        /**
+         * The status is undecided, not allowed and not rejected.
+         * <p>
+         *  状态未决定,既不允许也不拒绝。
+         */
+        UNDECIDED,
+        /**
+         * The status is allowed.
+         * <p>
+         *  状态为允许。
+         */
+        ALLOWED,
+        /**
+         * The status is rejected.
+         * <p>
+         *  状态为拒绝。
+         */
+        REJECTED;
+    }
+
+    /**
+     * A utility class to set and get the process-wide filter or create a
+     * filter from a pattern string.
+     *
+     * <p> The process-wide filter is initialized from the system property
+     * {@code jdk.serialFilter} or, if that is not set, from the security
+     * property of the same name.  If the property value is not a valid
+     * pattern, the error is logged and the process-wide filter rejects every
+     * class, so that a mistyped filter fails closed rather than leaving
+     * deserialization unfiltered.
+     *
+     * <p>
+     *  用于设置和获取进程范围过滤器或从模式字符串创建过滤器的实用程序类。
+     *
+     *  <p>进程范围的过滤器从系统属性{@code jdk.serialFilter}初始化,如果未设置,则从同名的安全属性初始化。
+     * 如果属性值不是有效的模式,则记录该错误,并且进程范围的过滤器拒绝每个类,使得输错的过滤器以关闭方式失败,而不是让反序列化不受过滤。
+     *
+     * @since 1.8
+     */
+    final class Config {
+
+        // Name of the system and security properties holding the pattern
+        private static final String SERIAL_FILTER_PROPNAME = "jdk.serialFilter";
+
+        // The filter configured by the properties, or null
+        private static final ObjectInputFilter configuredFilter;
+
+        // Lock guarding serialFilter
+        private static final Object serialFilterLock = new Object();
+
+        // The current process-wide filter, or null
+        private static volatile ObjectInputFilter serialFilter;
+
+        // Permission checked before setting a filter
+        static final SerializablePermission SERIAL_FILTER_PERMISSION =
+            new SerializablePermission("serialFilter");
+
+        static {
+            configuredFilter = AccessController.doPrivileged(
+                new PrivilegedAction<ObjectInputFilter>() {
+                    public ObjectInputFilter run() {
+                        String props = System.getProperty(SERIAL_FILTER_PROPNAME);
+                        if (props == null) {
+                            props = Security.getProperty(SERIAL_FILTER_PROPNAME);
+                        }
+                        if (props != null) {
+                            try {
+                                return createFilter(props);
+                            } catch (IllegalArgumentException x) {
+                                PlatformLogger.getLogger("java.io.serialization")
+                                    .severe("Error configuring filter, rejecting all classes: "
+                                            + x.getMessage());
+                                return new RejectAll(props);
+                            }
+                        }
+                        return null;
+                    }
+                });
+            serialFilter = configuredFilter;
+        }
+
+        private Config() {}
+
+        /**
+         * Returns the process-wide serialization filter or {@code null} if
+         * not configured.
+         *
+         * <p>
+         *  返回进程范围的序列化过滤器,如果未配置,则返回{@code null}。
+         *
+         * @return the process-wide serialization filter or {@code null} if
+         *          not configured
+         */
+        public static ObjectInputFilter getSerialFilter() {
+            return serialFilter;
+        }
+
+        /**
+         * Set the process-wide filter if it has not already been set from
+         * the properties or by an earlier invocation.
+         *
+         * <p>
+         *  如果进程范围的过滤器尚未从属性或之前的调用中设置,则设置它。
+         *
+         * @param filter the serialization filter to set as the process-wide
+         *          filter; not null
+         * @throws SecurityException if there is security manager and the
+         *          {@code SerializablePermission("serialFilter")} is not
+         *          granted
+         * @throws IllegalStateException if the filter has already been set
+         */
+        public static void setSerialFilter(ObjectInputFilter filter) {
+            if (filter == null)
+                throw new NullPointerException("filter");
+            SecurityManager sm = System.getSecurityManager();
+            if (sm != null) {
+                sm.checkPermission(SERIAL_FILTER_PERMISSION);
+            }
+            synchronized (serialFilterLock) {
+                if (serialFilter != null) {
+                    throw new IllegalStateException("Serial filter can only be set once");
+                }
+                serialFilter = filter;
+            }
+        }
+
+        /**
+         * Returns an ObjectInputFilter from a string of patterns.
+         *
+         * <p> Patterns are separated by ";" (semicolon).  Whitespace is
+         * significant and is considered part of the pattern.  If a pattern
+         * includes an equals assignment, "{@code =}" it sets a limit.  If a
+         * limit appears more than once the last value is used.
+         * <ul>
+         *     <li>maxdepth={@code value} - the maximum depth of a graph</li>
+         *     <li>maxrefs={@code value}  - the maximum number of internal
+         *     references</li>
+         *     <li>maxbytes={@code value} - the maximum number of bytes in
+         *     the input stream</li>
+         *     <li>maxarray={@code value} - the maximum array length
+         *     allowed</li>
+         * </ul>
+         *
+         * <p> Other patterns match or reject class names:
+         * <ul>
+         *     <li>If the pattern starts with "!", the class is rejected if
+         *     the remaining pattern is matched; otherwise the class is
+         *     allowed if the pattern matches.</li>
+         *     <li>If the pattern ends with ".**" it matches any class in the
+         *     package and all subpackages.</li>
+         *     <li>If the pattern ends with ".*" it matches any class in the
+         *     package.</li>
+         *     <li>If the pattern ends with "*", it matches any class with the
+         *     pattern as a prefix.</li>
+         *     <li>If the pattern is equal to the class name, it matches.</li>
+         *     <li>Otherwise, the pattern is not matched.</li>
+         * </ul>
+         *
+         * <p> The resulting filter performs the limit checks first, then
+         * tries to match the class, if any.  If any of the limits are
+         * exceeded, the filter returns {@link Status#REJECTED
+         * Status.REJECTED}.  If the class is an array type, the class to be
+         * matched is the element type.  Arrays of any number of dimensions
+         * are treated the same as the element type; arrays of primitives
+         * return {@link Status#UNDECIDED Status.UNDECIDED}.  The class name
+         * is matched against the patterns in order, and the first match
+         * decides.  If no pattern matches, the filter returns {@link
+         * Status#UNDECIDED Status.UNDECIDED}.
+         *
+         * <p>
+         *  从模式字符串返回ObjectInputFilter。
+         *
+         *  <p>模式由";"(分号)分隔。空格是有意义的,被视为模式的一部分。如果模式包含等号赋值"{@code =}",则它设置一个限制。
+         * 如果一个限制出现多次,则使用最后一个值。
+         * <ul>
+         *  <li> maxdepth = {@code value} - 图的最大深度</li> <li> maxrefs = {@code value} - 内部引用的最大数量</li>
+         *  <li> maxbytes = {@code value} - 输入流中的最大字节数</li> <li> maxarray = {@code value} - 允许的最大数组长度</li>
+         * </ul>
+         *
+         *  <p>其他模式匹配或拒绝类名：
+         * <ul>
+         *  <li>如果模式以"!"开头,则如果剩余模式匹配,则类被拒绝;否则如果模式匹配,则允许该类。</li>
+         *  <li>如果模式以".**"结尾,则它匹配包及所有子包中的任何类。</li> <li>如果模式以".*"结尾,则它匹配包中的任何类。</li>
+         *  <li>如果模式以"*"结尾,则它匹配以该模式为前缀的任何类。</li> <li>如果模式等于类名,则匹配。</li> <li>否则,模式不匹配。</li>
+         * </ul>
+         *
+         *  <p>生成的过滤器首先执行限制检查,然后尝试匹配类(如果有)。如果超过任何限制,过滤器返回{@link Status#REJECTED Status.REJECTED}。
+         * 如果类是数组类型,则要匹配的类是元素类型。任意维数的数组与元素类型同样处理;基本类型数组返回{@link Status#UNDECIDED Status.UNDECIDED}。
+         * 类名按顺序与模式匹配,第一个匹配决定结果。如果没有模式匹配,过滤器返回{@link Status#UNDECIDED Status.UNDECIDED}。
+         *
+         * @param pattern the pattern string to parse; not null
+         * @return a filter to check a class being deserialized; may be null
+         *          if there are no patterns
+         * @throws IllegalArgumentException if a limit is missing the name,
+         *          or the long value is not a number or is negative
+         */
+        public static ObjectInputFilter createFilter(String pattern) {
+            if (pattern == null)
+                throw new NullPointerException("pattern");
+            return Global.createFilter(pattern);
+        }
+
+        /**
+         * The process-wide filter configured when the property value is not
+         * a valid pattern: it rejects everything.
+         * <p>
+         *  当属性值不是有效模式时配置的进程范围过滤器:它拒绝一切。
+         */
+        static final class RejectAll implements ObjectInputFilter {
+            // The invalid pattern configured
+            private final String pattern;
+
+            RejectAll(String pattern) {
+                this.pattern = pattern;
+            }
+
+            public Status checkInput(FilterInfo filterInfo) {
+                return Status.REJECTED;
+            }
+
+            @Override
+            public String toString() {
+                return "rejecting all, invalid pattern: " + pattern;
+            }
+        }
+
+        /**
+         * Implementation of ObjectInputFilter that performs the checks of
+         * the process-wide serialization filter.  If configured, it will be
+         * used for all ObjectInputStreams that do not set their own filters.
+         * <p>
+         *  执行进程范围序列化过滤器检查的ObjectInputFilter的实现。如果已配置,它将用于所有未设置自己过滤器的ObjectInputStream。
+         */
+        static final class Global implements ObjectInputFilter {
+            // The pattern used to create the filter
+            private final String pattern;
+            // Class name matchers, each returning a Status or null
+            private final List<Function<Class<?>, Status>> filters;
+            // Maximum allowed bytes in the stream
+            private long maxStreamBytes;
+            // Maximum depth of the graph allowed
+            private long maxDepth;
+            // Maximum number of references in a graph
+            private long maxReferences;
+            // Maximum length of any array
+            private long maxArrayLength;
+
+            /**
+             * Returns an ObjectInputFilter from a string of patterns, or null
+             * if the string has no patterns.
+             * <p>
+             *  从模式字符串返回ObjectInputFilter,如果字符串没有模式,则返回null。
+             */
+            static ObjectInputFilter createFilter(String pattern) {
+                Global filter = new Global(pattern);
+                return filter.isEmpty() ? null : filter;
+            }
+
+            private Global(String pattern) {
+                this.pattern = pattern;
+
+                maxArrayLength = Long.MAX_VALUE; // Default values are unlimited
+                maxDepth = Long.MAX_VALUE;
+                maxReferences = Long.MAX_VALUE;
+                maxStreamBytes = Long.MAX_VALUE;
+
+                String[] patterns = pattern.split(";");
+                filters = new ArrayList<>(patterns.length);
+                for (int i = 0; i < patterns.length; i++) {
+                    String p = patterns[i];
+                    int nameLen = p.length();
+                    if (nameLen == 0) {
+                        continue;
+                    }
+                    if (parseLimit(p)) {
+                        // If the pattern contained a limit setting, i.e. type=value
+                        continue;
+                    }
+                    boolean negate = p.charAt(0) == '!';
+
+                    if (p.indexOf('/') >= 0) {
+                        throw new IllegalArgumentException("invalid character \"/\" in: \"" + pattern + "\"");
+                    }
+
+                    final Status match = negate ? Status.REJECTED : Status.ALLOWED;
+                    final String name = negate ? p.substring(1) : p;
+                    nameLen = name.length();
+
+                    if (name.endsWith("*")) {
+                        // Wildcard cases
+                        if (name.endsWith(".**")) {
+                            // Pattern is a package prefix with a double wildcard
+                            final String prefix = name.substring(0, nameLen - 2);
+                            filters.add(c -> c.getName().startsWith(prefix) ? match : null);
+                        } else if (name.endsWith(".*")) {
+                            // Pattern is a package name with a single wildcard;
+                            // ".*" alone is the default package
+                            final String pkg = (nameLen == 2)
+                                ? "" : name.substring(0, nameLen - 1);
+                            filters.add(c -> isPackage(c, pkg) ? match : null);
+                        } else {
+                            // Pattern is a class name prefix; "*" alone matches all
+                            final String prefix = name.substring(0, nameLen - 1);
+                            filters.add(c -> c.getName().startsWith(prefix) ? match : null);
+                        }
+                    } else {
+                        // Pattern is a class name
+                        filters.add(c -> c.getName().equals(name) ? match : null);
+                    }
+                }
+            }
+
+            /**
+             * Returns whether the filter has neither limits nor patterns.
+             * <p>
+             *  返回过滤器是否既没有限制也没有模式。
+             */
+            private boolean isEmpty() {
+                return filters.isEmpty() &&
+                        maxArrayLength == Long.MAX_VALUE &&
+                        maxDepth == Long.MAX_VALUE &&
+                        maxReferences == Long.MAX_VALUE &&
+                        maxStreamBytes == Long.MAX_VALUE;
+            }
+
+            /**
+             * Parses a limit and sets the corresponding field; returns false
+             * if the pattern is not a limit.
+             * <p>
+             *  解析限制并设置相应的字段;如果模式不是限制,则返回false。
+             */
+            private boolean parseLimit(String pattern) {
+                int eqNdx = pattern.indexOf('=');
+                if (eqNdx < 0) {
+                    // not a limit pattern
+                    return false;
+                }
+                String valueString = pattern.substring(eqNdx + 1);
+                if (pattern.startsWith("maxdepth=")) {
+                    maxDepth = parseValue(valueString);
+                } else if (pattern.startsWith("maxarray=")) {
+                    maxArrayLength = parseValue(valueString);
+                } else if (pattern.startsWith("maxrefs=")) {
+                    maxReferences = parseValue(valueString);
+                } else if (pattern.startsWith("maxbytes=")) {
+                    maxStreamBytes = parseValue(valueString);
+                } else {
+                    throw new IllegalArgumentException("unknown limit: " + pattern.substring(0, eqNdx));
+                }
+                return true;
+            }
+
+            private static long parseValue(String string) {
+                // Parse a Long from after the '=' to the end
+                long value;
+                try {
+                    value = Long.parseLong(string);
+                } catch (NumberFormatException nfe) {
+                    throw new IllegalArgumentException("invalid limit value: " + string);
+                }
+                if (value < 0) {
+                    throw new IllegalArgumentException("negative limit: " + string);
+                }
+                return value;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Status checkInput(FilterInfo filterInfo) {
+                if (filterInfo.references() < 0
+                        || filterInfo.depth() < 0
+                        || filterInfo.streamBytes() < 0
+                        || filterInfo.references() > maxReferences
+                        || filterInfo.depth() > maxDepth
+                        || filterInfo.streamBytes() > maxStreamBytes) {
+                    return Status.REJECTED;
+                }
+
+                Class<?> clazz = filterInfo.serialClass();
+                if (clazz != null) {
+                    if (clazz.isArray()) {
+                        if (filterInfo.arrayLength() >= 0 && filterInfo.arrayLength() > maxArrayLength) {
+                            // array length is too big
+                            return Status.REJECTED;
+                        }
+                        do {
+                            // Arrays are decided based on the component type
+                            clazz = clazz.getComponentType();
+                        } while (clazz.isArray());
+                    }
+
+                    if (clazz.isPrimitive())  {
+                        // Primitive types are undecided; let someone else decide
+                        return Status.UNDECIDED;
+                    } else {
+                        // Find any filter that allowed or rejected the class
+                        for (Function<Class<?>, Status> filter : filters) {
+                            Status status = filter.apply(clazz);
+                            if (status != null) {
+                                return status;
+                            }
+                        }
+                        return Status.UNDECIDED;
+                    }
+                }
+                return Status.UNDECIDED;
+            }
+
+            /**
+             * Returns whether the class is in the package.
+             * <p>
+             *  返回类是否在包中。
+             */
+            private static boolean isPackage(Class<?> c, String pkg) {
+                String n = c.getName();
+                return n.startsWith(pkg) && n.lastIndexOf('.') == pkg.length() - 1;
+            }
+
+            /**
+             * Returns the pattern used to create this filter.
+             * <p>
+             *  返回用于创建此过滤器的模式。
+             */
+            @Override
+            public String toString() {
+                return pattern;
+            }
+        }
+    }
+}
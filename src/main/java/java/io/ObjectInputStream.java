@@ -341,6 +341,11 @@ public class ObjectInputStream
     /** if true, invoke resolveObject() */
     private boolean enableResolve;
 
+    /** filter for classes, array lengths and graph metrics; may be null */
+    private ObjectInputFilter serialFilter;
+    /** number of objects and back-references read, for the filter */
+    private long totalObjectRefs;
+
     /**
      * Context during upcalls to class-defined readObject methods; holds
      * object currently being deserialized and descriptor for current class.
@@ -385,6 +390,7 @@ public class ObjectInputStream
         bin = new BlockDataInputStream(in);
         handles = new HandleTable(10);
         vlist = new ValidationList();
+        serialFilter = ObjectInputFilter.Config.getSerialFilter();
         enableOverride = false;
         readStreamHeader();
         bin.setBlockDataMode(true);
@@ -422,6 +428,7 @@ public class ObjectInputStream
         bin = null;
         handles = null;
         vlist = null;
+        serialFilter = ObjectInputFilter.Config.getSerialFilter();
         enableOverride = true;
     }
 
@@ -725,6 +732,107 @@ public class ObjectInputStream
         vlist.register(obj, prio);
     }
 
+    /**
+     * Returns the serialization filter for this stream.  The filter is the
+     * process-wide filter, if any, until it is replaced by {@link
+     * #setObjectInputFilter setObjectInputFilter}.
+     *
+     * <p>
+     *  返回此流的序列化过滤器。在被{@link #setObjectInputFilter setObjectInputFilter}替换之前,过滤器是进程范围的过滤器(如果有)。
+     *
+     * @return the serialization filter for the stream; may be null
+     * @see ObjectInputFilter
+     * @since 1.8
+     */
+    public final ObjectInputFilter getObjectInputFilter() {
+        return serialFilter;
+    }
+
+    /**
+     * Set the serialization filter for the stream.
+     *
+     * <p> The filter's {@link ObjectInputFilter#checkInput checkInput}
+     * method is called for each class descriptor and back-reference read,
+     * and for each array before it is allocated.  The filter can check any
+     * or all of the class, the array length, the number of references, the
+     * depth of the graph, and the size of the input stream.  If the filter
+     * returns {@link ObjectInputFilter.Status#REJECTED Status.REJECTED},
+     * {@code null} or throws a {@link RuntimeException}, the active {@code
+     * readObject} or {@code readUnshared} throws {@link
+     * InvalidClassException}, otherwise deserialization continues
+     * uninterrupted.
+     *
+     * <p> The filter may be set once, and only before any object has been
+     * read; it replaces the process-wide filter, if any.
+     *
+     * <p>
+     *  设置流的序列化过滤器。
+     *
+     *  <p>对于读取的每个类描述符和反向引用,以及每个数组分配之前,都会调用过滤器的{@link ObjectInputFilter#checkInput checkInput}方法。
+     * 过滤器可以检查类、数组长度、引用数、图的深度和输入流的大小中的任何一个或全部。
+     * 如果过滤器返回{@link ObjectInputFilter.Status#REJECTED Status.REJECTED}、{@code null}或抛出{@link RuntimeException},
+     * 则活动的{@code readObject}或{@code readUnshared}抛出{@link InvalidClassException},否则反序列化不间断地继续。
+     *
+     *  <p>过滤器只能设置一次,并且只能在读取任何对象之前设置;它替换进程范围的过滤器(如果有)。
+     *
+     * @param filter the filter, may be null
+     * @throws SecurityException if there is security manager and the
+     *       {@code SerializablePermission("serialFilter")} is not granted
+     * @throws IllegalStateException if the stream's filter has already been
+     *       set, or an object has already been read
+     * @see ObjectInputFilter
+     * @since 1.8
+     */
+    public final void setObjectInputFilter(ObjectInputFilter filter) {
+        SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(ObjectInputFilter.Config.SERIAL_FILTER_PERMISSION);
+        }
+        // Allow replacement of the process-wide filter if not already set
+        if (serialFilter != null &&
+            serialFilter != ObjectInputFilter.Config.getSerialFilter()) {
+            throw new IllegalStateException("filter can not be set more than once");
+        }
+        if (totalObjectRefs > 0) {
+            throw new IllegalStateException(
+                "filter can not be set after an object has been read");
+        }
+        this.serialFilter = filter;
+    }
+
+    /**
+     * Invokes the serialization filter, if any, with the given class and
+     * array length and the current depth, reference count and stream size.
+     * Throws InvalidClassException if the filter rejects, returns null or
+     * throws.
+     * <p>
+     *  使用给定的类和数组长度以及当前深度、引用计数和流大小调用序列化过滤器(如果有)。如果过滤器拒绝、返回null或抛出异常,则抛出InvalidClassException。
+     */
+    private void filterCheck(Class<?> clazz, int arrayLength)
+            throws InvalidClassException {
+        if (serialFilter != null) {
+            RuntimeException ex = null;
+            ObjectInputFilter.Status status;
+            // stream size is not known if a subclass overrides readObject
+            long bytesRead = (bin == null) ? 0 : bin.getBytesRead();
+            try {
+                status = serialFilter.checkInput(new FilterValues(clazz,
+                        arrayLength, totalObjectRefs, depth, bytesRead));
+            } catch (RuntimeException e) {
+                // preventive interception of an exception to log
+                status = ObjectInputFilter.Status.REJECTED;
+                ex = e;
+            }
+            if (status == null ||
+                    status == ObjectInputFilter.Status.REJECTED) {
+                InvalidClassException ice =
+                    new InvalidClassException("filter status: " + status);
+                ice.initCause(ex);
+                throw ice;
+            }
+        }
+    }
+
     /**
      * Load the local class equivalent of the specified stream class
      * description.  Subclasses may implement this method to allow classes to
@@ -1687,6 +1795,7 @@ public class ObjectInputStream
         }
 
         depth++;
+        totalObjectRefs++;
         try {
             switch (tc) {
                 case TC_NULL:
@@ -1846,6 +1955,7 @@ public class ObjectInputStream
             throw new InvalidObjectException(
                 "cannot read back reference to unshared object");
         }
+        filterCheck(null, -1);  // depth and reference count only
         return obj;
     }
 
@@ -1954,6 +2064,9 @@ public class ObjectInputStream
                 ReflectUtil.checkProxyPackageAccess(
                         getClass().getClassLoader(),
                         cl.getInterfaces());
+                for (Class<?> intf : cl.getInterfaces()) {
+                    filterCheck(intf, -1);
+                }
             }
         } catch (ClassNotFoundException ex) {
             resolveEx = ex;
@@ -2008,6 +2121,9 @@ public class ObjectInputStream
         } catch (ClassNotFoundException ex) {
             resolveEx = ex;
         }
+
+        // check the class before reading anything else of it
+        filterCheck(cl, -1);
         skipCustomData();
 
         desc.initNonProxy(readDesc, cl, resolveEx, readClassDesc(false));
@@ -2059,6 +2175,11 @@ public class ObjectInputStream
 
         ObjectStreamClass desc = readClassDesc(false);
         int len = bin.readInt();
+        if (len < 0) {
+            throw new StreamCorruptedException("Array length is negative");
+        }
+        // check the length before the array is allocated
+        filterCheck(desc.forClass(), len);
 
         Object array = null;
         Class<?> cl, ccl = null;
@@ -2751,6 +2872,53 @@ public class ObjectInputStream
         }
     }
 
+    /**
+     * Snapshot of the values passed to the serialization filter.
+     * <p>
+     *  传递给序列化过滤器的值的快照。
+     */
+    private static class FilterValues implements ObjectInputFilter.FilterInfo {
+        final Class<?> clazz;
+        final long arrayLength;
+        final long totalObjectRefs;
+        final long depth;
+        final long streamBytes;
+
+        FilterValues(Class<?> clazz, long arrayLength, long totalObjectRefs,
+                     long depth, long streamBytes) {
+            this.clazz = clazz;
+            this.arrayLength = arrayLength;
+            this.totalObjectRefs = totalObjectRefs;
+            this.depth = depth;
+            this.streamBytes = streamBytes;
+        }
+
+        @Override
+        public Class<?> serialClass() {
+            return clazz;
+        }
+
+        @Override
+        public long arrayLength() {
+            return arrayLength;
+        }
+
+        @Override
+        public long references() {
+            return totalObjectRefs;
+        }
+
+        @Override
+        public long depth() {
+            return depth;
+        }
+
+        @Override
+        public long streamBytes() {
+            return streamBytes;
+        }
+    }
+
     /**
      * Input stream supporting single-byte peek operations.
      * <p>
@@ -2763,6 +2931,8 @@ public class ObjectInputStream
         private final InputStream in;
         /** peeked byte */
         private int peekb = -1;
+        /** total bytes read from the underlying stream */
+        private long totalBytesRead = 0;
 
         /**
          * Creates new PeekInputStream on top of given underlying stream.
@@ -2782,7 +2952,12 @@ public class ObjectInputStream
          * 
          */
         int peek() throws IOException {
-            return (peekb >= 0) ? peekb : (peekb = in.read());
+            if (peekb >= 0) {
+                return peekb;
+            }
+            peekb = in.read();
+            totalBytesRead += peekb >= 0 ? 1 : 0;
+            return peekb;
         }
 
         public int read() throws IOException {
@@ -2791,21 +2966,27 @@ public class ObjectInputStream
                 peekb = -1;
                 return v;
             } else {
-                return in.read();
+                int nbytes = in.read();
+                totalBytesRead += nbytes >= 0 ? 1 : 0;
+                return nbytes;
             }
         }
 
         public int read(byte[] b, int off, int len) throws IOException {
+            int nbytes;
             if (len == 0) {
                 return 0;
             } else if (peekb < 0) {
-                return in.read(b, off, len);
+                nbytes = in.read(b, off, len);
+                totalBytesRead += nbytes >= 0 ? nbytes : 0;
+                return nbytes;
             } else {
                 b[off++] = (byte) peekb;
                 len--;
                 peekb = -1;
-                int n = in.read(b, off, len);
-                return (n >= 0) ? (n + 1) : 1;
+                nbytes = in.read(b, off, len);
+                totalBytesRead += nbytes >= 0 ? nbytes : 0;
+                return (nbytes >= 0) ? (nbytes + 1) : 1;
             }
         }
 
@@ -2830,7 +3011,9 @@ public class ObjectInputStream
                 skipped++;
                 n--;
             }
-            return skipped + skip(n);
+            long nbytes = in.skip(n);
+            totalBytesRead += nbytes;
+            return skipped + nbytes;
         }
 
         public int available() throws IOException {
@@ -2840,6 +3023,16 @@ public class ObjectInputStream
         public void close() throws IOException {
             in.close();
         }
+
+        /**
+         * Returns the number of bytes read from the underlying stream,
+         * including a peeked byte not yet consumed.
+         * <p>
+         *  返回从底层流读取的字节数,包括尚未消耗的窥探字节。
+         */
+        long getBytesRead() {
+            return totalBytesRead;
+        }
     }
 
     /**
@@ -2927,6 +3120,15 @@ public class ObjectInputStream
             return !blkmode;
         }
 
+        /**
+         * Returns the number of bytes read from the underlying stream.
+         * <p>
+         *  返回从底层流读取的字节数。
+         */
+        long getBytesRead() {
+            return in.getBytesRead();
+        }
+
         /**
          * Returns true if the stream is currently in block data mode, false
          * otherwise.
@@ -3457,10 +3659,9 @@ public class ObjectInputStream
                     stop = Math.min(endoff, off + ((end - pos) >> 1));
                 }
 
-                while (off < stop) {
-                    v[off++] = Bits.getChar(buf, pos);
-                    pos += 2;
-                }
+                Bits.getChars(buf, pos, v, off, stop - off);
+                pos += (stop - off) << 1;
+                off = stop;
             }
         }
 
@@ -3479,10 +3680,9 @@ public class ObjectInputStream
                     stop = Math.min(endoff, off + ((end - pos) >> 1));
                 }
 
-                while (off < stop) {
-                    v[off++] = Bits.getShort(buf, pos);
-                    pos += 2;
-                }
+                Bits.getShorts(buf, pos, v, off, stop - off);
+                pos += (stop - off) << 1;
+                off = stop;
             }
         }
 
@@ -3501,10 +3701,9 @@ public class ObjectInputStream
                     stop = Math.min(endoff, off + ((end - pos) >> 2));
                 }
 
-                while (off < stop) {
-                    v[off++] = Bits.getInt(buf, pos);
-                    pos += 4;
-                }
+                Bits.getInts(buf, pos, v, off, stop - off);
+                pos += (stop - off) << 2;
+                off = stop;
             }
         }
 
@@ -3543,10 +3742,9 @@ public class ObjectInputStream
                     stop = Math.min(endoff, off + ((end - pos) >> 3));
                 }
 
-                while (off < stop) {
-                    v[off++] = Bits.getLong(buf, pos);
-                    pos += 8;
-                }
+                Bits.getLongs(buf, pos, v, off, stop - off);
+                pos += (stop - off) << 3;
+                off = stop;
             }
         }
 
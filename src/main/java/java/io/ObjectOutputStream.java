@@ -231,12 +231,20 @@ public class ObjectOutputStream
             new ReferenceQueue<>();
     }
 
+    /** number of entries in the per-stream class descriptor cache */
+    private static final int DESC_CACHE_SIZE = 32;
+
     /** filter stream for handling block data conversion */
     private final BlockDataOutputStream bout;
     /** obj -> wire handle map */
     private final HandleTable handles;
     /** obj -> replacement obj map */
     private final ReplaceTable subs;
+    /** recently written classes, indexed by identity hash */
+    private final Class<?>[] descClasses = new Class<?>[DESC_CACHE_SIZE];
+    /** descriptors of the classes in descClasses */
+    private final ObjectStreamClass[] descs =
+        new ObjectStreamClass[DESC_CACHE_SIZE];
     /** stream protocol version */
     private int protocol = PROTOCOL_VERSION_2;
     /** recursion depth */
@@ -1446,9 +1454,13 @@ public class ObjectOutputStream
             Class<?> cl = obj.getClass();
             ObjectStreamClass desc;
             for (;;) {
-                // REMIND: skip this check for strings/arrays?
+                // strings have no writeReplace method and need no descriptor
+                if (cl == String.class) {
+                    desc = null;
+                    break;
+                }
                 Class<?> repCl;
-                desc = ObjectStreamClass.lookup(cl, true);
+                desc = lookupDesc(cl);
                 if (!desc.hasWriteReplaceMethod() ||
                     (obj = desc.invokeWriteReplace(obj)) == null ||
                     (repCl = obj.getClass()) == cl)
@@ -1461,7 +1473,7 @@ public class ObjectOutputStream
                 Object rep = replaceObject(obj);
                 if (rep != obj && rep != null) {
                     cl = rep.getClass();
-                    desc = ObjectStreamClass.lookup(cl, true);
+                    desc = lookupDesc(cl);
                 }
                 obj = rep;
             }
@@ -1507,6 +1519,26 @@ public class ObjectOutputStream
         }
     }
 
+    /**
+     * Returns the class descriptor for the given class, consulting a small
+     * direct-mapped cache of recently used descriptors before the global
+     * descriptor cache.  Descriptors do not depend on the stream, so the
+     * cache survives reset().
+     * <p>
+     *  返回给定类的类描述符,在全局描述符缓存之前先查询最近使用的描述符的小型直接映射缓存。描述符不依赖于流,因此缓存在reset()之后保留。
+     *
+     */
+    private ObjectStreamClass lookupDesc(Class<?> cl) {
+        int i = System.identityHashCode(cl) & (DESC_CACHE_SIZE - 1);
+        if (descClasses[i] == cl) {
+            return descs[i];
+        }
+        ObjectStreamClass desc = ObjectStreamClass.lookup(cl, true);
+        descs[i] = desc;
+        descClasses[i] = cl;
+        return desc;
+    }
+
     /**
      * Writes null code to stream.
      * <p>
@@ -2455,11 +2487,10 @@ public class ObjectOutputStream
             while (off < endoff) {
                 if (pos <= limit) {
                     int avail = (MAX_BLOCK_SIZE - pos) >> 1;
-                    int stop = Math.min(endoff, off + avail);
-                    while (off < stop) {
-                        Bits.putChar(buf, pos, v[off++]);
-                        pos += 2;
-                    }
+                    int chunklen = Math.min(endoff - off, avail);
+                    Bits.putChars(buf, pos, v, off, chunklen);
+                    off += chunklen;
+                    pos += chunklen << 1;
                 } else {
                     dout.writeChar(v[off++]);
                 }
@@ -2472,11 +2503,10 @@ public class ObjectOutputStream
             while (off < endoff) {
                 if (pos <= limit) {
                     int avail = (MAX_BLOCK_SIZE - pos) >> 1;
-                    int stop = Math.min(endoff, off + avail);
-                    while (off < stop) {
-                        Bits.putShort(buf, pos, v[off++]);
-                        pos += 2;
-                    }
+                    int chunklen = Math.min(endoff - off, avail);
+                    Bits.putShorts(buf, pos, v, off, chunklen);
+                    off += chunklen;
+                    pos += chunklen << 1;
                 } else {
                     dout.writeShort(v[off++]);
                 }
@@ -2489,11 +2519,10 @@ public class ObjectOutputStream
             while (off < endoff) {
                 if (pos <= limit) {
                     int avail = (MAX_BLOCK_SIZE - pos) >> 2;
-                    int stop = Math.min(endoff, off + avail);
-                    while (off < stop) {
-                        Bits.putInt(buf, pos, v[off++]);
-                        pos += 4;
-                    }
+                    int chunklen = Math.min(endoff - off, avail);
+                    Bits.putInts(buf, pos, v, off, chunklen);
+                    off += chunklen;
+                    pos += chunklen << 2;
                 } else {
                     dout.writeInt(v[off++]);
                 }
@@ -2522,11 +2551,10 @@ public class ObjectOutputStream
             while (off < endoff) {
                 if (pos <= limit) {
                     int avail = (MAX_BLOCK_SIZE - pos) >> 3;
-                    int stop = Math.min(endoff, off + avail);
-                    while (off < stop) {
-                        Bits.putLong(buf, pos, v[off++]);
-                        pos += 8;
-                    }
+                    int chunklen = Math.min(endoff - off, avail);
+                    Bits.putLongs(buf, pos, v, off, chunklen);
+                    off += chunklen;
+                    pos += chunklen << 3;
                 } else {
                     dout.writeLong(v[off++]);
                 }
@@ -2705,7 +2733,7 @@ public class ObjectOutputStream
             next = new int[initialCapacity];
             objs = new Object[initialCapacity];
             threshold = (int) (initialCapacity * loadFactor);
-            clear();
+            Arrays.fill(spine, -1);
         }
 
         /**
@@ -2753,8 +2781,18 @@ public class ObjectOutputStream
          * 
          */
         void clear() {
-            Arrays.fill(spine, -1);
-            Arrays.fill(objs, 0, size, null);
+            if (size < (spine.length >>> 3)) {
+                // few mappings left in a large table (as after a reset of a
+                // stream that once wrote a big graph): clear only the
+                // buckets in use
+                for (int i = 0; i < size; i++) {
+                    spine[hash(objs[i]) % spine.length] = -1;
+                    objs[i] = null;
+                }
+            } else {
+                Arrays.fill(spine, -1);
+                Arrays.fill(objs, 0, size, null);
+            }
             size = 0;
         }
 
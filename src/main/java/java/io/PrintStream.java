@@ -72,9 +72,9 @@ public class PrintStream extends FilterOutputStream
     implements Appendable, Closeable
 {
 
-    private final boolean autoFlush;
-    private boolean trouble = false;
-    private Formatter formatter;
+    final boolean autoFlush;
+    boolean trouble = false;
+    Formatter formatter;
 
     /**
      * Track both the text- and character-output streams, so that their buffers
@@ -83,8 +83,8 @@ public class PrintStream extends FilterOutputStream
      *  跟踪文本和字符输出流,以便可以刷新它们的缓冲区,而不刷新整个流。
      * 
      */
-    private BufferedWriter textOut;
-    private OutputStreamWriter charOut;
+    BufferedWriter textOut;
+    OutputStreamWriter charOut;
 
     /**
      * requireNonNull is explicitly declared here so as not to create an extra
@@ -383,7 +383,7 @@ public class PrintStream extends FilterOutputStream
     }
 
     /** Check to make sure that the stream has not been closed */
-    private void ensureOpen() throws IOException {
+    void ensureOpen() throws IOException {
         if (out == null)
             throw new IOException("Stream closed");
     }
@@ -609,7 +609,7 @@ public class PrintStream extends FilterOutputStream
      * 
      */
 
-    private void write(char buf[]) {
+    void write(char buf[]) {
         try {
             synchronized (this) {
                 ensureOpen();
@@ -631,7 +631,7 @@ public class PrintStream extends FilterOutputStream
         }
     }
 
-    private void write(String s) {
+    void write(String s) {
         try {
             synchronized (this) {
                 ensureOpen();
@@ -650,7 +650,7 @@ public class PrintStream extends FilterOutputStream
         }
     }
 
-    private void newLine() {
+    void newLine() {
         try {
             synchronized (this) {
                 ensureOpen();
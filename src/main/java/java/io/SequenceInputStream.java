@@ -28,6 +28,7 @@ package java.io;
 
 import java.io.InputStream;
 import java.util.Enumeration;
+import java.util.Objects;
 import java.util.Vector;
 
 /**
@@ -256,6 +257,42 @@ class SequenceInputStream extends InputStream {
         return -1;
     }
 
+    /**
+     * Reads all bytes from this input stream and writes the bytes to the
+     * given output stream in the order that they are read.
+     *
+     * <p> Each substream transfers its own bytes with its
+     * <code>transferTo</code> method, so that substreams with a fast path,
+     * such as {@link FileInputStream}, keep it.  Each substream is closed
+     * once it has been transferred.
+     *
+     * <p>
+     *  从此输入流读取所有字节,并按读取顺序将字节写入给定的输出流。
+     *
+     *  <p>每个子流使用其<code>transferTo</code>方法传输自己的字节,因此具有快速路径的子流(例如{@link FileInputStream})会保留该路径。
+     * 每个子流在传输后关闭。
+     *
+     *
+     * @param      out   the output stream, non-null
+     * @return     the number of bytes transferred
+     * @exception  IOException if an I/O error occurs when reading or writing
+     * @exception  NullPointerException if {@code out} is {@code null}
+     *
+     * @since 1.8
+     */
+    public long transferTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        // A subclass may override read, so only the exact class delegates
+        if (getClass() != SequenceInputStream.class)
+            return super.transferTo(out);
+        long transferred = 0;
+        while (in != null) {
+            transferred += in.transferTo(out);
+            nextStream();
+        }
+        return transferred;
+    }
+
     /**
      * Closes this input stream and releases any system resources
      * associated with the stream.
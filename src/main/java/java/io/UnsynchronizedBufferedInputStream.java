@@ -0,0 +1,296 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+import java.util.Objects;
+
+/**
+ * A {@link BufferedInputStream} whose methods are not synchronized.
+ *
+ * <p> The reading methods of <code>BufferedInputStream</code> are
+ * synchronized on the stream, so every byte read through {@link #read()}
+ * pays for a lock that is never contended when, as is usual, the stream is
+ * read by a single thread.  This class provides the same operations, with
+ * the same buffering and mark behavior, without that synchronization.  An
+ * instance must not be used by multiple threads without external
+ * synchronization; it may still be {@link #close closed} asynchronously.
+ *
+ * <p> <b>This class is not thread-safe, although it is a
+ * <code>BufferedInputStream</code>.</b>  Code that is handed an
+ * <code>InputStream</code>, {@link System#setIn System.setIn} for one, may
+ * read it from several threads; with an instance of this class, those
+ * reads can return the same bytes twice, skip bytes or fail with an
+ * <code>ArrayIndexOutOfBoundsException</code>.
+ *
+ * <p>
+ *  其方法不同步的{@link BufferedInputStream}。
+ *
+ *  <p> <code> BufferedInputStream </code>的读取方法在流上同步,因此通过{@link #read()}读取的每个字节都要为一个锁付出代价,
+ * 而通常情况下流由单个线程读取,这个锁从不会被争用。此类提供相同的操作,具有相同的缓冲和标记行为,但不进行该同步。
+ * 如果没有外部同步,实例不得由多个线程使用;它仍然可以被异步{@link #close关闭}。
+ *
+ *  <p><b>尽管此类是<code>BufferedInputStream</code>,但它不是线程安全的。</b>
+ * 接收<code>InputStream</code>的代码(例如{@link System#setIn System.setIn})可能会从多个线程读取它;
+ * 对于此类的实例,这些读取可能两次返回相同的字节、跳过字节或以<code>ArrayIndexOutOfBoundsException</code>失败。
+ *
+ * @see     java.io.BufferedInputStream
+ * @since   1.8
+ */
+public class UnsynchronizedBufferedInputStream extends BufferedInputStream {
+
+    private static final int TRANSFER_BUFFER_SIZE = 8192;
+
+    /**
+     * Creates a <code>UnsynchronizedBufferedInputStream</code>
+     * and saves its  argument, the input stream
+     * <code>in</code>, for later use.
+     *
+     * <p>
+     *  创建<code> UnsynchronizedBufferedInputStream </code>并保存其参数,即输入流<code> in </code>,以供以后使用。
+     *
+     * @param   in   the underlying input stream.
+     */
+    public UnsynchronizedBufferedInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Creates a <code>UnsynchronizedBufferedInputStream</code>
+     * with the specified buffer size,
+     * and saves its  argument, the input stream
+     * <code>in</code>, for later use.
+     *
+     * <p>
+     *  创建具有指定缓冲区大小的<code> UnsynchronizedBufferedInputStream </code>,
+     * 并保存其参数,即输入流<code> in </code>,以供以后使用。
+     *
+     * @param   in     the underlying input stream.
+     * @param   size   the buffer size.
+     * @exception IllegalArgumentException if {@code size <= 0}.
+     */
+    public UnsynchronizedBufferedInputStream(InputStream in, int size) {
+        super(in, size);
+    }
+
+    /**
+     * See the general contract of the <code>read</code>
+     * method of <code>InputStream</code>.
+     *
+     * <p>
+     *  参见<code> InputStream </code>的<code> read </code>方法的一般合同。
+     *
+     * @return     the next byte of data, or <code>-1</code> if the end of the
+     *             stream is reached.
+     * @exception  IOException  if this input stream has been closed by
+     *                          invoking its {@link #close()} method,
+     *                          or an I/O error occurs.
+     */
+    @Override
+    public int read() throws IOException {
+        if (pos >= count) {
+            fill();
+            if (pos >= count)
+                return -1;
+        }
+        return getBufIfOpen()[pos++] & 0xff;
+    }
+
+    /**
+     * Reads bytes from this byte-input stream into the specified byte array,
+     * starting at the given offset, as specified by
+     * {@link BufferedInputStream#read(byte[], int, int)}.
+     *
+     * <p>
+     *  从给定的偏移量开始,将此字节输入流中的字节读入指定的字节数组,如{@link BufferedInputStream#read(byte[], int, int)}所指定。
+     *
+     * @param      b     destination buffer.
+     * @param      off   offset at which to start storing bytes.
+     * @param      len   maximum number of bytes to read.
+     * @return     the number of bytes read, or <code>-1</code> if the end of
+     *             the stream has been reached.
+     * @exception  IOException  if this input stream has been closed by
+     *                          invoking its {@link #close()} method,
+     *                          or an I/O error occurs.
+     */
+    @Override
+    public int read(byte b[], int off, int len) throws IOException {
+        getBufIfOpen(); // Check for closed stream
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return 0;
+        }
+
+        int n = 0;
+        for (;;) {
+            int nread = read1(b, off + n, len - n);
+            if (nread <= 0)
+                return (n == 0) ? nread : n;
+            n += nread;
+            if (n >= len)
+                return n;
+            // if not closed but no bytes available, return
+            InputStream input = in;
+            if (input != null && input.available() <= 0)
+                return n;
+        }
+    }
+
+    /**
+     * Reads all bytes from this input stream and writes the bytes to the
+     * given output stream, as specified by
+     * {@link InputStream#transferTo(OutputStream)}.
+     *
+     * <p>
+     *  从此输入流读取所有字节,并将字节写入给定的输出流,如{@link InputStream#transferTo(OutputStream)}所指定。
+     *
+     * @param  out the output stream, non-null
+     * @return the number of bytes transferred
+     * @exception  IOException  if an I/O error occurs when reading or writing
+     * @exception  NullPointerException if {@code out} is {@code null}
+     */
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        // A subclass may override read, so only the exact class delegates
+        if (getClass() == UnsynchronizedBufferedInputStream.class
+            && markpos < 0) {
+            int avail = count - pos;
+            if (avail > 0) {
+                out.write(getBufIfOpen(), pos, avail);
+                pos = count;
+            }
+            return avail + getInIfOpen().transferTo(out);
+        }
+        long transferred = 0;
+        byte[] buffer = new byte[TRANSFER_BUFFER_SIZE];
+        int read;
+        while ((read = read(buffer, 0, TRANSFER_BUFFER_SIZE)) >= 0) {
+            out.write(buffer, 0, read);
+            transferred += read;
+        }
+        return transferred;
+    }
+
+    /**
+     * See the general contract of the <code>skip</code>
+     * method of <code>InputStream</code>.
+     *
+     * <p>
+     *  参见<code> InputStream </code>的<code> skip </code>方法的一般合同。
+     *
+     * @exception  IOException  if the stream does not support seek,
+     *                          or if this input stream has been closed by
+     *                          invoking its {@link #close()} method, or an
+     *                          I/O error occurs.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        getBufIfOpen(); // Check for closed stream
+        if (n <= 0) {
+            return 0;
+        }
+        long avail = count - pos;
+
+        if (avail <= 0) {
+            // If no mark position set then don't keep in buffer
+            if (markpos < 0)
+                return getInIfOpen().skip(n);
+
+            // Fill in buffer to save bytes for reset
+            fill();
+            avail = count - pos;
+            if (avail <= 0)
+                return 0;
+        }
+
+        long skipped = (avail < n) ? avail : n;
+        pos += skipped;
+        return skipped;
+    }
+
+    /**
+     * Returns an estimate of the number of bytes that can be read (or
+     * skipped over) from this input stream without blocking by the next
+     * invocation of a method for this input stream.
+     *
+     * <p>
+     *  返回可以从此输入流读取(或跳过)的字节数的估计值,而不会被此输入流的下一个方法调用阻塞。
+     *
+     * @return     an estimate of the number of bytes that can be read (or
+     *             skipped over) from this input stream without blocking.
+     * @exception  IOException  if this input stream has been closed by
+     *                          invoking its {@link #close()} method,
+     *                          or an I/O error occurs.
+     */
+    @Override
+    public int available() throws IOException {
+        int n = count - pos;
+        int avail = getInIfOpen().available();
+        return n > (Integer.MAX_VALUE - avail)
+                    ? Integer.MAX_VALUE
+                    : n + avail;
+    }
+
+    /**
+     * See the general contract of the <code>mark</code>
+     * method of <code>InputStream</code>.
+     *
+     * <p>
+     *  参见<code> InputStream </code>的<code> mark </code>方法的一般合同。
+     *
+     * @param   readlimit   the maximum limit of bytes that can be read before
+     *                      the mark position becomes invalid.
+     * @see     java.io.BufferedInputStream#reset()
+     */
+    @Override
+    public void mark(int readlimit) {
+        marklimit = readlimit;
+        markpos = pos;
+    }
+
+    /**
+     * See the general contract of the <code>reset</code>
+     * method of <code>InputStream</code>.
+     *
+     * <p>
+     *  参见<code> InputStream </code>的<code> reset </code>方法的一般合同。
+     *
+     * @exception  IOException  if this stream has not been marked or,
+     *                  if the mark has been invalidated, or the stream
+     *                  has been closed by invoking its {@link #close()}
+     *                  method, or an I/O error occurs.
+     * @see        java.io.BufferedInputStream#mark(int)
+     */
+    @Override
+    public void reset() throws IOException {
+        getBufIfOpen(); // Cause exception if closed
+        if (markpos < 0)
+            throw new IOException("Resetting to invalid mark");
+        pos = markpos;
+    }
+}
@@ -0,0 +1,371 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+
+/**
+ * A {@link BufferedReader} whose methods are not synchronized.
+ *
+ * <p> The reading methods of <code>BufferedReader</code> synchronize on the
+ * reader's {@link #lock}, so every character read through {@link #read()}
+ * pays for a lock that is never contended when, as is usual, the reader is
+ * used by a single thread.  This class provides the same operations, with the
+ * same buffering, line-termination and mark behavior, without that
+ * synchronization, in the way that {@link StringBuilder} provides the
+ * operations of {@link StringBuffer}.  An instance must not be used by
+ * multiple threads without external synchronization.
+ *
+ * <p> <b>This class is not thread-safe, although it is a
+ * <code>BufferedReader</code>.</b>  A reader shared by threads that each
+ * call {@link #readLine readLine}, as a reader over {@link System#in} often
+ * is, can with an instance of this class return a line to two threads, or
+ * split or lose lines, where a <code>BufferedReader</code> would give each
+ * line to exactly one thread.
+ *
+ * <p>
+ *  其方法不同步的{@link BufferedReader}。
+ *
+ *  <p> <code> BufferedReader </code>的读取方法在读取器的{@link #lock}上同步,因此通过{@link #read()}读取的每个字符都要为一个锁付出代价,
+ * 而通常情况下读取器由单个线程使用,这个锁从不会被争用。此类提供相同的操作,具有相同的缓冲、行终止和标记行为,但不进行该同步,
+ * 就像{@link StringBuilder}提供{@link StringBuffer}的操作一样。如果没有外部同步,实例不得由多个线程使用。
+ *
+ *  <p><b>尽管此类是<code>BufferedReader</code>,但它不是线程安全的。</b>
+ * 由各自调用{@link #readLine readLine}的多个线程共享的读取器(例如{@link System#in}上的读取器通常如此),
+ * 如果是此类的实例,可能会将一行返回给两个线程,或拆分或丢失行,而<code>BufferedReader</code>会将每一行恰好交给一个线程。
+ *
+ * @see     java.io.BufferedReader
+ * @since   1.8
+ */
+
+public class UnsynchronizedBufferedReader extends BufferedReader {
+
+    /**
+     * Creates a buffering character-input stream that uses an input buffer of
+     * the specified size.
+     *
+     * <p>
+     *  创建使用指定大小的输入缓冲区的缓冲字符输入流。
+     *
+     * @param  in   A Reader
+     * @param  sz   Input-buffer size
+     *
+     * @exception  IllegalArgumentException  If {@code sz <= 0}
+     */
+    public UnsynchronizedBufferedReader(Reader in, int sz) {
+        super(in, sz);
+    }
+
+    /**
+     * Creates a buffering character-input stream that uses a default-sized
+     * input buffer.
+     *
+     * <p>
+     *  创建使用默认大小的输入缓冲区的缓冲字符输入流。
+     *
+     * @param  in   A Reader
+     */
+    public UnsynchronizedBufferedReader(Reader in) {
+        super(in);
+    }
+
+    /**
+     * Reads a single character.
+     *
+     * <p>
+     *  读取单个字符。
+     *
+     * @return The character read, as an integer in the range
+     *         0 to 65535 (<tt>0x00-0xffff</tt>), or -1 if the
+     *         end of the stream has been reached
+     * @exception  IOException  If an I/O error occurs
+     */
+    @Override
+    public int read() throws IOException {
+        ensureOpen();
+        for (;;) {
+            if (nextChar >= nChars) {
+                fill();
+                if (nextChar >= nChars)
+                    return -1;
+            }
+            if (skipLF) {
+                skipLF = false;
+                if (cb[nextChar] == '\n') {
+                    nextChar++;
+                    continue;
+                }
+            }
+            return cb[nextChar++];
+        }
+    }
+
+    /**
+     * Reads characters into a portion of an array, as specified by
+     * {@link BufferedReader#read(char[], int, int)}.
+     *
+     * <p>
+     *  将字符读入数组的一部分,如{@link BufferedReader#read(char[], int, int)}所指定。
+     *
+     * @param      cbuf  Destination buffer
+     * @param      off   Offset at which to start storing characters
+     * @param      len   Maximum number of characters to read
+     *
+     * @return     The number of characters read, or -1 if the end of the
+     *             stream has been reached
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    @Override
+    public int read(char cbuf[], int off, int len) throws IOException {
+        ensureOpen();
+        if ((off < 0) || (off > cbuf.length) || (len < 0) ||
+            ((off + len) > cbuf.length) || ((off + len) < 0)) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return 0;
+        }
+
+        int n = read1(cbuf, off, len);
+        if (n <= 0) return n;
+        while ((n < len) && in.ready()) {
+            int n1 = read1(cbuf, off + n, len - n);
+            if (n1 <= 0) break;
+            n += n1;
+        }
+        return n;
+    }
+
+    /**
+     * Reads a line of text, accumulating long lines in a
+     * {@link StringBuilder}.
+     *
+     * <p>
+     *  读取一行文本,在{@link StringBuilder}中累积长行。
+     *
+     * @param      ignoreLF  If true, the next '\n' will be skipped
+     *
+     * @return     A String containing the contents of the line, not including
+     *             any line-termination characters, or null if the end of the
+     *             stream has been reached
+     *
+     * @see        java.io.LineNumberReader#readLine()
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    @Override
+    String readLine(boolean ignoreLF) throws IOException {
+        StringBuilder s = null;
+        int startChar;
+
+        ensureOpen();
+        boolean omitLF = ignoreLF || skipLF;
+
+        for (;;) {
+
+            if (nextChar >= nChars)
+                fill();
+            if (nextChar >= nChars) { /* EOF */
+                if (s != null && s.length() > 0)
+                    return s.toString();
+                else
+                    return null;
+            }
+            boolean eol = false;
+            char c = 0;
+            int i;
+
+            /* Skip a leftover '\n', if necessary */
+            if (omitLF && (cb[nextChar] == '\n'))
+                nextChar++;
+            skipLF = false;
+            omitLF = false;
+
+            for (i = nextChar; i < nChars; i++) {
+                c = cb[i];
+                if ((c == '\n') || (c == '\r')) {
+                    eol = true;
+                    break;
+                }
+            }
+
+            startChar = nextChar;
+            nextChar = i;
+
+            if (eol) {
+                String str;
+                if (s == null) {
+                    str = new String(cb, startChar, i - startChar);
+                } else {
+                    s.append(cb, startChar, i - startChar);
+                    str = s.toString();
+                }
+                nextChar++;
+                if (c == '\r') {
+                    skipLF = true;
+                }
+                return str;
+            }
+
+            if (s == null)
+                s = new StringBuilder(defaultExpectedLineLength);
+            s.append(cb, startChar, i - startChar);
+        }
+    }
+
+    /**
+     * Skips characters.
+     *
+     * <p>
+     *  跳过字符。
+     *
+     * @param  n  The number of characters to skip
+     *
+     * @return    The number of characters actually skipped
+     *
+     * @exception  IllegalArgumentException  If <code>n</code> is negative.
+     * @exception  IOException  If an I/O error occurs
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        if (n < 0L) {
+            throw new IllegalArgumentException("skip value is negative");
+        }
+        ensureOpen();
+        long r = n;
+        while (r > 0) {
+            if (nextChar >= nChars)
+                fill();
+            if (nextChar >= nChars) /* EOF */
+                break;
+            if (skipLF) {
+                skipLF = false;
+                if (cb[nextChar] == '\n') {
+                    nextChar++;
+                }
+            }
+            long d = nChars - nextChar;
+            if (r <= d) {
+                nextChar += r;
+                r = 0;
+                break;
+            }
+            else {
+                r -= d;
+                nextChar = nChars;
+            }
+        }
+        return n - r;
+    }
+
+    /**
+     * Tells whether this stream is ready to be read.
+     *
+     * <p>
+     *  告诉这个流是否准备好被读取。
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    @Override
+    public boolean ready() throws IOException {
+        ensureOpen();
+
+        /*
+         * If newline needs to be skipped and the next char to be read
+         * is a newline character, then just skip it right away.
+         */
+        if (skipLF) {
+            /* Note that in.ready() will return true if and only if the next
+             * read on the stream will not block.
+             */
+            if (nextChar >= nChars && in.ready()) {
+                fill();
+            }
+            if (nextChar < nChars) {
+                if (cb[nextChar] == '\n')
+                    nextChar++;
+                skipLF = false;
+            }
+        }
+        return (nextChar < nChars) || in.ready();
+    }
+
+    /**
+     * Marks the present position in the stream, as specified by
+     * {@link BufferedReader#mark(int)}.
+     *
+     * <p>
+     *  标记流中的当前位置,如{@link BufferedReader#mark(int)}所指定。
+     *
+     * @param readAheadLimit   Limit on the number of characters that may be
+     *                         read while still preserving the mark.
+     *
+     * @exception  IllegalArgumentException  If {@code readAheadLimit < 0}
+     * @exception  IOException  If an I/O error occurs
+     */
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        if (readAheadLimit < 0) {
+            throw new IllegalArgumentException("Read-ahead limit < 0");
+        }
+        ensureOpen();
+        this.readAheadLimit = readAheadLimit;
+        markedChar = nextChar;
+        markedSkipLF = skipLF;
+    }
+
+    /**
+     * Resets the stream to the most recent mark.
+     *
+     * <p>
+     *  将流重置为最近的标记。
+     *
+     * @exception  IOException  If the stream has never been marked,
+     *                          or if the mark has been invalidated
+     */
+    @Override
+    public void reset() throws IOException {
+        ensureOpen();
+        if (markedChar < 0)
+            throw new IOException((markedChar == INVALIDATED)
+                                  ? "Mark invalid"
+                                  : "Stream not marked");
+        nextChar = markedChar;
+        skipLF = markedSkipLF;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in == null)
+            return;
+        try {
+            in.close();
+        } finally {
+            in = null;
+            cb = null;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+
+/**
+ * A {@link BufferedWriter} whose methods are not synchronized.
+ *
+ * <p> The writing methods of <code>BufferedWriter</code> synchronize on the
+ * writer's {@link #lock}, so every character written through {@link
+ * #write(int)} pays for a lock that is never contended when, as is usual,
+ * the writer is used by a single thread.  This class provides the same
+ * operations, with the same buffering, without that synchronization, in the
+ * way that {@link StringBuilder} provides the operations of {@link
+ * StringBuffer}.  An instance must not be used by multiple threads without
+ * external synchronization.
+ *
+ * <p> <b>This class is not thread-safe, although it is a
+ * <code>BufferedWriter</code>.</b>  A writer shared by threads, such as one
+ * that several threads log to, keeps each <code>write</code> call whole
+ * when it is a <code>BufferedWriter</code>; with an instance of this class
+ * the characters of concurrent calls interleave, and characters are lost
+ * or written twice when the buffer is flushed by two threads at once.
+ *
+ * <p>
+ *  其方法不同步的{@link BufferedWriter}。
+ *
+ *  <p> <code> BufferedWriter </code>的写入方法在写入器的{@link #lock}上同步,因此通过{@link #write(int)}写入的每个字符都要为一个锁付出代价,
+ * 而通常情况下写入器由单个线程使用,这个锁从不会被争用。此类提供相同的操作,具有相同的缓冲,但不进行该同步,
+ * 就像{@link StringBuilder}提供{@link StringBuffer}的操作一样。如果没有外部同步,实例不得由多个线程使用。
+ *
+ *  <p><b>尽管此类是<code>BufferedWriter</code>,但它不是线程安全的。</b>
+ * 由多个线程共享的写入器(例如多个线程向其记录日志的写入器)在是<code>BufferedWriter</code>时会保持每次<code>write</code>调用完整;
+ * 对于此类的实例,并发调用的字符会交错,并且当两个线程同时刷新缓冲区时,字符会丢失或被写入两次。
+ *
+ * @see     java.io.BufferedWriter
+ * @since   1.8
+ */
+
+public class UnsynchronizedBufferedWriter extends BufferedWriter {
+
+    /**
+     * Creates a buffered character-output stream that uses a default-sized
+     * output buffer.
+     *
+     * <p>
+     *  创建使用默认大小的输出缓冲区的缓冲字符输出流。
+     *
+     * @param  out  A Writer
+     */
+    public UnsynchronizedBufferedWriter(Writer out) {
+        super(out);
+    }
+
+    /**
+     * Creates a new buffered character-output stream that uses an output
+     * buffer of the given size.
+     *
+     * <p>
+     *  创建一个使用给定大小的输出缓冲区的新缓冲字符输出流。
+     *
+     * @param  out  A Writer
+     * @param  sz   Output-buffer size, a positive integer
+     *
+     * @exception  IllegalArgumentException  If {@code sz <= 0}
+     */
+    public UnsynchronizedBufferedWriter(Writer out, int sz) {
+        super(out, sz);
+    }
+
+    /**
+     * Flushes the output buffer to the underlying character stream, without
+     * flushing the stream itself.
+     * <p>
+     *  将输出缓冲区刷新到底层字符流,而不刷新流本身。
+     */
+    @Override
+    void flushBuffer() throws IOException {
+        ensureOpen();
+        if (nextChar == 0)
+            return;
+        out.write(cb, 0, nextChar);
+        nextChar = 0;
+    }
+
+    /**
+     * Writes a single character.
+     *
+     * <p>
+     *  写一个字符。
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    @Override
+    public void write(int c) throws IOException {
+        ensureOpen();
+        if (nextChar >= nChars)
+            flushBuffer();
+        cb[nextChar++] = (char) c;
+    }
+
+    /**
+     * Writes a portion of an array of characters, as specified by
+     * {@link BufferedWriter#write(char[], int, int)}.
+     *
+     * <p>
+     *  写入字符数组的一部分,如{@link BufferedWriter#write(char[], int, int)}所指定。
+     *
+     * @param  cbuf  A character array
+     * @param  off   Offset from which to start reading characters
+     * @param  len   Number of characters to write
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    @Override
+    public void write(char cbuf[], int off, int len) throws IOException {
+        ensureOpen();
+        if ((off < 0) || (off > cbuf.length) || (len < 0) ||
+            ((off + len) > cbuf.length) || ((off + len) < 0)) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return;
+        }
+
+        if (len >= nChars) {
+            /* If the request length exceeds the size of the output buffer,
+               flush the buffer and then write the data directly.  In this
+               way buffered streams will cascade harmlessly. */
+            flushBuffer();
+            out.write(cbuf, off, len);
+            return;
+        }
+
+        int b = off, t = off + len;
+        while (b < t) {
+            int d = Math.min(nChars - nextChar, t - b);
+            System.arraycopy(cbuf, b, cb, nextChar, d);
+            b += d;
+            nextChar += d;
+            if (nextChar >= nChars)
+                flushBuffer();
+        }
+    }
+
+    /**
+     * Writes a portion of a String.
+     *
+     * <p>
+     *  写一个字符串的一部分。
+     *
+     * @param  s     String to be written
+     * @param  off   Offset from which to start reading characters
+     * @param  len   Number of characters to be written
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    @Override
+    public void write(String s, int off, int len) throws IOException {
+        ensureOpen();
+
+        int b = off, t = off + len;
+        while (b < t) {
+            int d = Math.min(nChars - nextChar, t - b);
+            s.getChars(b, b + d, cb, nextChar);
+            b += d;
+            nextChar += d;
+            if (nextChar >= nChars)
+                flushBuffer();
+        }
+    }
+
+    /**
+     * Flushes the stream.
+     *
+     * <p>
+     *  刷新流。
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    @SuppressWarnings("try")
+    public void close() throws IOException {
+        if (out == null) {
+            return;
+        }
+        try (Writer w = out) {
+            flushBuffer();
+        } finally {
+            out = null;
+            cb = null;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A {@link ByteArrayOutputStream} whose methods are not synchronized.
+ *
+ * <p> The methods of <code>ByteArrayOutputStream</code> are synchronized on
+ * the stream, which is wasted work when, as is usual, a stream is filled and
+ * drained by a single thread.  This class provides the same operations
+ * without that synchronization, in the way that {@link StringBuilder}
+ * provides the operations of {@link StringBuffer}.  An instance must not be
+ * used by multiple threads without external synchronization.
+ *
+ * <p> <b>This class is not thread-safe, although it is a
+ * <code>ByteArrayOutputStream</code>.</b>  Where a
+ * <code>ByteArrayOutputStream</code> collects the output of several
+ * threads, for example behind a {@link PrintStream} given to {@link
+ * System#setErr System.setErr} to capture it, an instance of this class
+ * loses bytes, or fails with an <code>ArrayIndexOutOfBoundsException</code>,
+ * when two threads write at once.
+ *
+ * <p>
+ *  其方法不同步的{@link ByteArrayOutputStream}。
+ *
+ *  <p> <code> ByteArrayOutputStream </code>的方法在流上同步,而通常情况下流由单个线程填充和读取,这种同步是白费的。
+ * 此类提供相同的操作而不进行该同步,就像{@link StringBuilder}提供{@link StringBuffer}的操作一样。如果没有外部同步,实例不得由多个线程使用。
+ *
+ *  <p><b>尽管此类是<code>ByteArrayOutputStream</code>,但它不是线程安全的。</b>
+ * 在<code>ByteArrayOutputStream</code>收集多个线程输出的地方(例如在交给{@link System#setErr System.setErr}以捕获输出的{@link PrintStream}之后),
+ * 当两个线程同时写入时,此类的实例会丢失字节,或以<code>ArrayIndexOutOfBoundsException</code>失败。
+ *
+ * @see     java.io.ByteArrayOutputStream
+ * @since   1.8
+ */
+
+public class UnsynchronizedByteArrayOutputStream extends ByteArrayOutputStream {
+
+    /**
+     * Creates a new byte array output stream. The buffer capacity is
+     * initially 32 bytes, though its size increases if necessary.
+     * <p>
+     *  创建一个新的字节数组输出流。缓冲区容量最初为32字节,但如果必要,则其大小增加。
+     *
+     */
+    public UnsynchronizedByteArrayOutputStream() {
+        super();
+    }
+
+    /**
+     * Creates a new byte array output stream, with a buffer capacity of
+     * the specified size, in bytes.
+     *
+     * <p>
+     *  创建一个新的字节数组输出流,其缓冲区容量为指定的大小(以字节为单位)。
+     *
+     * @param   size   the initial size.
+     * @exception  IllegalArgumentException if size is negative.
+     */
+    public UnsynchronizedByteArrayOutputStream(int size) {
+        super(size);
+    }
+
+    /**
+     * Writes the specified byte to this byte array output stream.
+     *
+     * <p>
+     *  将指定的字节写入此字节数组输出流。
+     *
+     * @param   b   the byte to be written.
+     */
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buf[count] = (byte) b;
+        count += 1;
+    }
+
+    /**
+     * Writes <code>len</code> bytes from the specified byte array
+     * starting at offset <code>off</code> to this byte array output stream.
+     *
+     * <p>
+     *  将从偏移<code> off </code>开始的指定字节数组中的<code> len </code>字节写入此字节数组输出流。
+     *
+     * @param   b     the data.
+     * @param   off   the start offset in the data.
+     * @param   len   the number of bytes to write.
+     */
+    @Override
+    public void write(byte b[], int off, int len) {
+        if ((off < 0) || (off > b.length) || (len < 0) ||
+            ((off + len) - b.length > 0)) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    /**
+     * Writes the complete contents of this byte array output stream to
+     * the specified output stream argument, as if by calling the output
+     * stream's write method using <code>out.write(buf, 0, count)</code>.
+     *
+     * <p>
+     *  将此字节数组输出流的完整内容写入指定的输出流参数,如同通过使用<code> out.write(buf,0,count)</code>调用输出流的write方法。
+     *
+     * @param      out   the output stream to which to write the data.
+     * @exception  IOException  if an I/O error occurs.
+     */
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buf, 0, count);
+    }
+
+    /**
+     * Resets the <code>count</code> field of this byte array output
+     * stream to zero, so that all currently accumulated output in the
+     * output stream is discarded.
+     *
+     * <p>
+     *  将此字节数组输出流的<code> count </code>字段重置为零,以便丢弃输出流中当前所有累积的输出。
+     *
+     * @see     java.io.ByteArrayInputStream#count
+     */
+    @Override
+    public void reset() {
+        count = 0;
+    }
+
+    /**
+     * Creates a newly allocated byte array. Its size is the current
+     * size of this output stream and the valid contents of the buffer
+     * have been copied into it.
+     *
+     * <p>
+     *  创建新分配的字节数组。它的大小是此输出流的当前大小,并且缓冲区的有效内容已被复制到其中。
+     *
+     * @return  the current contents of this output stream, as a byte array.
+     * @see     java.io.ByteArrayOutputStream#size()
+     */
+    @Override
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * Returns a read-only byte buffer over the valid contents of this
+     * output stream, without copying them.
+     *
+     * <p>
+     *  返回此输出流有效内容上的只读字节缓冲区,而不复制它们。
+     *
+     * @return  the current contents of this output stream, as a read-only
+     *          byte buffer.
+     * @see     java.io.ByteArrayOutputStream#toByteBuffer()
+     */
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, count).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the current size of the buffer.
+     *
+     * <p>
+     *  返回缓冲区的当前大小。
+     *
+     * @return  the value of the <code>count</code> field, which is the number
+     *          of valid bytes in this output stream.
+     */
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Converts the buffer's contents into a string decoding bytes using the
+     * platform's default character set.
+     *
+     * <p>
+     *  使用平台的默认字符集将缓冲区的内容转换为解码字节的字符串。
+     *
+     * @return String decoded from the buffer's contents.
+     */
+    @Override
+    public String toString() {
+        return new String(buf, 0, count);
+    }
+
+    /**
+     * Converts the buffer's contents into a string by decoding the bytes
+     * using the named {@link java.nio.charset.Charset charset}.
+     *
+     * <p>
+     *  通过使用命名的{@link java.nio.charset.Charset charset}解码字节,将缓冲区的内容转换为字符串。
+     *
+     * @param      charsetName  the name of a supported
+     *             {@link java.nio.charset.Charset charset}
+     * @return     String decoded from the buffer's contents.
+     * @exception  UnsupportedEncodingException
+     *             If the named charset is not supported
+     */
+    @Override
+    public String toString(String charsetName)
+        throws UnsupportedEncodingException
+    {
+        return new String(buf, 0, count, charsetName);
+    }
+}
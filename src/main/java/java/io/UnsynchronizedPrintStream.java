@@ -0,0 +1,469 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+import java.util.Formatter;
+import java.util.Locale;
+
+
+/**
+ * A {@link PrintStream} whose methods are not synchronized.
+ *
+ * <p> Every printing method of <code>PrintStream</code> synchronizes on the
+ * stream, and each <code>println</code> does so twice, which is wasted work
+ * when, as is usual for a stream other than {@link System#out}, it is used
+ * by a single thread.  This class provides the same operations, with the same
+ * encoding, error and automatic flushing behavior, without that
+ * synchronization, in the way that {@link StringBuilder} provides the
+ * operations of {@link StringBuffer}.  Text is buffered by an {@link
+ * UnsynchronizedBufferedWriter}.  An instance must not be used by multiple
+ * threads without external synchronization.
+ *
+ * <p> Only the monitor of the stream is avoided.  The characters of each
+ * printing call are still encoded by the {@link OutputStreamWriter} of the
+ * stream, which locks itself when they are handed to it and when its
+ * bytes are flushed, a fixed cost per call rather than per character.
+ *
+ * <p> <b>This class is not thread-safe, although it is a
+ * <code>PrintStream</code>.</b>  Do not pass an instance to {@link
+ * System#setOut System.setOut} or {@link System#setErr System.setErr}, or
+ * to any other code that may print from several threads: where a
+ * <code>PrintStream</code> keeps each <code>println</code> whole, an
+ * instance of this class interleaves, loses or duplicates the characters
+ * of concurrent calls.
+ *
+ * <p>
+ *  其方法不同步的{@link PrintStream}。
+ *
+ *  <p> <code> PrintStream </code>的每个打印方法都在流上同步,每个<code> println </code>同步两次,
+ * 而对于{@link System#out}以外的流,通常情况下它由单个线程使用,这种同步是白费的。此类提供相同的操作,具有相同的编码、错误和自动刷新行为,但不进行该同步,
+ * 就像{@link StringBuilder}提供{@link StringBuffer}的操作一样。文本由{@link UnsynchronizedBufferedWriter}缓冲。
+ * 如果没有外部同步,实例不得由多个线程使用。
+ *
+ *  <p>只避免了流的监视器。每次打印调用的字符仍由流的{@link OutputStreamWriter}编码,
+ * 该写入器在字符交给它时以及刷新其字节时会锁定自身,这是每次调用的固定开销,而不是每个字符的开销。
+ *
+ *  <p><b>尽管此类是<code>PrintStream</code>,但它不是线程安全的。</b>
+ * 不要将实例传递给{@link System#setOut System.setOut}或{@link System#setErr System.setErr},
+ * 也不要传递给任何可能从多个线程打印的代码:<code>PrintStream</code>会保持每次<code>println</code>完整,
+ * 而此类的实例会使并发调用的字符交错、丢失或重复。
+ *
+ * @see     java.io.PrintStream
+ * @since   1.8
+ */
+
+public class UnsynchronizedPrintStream extends PrintStream {
+
+    /**
+     * Creates a new print stream, without automatic line flushing.
+     *
+     * <p>
+     *  创建一个新的打印流,无需自动行冲洗。
+     *
+     * @param  out        The output stream to which values and objects will be
+     *                    printed
+     *
+     * @see java.io.PrintStream#PrintStream(java.io.OutputStream)
+     */
+    public UnsynchronizedPrintStream(OutputStream out) {
+        this(out, false);
+    }
+
+    /**
+     * Creates a new print stream.
+     *
+     * <p>
+     *  创建新的打印流。
+     *
+     * @param  out        The output stream to which values and objects will be
+     *                    printed
+     * @param  autoFlush  A boolean; if true, the output buffer will be flushed
+     *                    whenever a byte array is written, one of the
+     *                    <code>println</code> methods is invoked, or a newline
+     *                    character or byte (<code>'\n'</code>) is written
+     *
+     * @see java.io.PrintStream#PrintStream(java.io.OutputStream, boolean)
+     */
+    public UnsynchronizedPrintStream(OutputStream out, boolean autoFlush) {
+        super(out, autoFlush);
+        textOut = new UnsynchronizedBufferedWriter(charOut);
+    }
+
+    /**
+     * Creates a new print stream.
+     *
+     * <p>
+     *  创建新的打印流。
+     *
+     * @param  out        The output stream to which values and objects will be
+     *                    printed
+     * @param  autoFlush  A boolean; if true, the output buffer will be flushed
+     *                    whenever a byte array is written, one of the
+     *                    <code>println</code> methods is invoked, or a newline
+     *                    character or byte (<code>'\n'</code>) is written
+     * @param  encoding   The name of a supported
+     *                    <a href="../lang/package-summary.html#charenc">
+     *                    character encoding</a>
+     *
+     * @throws  UnsupportedEncodingException
+     *          If the named encoding is not supported
+     */
+    public UnsynchronizedPrintStream(OutputStream out, boolean autoFlush,
+                                     String encoding)
+        throws UnsupportedEncodingException
+    {
+        super(out, autoFlush, encoding);
+        textOut = new UnsynchronizedBufferedWriter(charOut);
+    }
+
+    /**
+     * Flushes the stream.
+     *
+     * <p>
+     *  刷新流。
+     *
+     * @see        java.io.OutputStream#flush()
+     */
+    @Override
+    public void flush() {
+        try {
+            ensureOpen();
+            out.flush();
+        }
+        catch (IOException x) {
+            trouble = true;
+        }
+    }
+
+    /**
+     * Writes the specified byte to this stream, as specified by
+     * {@link PrintStream#write(int)}.
+     *
+     * <p>
+     *  将指定的字节写入此流,如{@link PrintStream#write(int)}所指定。
+     *
+     * @param  b  The byte to be written
+     * @see #println(char)
+     */
+    @Override
+    public void write(int b) {
+        try {
+            ensureOpen();
+            out.write(b);
+            if ((b == '\n') && autoFlush)
+                out.flush();
+        }
+        catch (InterruptedIOException x) {
+            Thread.currentThread().interrupt();
+        }
+        catch (IOException x) {
+            trouble = true;
+        }
+    }
+
+    /**
+     * Writes <code>len</code> bytes from the specified byte array starting at
+     * offset <code>off</code> to this stream, as specified by
+     * {@link PrintStream#write(byte[], int, int)}.
+     *
+     * <p>
+     *  将从偏移<code> off </code>开始的指定字节数组中的<code> len </code>字节写入此流,如{@link PrintStream#write(byte[], int, int)}所指定。
+     *
+     * @param  buf   A byte array
+     * @param  off   Offset from which to start taking bytes
+     * @param  len   Number of bytes to write
+     */
+    @Override
+    public void write(byte buf[], int off, int len) {
+        try {
+            ensureOpen();
+            out.write(buf, off, len);
+            if (autoFlush)
+                out.flush();
+        }
+        catch (InterruptedIOException x) {
+            Thread.currentThread().interrupt();
+        }
+        catch (IOException x) {
+            trouble = true;
+        }
+    }
+
+    @Override
+    void write(char buf[]) {
+        try {
+            ensureOpen();
+            textOut.write(buf);
+            textOut.flushBuffer();
+            charOut.flushBuffer();
+            if (autoFlush) {
+                for (int i = 0; i < buf.length; i++)
+                    if (buf[i] == '\n')
+                        out.flush();
+            }
+        }
+        catch (InterruptedIOException x) {
+            Thread.currentThread().interrupt();
+        }
+        catch (IOException x) {
+            trouble = true;
+        }
+    }
+
+    @Override
+    void write(String s) {
+        try {
+            ensureOpen();
+            textOut.write(s);
+            textOut.flushBuffer();
+            charOut.flushBuffer();
+            if (autoFlush && (s.indexOf('\n') >= 0))
+                out.flush();
+        }
+        catch (InterruptedIOException x) {
+            Thread.currentThread().interrupt();
+        }
+        catch (IOException x) {
+            trouble = true;
+        }
+    }
+
+    @Override
+    void newLine() {
+        try {
+            ensureOpen();
+            textOut.newLine();
+            textOut.flushBuffer();
+            charOut.flushBuffer();
+            if (autoFlush)
+                out.flush();
+        }
+        catch (InterruptedIOException x) {
+            Thread.currentThread().interrupt();
+        }
+        catch (IOException x) {
+            trouble = true;
+        }
+    }
+
+    /**
+     * Prints a boolean and then terminates the line.
+     *
+     * <p>
+     *  打印布尔值,然后终止行。
+     *
+     * @param x  The <code>boolean</code> to be printed.
+     */
+    @Override
+    public void println(boolean x) {
+        print(x);
+        newLine();
+    }
+
+    /**
+     * Prints a character and then terminates the line.
+     *
+     * <p>
+     *  打印字符,然后终止行。
+     *
+     * @param x  The <code>char</code> to be printed.
+     */
+    @Override
+    public void println(char x) {
+        print(x);
+        newLine();
+    }
+
+    /**
+     * Prints an integer and then terminates the line.
+     *
+     * <p>
+     *  打印整数,然后终止行。
+     *
+     * @param x  The <code>int</code> to be printed.
+     */
+    @Override
+    public void println(int x) {
+        print(x);
+        newLine();
+    }
+
+    /**
+     * Prints a long and then terminates the line.
+     *
+     * <p>
+     *  打印long,然后终止行。
+     *
+     * @param x  The <code>long</code> to be printed.
+     */
+    @Override
+    public void println(long x) {
+        print(x);
+        newLine();
+    }
+
+    /**
+     * Prints a float and then terminates the line.
+     *
+     * <p>
+     *  打印浮点数,然后终止行。
+     *
+     * @param x  The <code>float</code> to be printed.
+     */
+    @Override
+    public void println(float x) {
+        print(x);
+        newLine();
+    }
+
+    /**
+     * Prints a double and then terminates the line.
+     *
+     * <p>
+     *  打印double,然后终止行。
+     *
+     * @param x  The <code>double</code> to be printed.
+     */
+    @Override
+    public void println(double x) {
+        print(x);
+        newLine();
+    }
+
+    /**
+     * Prints an array of characters and then terminates the line.
+     *
+     * <p>
+     *  打印字符数组,然后终止行。
+     *
+     * @param x  The <code>char[]</code> to be printed.
+     */
+    @Override
+    public void println(char x[]) {
+        print(x);
+        newLine();
+    }
+
+    /**
+     * Prints a String and then terminates the line.
+     *
+     * <p>
+     *  打印字符串,然后终止行。
+     *
+     * @param x  The <code>String</code> to be printed.
+     */
+    @Override
+    public void println(String x) {
+        print(x);
+        newLine();
+    }
+
+    /**
+     * Prints an Object and then terminates the line.
+     *
+     * <p>
+     *  打印对象,然后终止行。
+     *
+     * @param x  The <code>Object</code> to be printed.
+     */
+    @Override
+    public void println(Object x) {
+        print(x);
+        newLine();
+    }
+
+    /**
+     * Writes a formatted string to this output stream using the specified
+     * format string and arguments, as specified by
+     * {@link PrintStream#format(String, Object...)}.
+     *
+     * <p>
+     *  使用指定的格式字符串和参数将格式化字符串写入此输出流,如{@link PrintStream#format(String, Object...)}所指定。
+     *
+     * @param  format
+     *         A format string as described in <a
+     *         href="../util/Formatter.html#syntax">Format string syntax</a>
+     *
+     * @param  args
+     *         Arguments referenced by the format specifiers in the format
+     *         string.
+     *
+     * @return  This output stream
+     */
+    @Override
+    public PrintStream format(String format, Object ... args) {
+        Locale l = Locale.getDefault();
+        if (ensureFormatter(l))
+            formatter.format(l, format, args);
+        return this;
+    }
+
+    /**
+     * Writes a formatted string to this output stream using the specified
+     * format string and arguments, as specified by
+     * {@link PrintStream#format(Locale, String, Object...)}.
+     *
+     * <p>
+     *  使用指定的格式字符串和参数将格式化字符串写入此输出流,如{@link PrintStream#format(Locale, String, Object...)}所指定。
+     *
+     * @param  l
+     *         The {@linkplain java.util.Locale locale} to apply during
+     *         formatting.  If <tt>l</tt> is <tt>null</tt> then no localization
+     *         is applied.
+     *
+     * @param  format
+     *         A format string as described in <a
+     *         href="../util/Formatter.html#syntax">Format string syntax</a>
+     *
+     * @param  args
+     *         Arguments referenced by the format specifiers in the format
+     *         string.
+     *
+     * @return  This output stream
+     */
+    @Override
+    public PrintStream format(Locale l, String format, Object ... args) {
+        if (ensureFormatter(l))
+            formatter.format(l, format, args);
+        return this;
+    }
+
+    // Creates a formatter for the given locale unless the current one
+    // already uses it; returns false, recording an error, if the stream
+    // is closed
+    private boolean ensureFormatter(Locale l) {
+        try {
+            ensureOpen();
+        } catch (IOException x) {
+            trouble = true;
+            return false;
+        }
+        if ((formatter == null) || (formatter.locale() != l))
+            formatter = new Formatter((Appendable) this, l);
+        return true;
+    }
+}
@@ -26,7 +26,8 @@
 
 package java.lang;
 
-import sun.misc.FloatingDecimal;
+import sun.misc.DoubleToDecimal;
+import sun.misc.FloatToDecimal;
 import java.util.Arrays;
 
 /**
@@ -877,7 +878,8 @@ abstract class AbstractStringBuilder implements Appendable, CharSequence {
      * @return  a reference to this object.
      */
     public AbstractStringBuilder append(float f) {
-        FloatingDecimal.appendTo(f,this);
+        ensureCapacityInternal(count + FloatToDecimal.MAX_CHARS);
+        count = FloatToDecimal.getChars(f, value, count);
         return this;
     }
 
@@ -900,7 +902,8 @@ abstract class AbstractStringBuilder implements Appendable, CharSequence {
      * @return  a reference to this object.
      */
     public AbstractStringBuilder append(double d) {
-        FloatingDecimal.appendTo(d,this);
+        ensureCapacityInternal(count + DoubleToDecimal.MAX_CHARS);
+        count = DoubleToDecimal.getChars(d, value, count);
         return this;
     }
 
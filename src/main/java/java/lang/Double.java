@@ -26,7 +26,9 @@
 
 package java.lang;
 
-import sun.misc.FloatingDecimal;
+import java.io.IOException;
+import sun.misc.DoubleToDecimal;
+import sun.misc.FloatingDecimalParser;
 import sun.misc.FpUtils;
 import sun.misc.DoubleConsts;
 
@@ -279,7 +281,52 @@ public final class Double extends Number implements Comparable<Double> {
      * @return a string representation of the argument.
      */
     public static String toString(double d) {
-        return FloatingDecimal.toJavaFormatString(d);
+        return DoubleToDecimal.toString(d);
+    }
+
+    /**
+     * Writes the string representation of the {@code double} argument,
+     * exactly as produced by {@link #toString(double)}, into the character
+     * array {@code dst} starting at index {@code dstBegin}.  At most
+     * 24 characters are written.  No objects are allocated.
+     *
+     * <p>
+     *  将{@code double}参数的字符串表示(与{@link #toString(double)}生成的完全相同)写入字符数组{@code dst},从索引{@code dstBegin}开始。
+     * 最多写入24个字符。不分配任何对象。
+     * 
+     * 
+     * @param   d          the {@code double} to be converted.
+     * @param   dst        the destination array.
+     * @param   dstBegin   the start offset in the destination array.
+     * @return  the index in {@code dst} just past the last character
+     *          written.
+     * @throws  IndexOutOfBoundsException if {@code dst} has too little
+     *          room after {@code dstBegin} to hold the characters.
+     * @since   1.8
+     */
+    public static int getChars(double d, char[] dst, int dstBegin) {
+        return DoubleToDecimal.getChars(d, dst, dstBegin);
+    }
+
+    /**
+     * Appends the string representation of the {@code double} argument,
+     * exactly as produced by {@link #toString(double)}, to the given
+     * {@code Appendable}.  No intermediate {@code String} is created.
+     *
+     * <p>
+     *  将{@code double}参数的字符串表示(与{@link #toString(double)}生成的完全相同)追加到给定的{@code Appendable}。不创建中间的{@code String}。
+     * 
+     * 
+     * @param   <A>   the type of the {@code Appendable}.
+     * @param   d     the {@code double} to be converted.
+     * @param   a     the {@code Appendable} to append to.
+     * @return  {@code a}
+     * @throws  IOException if an I/O error occurs.
+     * @since   1.8
+     */
+    public static <A extends Appendable> A appendTo(double d, A a) throws IOException {
+        DoubleToDecimal.appendTo(d, a);
+        return a;
     }
 
     /**
@@ -737,7 +784,7 @@ public final class Double extends Number implements Comparable<Double> {
      * @since 1.2
      */
     public static double parseDouble(String s) throws NumberFormatException {
-        return FloatingDecimal.parseDouble(s);
+        return FloatingDecimalParser.parseDouble(s);
     }
 
     /**
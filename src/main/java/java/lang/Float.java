@@ -26,7 +26,9 @@
 
 package java.lang;
 
-import sun.misc.FloatingDecimal;
+import java.io.IOException;
+import sun.misc.FloatToDecimal;
+import sun.misc.FloatingDecimalParser;
 import sun.misc.FloatConsts;
 import sun.misc.DoubleConsts;
 
@@ -278,7 +280,52 @@ public final class Float extends Number implements Comparable<Float> {
      * @return a string representation of the argument.
      */
     public static String toString(float f) {
-        return FloatingDecimal.toJavaFormatString(f);
+        return FloatToDecimal.toString(f);
+    }
+
+    /**
+     * Writes the string representation of the {@code float} argument,
+     * exactly as produced by {@link #toString(float)}, into the character
+     * array {@code dst} starting at index {@code dstBegin}.  At most
+     * 15 characters are written.  No objects are allocated.
+     *
+     * <p>
+     *  将{@code float}参数的字符串表示(与{@link #toString(float)}生成的完全相同)写入字符数组{@code dst},从索引{@code dstBegin}开始。
+     * 最多写入15个字符。不分配任何对象。
+     * 
+     * 
+     * @param   f          the {@code float} to be converted.
+     * @param   dst        the destination array.
+     * @param   dstBegin   the start offset in the destination array.
+     * @return  the index in {@code dst} just past the last character
+     *          written.
+     * @throws  IndexOutOfBoundsException if {@code dst} has too little
+     *          room after {@code dstBegin} to hold the characters.
+     * @since   1.8
+     */
+    public static int getChars(float f, char[] dst, int dstBegin) {
+        return FloatToDecimal.getChars(f, dst, dstBegin);
+    }
+
+    /**
+     * Appends the string representation of the {@code float} argument,
+     * exactly as produced by {@link #toString(float)}, to the given
+     * {@code Appendable}.  No intermediate {@code String} is created.
+     *
+     * <p>
+     *  将{@code float}参数的字符串表示(与{@link #toString(float)}生成的完全相同)追加到给定的{@code Appendable}。不创建中间的{@code String}。
+     * 
+     * 
+     * @param   <A>   the type of the {@code Appendable}.
+     * @param   f     the {@code float} to be converted.
+     * @param   a     the {@code Appendable} to append to.
+     * @return  {@code a}
+     * @throws  IOException if an I/O error occurs.
+     * @since   1.8
+     */
+    public static <A extends Appendable> A appendTo(float f, A a) throws IOException {
+        FloatToDecimal.appendTo(f, a);
+        return a;
     }
 
     /**
@@ -622,7 +669,7 @@ public final class Float extends Number implements Comparable<Float> {
      * @since 1.2
      */
     public static float parseFloat(String s) throws NumberFormatException {
-        return FloatingDecimal.parseFloat(s);
+        return FloatingDecimalParser.parseFloat(s);
     }
 
     /**
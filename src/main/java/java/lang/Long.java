@@ -27,6 +27,8 @@
 package java.lang;
 
 import java.lang.annotation.Native;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.math.*;
 
 
@@ -625,6 +627,134 @@ public final class Long extends Number implements Comparable<Long> {
         return 19;
     }
 
+    /**
+     * Places the ASCII characters representing the long i into the
+     * byte array buf, backwards from the specified index (exclusive),
+     * as getChars does.  Unlike getChars this also handles
+     * Long.MIN_VALUE, as the digits are accumulated negatively.
+     */
+    static void getBytes(long i, int index, byte[] buf) {
+        long q;
+        int r;
+        int charPos = index;
+        boolean negative = (i < 0);
+        if (!negative) {
+            i = -i;
+        }
+
+        // Get 2 digits/iteration using longs until quotient fits into an int
+        while (i <= Integer.MIN_VALUE) {
+            q = i / 100;
+            r = (int)((q * 100) - i);
+            i = q;
+            buf[--charPos] = (byte)Integer.DigitOnes[r];
+            buf[--charPos] = (byte)Integer.DigitTens[r];
+        }
+
+        // Get 2 digits/iteration using ints
+        int q2;
+        int i2 = (int)i;
+        while (i2 <= -100) {
+            q2 = i2 / 100;
+            r  = (q2 * 100) - i2;
+            i2 = q2;
+            buf[--charPos] = (byte)Integer.DigitOnes[r];
+            buf[--charPos] = (byte)Integer.DigitTens[r];
+        }
+
+        // We know there are at most two digits left at this point.
+        q2 = i2 / 10;
+        r  = (q2 * 10) - i2;
+        buf[--charPos] = (byte)('0' + r);
+
+        // Whatever is left is the remaining digit.
+        if (q2 < 0) {
+            buf[--charPos] = (byte)('0' - q2);
+        }
+
+        if (negative) {
+            buf[--charPos] = (byte)'-';
+        }
+    }
+
+    /**
+     * Writes the ASCII characters of the decimal representation of the
+     * specified {@code long}, exactly as returned by {@link #toString(long)},
+     * into the byte array {@code dst} starting at index {@code dstBegin}.
+     *
+     * <p>
+     *  将指定{@code long}的十进制表示的ASCII字符(与{@link #toString(long)}返回的完全相同)写入字节数组{@code dst},
+     * 从索引{@code dstBegin}开始。
+     *
+     *
+     * @param   i          the {@code long} to be written.
+     * @param   dst        the destination array.
+     * @param   dstBegin   the start offset in the destination array.
+     * @return  the index in {@code dst} following the last byte written.
+     * @throws  IndexOutOfBoundsException  if {@code dstBegin} is negative
+     *          or there is not enough room in {@code dst} after it.
+     * @since   1.8
+     */
+    public static int getBytes(long i, byte[] dst, int dstBegin) {
+        int end = dstBegin + byteSize(i);
+        if (dstBegin < 0 || end < 0 || end > dst.length) {
+            throw new IndexOutOfBoundsException("dstBegin " + dstBegin +
+                                                ", length " + dst.length);
+        }
+        getBytes(i, end, dst);
+        return end;
+    }
+
+    /**
+     * Writes the ASCII characters of the decimal representation of the
+     * specified {@code long}, exactly as returned by {@link #toString(long)},
+     * into the given buffer at its current position, and then increments
+     * the position.
+     *
+     * <p>
+     *  将指定{@code long}的十进制表示的ASCII字符(与{@link #toString(long)}返回的完全相同)写入给定缓冲区的当前位置,然后增加位置。
+     *
+     *
+     * @param   i     the {@code long} to be written.
+     * @param   dst   the destination buffer.
+     * @return  the buffer.
+     * @throws  BufferOverflowException  if there is not enough room
+     *          remaining in the buffer; the buffer is then unchanged.
+     * @throws  java.nio.ReadOnlyBufferException  if the buffer is read-only.
+     * @since   1.8
+     */
+    public static ByteBuffer getBytes(long i, ByteBuffer dst) {
+        int pos = dst.position();
+        int end = pos + byteSize(i);
+        if (end > dst.limit()) {
+            throw new BufferOverflowException();
+        }
+        if (dst.hasArray()) {
+            getBytes(i, dst.arrayOffset() + end, dst.array());
+        } else {
+            // Accumulating negatively avoids surprises near MIN_VALUE
+            long q = (i < 0) ? i : -i;
+            int index = end;
+            do {
+                dst.put(--index, (byte)('0' - (q % 10)));
+                q /= 10;
+            } while (q != 0);
+            if (i < 0) {
+                dst.put(--index, (byte)'-');
+            }
+        }
+        dst.position(end);
+        return dst;
+    }
+
+    // Number of characters in toString(i)
+    private static int byteSize(long i) {
+        if (i < 0) {
+            return (i == Long.MIN_VALUE) ? 20 : stringSize(-i) + 1;
+        }
+        return stringSize(i);
+    }
+
     /**
      * Parses the string argument as a signed {@code long} in the
      * radix specified by the second argument. The characters in the
@@ -810,6 +940,266 @@ public final class Long extends Number implements Comparable<Long> {
         return parseLong(s, 10);
     }
 
+    /**
+     * Parses the {@link CharSequence} argument as a signed {@code long} in
+     * the specified {@code radix}, beginning at the specified {@code
+     * beginIndex} and extending to {@code endIndex - 1}.
+     *
+     * <p>The method does not take steps to guard against the
+     * {@code CharSequence} being mutated while parsing.
+     *
+     * <p>
+     *  将{@link CharSequence}参数解析为指定{@code radix}中的带符号{@code long},从指定的{@code beginIndex}开始,
+     * 延伸到{@code endIndex - 1}。
+     *
+     *  <p>该方法不采取措施防止{@code CharSequence}在解析期间被修改。
+     *
+     *
+     * @param      s   the {@code CharSequence} containing the {@code long}
+     *                  representation to be parsed
+     * @param      beginIndex   the beginning index, inclusive.
+     * @param      endIndex     the ending index, exclusive.
+     * @param      radix   the radix to be used while parsing {@code s}.
+     * @return     the signed {@code long} represented by the subsequence in
+     *             the specified radix.
+     * @throws     NullPointerException  if {@code s} is null.
+     * @throws     IndexOutOfBoundsException  if {@code beginIndex} is
+     *             negative, or if {@code beginIndex} is greater than
+     *             {@code endIndex} or if {@code endIndex} is greater than
+     *             {@code s.length()}.
+     * @throws     NumberFormatException  if the {@code CharSequence} does not
+     *             contain a parsable {@code long} in the specified
+     *             {@code radix}, or if {@code radix} is either smaller than
+     *             {@link java.lang.Character#MIN_RADIX} or larger than
+     *             {@link java.lang.Character#MAX_RADIX}.
+     * @see #parseLong(String, int)
+     * @since  1.8
+     */
+    public static long parseLong(CharSequence s, int beginIndex, int endIndex, int radix)
+                throws NumberFormatException {
+        if (s == null) {
+            throw new NullPointerException();
+        }
+        if (beginIndex < 0 || beginIndex > endIndex || endIndex > s.length()) {
+            throw new IndexOutOfBoundsException();
+        }
+        checkRadix(radix);
+
+        if (beginIndex == endIndex) {
+            throw NumberFormatException.forInputString("");
+        }
+        boolean negative = false;
+        int i = beginIndex;
+        long limit = -Long.MAX_VALUE;
+
+        char firstChar = s.charAt(i);
+        if (firstChar < '0') { // Possible leading "+" or "-"
+            if (firstChar == '-') {
+                negative = true;
+                limit = Long.MIN_VALUE;
+            } else if (firstChar != '+') {
+                throw NumberFormatException.forCharSequence(s, beginIndex,
+                        endIndex, i);
+            }
+            i++;
+            if (i == endIndex) { // Cannot have lone "+" or "-"
+                throw NumberFormatException.forCharSequence(s, beginIndex,
+                        endIndex, i);
+            }
+        }
+        long multmin = limit / radix;
+        long result = 0;
+        while (i < endIndex) {
+            // Accumulating negatively avoids surprises near MAX_VALUE
+            int digit = Character.digit(s.charAt(i), radix);
+            if (digit < 0 || result < multmin) {
+                throw NumberFormatException.forCharSequence(s, beginIndex,
+                        endIndex, i);
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                throw NumberFormatException.forCharSequence(s, beginIndex,
+                        endIndex, i);
+            }
+            i++;
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses the ASCII characters held in the byte array argument as a
+     * signed {@code long} in the specified {@code radix}, beginning at the
+     * specified {@code beginIndex} and extending to {@code endIndex - 1}.
+     * Each byte is taken to be an ISO-8859-1 character, so that only the
+     * ASCII digits, letters, {@code '-'} and {@code '+'} are accepted, as
+     * described for {@link #parseLong(String, int)}.
+     *
+     * <p>This method lets protocol parsers read numbers straight out of
+     * their input buffers without first decoding them into a
+     * {@code String}.
+     *
+     * <p>
+     *  将字节数组参数中的ASCII字符解析为指定{@code radix}中的带符号{@code long},从指定的{@code beginIndex}开始,
+     * 延伸到{@code endIndex - 1}。每个字节被视为ISO-8859-1字符,因此只接受ASCII数字、字母、{@code '-'}和{@code '+'},
+     * 如{@link #parseLong(String, int)}所述。
+     *
+     *  <p>此方法允许协议解析器直接从其输入缓冲区读取数字,而无需先将其解码为{@code String}。
+     *
+     *
+     * @param      b   the bytes containing the {@code long} representation
+     *                  to be parsed
+     * @param      beginIndex   the beginning index, inclusive.
+     * @param      endIndex     the ending index, exclusive.
+     * @param      radix   the radix to be used while parsing {@code b}.
+     * @return     the signed {@code long} represented by the bytes in the
+     *             specified radix.
+     * @throws     NullPointerException  if {@code b} is null.
+     * @throws     IndexOutOfBoundsException  if {@code beginIndex} is
+     *             negative, or if {@code beginIndex} is greater than
+     *             {@code endIndex} or if {@code endIndex} is greater than
+     *             {@code b.length}.
+     * @throws     NumberFormatException  if the bytes do not contain a
+     *             parsable {@code long} in the specified {@code radix}, or
+     *             if {@code radix} is either smaller than
+     *             {@link java.lang.Character#MIN_RADIX} or larger than
+     *             {@link java.lang.Character#MAX_RADIX}.
+     * @since  1.8
+     */
+    public static long parseLong(byte[] b, int beginIndex, int endIndex, int radix)
+                throws NumberFormatException {
+        if (beginIndex < 0 || beginIndex > endIndex || endIndex > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        checkRadix(radix);
+
+        if (beginIndex == endIndex) {
+            throw NumberFormatException.forInputString("");
+        }
+        boolean negative = false;
+        int i = beginIndex;
+        long limit = -Long.MAX_VALUE;
+
+        byte firstByte = b[i];
+        if (firstByte < '0') { // Possible leading "+" or "-"
+            if (firstByte == '-') {
+                negative = true;
+                limit = Long.MIN_VALUE;
+            } else if (firstByte != '+') {
+                throw NumberFormatException.forBytes(b, beginIndex, endIndex, i);
+            }
+            i++;
+            if (i == endIndex) { // Cannot have lone "+" or "-"
+                throw NumberFormatException.forBytes(b, beginIndex, endIndex, i);
+            }
+        }
+        long multmin = limit / radix;
+        long result = 0;
+        while (i < endIndex) {
+            // Accumulating negatively avoids surprises near MAX_VALUE
+            int digit = Character.digit((char)(b[i] & 0xff), radix);
+            if (digit < 0 || result < multmin) {
+                throw NumberFormatException.forBytes(b, beginIndex, endIndex, i);
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                throw NumberFormatException.forBytes(b, beginIndex, endIndex, i);
+            }
+            i++;
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses the ASCII characters held in the buffer argument as a
+     * signed {@code long} in the specified {@code radix}, beginning at the
+     * specified absolute {@code beginIndex} and extending to {@code
+     * endIndex - 1}.  Bytes are interpreted as for {@link
+     * #parseLong(byte[], int, int, int)}.  The buffer's position, limit and
+     * mark are not modified.
+     *
+     * <p>
+     *  将缓冲区参数中的ASCII字符解析为指定{@code radix}中的带符号{@code long},从指定的绝对{@code beginIndex}开始,
+     * 延伸到{@code endIndex - 1}。字节的解释与{@link #parseLong(byte[], int, int, int)}相同。不修改缓冲区的位置、限制和标记。
+     *
+     *
+     * @param      b   the buffer containing the {@code long} representation
+     *                  to be parsed
+     * @param      beginIndex   the beginning index, inclusive.
+     * @param      endIndex     the ending index, exclusive.
+     * @param      radix   the radix to be used while parsing {@code b}.
+     * @return     the signed {@code long} represented by the bytes in the
+     *             specified radix.
+     * @throws     NullPointerException  if {@code b} is null.
+     * @throws     IndexOutOfBoundsException  if {@code beginIndex} is
+     *             negative, or if {@code beginIndex} is greater than
+     *             {@code endIndex} or if {@code endIndex} is greater than
+     *             {@code b.limit()}.
+     * @throws     NumberFormatException  if the bytes do not contain a
+     *             parsable {@code long} in the specified {@code radix}, or
+     *             if {@code radix} is either smaller than
+     *             {@link java.lang.Character#MIN_RADIX} or larger than
+     *             {@link java.lang.Character#MAX_RADIX}.
+     * @since  1.8
+     */
+    public static long parseLong(ByteBuffer b, int beginIndex, int endIndex, int radix)
+                throws NumberFormatException {
+        if (beginIndex < 0 || beginIndex > endIndex || endIndex > b.limit()) {
+            throw new IndexOutOfBoundsException();
+        }
+        checkRadix(radix);
+
+        if (beginIndex == endIndex) {
+            throw NumberFormatException.forInputString("");
+        }
+        boolean negative = false;
+        int i = beginIndex;
+        long limit = -Long.MAX_VALUE;
+
+        byte firstByte = b.get(i);
+        if (firstByte < '0') { // Possible leading "+" or "-"
+            if (firstByte == '-') {
+                negative = true;
+                limit = Long.MIN_VALUE;
+            } else if (firstByte != '+') {
+                throw NumberFormatException.forBytes(b, beginIndex, endIndex, i);
+            }
+            i++;
+            if (i == endIndex) { // Cannot have lone "+" or "-"
+                throw NumberFormatException.forBytes(b, beginIndex, endIndex, i);
+            }
+        }
+        long multmin = limit / radix;
+        long result = 0;
+        while (i < endIndex) {
+            // Accumulating negatively avoids surprises near MAX_VALUE
+            int digit = Character.digit((char)(b.get(i) & 0xff), radix);
+            if (digit < 0 || result < multmin) {
+                throw NumberFormatException.forBytes(b, beginIndex, endIndex, i);
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                throw NumberFormatException.forBytes(b, beginIndex, endIndex, i);
+            }
+            i++;
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static void checkRadix(int radix) {
+        if (radix < Character.MIN_RADIX) {
+            throw new NumberFormatException("radix " + radix +
+                                            " less than Character.MIN_RADIX");
+        }
+
+        if (radix > Character.MAX_RADIX) {
+            throw new NumberFormatException("radix " + radix +
+                                            " greater than Character.MAX_RADIX");
+        }
+    }
+
     /**
      * Parses the string argument as an unsigned {@code long} in the
      * radix specified by the second argument.  An unsigned integer
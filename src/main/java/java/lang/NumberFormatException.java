@@ -79,4 +79,67 @@ class NumberFormatException extends IllegalArgumentException {
     static NumberFormatException forInputString(String s) {
         return new NumberFormatException("For input string: \"" + s + "\"");
     }
+
+    /**
+     * Factory method for making a {@code NumberFormatException}
+     * given the specified input range which caused the error.
+     *
+     * <p>
+     *  给出引起错误的指定输入范围的{@code NumberFormatException}的工厂方法。
+     *
+     * @param   s   the input causing the error
+     * @param   beginIndex   the beginning index, inclusive.
+     * @param   endIndex   the ending index, exclusive.
+     * @param   errorIndex   the index of the first error in s
+     */
+    static NumberFormatException forCharSequence(CharSequence s,
+            int beginIndex, int endIndex, int errorIndex) {
+        return new NumberFormatException("Error at index "
+                + (errorIndex - beginIndex) + " in: \""
+                + s.subSequence(beginIndex, endIndex) + "\"");
+    }
+
+    /**
+     * Factory method for making a {@code NumberFormatException}
+     * given the specified range of ISO-8859-1 encoded bytes which
+     * caused the error.
+     *
+     * <p>
+     *  给出引起错误的指定ISO-8859-1编码字节范围的{@code NumberFormatException}的工厂方法。
+     *
+     * @param   b   the input causing the error
+     * @param   beginIndex   the beginning index, inclusive.
+     * @param   endIndex   the ending index, exclusive.
+     * @param   errorIndex   the index of the first error in b
+     */
+    static NumberFormatException forBytes(byte[] b,
+            int beginIndex, int endIndex, int errorIndex) {
+        char[] cs = new char[endIndex - beginIndex];
+        for (int i = 0; i < cs.length; i++)
+            cs[i] = (char)(b[beginIndex + i] & 0xff);
+        return forCharSequence(new String(cs), 0, cs.length,
+                               errorIndex - beginIndex);
+    }
+
+    /**
+     * Factory method for making a {@code NumberFormatException}
+     * given the specified range of ISO-8859-1 encoded bytes in a
+     * buffer which caused the error.
+     *
+     * <p>
+     *  给出缓冲区中引起错误的指定ISO-8859-1编码字节范围的{@code NumberFormatException}的工厂方法。
+     *
+     * @param   b   the input causing the error
+     * @param   beginIndex   the beginning index, inclusive.
+     * @param   endIndex   the ending index, exclusive.
+     * @param   errorIndex   the index of the first error in b
+     */
+    static NumberFormatException forBytes(java.nio.ByteBuffer b,
+            int beginIndex, int endIndex, int errorIndex) {
+        char[] cs = new char[endIndex - beginIndex];
+        for (int i = 0; i < cs.length; i++)
+            cs[i] = (char)(b.get(beginIndex + i) & 0xff);
+        return forCharSequence(new String(cs), 0, cs.length,
+                               errorIndex - beginIndex);
+    }
 }
@@ -35,6 +35,8 @@ import sun.invoke.util.ValueConversions;
 import sun.invoke.util.VerifyAccess;
 import sun.invoke.util.Wrapper;
 import sun.reflect.CallerSensitive;
+import sun.reflect.JavaLangInvokeAccess;
+import sun.reflect.MethodHandleAccessorFactory;
 import sun.reflect.Reflection;
 import sun.reflect.misc.ReflectUtil;
 import sun.security.util.SecurityConstants;
@@ -936,6 +938,30 @@ public class MethodHandles {
         /** Package-private version of lookup which is trusted. */
         static final Lookup IMPL_LOOKUP = new Lookup(Object.class, TRUSTED);
 
+        // Lets core reflection invoke methods and constructors through
+        // direct method handles; see sun.reflect.MethodHandleAccessorFactory.
+        static {
+            MethodHandleAccessorFactory.setJavaLangInvokeAccess(new JavaLangInvokeAccess() {
+                public MethodHandle unreflect(Method m) {
+                    MemberName method = new MemberName(m);
+                    if (MethodHandleNatives.isCallerSensitive(method))
+                        return null;
+                    try {
+                        return IMPL_LOOKUP.unreflect(m);
+                    } catch (IllegalAccessException ex) {
+                        throw newInternalError(ex);
+                    }
+                }
+                public MethodHandle unreflectConstructor(Constructor<?> c) {
+                    try {
+                        return IMPL_LOOKUP.unreflectConstructor(c);
+                    } catch (IllegalAccessException ex) {
+                        throw newInternalError(ex);
+                    }
+                }
+            });
+        }
+
         private static void checkUnprivilegedlookupClass(Class<?> lookupClass, int allowedModes) {
             String name = lookupClass.getName();
             if (name.startsWith("java.lang.invoke."))
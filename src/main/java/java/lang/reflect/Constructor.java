@@ -28,6 +28,7 @@ package java.lang.reflect;
 
 import sun.reflect.CallerSensitive;
 import sun.reflect.ConstructorAccessor;
+import sun.reflect.MethodHandleAccessorFactory;
 import sun.reflect.Reflection;
 import sun.reflect.annotation.TypeAnnotation;
 import sun.reflect.annotation.TypeAnnotationParser;
@@ -553,8 +554,11 @@ public final class Constructor<T> extends Executable {
         if (tmp != null) {
             constructorAccessor = tmp;
         } else {
-            // Otherwise fabricate one and propagate it up to the root
-            tmp = reflectionFactory.newConstructorAccessor(this);
+            // Otherwise fabricate one and propagate it up to the root,
+            // preferring one backed by a direct method handle
+            tmp = MethodHandleAccessorFactory.newConstructorAccessor(this);
+            if (tmp == null)
+                tmp = reflectionFactory.newConstructorAccessor(this);
             setConstructorAccessor(tmp);
         }
 
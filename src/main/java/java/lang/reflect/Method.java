@@ -28,6 +28,7 @@ package java.lang.reflect;
 
 import sun.reflect.CallerSensitive;
 import sun.reflect.MethodAccessor;
+import sun.reflect.MethodHandleAccessorFactory;
 import sun.reflect.Reflection;
 import sun.reflect.generics.repository.MethodRepository;
 import sun.reflect.generics.factory.CoreReflectionFactory;
@@ -687,8 +688,11 @@ public final class Method extends Executable {
         if (tmp != null) {
             methodAccessor = tmp;
         } else {
-            // Otherwise fabricate one and propagate it up to the root
-            tmp = reflectionFactory.newMethodAccessor(this);
+            // Otherwise fabricate one and propagate it up to the root,
+            // preferring one backed by a direct method handle
+            tmp = MethodHandleAccessorFactory.newMethodAccessor(this);
+            if (tmp == null)
+                tmp = reflectionFactory.newMethodAccessor(this);
             setMethodAccessor(tmp);
         }
 
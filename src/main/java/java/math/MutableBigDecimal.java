@@ -0,0 +1,620 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.math;
+
+import static java.math.BigDecimal.INFLATED;
+import static java.math.BigInteger.LONG_MASK;
+
+/**
+ * A mutable, reusable decimal accumulator.  A {@code MutableBigDecimal}
+ * holds an unscaled value and a scale exactly like {@link BigDecimal},
+ * but updates itself in place instead of returning a new object for
+ * every arithmetic step.
+ *
+ * <p>As long as the unscaled value fits in a {@code long} it is kept in
+ * the same compact representation {@code BigDecimal} uses for its
+ * {@code intCompact} fast path, and no objects are allocated.  Only when
+ * an intermediate result overflows a {@code long} does the accumulator
+ * fall back to a {@link MutableBigInteger} magnitude, whose arrays are
+ * retained and reused for later operations.  The value drops back to the
+ * compact form as soon as it fits again.  The final result is obtained
+ * with {@link #toBigDecimal()}.
+ *
+ * <p>The scale of the result of each operation follows the rules of the
+ * corresponding {@code BigDecimal} method: {@code add} and
+ * {@code subtract} yield {@code max(this.scale(), operand.scale())},
+ * {@code multiply} yields {@code this.scale() + operand.scale()}.
+ *
+ * <p>Instances of this class are not safe for use by multiple threads.
+ *
+ * <p>
+ *  一个可变的、可重用的十进制累加器。{@code MutableBigDecimal}像{@link BigDecimal}一样保存一个非标度值和一个标度,
+ * 但它在原地更新自身,而不是为每一步算术运算返回一个新对象。
+ * 
+ *  <p>只要非标度值能放入{@code long},它就保存在与{@code BigDecimal}的{@code intCompact}快速路径相同的紧凑表示中,
+ * 并且不分配任何对象。只有当中间结果溢出{@code long}时,累加器才退回到{@link MutableBigInteger}表示的幅度,
+ * 其数组会被保留并在后续运算中重用。一旦值再次能放入{@code long},就会回到紧凑形式。最终结果通过{@link #toBigDecimal()}获得。
+ * 
+ *  <p>每个运算结果的标度遵循相应{@code BigDecimal}方法的规则:{@code add}和{@code subtract}得到
+ * {@code max(this.scale(),operand.scale())},{@code multiply}得到{@code this.scale()+ operand.scale()}。
+ * 
+ *  <p>此类的实例对于多个线程的使用是不安全的。
+ * 
+ * 
+ * @see     BigDecimal
+ * @see     MutableBigInteger
+ * @since   1.8
+ */
+public final class MutableBigDecimal {
+
+    /**
+     * The unscaled value if it fits in a {@code long}, or
+     * {@link BigDecimal#INFLATED} if the value is held in {@link #mag}.
+     */
+    private long intCompact;
+
+    /**
+     * The magnitude of the unscaled value when {@link #intCompact} is
+     * {@code INFLATED}; otherwise unused scratch space.
+     */
+    private MutableBigInteger mag = new MutableBigInteger();
+
+    /**
+     * The sign of the unscaled value when {@link #intCompact} is
+     * {@code INFLATED}.
+     */
+    private int signum;
+
+    /**
+     * The scale of the value held by this accumulator.
+     */
+    private int scale;
+
+    // Scratch space reused by the inflated code paths
+    private MutableBigInteger operand = new MutableBigInteger();
+    private MutableBigInteger product = new MutableBigInteger();
+
+    /**
+     * Creates an accumulator whose value is zero with a scale of zero.
+     * <p>
+     *  创建一个值为零、标度为零的累加器。
+     * 
+     */
+    public MutableBigDecimal() {
+    }
+
+    /**
+     * Creates an accumulator whose value is equal to the given
+     * {@code BigDecimal}.
+     *
+     * <p>
+     *  创建一个值等于给定{@code BigDecimal}的累加器。
+     * 
+     * 
+     * @param  val initial value of the accumulator.
+     */
+    public MutableBigDecimal(BigDecimal val) {
+        set(val);
+    }
+
+    /**
+     * Sets the value of this accumulator to the value of the given
+     * {@code BigDecimal}.
+     *
+     * <p>
+     *  将此累加器的值设置为给定{@code BigDecimal}的值。
+     * 
+     * 
+     * @param  val the new value.
+     * @return this accumulator.
+     */
+    public MutableBigDecimal set(BigDecimal val) {
+        if (val.intCompact != INFLATED) {
+            intCompact = val.intCompact;
+        } else {
+            BigInteger b = val.intVal;
+            mag.copyValue(b.mag);
+            signum = b.signum;
+            intCompact = INFLATED;
+        }
+        scale = val.scale();
+        return this;
+    }
+
+    /**
+     * Sets the value of this accumulator to
+     * <tt>(unscaledVal &times; 10<sup>-scale</sup>)</tt>.
+     *
+     * <p>
+     *  将此累加器的值设置为<tt>(unscaledVal&times; 10 <sup> -scale </sup>)</tt>。
+     * 
+     * 
+     * @param  unscaledVal unscaled value of the new value.
+     * @param  scale scale of the new value.
+     * @return this accumulator.
+     */
+    public MutableBigDecimal set(long unscaledVal, int scale) {
+        if (unscaledVal != INFLATED) {
+            intCompact = unscaledVal;
+        } else {
+            setMagnitude(mag, unscaledVal);
+            signum = -1;
+            intCompact = INFLATED;
+        }
+        this.scale = scale;
+        return this;
+    }
+
+    /**
+     * Resets this accumulator to zero with a scale of zero.  The
+     * internal arrays are retained for reuse.
+     *
+     * <p>
+     *  将此累加器重置为零,标度为零。内部数组被保留以供重用。
+     * 
+     * 
+     * @return this accumulator.
+     */
+    public MutableBigDecimal reset() {
+        intCompact = 0;
+        scale = 0;
+        return this;
+    }
+
+    /**
+     * Returns the scale of the value held by this accumulator.
+     *
+     * <p>
+     *  返回此累加器所保存的值的标度。
+     * 
+     * 
+     * @return the scale of this accumulator.
+     */
+    public int scale() {
+        return scale;
+    }
+
+    /**
+     * Returns the signum function of the value held by this accumulator.
+     *
+     * <p>
+     *  返回此累加器所保存的值的符号函数。
+     * 
+     * 
+     * @return -1, 0, or 1 as the value of this accumulator is negative,
+     *         zero, or positive.
+     */
+    public int signum() {
+        return (intCompact != INFLATED) ? Long.signum(intCompact) : signum;
+    }
+
+    /**
+     * Negates the value held by this accumulator.
+     *
+     * <p>
+     *  对此累加器所保存的值取反。
+     * 
+     * 
+     * @return this accumulator.
+     */
+    public MutableBigDecimal negate() {
+        if (intCompact != INFLATED)
+            intCompact = -intCompact;
+        else
+            signum = -signum;
+        return this;
+    }
+
+    /**
+     * Adds the given {@code BigDecimal} to this accumulator.
+     *
+     * <p>
+     *  将给定的{@code BigDecimal}加到此累加器上。
+     * 
+     * 
+     * @param  augend value to be added.
+     * @return this accumulator.
+     */
+    public MutableBigDecimal add(BigDecimal augend) {
+        if (augend.intCompact != INFLATED)
+            return add(augend.intCompact, augend.scale());
+        BigInteger b = augend.intVal;
+        operand.copyValue(b.mag);
+        addInflated(b.signum, augend.scale());
+        return this;
+    }
+
+    /**
+     * Adds <tt>(unscaledVal &times; 10<sup>-scale</sup>)</tt> to this
+     * accumulator.
+     *
+     * <p>
+     *  将<tt>(unscaledVal&times; 10 <sup> -scale </sup>)</tt>加到此累加器上。
+     * 
+     * 
+     * @param  unscaledVal unscaled value of the augend.
+     * @param  scale scale of the augend.
+     * @return this accumulator.
+     */
+    public MutableBigDecimal add(long unscaledVal, int scale) {
+        long xs = intCompact;
+        if (xs != INFLATED && unscaledVal != INFLATED) {
+            long ys = unscaledVal;
+            int rscale = this.scale;
+            if (rscale < scale) {
+                xs = BigDecimal.longMultiplyPowerTen(xs, checkScaleDiff((long)scale - rscale));
+                rscale = scale;
+            } else if (rscale > scale) {
+                ys = BigDecimal.longMultiplyPowerTen(ys, checkScaleDiff((long)rscale - scale));
+            }
+            if (xs != INFLATED && ys != INFLATED) {
+                long sum = xs + ys;
+                // See "Hacker's Delight" section 2-12 for explanation of
+                // the overflow test.
+                if ((((sum ^ xs) & (sum ^ ys))) >= 0L && sum != INFLATED) {
+                    intCompact = sum;
+                    this.scale = rscale;
+                    return this;
+                }
+            }
+        }
+        setMagnitude(operand, unscaledVal);
+        addInflated(Long.signum(unscaledVal), scale);
+        return this;
+    }
+
+    /**
+     * Subtracts the given {@code BigDecimal} from this accumulator.
+     *
+     * <p>
+     *  从此累加器中减去给定的{@code BigDecimal}。
+     * 
+     * 
+     * @param  subtrahend value to be subtracted.
+     * @return this accumulator.
+     */
+    public MutableBigDecimal subtract(BigDecimal subtrahend) {
+        if (subtrahend.intCompact != INFLATED)
+            return subtract(subtrahend.intCompact, subtrahend.scale());
+        BigInteger b = subtrahend.intVal;
+        operand.copyValue(b.mag);
+        addInflated(-b.signum, subtrahend.scale());
+        return this;
+    }
+
+    /**
+     * Subtracts <tt>(unscaledVal &times; 10<sup>-scale</sup>)</tt> from
+     * this accumulator.
+     *
+     * <p>
+     *  从此累加器中减去<tt>(unscaledVal&times; 10 <sup> -scale </sup>)</tt>。
+     * 
+     * 
+     * @param  unscaledVal unscaled value of the subtrahend.
+     * @param  scale scale of the subtrahend.
+     * @return this accumulator.
+     */
+    public MutableBigDecimal subtract(long unscaledVal, int scale) {
+        if (unscaledVal != INFLATED)
+            return add(-unscaledVal, scale);
+        setMagnitude(operand, unscaledVal);
+        addInflated(1, scale);
+        return this;
+    }
+
+    /**
+     * Multiplies this accumulator by the given {@code BigDecimal}.
+     *
+     * <p>
+     *  将此累加器乘以给定的{@code BigDecimal}。
+     * 
+     * 
+     * @param  multiplicand value to be multiplied by.
+     * @return this accumulator.
+     */
+    public MutableBigDecimal multiply(BigDecimal multiplicand) {
+        if (multiplicand.intCompact != INFLATED)
+            return multiply(multiplicand.intCompact, multiplicand.scale());
+        BigInteger b = multiplicand.intVal;
+        operand.copyValue(b.mag);
+        multiplyInflated(b.signum, multiplicand.scale());
+        return this;
+    }
+
+    /**
+     * Multiplies this accumulator by
+     * <tt>(unscaledVal &times; 10<sup>-scale</sup>)</tt>.
+     *
+     * <p>
+     *  将此累加器乘以<tt>(unscaledVal&times; 10 <sup> -scale </sup>)</tt>。
+     * 
+     * 
+     * @param  unscaledVal unscaled value of the multiplicand.
+     * @param  scale scale of the multiplicand.
+     * @return this accumulator.
+     */
+    public MutableBigDecimal multiply(long unscaledVal, int scale) {
+        long x = intCompact;
+        long y = unscaledVal;
+        if (x != INFLATED && y != INFLATED) {
+            long prod = x * y;
+            long ax = Math.abs(x);
+            long ay = Math.abs(y);
+            if ((((ax | ay) >>> 31 == 0) || (y == 0) || (prod / y == x))
+                && prod != INFLATED) {
+                this.scale = checkScale(prod, (long)this.scale + scale);
+                intCompact = prod;
+                return this;
+            }
+        }
+        setMagnitude(operand, unscaledVal);
+        multiplyInflated(Long.signum(unscaledVal), scale);
+        return this;
+    }
+
+    /**
+     * Sets the scale of this accumulator, rounding the unscaled value
+     * if necessary.  This is the in-place equivalent of
+     * {@link BigDecimal#setScale(int, RoundingMode)}.
+     *
+     * <p>
+     *  设置此累加器的标度,必要时对非标度值进行舍入。这是{@link BigDecimal#setScale(int,RoundingMode)}的原地等价操作。
+     * 
+     * 
+     * @param  newScale scale of the value held after this call.
+     * @param  roundingMode the rounding mode to apply.
+     * @return this accumulator.
+     * @throws ArithmeticException if {@code roundingMode==UNNECESSARY}
+     *         and the specified scaling operation would require
+     *         rounding.
+     */
+    public MutableBigDecimal setScale(int newScale, RoundingMode roundingMode) {
+        int oldScale = scale;
+        if (newScale == oldScale)
+            return this;
+        int rm = roundingMode.oldMode;
+        long x = intCompact;
+        if (x != INFLATED) {
+            if (newScale > oldScale) {
+                int raise = checkScaleDiff((long)newScale - oldScale);
+                long r = BigDecimal.longMultiplyPowerTen(x, raise);
+                if (r != INFLATED) {
+                    intCompact = r;
+                    scale = newScale;
+                    return this;
+                }
+            } else {
+                int drop = checkScaleDiff((long)oldScale - newScale);
+                if (drop < BigDecimal.LONG_TEN_POWERS_TABLE.length) {
+                    intCompact = BigDecimal.divideAndRound(x, BigDecimal.LONG_TEN_POWERS_TABLE[drop], rm);
+                } else if (x != 0) {
+                    // |x| < 10^19 <= 10^drop, so the quotient is zero; the
+                    // discarded fraction is below one half unless drop is 19,
+                    // where half is 5 * 10^18 and |x| may reach it.
+                    int qsign = Long.signum(x);
+                    int cmpFracHalf = -1;
+                    if (drop == BigDecimal.LONG_TEN_POWERS_TABLE.length)
+                        cmpFracHalf = Long.compare(Math.abs(x), 5000000000000000000L);
+                    intCompact = BigDecimal.commonNeedIncrement(rm, qsign, cmpFracHalf, false) ? qsign : 0;
+                }
+                scale = newScale;
+                return this;
+            }
+        }
+        inflate();
+        if (newScale > oldScale) {
+            multiplyPowerTen(mag, checkScaleDiff((long)newScale - oldScale));
+        } else if (signum != 0) {
+            int drop = checkScaleDiff((long)oldScale - newScale);
+            if (drop < BigDecimal.LONG_TEN_POWERS_TABLE.length)
+                setMagnitude(operand, BigDecimal.LONG_TEN_POWERS_TABLE[drop]);
+            else
+                operand.copyValue(BigDecimal.bigTenToThe(drop).mag);
+            MutableBigInteger rem = mag.divide(operand, product);
+            if (!rem.isZero() &&
+                BigDecimal.needIncrement(operand, rm, signum, product, rem))
+                product.add(MutableBigInteger.ONE);
+            swapProduct();
+        }
+        scale = newScale;
+        deflate();
+        return this;
+    }
+
+    /**
+     * Returns a {@code BigDecimal} whose value is equal to the value
+     * currently held by this accumulator.
+     *
+     * <p>
+     *  返回一个{@code BigDecimal},其值等于此累加器当前保存的值。
+     * 
+     * 
+     * @return the value of this accumulator as a {@code BigDecimal}.
+     */
+    public BigDecimal toBigDecimal() {
+        if (intCompact != INFLATED)
+            return BigDecimal.valueOf(intCompact, scale);
+        return mag.toBigDecimal(signum, scale);
+    }
+
+    /**
+     * Returns the string representation of the value held by this
+     * accumulator, as by {@code toBigDecimal().toString()}.
+     *
+     * <p>
+     *  返回此累加器所保存的值的字符串表示形式,如同{@code toBigDecimal().toString()}。
+     * 
+     * 
+     * @return string representation of this accumulator.
+     */
+    @Override
+    public String toString() {
+        return toBigDecimal().toString();
+    }
+
+    // Inflated code paths
+
+    /**
+     * Adds {@code sign * operand * 10^-yscale} to this accumulator,
+     * where the magnitude has already been loaded into {@link #operand}.
+     */
+    private void addInflated(int sign, int yscale) {
+        inflate();
+        if (scale < yscale) {
+            multiplyPowerTen(mag, checkScaleDiff((long)yscale - scale));
+            scale = yscale;
+        } else if (scale > yscale) {
+            multiplyPowerTen(operand, checkScaleDiff((long)scale - yscale));
+        }
+        if (sign != 0) {
+            if (signum == 0) {
+                mag.copyValue(operand);
+                signum = sign;
+            } else if (signum == sign) {
+                mag.add(operand);
+            } else {
+                signum *= mag.subtract(operand);
+            }
+        }
+        deflate();
+    }
+
+    /**
+     * Multiplies this accumulator by {@code sign * operand * 10^-yscale},
+     * where the magnitude has already been loaded into {@link #operand}.
+     */
+    private void multiplyInflated(int sign, int yscale) {
+        inflate();
+        int rsign = signum * sign;
+        scale = checkScale(rsign, (long)scale + yscale);
+        if (rsign == 0) {
+            intCompact = 0;
+            return;
+        }
+        mag.multiply(operand, product);
+        swapProduct();
+        signum = rsign;
+        deflate();
+    }
+
+    /**
+     * Moves the unscaled value into {@link #mag}, if it is not there
+     * already.
+     */
+    private void inflate() {
+        long x = intCompact;
+        if (x != INFLATED) {
+            setMagnitude(mag, x);
+            signum = Long.signum(x);
+            intCompact = INFLATED;
+        }
+    }
+
+    /**
+     * Moves the unscaled value back to {@link #intCompact} if it fits.
+     */
+    private void deflate() {
+        MutableBigInteger m = mag;
+        m.normalize();
+        if (m.isZero()) {
+            signum = 0;
+            intCompact = 0;
+            return;
+        }
+        int len = m.intLen;
+        int d = m.value[m.offset];
+        if (len > 2 || (len == 2 && d < 0))
+            return;
+        long v = (len == 2) ?
+            ((m.value[m.offset + 1] & LONG_MASK) | (d & LONG_MASK) << 32) :
+            d & LONG_MASK;
+        intCompact = (signum < 0) ? -v : v;
+    }
+
+    /**
+     * Exchanges {@link #mag} and {@link #product} so that the result of
+     * an operation becomes the value without copying it.
+     */
+    private void swapProduct() {
+        MutableBigInteger t = mag;
+        mag = product;
+        product = t;
+    }
+
+    /**
+     * Multiplies the magnitude held in {@code m} by 10^n in place, using
+     * {@link #product} as scratch space.
+     */
+    private void multiplyPowerTen(MutableBigInteger m, int n) {
+        long[] tab = BigDecimal.LONG_TEN_POWERS_TABLE;
+        while (n > 0) {
+            int k = (n > 9) ? 9 : n;
+            m.mul((int)tab[k], product);
+            m.copyValue(product);
+            n -= k;
+        }
+    }
+
+    /**
+     * Sets {@code m} to the magnitude of {@code val} without allocating
+     * if {@code m} already has room for two ints.
+     */
+    private static void setMagnitude(MutableBigInteger m, long val) {
+        // Long.MIN_VALUE negates to itself; its magnitude is 2^63 which
+        // is read correctly as an unsigned value.
+        long u = (val < 0) ? -val : val;
+        if (m.value.length < 2)
+            m.value = new int[2];
+        m.offset = 0;
+        int hi = (int)(u >>> 32);
+        if (hi != 0) {
+            m.value[0] = hi;
+            m.value[1] = (int)u;
+            m.intLen = 2;
+        } else {
+            m.value[0] = (int)u;
+            m.intLen = (u == 0) ? 0 : 1;
+        }
+    }
+
+    private static int checkScaleDiff(long diff) {
+        int asInt = (int)diff;
+        if (asInt != diff)
+            throw new ArithmeticException("Overflow");
+        return asInt;
+    }
+
+    private static int checkScale(long intCompact, long val) {
+        int asInt = (int)val;
+        if (asInt != val) {
+            asInt = val>Integer.MAX_VALUE ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+            if (intCompact != 0)
+                throw new ArithmeticException(asInt>0 ? "Underflow":"Overflow");
+        }
+        return asInt;
+    }
+}
@@ -0,0 +1,340 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A pool of direct byte buffers, recycled in power-of-two size classes.
+ *
+ * <p> Allocating a direct buffer with {@link ByteBuffer#allocateDirect
+ * ByteBuffer.allocateDirect} is expensive: the memory is zeroed, accounted
+ * under a global lock, and only freed once the buffer has been
+ * garbage-collected.  When the direct memory limit is reached the allocating
+ * thread invokes {@link System#gc()} and sleeps, hoping that unreachable
+ * buffers are freed meanwhile.  A pool avoids all of this for code that
+ * knows when it is done with a buffer: {@link #release released} buffers are
+ * kept, and handed out again by later {@link #allocate allocations} of the
+ * same size class.
+ *
+ * <p> Each thread has a small private cache per size class, so that a
+ * thread that allocates and releases buffers at a high rate does so without
+ * synchronization.  Buffers that do not fit in the releasing thread's cache
+ * go to a shared cache, from which any thread may allocate; buffers that fit
+ * in neither are freed at once.  Requests larger than the largest size class
+ * are served by unpooled buffers, which are likewise freed at once when
+ * released.
+ *
+ * <p> A pool never invokes {@link System#gc()}.  If a new buffer cannot be
+ * allocated within the direct memory limit, the shared cache is freed and
+ * the allocation retried once, after which an {@link OutOfMemoryError} is
+ * thrown.
+ *
+ * <p> A buffer may be released only once, and only to the pool that
+ * allocated it.  Releasing a buffer sets its position and limit to zero, so
+ * that later relative or bounds-checked accesses to it fail; views, slices
+ * and duplicates of the buffer are not tracked, and must not be accessed
+ * after it has been released.  Pools are safe for use by multiple concurrent
+ * threads.
+ *
+ * <p>
+ *  直接字节缓冲区池,按二的幂大小类别回收。
+ *
+ *  <p>使用{@link ByteBuffer#allocateDirect ByteBuffer.allocateDirect}分配直接缓冲区的代价很高:内存被清零,在全局锁下记账,
+ * 并且只有在缓冲区被垃圾回收后才会释放。当达到直接内存限制时,分配线程会调用{@link System#gc()}并休眠,希望同时释放不可达的缓冲区。
+ * 对于知道何时不再使用缓冲区的代码,池可以避免所有这些开销:{@link #release 释放}的缓冲区会被保留,并由之后相同大小类别的{@link #allocate 分配}再次分发。
+ *
+ *  <p>每个线程对每个大小类别都有一个小的私有缓存,因此以高速率分配和释放缓冲区的线程无需同步。
+ * 不适合释放线程缓存的缓冲区进入共享缓存,任何线程都可以从中分配;两者都放不下的缓冲区会立即释放。大于最大大小类别的请求由非池化缓冲区提供,这些缓冲区在释放时同样会立即释放。
+ *
+ *  <p>池从不调用{@link System#gc()}。如果无法在直接内存限制内分配新缓冲区,则会释放共享缓存并重试一次分配,之后抛出{@link OutOfMemoryError}。
+ *
+ *  <p>缓冲区只能被释放一次,并且只能释放给分配它的池。释放缓冲区会将其位置和限制设置为零,以使之后对它的相对访问或经过边界检查的访问失败;
+ * 缓冲区的视图、切片和副本不会被跟踪,在缓冲区被释放后不得再访问它们。池可以安全地由多个并发线程使用。
+ *
+ * @see ScopedBuffer
+ * @since 1.8
+ */
+
+public final class DirectBufferPool {
+
+    // The smallest size class holds buffers of 2^MIN_SHIFT bytes
+    private static final int MIN_SHIFT = 9;
+    private static final int MAX_SHIFT = 30;
+
+    private static final int DEFAULT_MAX_CAPACITY = 1 << 20;
+    private static final int DEFAULT_THREAD_CACHE_SIZE = 8;
+    private static final int DEFAULT_SHARED_CACHE_SIZE = 32;
+
+    // A bounded stack of free buffers of one size class
+    private static final class Stack {
+        private final DirectByteBuffer[] buffers;
+        private int count;
+
+        Stack(int size) {
+            buffers = new DirectByteBuffer[size];
+        }
+
+        DirectByteBuffer pop() {
+            if (count == 0)
+                return null;
+            DirectByteBuffer bb = buffers[--count];
+            buffers[count] = null;
+            return bb;
+        }
+
+        boolean push(DirectByteBuffer bb) {
+            if (count == buffers.length)
+                return false;
+            buffers[count++] = bb;
+            return true;
+        }
+
+        void free() {
+            while (count > 0) {
+                buffers[--count].cleaner().clean();
+                buffers[count] = null;
+            }
+        }
+    }
+
+    // Attached to each buffer handed out, so that it is matched to the
+    // memory behind it and released at most once
+    private static final class Lease {
+        final DirectBufferPool pool;
+        volatile DirectByteBuffer memory;     // null once released
+
+        Lease(DirectBufferPool pool, DirectByteBuffer memory) {
+            this.pool = pool;
+            this.memory = memory;
+        }
+    }
+
+    private static final AtomicReferenceFieldUpdater<Lease,DirectByteBuffer> MEMORY
+        = AtomicReferenceFieldUpdater.newUpdater(Lease.class, DirectByteBuffer.class, "memory");
+
+    private final int maxCapacity;
+    private final Stack[] shared;
+    private final ThreadLocal<Stack[]> threadCaches;
+
+    /**
+     * Creates a pool whose largest size class is 1 MiB, with room for 8
+     * buffers of each size class per thread and 32 shared between threads.
+     *
+     * <p>
+     *  创建一个池,其最大大小类别为1 MiB,每个线程每个大小类别可容纳8个缓冲区,线程之间共享32个。
+     */
+    public DirectBufferPool() {
+        this(DEFAULT_MAX_CAPACITY, DEFAULT_THREAD_CACHE_SIZE,
+             DEFAULT_SHARED_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * <p>
+     *  创建一个池。
+     *
+     * @param  maxCapacity
+     *         The capacity of the largest size class, rounded up to a power
+     *         of two and to at least 512 bytes; requests for larger buffers
+     *         are not pooled
+     *
+     * @param  threadCacheSize
+     *         The number of buffers of each size class that each thread may
+     *         keep to itself
+     *
+     * @param  sharedCacheSize
+     *         The number of buffers of each size class kept for all threads
+     *
+     * @throws  IllegalArgumentException
+     *          If <tt>maxCapacity</tt> is negative or greater than
+     *          2<sup>30</sup>, or if either cache size is negative
+     */
+    public DirectBufferPool(int maxCapacity, int threadCacheSize,
+                            int sharedCacheSize)
+    {
+        if (maxCapacity < 0 || maxCapacity > (1 << MAX_SHIFT)
+            || threadCacheSize < 0 || sharedCacheSize < 0)
+            throw new IllegalArgumentException();
+        final int classes = sizeClass(maxCapacity) + 1;
+        final int tcs = threadCacheSize;
+        this.maxCapacity = 1 << (classes - 1 + MIN_SHIFT);
+        this.shared = new Stack[classes];
+        for (int i = 0; i < classes; i++)
+            shared[i] = new Stack(sharedCacheSize);
+        this.threadCaches = new ThreadLocal<Stack[]>() {
+            @Override
+            protected Stack[] initialValue() {
+                Stack[] cache = new Stack[classes];
+                for (int i = 0; i < classes; i++)
+                    cache[i] = new Stack(tcs);
+                return cache;
+            }
+        };
+    }
+
+    /**
+     * Allocates a direct byte buffer.
+     *
+     * <p> The buffer's position is zero, its limit is the requested
+     * capacity, its mark is undefined, and its byte order is {@link
+     * ByteOrder#BIG_ENDIAN BIG_ENDIAN}.  Its capacity is that of the size
+     * class serving the request, which may exceed the requested capacity.
+     * Unlike buffers allocated by {@link ByteBuffer#allocateDirect
+     * ByteBuffer.allocateDirect}, a recycled buffer is not zeroed.  </p>
+     *
+     * <p>
+     *  分配一个直接字节缓冲区。
+     *
+     *  <p>缓冲区的位置为零,其限制为请求的容量,其标记未定义,其字节顺序为{@link ByteOrder#BIG_ENDIAN BIG_ENDIAN}。
+     * 其容量是服务该请求的大小类别的容量,可能超过请求的容量。与{@link ByteBuffer#allocateDirect ByteBuffer.allocateDirect}分配的缓冲区不同,回收的缓冲区不会被清零。 </p>
+     *
+     * @param  capacity
+     *         The number of bytes required
+     *
+     * @return  A direct byte buffer
+     *
+     * @throws  IllegalArgumentException
+     *          If the <tt>capacity</tt> is a negative integer
+     *
+     * @throws  OutOfMemoryError
+     *          If a new buffer is needed and cannot be allocated within the
+     *          direct memory limit
+     */
+    public ByteBuffer allocate(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException();
+        DirectByteBuffer mem;
+        if (capacity > maxCapacity) {
+            mem = newBuffer(capacity);
+        } else {
+            int cls = sizeClass(capacity);
+            mem = threadCaches.get()[cls].pop();
+            if (mem == null) {
+                Stack s = shared[cls];
+                synchronized (s) {
+                    mem = s.pop();
+                }
+                if (mem == null)
+                    mem = newBuffer(1 << (cls + MIN_SHIFT));
+            }
+        }
+        // The pool keeps the buffer that owns the memory to itself; the
+        // lease keeps that buffer reachable while the view is in use
+        ByteBuffer bb = new DirectByteBuffer(mem.address(), mem.capacity(),
+                                             new Lease(this, mem));
+        bb.limit(capacity);
+        return bb;
+    }
+
+    /**
+     * Returns a buffer to this pool.
+     *
+     * <p> The buffer must be one returned by this pool's {@link #allocate
+     * allocate} method.  Its memory is either kept for reuse or freed; its
+     * position and limit are set to zero, and it must not be accessed
+     * again.  </p>
+     *
+     * <p>
+     *  将缓冲区归还给此池。
+     *
+     *  <p>缓冲区必须是由此池的{@link #allocate allocate}方法返回的缓冲区。其内存要么被保留以供重用,要么被释放;
+     * 其位置和限制被设置为零,并且不得再次访问它。 </p>
+     *
+     * @param  buffer
+     *         The buffer to be released
+     *
+     * @throws  IllegalArgumentException
+     *          If the buffer was not allocated by this pool, or is a view,
+     *          slice or duplicate of such a buffer
+     *
+     * @throws  IllegalStateException
+     *          If the buffer has already been released
+     */
+    public void release(ByteBuffer buffer) {
+        Object att = (buffer instanceof DirectByteBuffer)
+            ? ((DirectByteBuffer)buffer).attachment() : null;
+        if (!(att instanceof Lease) || ((Lease)att).pool != this)
+            throw new IllegalArgumentException("Buffer was not allocated by this pool");
+        Lease lease = (Lease)att;
+        DirectByteBuffer bb = lease.memory;
+        if (bb == null || !MEMORY.compareAndSet(lease, bb, null))
+            throw new IllegalStateException("Buffer already released");
+        buffer.position(0);
+        buffer.limit(0);
+        int cap = bb.capacity();
+        if (cap <= maxCapacity) {
+            int cls = sizeClass(cap);
+            if (cap == 1 << (cls + MIN_SHIFT)) {
+                if (threadCaches.get()[cls].push(bb))
+                    return;
+                Stack s = shared[cls];
+                synchronized (s) {
+                    if (s.push(bb))
+                        return;
+                }
+            }
+        }
+        bb.cleaner().clean();
+    }
+
+    /**
+     * Frees the buffers kept in the shared cache and in the current thread's
+     * cache.  Buffers cached by other threads are not affected.
+     *
+     * <p>
+     *  释放共享缓存和当前线程缓存中保存的缓冲区。其他线程缓存的缓冲区不受影响。
+     */
+    public void trim() {
+        for (Stack s : threadCaches.get())
+            s.free();
+        for (Stack s : shared) {
+            synchronized (s) {
+                s.free();
+            }
+        }
+    }
+
+    // Allocates a buffer without ever falling back on System.gc()
+    private DirectByteBuffer newBuffer(int capacity) {
+        try {
+            return new DirectByteBuffer(capacity, false);
+        } catch (OutOfMemoryError x) {
+            trim();
+            return new DirectByteBuffer(capacity, false);
+        }
+    }
+
+    // Index of the smallest size class holding at least capacity bytes
+    private static int sizeClass(int capacity) {
+        if (capacity <= (1 << MIN_SHIFT))
+            return 0;
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1) - MIN_SHIFT;
+    }
+
+}
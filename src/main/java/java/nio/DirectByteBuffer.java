@@ -116,12 +116,22 @@ class DirectByteBuffer
     // Primary constructor
     //
     DirectByteBuffer(int cap) {                   // package-private
+        this(cap, true);
+    }
+
+    // If mayGC is false, an OutOfMemoryError is thrown at once when the
+    // direct memory limit is reached, rather than after System.gc()
+    //
+    DirectByteBuffer(int cap, boolean mayGC) {    // package-private
 
         super(-1, 0, cap, cap);
         boolean pa = VM.isDirectMemoryPageAligned();
         int ps = Bits.pageSize();
         long size = Math.max(1L, (long)cap + (pa ? ps : 0));
-        Bits.reserveMemory(size, cap);
+        if (mayGC)
+            Bits.reserveMemory(size, cap);
+        else if (!Bits.tryReserveMemory(size, cap))
+            throw new OutOfMemoryError("Direct buffer memory");
 
         long base = 0;
         try {
@@ -0,0 +1,1769 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import sun.misc.Cleaner;
+import sun.misc.Unsafe;
+import sun.nio.ch.DirectBuffer;
+
+
+/**
+ * A contiguous region of memory addressed by <tt>long</tt> offsets.
+ *
+ * <p> A memory segment is backed by the elements of a Java array, by native
+ * memory allocated outside of the Java heap, by the content of a byte
+ * buffer, or by a region of a file mapped into memory.  Unlike a {@link
+ * ByteBuffer}, a segment is not limited to <tt>Integer.MAX_VALUE</tt>
+ * bytes and has no position or limit: every access names the offset it
+ * reads or writes, and is checked against the bounds of the segment.  </p>
+ *
+ * <p> Segments provide typed accessors for each primitive type.  Multi-byte
+ * values are read and written in the {@link ByteOrder#nativeOrder native
+ * byte order} unless another order is given.  A segment can be {@link
+ * #asSlice sliced} without copying; a slice shares the memory, and the
+ * lifetime, of the segment it was taken from.  </p>
+ *
+ * <a name="confinement"></a>
+ * <h2> Confinement </h2>
+ *
+ * <p> A new segment is owned by the thread that created it, and only that
+ * thread may access or close it, or any slice of it.  Ownership can be
+ * {@link #handoff handed off} to another thread, or the segment can be
+ * {@link #share shared} so that any thread may access it; a shared segment
+ * can no longer be closed and its memory is released once it is no longer
+ * reachable.  </p>
+ *
+ * <p> {@link #close Closing} a segment releases the native memory or the
+ * file mapping behind it and invalidates the segment together with every
+ * slice of it.  Any later access fails with an {@link
+ * IllegalStateException}.  Segments that are never closed are released
+ * once they are no longer reachable, as direct buffers are.  </p>
+ *
+ * <p> Because each access checks its bounds against the fixed size of the
+ * segment, loops over a segment allow the compiler to hoist the checks out
+ * of the loop body; the accesses themselves then compile to plain loads
+ * and stores.  </p>
+ *
+ * <p>
+ *  由<tt>long</tt>偏移量寻址的连续内存区域。
+ *
+ *  <p>内存段由Java数组的元素、在Java堆之外分配的本机内存、字节缓冲区的内容或映射到内存的文件区域支持。
+ * 与{@link ByteBuffer}不同,段不受<tt>Integer.MAX_VALUE</tt>字节的限制,也没有位置或限制:每次访问都指定其读取或写入的偏移量,并根据段的边界进行检查。
+ *  </p>
+ *
+ *  <p>段为每种基本类型提供类型化的访问器。除非给定其他顺序,否则多字节值按{@link ByteOrder#nativeOrder本机字节顺序}读写。
+ * 段可以在不复制的情况下{@link #asSlice切片};切片与其来源段共享内存和生命周期。 </p>
+ *
+ *  <a name="confinement"> </a> <h2>限制</h2>
+ *
+ *  <p>新段归创建它的线程所有,只有该线程可以访问或关闭它或它的任何切片。所有权可以{@link #handoff移交}给另一个线程,
+ * 或者段可以被{@link #share共享},以便任何线程都可以访问它;共享段不能再被关闭,其内存在不再可达时释放。 </p>
+ *
+ *  <p>{@link #close关闭}段会释放其背后的本机内存或文件映射,并使该段及其所有切片无效。之后的任何访问都会失败并抛出{@link IllegalStateException}。
+ * 从未关闭的段在不再可达时被释放,就像直接缓冲区一样。 </p>
+ *
+ *  <p>由于每次访问都根据段的固定大小检查其边界,对段的循环允许编译器将检查提升到循环体之外;访问本身随后被编译为普通的加载和存储。 </p>
+ *
+ * @see ByteBuffer
+ * @since 1.8
+ */
+
+public final class MemorySegment
+    implements AutoCloseable
+{
+
+    private static final Unsafe unsafe = Bits.unsafe();
+
+    private static final boolean unaligned = Bits.unaligned();
+
+    private static final ByteOrder NATIVE = ByteOrder.nativeOrder();
+
+    // A file region larger than one chunk is mapped chunk by chunk.  Each
+    // chunk's mapping extends CHUNK_OVERLAP bytes into the next chunk, so
+    // that any access of up to eight bytes lies within a single mapping.
+    //
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int CHUNK_OVERLAP = 8;
+
+    // The lifetime and owner of a segment, shared with all of its slices
+    //
+    private static final class Scope {
+
+        // The owning thread, or null once shared; only the owner writes it
+        Thread owner;
+
+        // Cleared on close, which only the owner may do
+        boolean alive = true;
+
+        // Frees the native memory; null for other kinds of segment
+        private Cleaner cleaner;
+
+        // The buffers backing a buffer or mapped segment, kept reachable
+        // for as long as the segment is
+        private final ByteBuffer[] buffers;
+
+        // Whether the buffers are unmapped on close; true only for the
+        // mappings made by a mapped segment
+        private final boolean ownsBuffers;
+
+        Scope(boolean ownsBuffers, ByteBuffer... buffers) {
+            this.owner = Thread.currentThread();
+            this.ownsBuffers = ownsBuffers;
+            this.buffers = buffers;
+        }
+
+        void release() {
+            alive = false;
+            if (cleaner != null)
+                cleaner.clean();
+            if (ownsBuffers) {
+                for (ByteBuffer bb : buffers)
+                    ((DirectByteBuffer)bb).cleaner().clean();
+            }
+        }
+
+    }
+
+    private static class Deallocator
+        implements Runnable
+    {
+
+        private long address;
+
+        private Deallocator(long address) {
+            this.address = address;
+        }
+
+        public void run() {
+            if (address == 0) {
+                // Paranoia
+                return;
+            }
+            unsafe.freeMemory(address);
+            address = 0;
+        }
+
+    }
+
+    // The array of a heap segment, or null
+    private final Object base;
+
+    // The address of the first byte, relative to base; for a chunked
+    // mapping, the offset of the first byte within the mapped region
+    private final long address;
+
+    private final long size;
+
+    // The addresses of the chunks of a large mapping, or null
+    private final long[] chunks;
+
+    private final boolean readOnly;
+
+    private final Scope scope;
+
+    private MemorySegment(Object base, long address, long size, long[] chunks,
+                          boolean readOnly, Scope scope)
+    {
+        this.base = base;
+        this.address = address;
+        this.size = size;
+        this.chunks = chunks;
+        this.readOnly = readOnly;
+        this.scope = scope;
+    }
+
+    private static MemorySegment ofHeap(Object array, long offset, long size) {
+        return new MemorySegment(array, offset, size, null, false, new Scope(false));
+    }
+
+    /**
+     * Allocates a new segment of native memory.
+     *
+     * <p> The memory is allocated outside of the Java heap and its content
+     * is initialized to zero.  It is freed when the segment is {@link
+     * #close closed}, or once neither the segment nor any slice of it is
+     * reachable.  </p>
+     *
+     * <p>
+     *  分配一个新的本机内存段。
+     *
+     *  <p>内存在Java堆之外分配,其内容被初始化为零。当段被{@link #close关闭}时,或者当段及其任何切片都不再可达时,内存被释放。 </p>
+     *
+     * @param  size
+     *         The size of the new segment, in bytes
+     *
+     * @return  A new segment, owned by the current thread
+     *
+     * @throws  IllegalArgumentException
+     *          If <tt>size</tt> is negative
+     *
+     * @throws  OutOfMemoryError
+     *          If the memory cannot be allocated
+     */
+    public static MemorySegment allocateNative(long size) {
+        if (size < 0)
+            throw new IllegalArgumentException("Negative size: " + size);
+        long address = unsafe.allocateMemory(Math.max(1L, size));
+        unsafe.setMemory(address, size, (byte) 0);
+        Scope scope = new Scope(false);
+        scope.cleaner = Cleaner.create(scope, new Deallocator(address));
+        return new MemorySegment(null, address, size, null, false, scope);
+    }
+
+    /**
+     * Creates a segment over the elements of the given byte array.
+     *
+     * <p> The segment's size is the length of the array in bytes.  Changes
+     * to the array are visible through the segment, and vice versa.  </p>
+     *
+     * <p>
+     *  创建一个覆盖给定byte数组元素的段。
+     *
+     *  <p>段的大小是数组的字节长度。对数组的修改通过段可见,反之亦然。 </p>
+     *
+     * @param  array
+     *         The array that will back the new segment
+     *
+     * @return  A new segment, owned by the current thread
+     */
+    public static MemorySegment ofArray(byte[] array) {
+        return ofHeap(array, Unsafe.ARRAY_BYTE_BASE_OFFSET, array.length);
+    }
+
+    /**
+     * Creates a segment over the elements of the given short array.
+     *
+     * <p> The segment's size is the length of the array in bytes.  Changes
+     * to the array are visible through the segment, and vice versa.  </p>
+     *
+     * <p>
+     *  创建一个覆盖给定short数组元素的段。
+     *
+     *  <p>段的大小是数组的字节长度。对数组的修改通过段可见,反之亦然。 </p>
+     *
+     * @param  array
+     *         The array that will back the new segment
+     *
+     * @return  A new segment, owned by the current thread
+     */
+    public static MemorySegment ofArray(short[] array) {
+        return ofHeap(array, Unsafe.ARRAY_SHORT_BASE_OFFSET, (long)array.length << 1);
+    }
+
+    /**
+     * Creates a segment over the elements of the given char array.
+     *
+     * <p> The segment's size is the length of the array in bytes.  Changes
+     * to the array are visible through the segment, and vice versa.  </p>
+     *
+     * <p>
+     *  创建一个覆盖给定char数组元素的段。
+     *
+     *  <p>段的大小是数组的字节长度。对数组的修改通过段可见,反之亦然。 </p>
+     *
+     * @param  array
+     *         The array that will back the new segment
+     *
+     * @return  A new segment, owned by the current thread
+     */
+    public static MemorySegment ofArray(char[] array) {
+        return ofHeap(array, Unsafe.ARRAY_CHAR_BASE_OFFSET, (long)array.length << 1);
+    }
+
+    /**
+     * Creates a segment over the elements of the given int array.
+     *
+     * <p> The segment's size is the length of the array in bytes.  Changes
+     * to the array are visible through the segment, and vice versa.  </p>
+     *
+     * <p>
+     *  创建一个覆盖给定int数组元素的段。
+     *
+     *  <p>段的大小是数组的字节长度。对数组的修改通过段可见,反之亦然。 </p>
+     *
+     * @param  array
+     *         The array that will back the new segment
+     *
+     * @return  A new segment, owned by the current thread
+     */
+    public static MemorySegment ofArray(int[] array) {
+        return ofHeap(array, Unsafe.ARRAY_INT_BASE_OFFSET, (long)array.length << 2);
+    }
+
+    /**
+     * Creates a segment over the elements of the given float array.
+     *
+     * <p> The segment's size is the length of the array in bytes.  Changes
+     * to the array are visible through the segment, and vice versa.  </p>
+     *
+     * <p>
+     *  创建一个覆盖给定float数组元素的段。
+     *
+     *  <p>段的大小是数组的字节长度。对数组的修改通过段可见,反之亦然。 </p>
+     *
+     * @param  array
+     *         The array that will back the new segment
+     *
+     * @return  A new segment, owned by the current thread
+     */
+    public static MemorySegment ofArray(float[] array) {
+        return ofHeap(array, Unsafe.ARRAY_FLOAT_BASE_OFFSET, (long)array.length << 2);
+    }
+
+    /**
+     * Creates a segment over the elements of the given long array.
+     *
+     * <p> The segment's size is the length of the array in bytes.  Changes
+     * to the array are visible through the segment, and vice versa.  </p>
+     *
+     * <p>
+     *  创建一个覆盖给定long数组元素的段。
+     *
+     *  <p>段的大小是数组的字节长度。对数组的修改通过段可见,反之亦然。 </p>
+     *
+     * @param  array
+     *         The array that will back the new segment
+     *
+     * @return  A new segment, owned by the current thread
+     */
+    public static MemorySegment ofArray(long[] array) {
+        return ofHeap(array, Unsafe.ARRAY_LONG_BASE_OFFSET, (long)array.length << 3);
+    }
+
+    /**
+     * Creates a segment over the elements of the given double array.
+     *
+     * <p> The segment's size is the length of the array in bytes.  Changes
+     * to the array are visible through the segment, and vice versa.  </p>
+     *
+     * <p>
+     *  创建一个覆盖给定double数组元素的段。
+     *
+     *  <p>段的大小是数组的字节长度。对数组的修改通过段可见,反之亦然。 </p>
+     *
+     * @param  array
+     *         The array that will back the new segment
+     *
+     * @return  A new segment, owned by the current thread
+     */
+    public static MemorySegment ofArray(double[] array) {
+        return ofHeap(array, Unsafe.ARRAY_DOUBLE_BASE_OFFSET, (long)array.length << 3);
+    }
+
+    /**
+     * Creates a segment over the remaining content of the given byte
+     * buffer.
+     *
+     * <p> The segment covers the bytes between the buffer's position and its
+     * limit; later changes to the position or limit do not affect it.
+     * Changes to the buffer's content are visible through the segment, and
+     * vice versa.  The segment is read-only if the buffer is.  Closing the
+     * segment does not free the buffer's memory.  </p>
+     *
+     * <p>
+     *  创建一个覆盖给定字节缓冲区剩余内容的段。
+     *
+     *  <p>段覆盖缓冲区的位置与其限制之间的字节;之后对位置或限制的更改不会影响它。对缓冲区内容的更改通过段可见,反之亦然。
+     * 如果缓冲区是只读的,则段也是只读的。关闭段不会释放缓冲区的内存。 </p>
+     *
+     * @param  bb
+     *         The buffer that will back the new segment
+     *
+     * @return  A new segment, owned by the current thread
+     */
+    public static MemorySegment ofBuffer(ByteBuffer bb) {
+        int pos = bb.position();
+        long rem = Math.max(bb.limit() - pos, 0);
+        Scope scope = new Scope(false, bb);
+        if (bb.isDirect())
+            return new MemorySegment(null, ((DirectBuffer)bb).address() + pos,
+                                     rem, null, bb.isReadOnly(), scope);
+        return new MemorySegment(bb.hb, Unsafe.ARRAY_BYTE_BASE_OFFSET
+                                 + bb.offset + pos, rem, null,
+                                 bb.isReadOnly(), scope);
+    }
+
+    /**
+     * Maps a region of the given channel's file into memory and creates a
+     * segment over it.
+     *
+     * <p> The region may be larger than <tt>Integer.MAX_VALUE</tt> bytes;
+     * such a region is mapped in several parts, but the segment addresses
+     * it as a whole.  The mapping is established as if by {@link
+     * FileChannel#map FileChannel.map} and the segment is read-only if the
+     * given mode is {@link FileChannel.MapMode#READ_ONLY READ_ONLY}.  The
+     * file is unmapped when the segment is {@link #close closed}, or once
+     * neither the segment nor any slice of it is reachable.  </p>
+     *
+     * <p>
+     *  将给定通道文件的一个区域映射到内存中,并在其上创建一个段。
+     *
+     *  <p>该区域可以大于<tt>Integer.MAX_VALUE</tt>字节;这样的区域分多个部分映射,但段将其作为一个整体寻址。
+     * 映射的建立就像通过{@link FileChannel#map FileChannel.map}一样,如果给定模式是{@link FileChannel.MapMode#READ_ONLY READ_ONLY},则段是只读的。
+     * 当段被{@link #close关闭}时,或者当段及其任何切片都不再可达时,文件被取消映射。 </p>
+     *
+     * @param  channel
+     *         The channel whose file is to be mapped
+     *
+     * @param  mode
+     *         The mapping mode
+     *
+     * @param  position
+     *         The position within the file at which the mapped region
+     *         is to start; must be non-negative
+     *
+     * @param  size
+     *         The size of the region to be mapped; must be non-negative
+     *
+     * @return  A new segment, owned by the current thread
+     *
+     * @throws  IllegalArgumentException
+     *          If the preconditions on the parameters do not hold
+     *
+     * @throws  IOException
+     *          If some other I/O error occurs
+     *
+     * @see FileChannel#map
+     */
+    public static MemorySegment map(FileChannel channel,
+                                    FileChannel.MapMode mode,
+                                    long position, long size)
+        throws IOException
+    {
+        if (position < 0L)
+            throw new IllegalArgumentException("Negative position");
+        if (size < 0L)
+            throw new IllegalArgumentException("Negative size");
+        if (position + size < 0)
+            throw new IllegalArgumentException("Position + size overflow");
+        boolean ro = (mode == FileChannel.MapMode.READ_ONLY);
+        if (size <= CHUNK_SIZE) {
+            MappedByteBuffer mbb = channel.map(mode, position, size);
+            return new MemorySegment(null, ((DirectBuffer)mbb).address(),
+                                     size, null, ro, new Scope(true, mbb));
+        }
+        int n = (int)((size + CHUNK_MASK) >>> CHUNK_SHIFT);
+        MappedByteBuffer[] maps = new MappedByteBuffer[n];
+        long[] chunks = new long[n];
+        int i = 0;
+        try {
+            for (; i < n; i++) {
+                long off = (long)i << CHUNK_SHIFT;
+                long len = Math.min(CHUNK_SIZE + CHUNK_OVERLAP, size - off);
+                maps[i] = channel.map(mode, position + off, len);
+                chunks[i] = ((DirectBuffer)maps[i]).address();
+            }
+        } finally {
+            if (i < n) {
+                // Unmap what was mapped before the failure
+                for (int j = 0; j < i; j++)
+                    ((DirectByteBuffer)maps[j]).cleaner().clean();
+            }
+        }
+        return new MemorySegment(null, 0L, size, chunks, ro, new Scope(true, maps));
+    }
+
+    /**
+     * Returns the size of this segment.
+     *
+     * <p>
+     *  返回此段的大小。
+     *
+     * @return  The size of this segment, in bytes
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Tells whether or not this segment is backed by memory outside of the
+     * Java heap.
+     *
+     * <p>
+     *  告诉此段是否由Java堆之外的内存支持。
+     *
+     * @return  <tt>true</tt> if, and only if, this segment is backed by
+     *          native memory, a direct buffer or a mapped file
+     */
+    public boolean isNative() {
+        return base == null;
+    }
+
+    /**
+     * Tells whether or not this segment is read-only.
+     *
+     * <p>
+     *  告诉此段是否为只读。
+     *
+     * @return  <tt>true</tt> if, and only if, this segment is read-only
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Tells whether or not this segment is alive, that is, has not been
+     * closed.
+     *
+     * <p>
+     *  告诉此段是否存活,即尚未被关闭。
+     *
+     * @return  <tt>true</tt> if, and only if, this segment has not been
+     *          closed
+     */
+    public boolean isAlive() {
+        return scope.alive;
+    }
+
+    /**
+     * Returns the thread that owns this segment.
+     *
+     * <p>
+     *  返回拥有此段的线程。
+     *
+     * @return  The owning thread, or <tt>null</tt> if this segment is
+     *          shared
+     */
+    public Thread ownerThread() {
+        return scope.owner;
+    }
+
+    /**
+     * Creates a segment over part of this segment's memory.
+     *
+     * <p> The new segment shares the memory, owner and lifetime of this
+     * segment, and is read-only if this segment is.  </p>
+     *
+     * <p>
+     *  创建一个覆盖此段部分内存的段。
+     *
+     *  <p>新段共享此段的内存、所有者和生命周期,如果此段是只读的,则新段也是只读的。 </p>
+     *
+     * @param  offset
+     *         The offset, in bytes, of the slice within this segment
+     *
+     * @param  newSize
+     *         The size of the slice, in bytes
+     *
+     * @return  The new segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> or <tt>newSize</tt> is negative, or if
+     *          <tt>offset + newSize</tt> exceeds this segment's size
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public MemorySegment asSlice(long offset, long newSize) {
+        checkAccess(offset, newSize, false);
+        return new MemorySegment(base, address + offset, newSize, chunks,
+                                 readOnly, scope);
+    }
+
+    /**
+     * Creates a read-only segment over this segment's memory.
+     *
+     * <p>
+     *  创建一个覆盖此段内存的只读段。
+     *
+     * @return  The new, read-only segment
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public MemorySegment asReadOnly() {
+        checkAccess(0L, 0L, false);
+        return new MemorySegment(base, address, size, chunks, true, scope);
+    }
+
+    /**
+     * Hands ownership of this segment, and of every slice of it, off to the
+     * given thread.
+     *
+     * <p> After this method returns the current thread may no longer access
+     * the segment.  The segment must be passed to the new owner in a way
+     * that makes the current thread's writes visible to it, for example
+     * through a {@link java.util.concurrent.BlockingQueue}.  </p>
+     *
+     * <p>
+     *  将此段及其所有切片的所有权移交给给定线程。
+     *
+     *  <p>此方法返回后,当前线程不能再访问该段。段必须以使当前线程的写入对新所有者可见的方式传递给它,例如通过{@link java.util.concurrent.BlockingQueue}。
+     *  </p>
+     *
+     * @param  newOwner
+     *         The thread that is to own this segment
+     *
+     * @return  This segment
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed, is shared, or is not owned by
+     *          the current thread
+     */
+    public MemorySegment handoff(Thread newOwner) {
+        if (newOwner == null)
+            throw new NullPointerException();
+        checkOwner();
+        scope.owner = newOwner;
+        return this;
+    }
+
+    /**
+     * Makes this segment, and every slice of it, accessible from any
+     * thread.
+     *
+     * <p> A shared segment cannot be closed; its memory is released once
+     * neither the segment nor any slice of it is reachable.  Accesses from
+     * different threads are not synchronized with each other.  </p>
+     *
+     * <p>
+     *  使此段及其所有切片可以从任何线程访问。
+     *
+     *  <p>共享段不能被关闭;当段及其任何切片都不再可达时,其内存被释放。来自不同线程的访问彼此之间不同步。 </p>
+     *
+     * @return  This segment
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed, is already shared, or is not
+     *          owned by the current thread
+     */
+    public MemorySegment share() {
+        checkOwner();
+        scope.owner = null;
+        return this;
+    }
+
+    /**
+     * Closes this segment, and every slice of it.
+     *
+     * <p> Native memory is freed and a mapped file region is unmapped.  If
+     * this segment is already closed then invoking this method has no
+     * effect.  </p>
+     *
+     * <p>
+     *  关闭此段及其所有切片。
+     *
+     *  <p>本机内存被释放,映射的文件区域被取消映射。如果此段已关闭,则调用此方法无效。 </p>
+     *
+     * @throws  IllegalStateException
+     *          If this segment is shared or is not owned by the current
+     *          thread
+     */
+    public void close() {
+        Scope s = scope;
+        if (!s.alive)
+            return;
+        checkOwner();
+        s.release();
+    }
+
+    /**
+     * Reads the byte at the given offset.
+     *
+     * <p>
+     *  读取给定偏移量处的字节。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the byte is read
+     *
+     * @return  The byte at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or not smaller than this
+     *          segment's size
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public byte get(long offset) {
+        checkAccess(offset, 1, false);
+        return unsafe.getByte(base, addr(offset));
+    }
+
+    /**
+     * Writes the given byte at the given offset.
+     *
+     * <p>
+     *  在给定偏移量处写入给定的字节。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the byte is written
+     *
+     * @param  value
+     *         The byte to be written
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or not smaller than this
+     *          segment's size
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment put(long offset, byte value) {
+        checkAccess(offset, 1, true);
+        unsafe.putByte(base, addr(offset), value);
+        return this;
+    }
+
+    /**
+     * Reads the short value at the given offset, in the native byte order.
+     *
+     * <p>
+     *  按本机字节顺序读取给定偏移量处的short值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @return  The short value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 2 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public short getShort(long offset) {
+        return getShort(offset, NATIVE);
+    }
+
+    /**
+     * Reads the short value at the given offset, in the given byte order.
+     *
+     * <p>
+     *  按给定的字节顺序读取给定偏移量处的short值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  The short value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 2 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public short getShort(long offset, ByteOrder order) {
+        checkAccess(offset, 2, false);
+        long a = addr(offset);
+        if (unaligned || (a & 1) == 0) {
+            short x = unsafe.getShort(base, a);
+            return (order == NATIVE) ? x : Bits.swap(x);
+        }
+        return (short)getBytes(a, 2, order == ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Writes the given short value at the given offset, in the native byte
+     * order.
+     *
+     * <p>
+     *  按本机字节顺序在给定偏移量处写入给定的short值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The short value to be written
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 2 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putShort(long offset, short value) {
+        return putShort(offset, value, NATIVE);
+    }
+
+    /**
+     * Writes the given short value at the given offset, in the given byte
+     * order.
+     *
+     * <p>
+     *  按给定的字节顺序在给定偏移量处写入给定的short值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The short value to be written
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 2 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putShort(long offset, short value, ByteOrder order) {
+        checkAccess(offset, 2, true);
+        long a = addr(offset);
+        if (unaligned || (a & 1) == 0)
+            unsafe.putShort(base, a, (order == NATIVE) ? value : Bits.swap(value));
+        else
+            putBytes(a, 2, order == ByteOrder.BIG_ENDIAN, value);
+        return this;
+    }
+
+    /**
+     * Reads the char value at the given offset, in the native byte order.
+     *
+     * <p>
+     *  按本机字节顺序读取给定偏移量处的char值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @return  The char value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 2 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public char getChar(long offset) {
+        return getChar(offset, NATIVE);
+    }
+
+    /**
+     * Reads the char value at the given offset, in the given byte order.
+     *
+     * <p>
+     *  按给定的字节顺序读取给定偏移量处的char值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  The char value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 2 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public char getChar(long offset, ByteOrder order) {
+        checkAccess(offset, 2, false);
+        long a = addr(offset);
+        if (unaligned || (a & 1) == 0) {
+            char x = unsafe.getChar(base, a);
+            return (order == NATIVE) ? x : Bits.swap(x);
+        }
+        return (char)getBytes(a, 2, order == ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Writes the given char value at the given offset, in the native byte
+     * order.
+     *
+     * <p>
+     *  按本机字节顺序在给定偏移量处写入给定的char值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The char value to be written
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 2 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putChar(long offset, char value) {
+        return putChar(offset, value, NATIVE);
+    }
+
+    /**
+     * Writes the given char value at the given offset, in the given byte
+     * order.
+     *
+     * <p>
+     *  按给定的字节顺序在给定偏移量处写入给定的char值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The char value to be written
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 2 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putChar(long offset, char value, ByteOrder order) {
+        checkAccess(offset, 2, true);
+        long a = addr(offset);
+        if (unaligned || (a & 1) == 0)
+            unsafe.putChar(base, a, (order == NATIVE) ? value : Bits.swap(value));
+        else
+            putBytes(a, 2, order == ByteOrder.BIG_ENDIAN, value);
+        return this;
+    }
+
+    /**
+     * Reads the int value at the given offset, in the native byte order.
+     *
+     * <p>
+     *  按本机字节顺序读取给定偏移量处的int值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @return  The int value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 4 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public int getInt(long offset) {
+        return getInt(offset, NATIVE);
+    }
+
+    /**
+     * Reads the int value at the given offset, in the given byte order.
+     *
+     * <p>
+     *  按给定的字节顺序读取给定偏移量处的int值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  The int value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 4 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public int getInt(long offset, ByteOrder order) {
+        checkAccess(offset, 4, false);
+        long a = addr(offset);
+        if (unaligned || (a & 3) == 0) {
+            int x = unsafe.getInt(base, a);
+            return (order == NATIVE) ? x : Bits.swap(x);
+        }
+        return (int)getBytes(a, 4, order == ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Writes the given int value at the given offset, in the native byte
+     * order.
+     *
+     * <p>
+     *  按本机字节顺序在给定偏移量处写入给定的int值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The int value to be written
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 4 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putInt(long offset, int value) {
+        return putInt(offset, value, NATIVE);
+    }
+
+    /**
+     * Writes the given int value at the given offset, in the given byte
+     * order.
+     *
+     * <p>
+     *  按给定的字节顺序在给定偏移量处写入给定的int值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The int value to be written
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 4 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putInt(long offset, int value, ByteOrder order) {
+        checkAccess(offset, 4, true);
+        long a = addr(offset);
+        if (unaligned || (a & 3) == 0)
+            unsafe.putInt(base, a, (order == NATIVE) ? value : Bits.swap(value));
+        else
+            putBytes(a, 4, order == ByteOrder.BIG_ENDIAN, value);
+        return this;
+    }
+
+    /**
+     * Reads the long value at the given offset, in the native byte order.
+     *
+     * <p>
+     *  按本机字节顺序读取给定偏移量处的long值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @return  The long value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 8 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public long getLong(long offset) {
+        return getLong(offset, NATIVE);
+    }
+
+    /**
+     * Reads the long value at the given offset, in the given byte order.
+     *
+     * <p>
+     *  按给定的字节顺序读取给定偏移量处的long值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  The long value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 8 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public long getLong(long offset, ByteOrder order) {
+        checkAccess(offset, 8, false);
+        long a = addr(offset);
+        if (unaligned || (a & 7) == 0) {
+            long x = unsafe.getLong(base, a);
+            return (order == NATIVE) ? x : Bits.swap(x);
+        }
+        return getBytes(a, 8, order == ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Writes the given long value at the given offset, in the native byte
+     * order.
+     *
+     * <p>
+     *  按本机字节顺序在给定偏移量处写入给定的long值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The long value to be written
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 8 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putLong(long offset, long value) {
+        return putLong(offset, value, NATIVE);
+    }
+
+    /**
+     * Writes the given long value at the given offset, in the given byte
+     * order.
+     *
+     * <p>
+     *  按给定的字节顺序在给定偏移量处写入给定的long值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The long value to be written
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 8 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putLong(long offset, long value, ByteOrder order) {
+        checkAccess(offset, 8, true);
+        long a = addr(offset);
+        if (unaligned || (a & 7) == 0)
+            unsafe.putLong(base, a, (order == NATIVE) ? value : Bits.swap(value));
+        else
+            putBytes(a, 8, order == ByteOrder.BIG_ENDIAN, value);
+        return this;
+    }
+
+    /**
+     * Reads the float value at the given offset, in the native byte order.
+     *
+     * <p>
+     *  按本机字节顺序读取给定偏移量处的float值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @return  The float value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 4 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public float getFloat(long offset) {
+        return getFloat(offset, NATIVE);
+    }
+
+    /**
+     * Reads the float value at the given offset, in the given byte order.
+     *
+     * <p>
+     *  按给定的字节顺序读取给定偏移量处的float值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  The float value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 4 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public float getFloat(long offset, ByteOrder order) {
+        return Float.intBitsToFloat(getInt(offset, order));
+    }
+
+    /**
+     * Writes the given float value at the given offset, in the native byte
+     * order.
+     *
+     * <p>
+     *  按本机字节顺序在给定偏移量处写入给定的float值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The float value to be written
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 4 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putFloat(long offset, float value) {
+        return putFloat(offset, value, NATIVE);
+    }
+
+    /**
+     * Writes the given float value at the given offset, in the given byte
+     * order.
+     *
+     * <p>
+     *  按给定的字节顺序在给定偏移量处写入给定的float值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The float value to be written
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 4 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putFloat(long offset, float value, ByteOrder order) {
+        putInt(offset, Float.floatToRawIntBits(value), order);
+        return this;
+    }
+
+    /**
+     * Reads the double value at the given offset, in the native byte order.
+     *
+     * <p>
+     *  按本机字节顺序读取给定偏移量处的double值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @return  The double value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 8 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public double getDouble(long offset) {
+        return getDouble(offset, NATIVE);
+    }
+
+    /**
+     * Reads the double value at the given offset, in the given byte order.
+     *
+     * <p>
+     *  按给定的字节顺序读取给定偏移量处的double值。
+     *
+     * @param  offset
+     *         The offset, in bytes, from which the value is read
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  The double value at the given offset
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 8 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public double getDouble(long offset, ByteOrder order) {
+        return Double.longBitsToDouble(getLong(offset, order));
+    }
+
+    /**
+     * Writes the given double value at the given offset, in the native byte
+     * order.
+     *
+     * <p>
+     *  按本机字节顺序在给定偏移量处写入给定的double值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The double value to be written
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 8 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putDouble(long offset, double value) {
+        return putDouble(offset, value, NATIVE);
+    }
+
+    /**
+     * Writes the given double value at the given offset, in the given byte
+     * order.
+     *
+     * <p>
+     *  按给定的字节顺序在给定偏移量处写入给定的double值。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the value is written
+     *
+     * @param  value
+     *         The double value to be written
+     *
+     * @param  order
+     *         The byte order of the value
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>offset</tt> is negative or fewer than 8 bytes
+     *          remain from it
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment putDouble(long offset, double value, ByteOrder order) {
+        putLong(offset, Double.doubleToRawLongBits(value), order);
+        return this;
+    }
+
+    /**
+     * Copies bytes from this segment into the given array.
+     *
+     * <p>
+     *  将字节从此段复制到给定数组中。
+     *
+     * @param  offset
+     *         The offset, in bytes, of the first byte to be copied
+     *
+     * @param  dst
+     *         The array into which bytes are to be written
+     *
+     * @param  index
+     *         The index within the array of the first byte to be written
+     *
+     * @param  length
+     *         The number of bytes to be copied
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the preconditions on the <tt>offset</tt>, <tt>index</tt>
+     *          and <tt>length</tt> parameters do not hold
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public MemorySegment get(long offset, byte[] dst, int index, int length) {
+        checkAccess(offset, length, false);
+        Buffer.checkBounds(index, length, dst.length);
+        long a = Unsafe.ARRAY_BYTE_BASE_OFFSET + index;
+        for (long done = 0; done < length; ) {
+            long n = run(offset + done, length - done);
+            unsafe.copyMemory(base, addr(offset + done), dst, a + done, n);
+            done += n;
+        }
+        return this;
+    }
+
+    /**
+     * Copies bytes from the given array into this segment.
+     *
+     * <p>
+     *  将字节从给定数组复制到此段中。
+     *
+     * @param  offset
+     *         The offset, in bytes, at which the first byte is written
+     *
+     * @param  src
+     *         The array from which bytes are to be read
+     *
+     * @param  index
+     *         The index within the array of the first byte to be read
+     *
+     * @param  length
+     *         The number of bytes to be copied
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the preconditions on the <tt>offset</tt>, <tt>index</tt>
+     *          and <tt>length</tt> parameters do not hold
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment put(long offset, byte[] src, int index, int length) {
+        checkAccess(offset, length, true);
+        Buffer.checkBounds(index, length, src.length);
+        long a = Unsafe.ARRAY_BYTE_BASE_OFFSET + index;
+        for (long done = 0; done < length; ) {
+            long n = run(offset + done, length - done);
+            unsafe.copyMemory(src, a + done, base, addr(offset + done), n);
+            done += n;
+        }
+        return this;
+    }
+
+    /**
+     * Copies the content of the given segment into this segment, starting
+     * at offset zero.
+     *
+     * <p>
+     *  将给定段的内容复制到此段中,从偏移量零开始。
+     *
+     * @param  src
+     *         The segment from which bytes are to be read
+     *
+     * @return  This segment
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the given segment is larger than this segment
+     *
+     * @throws  IllegalStateException
+     *          If either segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment copyFrom(MemorySegment src) {
+        long length = src.size;
+        src.checkAccess(0L, length, false);
+        checkAccess(0L, length, true);
+        for (long done = 0; done < length; ) {
+            long n = Math.min(src.run(done, length - done),
+                              run(done, length - done));
+            unsafe.copyMemory(src.base, src.addr(done), base, addr(done), n);
+            done += n;
+        }
+        return this;
+    }
+
+    /**
+     * Sets every byte of this segment to the given value.
+     *
+     * <p>
+     *  将此段的每个字节设置为给定值。
+     *
+     * @param  value
+     *         The value to be stored
+     *
+     * @return  This segment
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     *
+     * @throws  ReadOnlyBufferException
+     *          If this segment is read-only
+     */
+    public MemorySegment fill(byte value) {
+        checkAccess(0L, size, true);
+        for (long done = 0; done < size; ) {
+            long n = run(done, size - done);
+            unsafe.setMemory(base, addr(done), n, value);
+            done += n;
+        }
+        return this;
+    }
+
+    /**
+     * Copies the content of this segment into a new byte array.
+     *
+     * <p>
+     *  将此段的内容复制到一个新的字节数组中。
+     *
+     * @return  A new array holding the content of this segment
+     *
+     * @throws  UnsupportedOperationException
+     *          If this segment is larger than <tt>Integer.MAX_VALUE</tt>
+     *          bytes
+     *
+     * @throws  IllegalStateException
+     *          If this segment is closed or is accessed from a thread
+     *          other than its owner
+     */
+    public byte[] toByteArray() {
+        if (size > Integer.MAX_VALUE)
+            throw new UnsupportedOperationException("Segment is too large for an array");
+        byte[] a = new byte[(int)size];
+        get(0L, a, 0, a.length);
+        return a;
+    }
+
+    /**
+     * Creates a byte buffer over this segment's memory.
+     *
+     * <p> The buffer's capacity is the size of this segment, its byte order
+     * is {@link ByteOrder#BIG_ENDIAN BIG_ENDIAN}, and it is read-only if
+     * this segment is.  Accesses through a buffer cannot be checked against
+     * a segment's owner or lifetime, so only a {@link #share shared} segment,
+     * which has no owner and cannot be closed, may be viewed as a buffer; the
+     * buffer keeps the segment's memory reachable.  </p>
+     *
+     * <p>
+     *  创建一个覆盖此段内存的字节缓冲区。
+     *
+     *  <p>缓冲区的容量是此段的大小,其字节顺序为{@link ByteOrder#BIG_ENDIAN BIG_ENDIAN},如果此段是只读的,则缓冲区也是只读的。
+     * 通过缓冲区的访问无法根据段的所有者或生命周期进行检查,因此只有没有所有者且不能被关闭的{@link #share 共享}段才能被视为缓冲区;缓冲区使段的内存保持可达。 </p>
+     *
+     * @return  A new byte buffer
+     *
+     * @throws  UnsupportedOperationException
+     *          If this segment is larger than <tt>Integer.MAX_VALUE</tt>
+     *          bytes, spans more than one part of a large mapping, or is
+     *          backed by an array other than a byte array
+     *
+     * @throws  IllegalStateException
+     *          If this segment is not shared
+     */
+    public ByteBuffer asByteBuffer() {
+        if (scope.owner != null)
+            throw new IllegalStateException("Segment is not shared");
+        checkAccess(0L, size, false);
+        if (size > Integer.MAX_VALUE
+            || chunks != null && (address & CHUNK_MASK) + size > CHUNK_SIZE)
+            throw new UnsupportedOperationException("Segment is too large for a buffer");
+        ByteBuffer bb;
+        if (base == null) {
+            // The buffer keeps the scope, and so the memory, reachable
+            bb = new DirectByteBuffer(addr(0L), (int)size, scope);
+        } else if (base instanceof byte[]) {
+            int off = (int)(address - Unsafe.ARRAY_BYTE_BASE_OFFSET);
+            bb = ByteBuffer.wrap((byte[])base, off, (int)size).slice();
+        } else {
+            throw new UnsupportedOperationException("Segment is not backed by a byte array");
+        }
+        return readOnly ? bb.asReadOnlyBuffer() : bb;
+    }
+
+    /**
+     * Returns a string summarizing the state of this segment.
+     *
+     * <p>
+     *  返回汇总此段状态的字符串。
+     *
+     * @return  A summary string
+     */
+    public String toString() {
+        return getClass().getName()
+            + "[size=" + size
+            + (base == null ? " native" : " heap")
+            + (readOnly ? " read-only" : "")
+            + (scope.alive ? "" : " closed")
+            + "]";
+    }
+
+
+    // -- Access checks and addressing --
+
+    private void checkOwner() {
+        Scope s = scope;
+        if (!s.alive)
+            throw new IllegalStateException("Segment is closed");
+        if (s.owner != Thread.currentThread())
+            throw new IllegalStateException("Segment is not owned by the current thread");
+    }
+
+    // Checks that the current thread may access length bytes at offset.
+    // The size is final, so in a loop the bounds check is hoisted like an
+    // array's.
+    //
+    private void checkAccess(long offset, long length, boolean write) {
+        Scope s = scope;
+        Thread owner = s.owner;
+        if (owner != null && owner != Thread.currentThread())
+            throw new IllegalStateException("Attempted access outside owning thread");
+        if (!s.alive)
+            throw new IllegalStateException("Segment is closed");
+        if (write && readOnly)
+            throw new ReadOnlyBufferException();
+        if ((offset | length) < 0 || offset > size - length)
+            throw new IndexOutOfBoundsException("Offset " + offset
+                                                + ", length " + length
+                                                + ", size " + size);
+    }
+
+    // Returns the address, relative to base, of the byte at offset
+    private long addr(long offset) {
+        long[] cs = chunks;
+        if (cs == null)
+            return address + offset;
+        long o = address + offset;
+        return cs[(int)(o >>> CHUNK_SHIFT)] + (o & CHUNK_MASK);
+    }
+
+    // Returns the number of bytes, up to length, from offset that may be
+    // copied with one call to Unsafe; copies are limited to a single chunk
+    // and, to allow for safepoint polling, to UNSAFE_COPY_THRESHOLD bytes
+    //
+    private long run(long offset, long length) {
+        long n = Math.min(length, Bits.UNSAFE_COPY_THRESHOLD);
+        if (chunks != null)
+            n = Math.min(n, CHUNK_SIZE - ((address + offset) & CHUNK_MASK));
+        return n;
+    }
+
+    // Reads an n-byte value one byte at a time, for platforms that do not
+    // support unaligned accesses
+    //
+    private long getBytes(long a, int n, boolean bigEndian) {
+        long x = 0;
+        for (int i = 0; i < n; i++) {
+            long b = unsafe.getByte(base, a + (bigEndian ? i : n - 1 - i));
+            x = (x << 8) | (b & 0xff);
+        }
+        return x;
+    }
+
+    private void putBytes(long a, int n, boolean bigEndian, long x) {
+        for (int i = n - 1; i >= 0; i--) {
+            unsafe.putByte(base, a + (bigEndian ? i : n - 1 - i), (byte)x);
+            x >>>= 8;
+        }
+    }
+
+}
@@ -0,0 +1,230 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import sun.nio.ch.FileChannelImpl;
+
+/**
+ * Owns the memory of a direct byte buffer and releases it deterministically
+ * when closed.
+ *
+ * <p> The memory behind a direct buffer created by {@link
+ * ByteBuffer#allocateDirect ByteBuffer.allocateDirect}, and the file mapping
+ * behind a buffer created by {@link java.nio.channels.FileChannel#map
+ * FileChannel.map}, is normally released only once the buffer has been
+ * garbage-collected.  Until then it counts against the direct memory limit
+ * and, for a mapping, occupies address space and keeps the file mapped.  A
+ * scoped buffer allocates such a buffer, or maps such a file region, itself,
+ * and frees the memory, or unmaps the file, as soon as it is {@link #close
+ * closed}.  Buffers created elsewhere cannot be owned by a scoped buffer,
+ * as other code may still hold them:
+ *
+ * <blockquote><pre>
+ * try (ScopedBuffer sb = ScopedBuffer.map(channel, READ_ONLY, 0, size)) {
+ *     ByteBuffer bb = sb.buffer();
+ *     ...
+ * }
+ * </pre></blockquote>
+ *
+ * <p> Closing a scoped buffer sets the position and limit of the buffer it
+ * owns to zero, so that later relative or bounds-checked accesses to that
+ * buffer fail.  Views, slices and duplicates of the buffer are not tracked,
+ * and must no longer be accessed once the scoped buffer has been closed.
+ * Such accesses are not checked and may return arbitrary data, corrupt
+ * memory or crash the virtual machine.  Scoped buffers are therefore
+ * intended for code that controls every use of the buffer it owns.
+ *
+ * <p> Scoped buffers are safe for use by multiple concurrent threads, but
+ * closing one while another thread is still using its buffer is an error as
+ * described above.
+ *
+ * <p>
+ *  拥有直接字节缓冲区的内存,并在关闭时确定性地释放它。
+ *
+ *  <p>由{@link ByteBuffer#allocateDirect ByteBuffer.allocateDirect}创建的直接缓冲区背后的内存,以及由
+ * {@link java.nio.channels.FileChannel#map FileChannel.map}创建的缓冲区背后的文件映射,通常只有在缓冲区被垃圾回收后才会释放。
+ * 在此之前,它计入直接内存限制,对于映射,它占用地址空间并使文件保持映射状态。
+ * 作用域缓冲区自己分配此类缓冲区或映射此类文件区域,并在{@link #close关闭}后立即释放内存或取消文件映射。在其他地方创建的缓冲区不能由作用域缓冲区拥有,因为其他代码可能仍持有它们。
+ *
+ *  <p>关闭作用域缓冲区会将其拥有的缓冲区的位置和限制设置为零,以使之后对该缓冲区的相对访问或经过边界检查的访问失败。
+ * 该缓冲区的视图、切片和副本不会被跟踪,作用域缓冲区关闭后不得再访问它们。此类访问不会被检查,可能返回任意数据、破坏内存或使虚拟机崩溃。
+ * 因此,作用域缓冲区适用于控制其所拥有缓冲区的每次使用的代码。
+ *
+ *  <p>作用域缓冲区可以安全地由多个并发线程使用,但如上所述,在另一个线程仍在使用其缓冲区时关闭它是错误的。
+ *
+ * @see DirectBufferPool
+ * @since 1.8
+ */
+
+public final class ScopedBuffer
+    implements AutoCloseable
+{
+
+    // The owned buffer; null once closed
+    private volatile DirectByteBuffer buffer;
+
+    private ScopedBuffer(DirectByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Allocates a new direct byte buffer whose memory is owned by the
+     * returned scoped buffer.
+     *
+     * <p> The new buffer is as if allocated by {@link
+     * ByteBuffer#allocateDirect ByteBuffer.allocateDirect}.  </p>
+     *
+     * <p>
+     *  分配一个新的直接字节缓冲区,其内存由返回的作用域缓冲区拥有。
+     *
+     *  <p>新缓冲区就像是由{@link ByteBuffer#allocateDirect ByteBuffer.allocateDirect}分配的一样。 </p>
+     *
+     * @param  capacity
+     *         The new buffer's capacity, in bytes
+     *
+     * @return  A new scoped buffer
+     *
+     * @throws  IllegalArgumentException
+     *          If the <tt>capacity</tt> is a negative integer
+     */
+    public static ScopedBuffer allocateDirect(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException();
+        return new ScopedBuffer(new DirectByteBuffer(capacity));
+    }
+
+    /**
+     * Maps a region of the given file channel into memory, the mapping being
+     * owned by the returned scoped buffer.
+     *
+     * <p> The region is mapped as if by {@link FileChannel#map
+     * FileChannel.map}, and the {@link #buffer buffer} of the scoped buffer
+     * is a {@link MappedByteBuffer}.  Only channels of the default file
+     * system provider, such as those returned by {@link FileChannel#open
+     * FileChannel.open}, are supported.  </p>
+     *
+     * <p>
+     *  将给定文件通道的一个区域映射到内存中,该映射由返回的作用域缓冲区拥有。
+     *
+     *  <p>该区域的映射方式与{@link FileChannel#map FileChannel.map}相同,作用域缓冲区的{@link #buffer 缓冲区}是一个{@link MappedByteBuffer}。
+     * 仅支持默认文件系统提供程序的通道,例如由{@link FileChannel#open FileChannel.open}返回的通道。 </p>
+     *
+     * @param  channel
+     *         The file channel
+     * @param  mode
+     *         The mapping mode, as for <tt>FileChannel.map</tt>
+     * @param  position
+     *         The position within the file at which the mapped region
+     *         is to start; must be non-negative
+     * @param  size
+     *         The size of the region to be mapped; must be non-negative and
+     *         no greater than {@link java.lang.Integer#MAX_VALUE}
+     *
+     * @return  A new scoped buffer
+     *
+     * @throws  IllegalArgumentException
+     *          If the channel is not a channel of the default file system
+     *          provider, or the parameters are invalid as for
+     *          <tt>FileChannel.map</tt>
+     * @throws  IOException
+     *          If some other I/O error occurs
+     */
+    public static ScopedBuffer map(FileChannel channel, FileChannel.MapMode mode,
+                                   long position, long size)
+        throws IOException
+    {
+        // another implementation could return a buffer that other code holds
+        if (!(channel instanceof FileChannelImpl))
+            throw new IllegalArgumentException("Unsupported file channel");
+        MappedByteBuffer mbb = channel.map(mode, position, size);
+        if (!(mbb instanceof DirectByteBuffer)
+            || ((DirectByteBuffer)mbb).cleaner() == null)
+            throw new IllegalArgumentException("Mapping does not own its memory");
+        return new ScopedBuffer((DirectByteBuffer)mbb);
+    }
+
+    /**
+     * Returns the buffer owned by this scoped buffer.
+     *
+     * <p>
+     *  返回此作用域缓冲区拥有的缓冲区。
+     *
+     * @return  The buffer
+     *
+     * @throws  IllegalStateException
+     *          If this scoped buffer has been closed
+     */
+    public ByteBuffer buffer() {
+        ByteBuffer bb = buffer;
+        if (bb == null)
+            throw new IllegalStateException("Scoped buffer is closed");
+        return bb;
+    }
+
+    /**
+     * Tells whether or not this scoped buffer is open.
+     *
+     * <p>
+     *  告诉此作用域缓冲区是否打开。
+     *
+     * @return  <tt>true</tt> if, and only if, this scoped buffer has not
+     *          been closed
+     */
+    public boolean isOpen() {
+        return buffer != null;
+    }
+
+    /**
+     * Frees the memory of the owned buffer, or unmaps its file region, and
+     * sets the owned buffer's position and limit to zero.
+     *
+     * <p> If this scoped buffer is already closed then invoking this method
+     * has no effect.  </p>
+     *
+     * <p>
+     *  释放所拥有缓冲区的内存,或取消其文件区域的映射,并将所拥有缓冲区的位置和限制设置为零。
+     *
+     *  <p>如果此作用域缓冲区已关闭,则调用此方法无效。 </p>
+     */
+    public void close() {
+        DirectByteBuffer bb;
+        synchronized (this) {
+            bb = buffer;
+            if (bb == null)
+                return;
+            buffer = null;
+            bb.position(0);
+            bb.limit(0);
+        }
+        // The cleaner runs at most once, so the buffer is not freed again
+        // when it is later garbage-collected
+        bb.cleaner().clean();
+    }
+
+}
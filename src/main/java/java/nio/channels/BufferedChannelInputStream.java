@@ -0,0 +1,446 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio.channels;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.DirectBufferPool;
+import java.util.Arrays;
+
+
+/**
+ * An input stream that reads bytes from a channel through a direct buffer.
+ *
+ * <p> Unlike a {@link java.io.BufferedInputStream} wrapped around {@link
+ * Channels#newInputStream Channels.newInputStream}, which stages bytes
+ * first in a temporary direct buffer of the channel and then in the
+ * stream's own array, this stream buffers bytes once, in a direct buffer
+ * taken from a {@link DirectBufferPool} and returned to it when the stream
+ * is closed.  Bytes read into the caller's array are copied once from that
+ * buffer, at most a buffer's worth per read; the array is never handed to
+ * the channel, which would stage the bytes in a temporary direct buffer of
+ * the full length.  The stream is also a {@link ReadableByteChannel}: bytes
+ * read into a direct {@link ByteBuffer} move from the channel into the
+ * caller's buffer with no copy at all, and {@link #transferTo transferTo} a
+ * {@link BufferedChannelOutputStream} moves bytes from channel to channel
+ * without passing them through the Java heap.  {@link #copiesAvoided} reports how
+ * often such a shortcut was taken.  </p>
+ *
+ * <p> The <tt>read</tt> methods throw an {@link
+ * IllegalBlockingModeException} if invoked while the channel is in
+ * non-blocking mode.  The stream does not support the {@link #mark mark}
+ * and {@link #reset reset} methods.  It is safe for use by multiple
+ * concurrent threads.  Closing the stream closes the channel.  </p>
+ *
+ * <p>
+ *  通过直接缓冲区从通道读取字节的输入流。
+ *
+ *  <p>包装在{@link Channels#newInputStream Channels.newInputStream}外的{@link java.io.BufferedInputStream}
+ * 先将字节暂存在通道的临时直接缓冲区中,再暂存在流自己的数组中;与之不同,此流只缓冲字节一次,缓冲在从{@link DirectBufferPool}获取的直接缓冲区中,并在流关闭时归还。
+ * 读入调用者数组的字节从该缓冲区复制一次,每次读取至多一个缓冲区的量;数组永远不会交给通道,因为通道会将字节暂存在全长的临时直接缓冲区中。该流也是一个{@link ReadableByteChannel}:读入直接{@link ByteBuffer}的字节从通道移动到调用者的缓冲区而根本不复制,
+ * 并且{@link #transferTo transferTo}到{@link BufferedChannelOutputStream}会在通道之间移动字节而不经过Java堆。
+ * {@link #copiesAvoided}报告采用此类捷径的频率。 </p>
+ *
+ *  <p>如果在通道处于非阻塞模式时调用,<tt>read</tt>方法将抛出{@link IllegalBlockingModeException}。
+ * 该流不支持{@link #mark mark}和{@link #reset reset}方法。它可以安全地由多个并发线程使用。关闭流会关闭通道。 </p>
+ *
+ * @see BufferedChannelOutputStream
+ * @since 1.8
+ */
+
+public class BufferedChannelInputStream
+    extends InputStream
+    implements ReadableByteChannel
+{
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final ReadableByteChannel ch;
+    private final DirectBufferPool pool;
+    private final int size;
+
+    // Unread bytes, between position and limit; null once closed
+    private ByteBuffer buf;
+
+    private long copiesAvoided;
+
+    /**
+     * Creates a stream that reads from the given channel through a 64 KiB
+     * buffer.
+     *
+     * <p>
+     *  创建一个通过64 KiB缓冲区从给定通道读取的流。
+     *
+     * @param  ch
+     *         The channel from which bytes will be read
+     */
+    public BufferedChannelInputStream(ReadableByteChannel ch) {
+        this(ch, DEFAULT_BUFFER_SIZE, Channels.bufferPool);
+    }
+
+    /**
+     * Creates a stream that reads from the given channel through a buffer
+     * of the given size taken from the given pool.
+     *
+     * <p>
+     *  创建一个流,该流通过从给定池中获取的给定大小的缓冲区从给定通道读取。
+     *
+     * @param  ch
+     *         The channel from which bytes will be read
+     *
+     * @param  size
+     *         The buffer size
+     *
+     * @param  pool
+     *         The pool from which the buffer is taken
+     *
+     * @throws  IllegalArgumentException
+     *          If <tt>size</tt> is not positive
+     */
+    public BufferedChannelInputStream(ReadableByteChannel ch, int size,
+                                      DirectBufferPool pool)
+    {
+        if (ch == null || pool == null)
+            throw new NullPointerException();
+        if (size <= 0)
+            throw new IllegalArgumentException("Buffer size <= 0");
+        this.ch = ch;
+        this.pool = pool;
+        this.size = size;
+        this.buf = pool.allocate(size);
+        buf.limit(0);
+    }
+
+    private ByteBuffer getBufIfOpen() throws IOException {
+        ByteBuffer bb = buf;
+        if (bb == null)
+            throw new IOException("Stream closed");
+        return bb;
+    }
+
+    private int readChannel(ByteBuffer dst) throws IOException {
+        if (ch instanceof SelectableChannel) {
+            SelectableChannel sc = (SelectableChannel)ch;
+            synchronized (sc.blockingLock()) {
+                if (!sc.isBlocking())
+                    throw new IllegalBlockingModeException();
+                return ch.read(dst);
+            }
+        }
+        return ch.read(dst);
+    }
+
+    // Refills the empty buffer, returning the number of bytes read or -1
+    private int fill(ByteBuffer bb) throws IOException {
+        bb.clear();
+        bb.limit(size);
+        try {
+            return readChannel(bb);
+        } finally {
+            bb.flip();
+        }
+    }
+
+    public synchronized int read() throws IOException {
+        ByteBuffer bb = getBufIfOpen();
+        if (!bb.hasRemaining() && fill(bb) <= 0)
+            return -1;
+        return bb.get() & 0xff;
+    }
+
+    public synchronized int read(byte[] b, int off, int len)
+        throws IOException
+    {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0)
+            throw new IndexOutOfBoundsException();
+        ByteBuffer bb = getBufIfOpen();
+        if (len == 0)
+            return 0;
+        if (!bb.hasRemaining() && fill(bb) <= 0)
+            return -1;
+        int n = Math.min(len, bb.remaining());
+        bb.get(b, off, n);
+        return n;
+    }
+
+    /**
+     * Reads a sequence of bytes from this stream into the given buffer.
+     *
+     * <p> Buffered bytes are transferred first.  Once none remain, a direct
+     * buffer is filled by the channel without any intermediate copy; a
+     * heap buffer is filled through this stream's buffer.  </p>
+     *
+     * <p>
+     *  从此流中读取一个字节序列到给定的缓冲区中。
+     *
+     *  <p>首先传输已缓冲的字节。一旦没有剩余,直接缓冲区由通道填充,没有任何中间复制;堆缓冲区则通过此流的缓冲区填充。 </p>
+     *
+     * @param  dst
+     *         The buffer into which bytes are to be transferred
+     *
+     * @return  The number of bytes read, possibly zero, or <tt>-1</tt> if
+     *          the end of the stream has been reached
+     *
+     * @throws  IOException
+     *          If this stream is closed or some other I/O error occurs
+     */
+    public synchronized int read(ByteBuffer dst) throws IOException {
+        ByteBuffer bb = getBufIfOpen();
+        if (!dst.hasRemaining())
+            return 0;
+        if (bb.hasRemaining()) {
+            int n = Math.min(dst.remaining(), bb.remaining());
+            int lim = bb.limit();
+            bb.limit(bb.position() + n);
+            dst.put(bb);
+            bb.limit(lim);
+            return n;
+        }
+        if (dst.isDirect()) {
+            int n = readChannel(dst);
+            if (n > 0)
+                copiesAvoided++;
+            return n;
+        }
+        if (fill(bb) <= 0)
+            return -1;
+        return read(dst);
+    }
+
+    /**
+     * Reads the requested number of bytes into the given array.
+     *
+     * <p> This method blocks until <tt>len</tt> bytes have been read, the
+     * end of the stream is reached, or an exception is thrown.  </p>
+     *
+     * <p>
+     *  将请求的字节数读入给定数组。
+     *
+     *  <p>此方法阻塞,直到读取了<tt>len</tt>个字节、到达流的末尾或抛出异常。 </p>
+     *
+     * @param  b
+     *         The array into which bytes are to be read
+     *
+     * @param  off
+     *         The offset within the array at which bytes are to be written
+     *
+     * @param  len
+     *         The maximum number of bytes to read
+     *
+     * @return  The number of bytes read, which is less than <tt>len</tt>
+     *          only if the end of the stream was reached
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If <tt>off</tt> or <tt>len</tt> is negative, or if
+     *          <tt>off + len</tt> is greater than <tt>b.length</tt>
+     *
+     * @throws  IOException
+     *          If this stream is closed or some other I/O error occurs
+     */
+    public synchronized int readNBytes(byte[] b, int off, int len)
+        throws IOException
+    {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0)
+            throw new IndexOutOfBoundsException();
+        int n = 0;
+        while (n < len) {
+            int count = read(b, off + n, len - n);
+            if (count < 0)
+                break;
+            n += count;
+        }
+        return n;
+    }
+
+    /**
+     * Reads up to the given number of bytes into a new array.
+     *
+     * <p> This method blocks until <tt>len</tt> bytes have been read, the
+     * end of the stream is reached, or an exception is thrown.  </p>
+     *
+     * <p>
+     *  将最多给定数量的字节读入一个新数组。
+     *
+     *  <p>此方法阻塞,直到读取了<tt>len</tt>个字节、到达流的末尾或抛出异常。 </p>
+     *
+     * @param  len
+     *         The maximum number of bytes to read
+     *
+     * @return  An array holding the bytes read, whose length is less than
+     *          <tt>len</tt> only if the end of the stream was reached
+     *
+     * @throws  IllegalArgumentException
+     *          If <tt>len</tt> is negative
+     *
+     * @throws  IOException
+     *          If this stream is closed or some other I/O error occurs
+     */
+    public synchronized byte[] readNBytes(int len) throws IOException {
+        if (len < 0)
+            throw new IllegalArgumentException("len < 0");
+        // Grow the array as bytes arrive rather than trusting len
+        byte[] a = new byte[Math.min(len, size)];
+        int n = 0;
+        while (n < len) {
+            if (n == a.length)
+                a = Arrays.copyOf(a, (int)Math.min(len, 2L * a.length));
+            int count = read(a, n, a.length - n);
+            if (count < 0)
+                break;
+            n += count;
+        }
+        return (n == a.length) ? a : Arrays.copyOf(a, n);
+    }
+
+    /**
+     * Reads all bytes from this stream and writes them to the given output
+     * stream.
+     *
+     * <p> If the output stream is a {@link BufferedChannelOutputStream}
+     * then bytes pass from channel to channel in native memory: with {@link
+     * FileChannel#transferTo FileChannel.transferTo} if this stream reads
+     * from a file channel, and through this stream's direct buffer
+     * otherwise.  On return this stream is at its end; the output stream is
+     * not flushed or closed.  </p>
+     *
+     * <p>
+     *  从此流中读取所有字节并将其写入给定的输出流。
+     *
+     *  <p>如果输出流是{@link BufferedChannelOutputStream},则字节在本机内存中从通道传递到通道:
+     * 如果此流从文件通道读取,则使用{@link FileChannel#transferTo FileChannel.transferTo},否则通过此流的直接缓冲区。
+     * 返回时,此流位于其末尾;输出流不会被刷新或关闭。 </p>
+     *
+     * @param  out
+     *         The output stream to write to
+     *
+     * @return  The number of bytes transferred
+     *
+     * @throws  IOException
+     *          If this stream is closed or an I/O error occurs when reading
+     *          or writing
+     */
+    public synchronized long transferTo(OutputStream out) throws IOException {
+        if (out == null)
+            throw new NullPointerException("out");
+        ByteBuffer bb = getBufIfOpen();
+        long total = 0;
+        if (out instanceof BufferedChannelOutputStream) {
+            BufferedChannelOutputStream cout = (BufferedChannelOutputStream)out;
+            total += bb.remaining();
+            cout.write(bb);
+            if (ch instanceof FileChannel) {
+                total += cout.transferFrom((FileChannel)ch);
+                copiesAvoided++;
+            }
+            while (fill(bb) > 0) {
+                total += bb.remaining();
+                cout.write(bb);
+            }
+            return total;
+        }
+        byte[] a = new byte[size];
+        int n;
+        while ((n = read(a, 0, a.length)) > 0) {
+            out.write(a, 0, n);
+            total += n;
+        }
+        return total;
+    }
+
+    public synchronized long skip(long n) throws IOException {
+        ByteBuffer bb = getBufIfOpen();
+        if (n <= 0)
+            return 0;
+        long skipped = Math.min(n, bb.remaining());
+        bb.position(bb.position() + (int)skipped);
+        if (skipped < n && ch instanceof SeekableByteChannel) {
+            SeekableByteChannel sbc = (SeekableByteChannel)ch;
+            long pos = sbc.position();
+            long k = Math.max(0, Math.min(n - skipped, sbc.size() - pos));
+            sbc.position(pos + k);
+            skipped += k;
+        } else if (skipped < n) {
+            skipped += super.skip(n - skipped);
+        }
+        return skipped;
+    }
+
+    public synchronized int available() throws IOException {
+        ByteBuffer bb = getBufIfOpen();
+        long n = bb.remaining();
+        if (ch instanceof SeekableByteChannel) {
+            SeekableByteChannel sbc = (SeekableByteChannel)ch;
+            n += Math.max(0, sbc.size() - sbc.position());
+        }
+        return (int)Math.min(n, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of reads into direct buffers and of file
+     * transfers that moved bytes between the channel and the caller without
+     * staging them in this stream's buffer.
+     *
+     * <p>
+     *  返回在通道和调用者之间移动字节而不将其暂存在此流的缓冲区中的直接缓冲区读取和文件传输的次数。
+     *
+     * @return  The number of copies avoided
+     */
+    public synchronized long copiesAvoided() {
+        return copiesAvoided;
+    }
+
+    public synchronized boolean isOpen() {
+        return buf != null;
+    }
+
+    /**
+     * Closes this stream and the channel, and returns the buffer to the
+     * pool.
+     *
+     * <p> If this stream is already closed then invoking this method has no
+     * effect.  </p>
+     *
+     * <p>
+     *  关闭此流和通道,并将缓冲区归还给池。
+     *
+     *  <p>如果此流已关闭,则调用此方法无效。 </p>
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     */
+    public synchronized void close() throws IOException {
+        ByteBuffer bb = buf;
+        if (bb == null)
+            return;
+        buf = null;
+        pool.release(bb);
+        ch.close();
+    }
+
+}
@@ -0,0 +1,290 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio.channels;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.DirectBufferPool;
+
+
+/**
+ * An output stream that writes bytes to a channel through a direct buffer.
+ *
+ * <p> Unlike a {@link java.io.BufferedOutputStream} wrapped around {@link
+ * Channels#newOutputStream Channels.newOutputStream}, which stages bytes
+ * first in the stream's own array and then in a temporary direct buffer of
+ * the channel, this stream buffers bytes once, in a direct buffer taken
+ * from a {@link DirectBufferPool} and returned to it when the stream is
+ * closed.  Arrays larger than the buffer are copied through it a chunk at
+ * a time rather than handed to the channel, which would stage them in a
+ * temporary direct buffer of the full length.  The stream is also a {@link
+ * WritableByteChannel}: the content of a direct {@link ByteBuffer} that
+ * does not fit in the buffer is written to the channel with no copy at
+ * all.  {@link #copiesAvoided} reports how often that was done.  </p>
+ *
+ * <p> The <tt>write</tt> and <tt>flush</tt> methods throw an {@link
+ * IllegalBlockingModeException} if they must write to the channel while it
+ * is in non-blocking mode.  The stream is safe for use by multiple
+ * concurrent threads.  Closing the stream flushes it and closes the
+ * channel.  </p>
+ *
+ * <p>
+ *  通过直接缓冲区将字节写入通道的输出流。
+ *
+ *  <p>包装在{@link Channels#newOutputStream Channels.newOutputStream}外的{@link java.io.BufferedOutputStream}
+ * 先将字节暂存在流自己的数组中,再暂存在通道的临时直接缓冲区中;与之不同,此流只缓冲字节一次,缓冲在从{@link DirectBufferPool}获取的直接缓冲区中,并在流关闭时归还。
+ * 大于缓冲区的数组一次一块地通过缓冲区复制,而不是交给通道,因为通道会将其暂存在全长的临时直接缓冲区中。
+ * 该流也是一个{@link WritableByteChannel}:放不进缓冲区的直接{@link ByteBuffer}的内容被写入通道而根本不复制。
+ * {@link #copiesAvoided}报告这样做的频率。 </p>
+ *
+ *  <p>如果<tt>write</tt>和<tt>flush</tt>方法必须在通道处于非阻塞模式时写入通道,它们将抛出{@link IllegalBlockingModeException}。
+ * 该流可以安全地由多个并发线程使用。关闭流会刷新它并关闭通道。 </p>
+ *
+ * @see BufferedChannelInputStream
+ * @since 1.8
+ */
+
+public class BufferedChannelOutputStream
+    extends OutputStream
+    implements WritableByteChannel
+{
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel ch;
+    private final DirectBufferPool pool;
+    private final int size;
+
+    // Bytes not yet written, between zero and position; null once closed
+    private ByteBuffer buf;
+
+    private long copiesAvoided;
+
+    /**
+     * Creates a stream that writes to the given channel through a 64 KiB
+     * buffer.
+     *
+     * <p>
+     *  创建一个通过64 KiB缓冲区写入给定通道的流。
+     *
+     * @param  ch
+     *         The channel to which bytes will be written
+     */
+    public BufferedChannelOutputStream(WritableByteChannel ch) {
+        this(ch, DEFAULT_BUFFER_SIZE, Channels.bufferPool);
+    }
+
+    /**
+     * Creates a stream that writes to the given channel through a buffer of
+     * the given size taken from the given pool.
+     *
+     * <p>
+     *  创建一个流,该流通过从给定池中获取的给定大小的缓冲区写入给定通道。
+     *
+     * @param  ch
+     *         The channel to which bytes will be written
+     *
+     * @param  size
+     *         The buffer size
+     *
+     * @param  pool
+     *         The pool from which the buffer is taken
+     *
+     * @throws  IllegalArgumentException
+     *          If <tt>size</tt> is not positive
+     */
+    public BufferedChannelOutputStream(WritableByteChannel ch, int size,
+                                       DirectBufferPool pool)
+    {
+        if (ch == null || pool == null)
+            throw new NullPointerException();
+        if (size <= 0)
+            throw new IllegalArgumentException("Buffer size <= 0");
+        this.ch = ch;
+        this.pool = pool;
+        this.size = size;
+        this.buf = pool.allocate(size);
+    }
+
+    private ByteBuffer getBufIfOpen() throws IOException {
+        ByteBuffer bb = buf;
+        if (bb == null)
+            throw new IOException("Stream closed");
+        return bb;
+    }
+
+    private void flushBuffer(ByteBuffer bb) throws IOException {
+        if (bb.position() > 0) {
+            bb.flip();
+            try {
+                Channels.writeFully(ch, bb);
+            } finally {
+                bb.clear();
+                bb.limit(size);
+            }
+        }
+    }
+
+    public synchronized void write(int b) throws IOException {
+        ByteBuffer bb = getBufIfOpen();
+        if (!bb.hasRemaining())
+            flushBuffer(bb);
+        bb.put((byte)b);
+    }
+
+    public synchronized void write(byte[] b, int off, int len)
+        throws IOException
+    {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0)
+            throw new IndexOutOfBoundsException();
+        ByteBuffer bb = getBufIfOpen();
+        if (len >= size) {
+            // Larger than the buffer: copy it through a chunk at a time
+            while (len > 0) {
+                if (!bb.hasRemaining())
+                    flushBuffer(bb);
+                int k = Math.min(len, bb.remaining());
+                bb.put(b, off, k);
+                off += k;
+                len -= k;
+            }
+            return;
+        }
+        if (len > bb.remaining())
+            flushBuffer(bb);
+        bb.put(b, off, len);
+    }
+
+    /**
+     * Writes all remaining bytes of the given buffer to this stream.
+     *
+     * <p> A direct buffer whose content does not fit in this stream's
+     * buffer is written to the channel without any intermediate copy,
+     * after the bytes already buffered.  </p>
+     *
+     * <p>
+     *  将给定缓冲区的所有剩余字节写入此流。
+     *
+     *  <p>内容放不进此流缓冲区的直接缓冲区在已缓冲的字节之后被写入通道,没有任何中间复制。 </p>
+     *
+     * @param  src
+     *         The buffer from which bytes are to be retrieved
+     *
+     * @return  The number of bytes written, which is the number of bytes
+     *          that were remaining in the buffer
+     *
+     * @throws  IOException
+     *          If this stream is closed or some other I/O error occurs
+     */
+    public synchronized int write(ByteBuffer src) throws IOException {
+        ByteBuffer bb = getBufIfOpen();
+        int n = src.remaining();
+        if (n > bb.remaining() && src.isDirect()) {
+            flushBuffer(bb);
+            Channels.writeFully(ch, src);
+            copiesAvoided++;
+            return n;
+        }
+        while (src.hasRemaining()) {
+            if (!bb.hasRemaining())
+                flushBuffer(bb);
+            int k = Math.min(src.remaining(), bb.remaining());
+            int lim = src.limit();
+            src.limit(src.position() + k);
+            bb.put(src);
+            src.limit(lim);
+        }
+        return n;
+    }
+
+    // Flushes, then writes the rest of the given channel's file to the
+    // channel; returns the number of bytes transferred
+    //
+    synchronized long transferFrom(FileChannel fc) throws IOException {
+        flushBuffer(getBufIfOpen());
+        long pos = fc.position();
+        long total = 0;
+        long n;
+        while ((n = fc.transferTo(pos + total, Long.MAX_VALUE, ch)) > 0)
+            total += n;
+        fc.position(pos + total);
+        copiesAvoided++;
+        return total;
+    }
+
+    public synchronized void flush() throws IOException {
+        flushBuffer(getBufIfOpen());
+    }
+
+    /**
+     * Returns the number of writes of direct buffers and of file transfers
+     * that moved bytes from the caller to the channel without staging them
+     * in this stream's buffer.
+     *
+     * <p>
+     *  返回将字节从调用者移动到通道而不将其暂存在此流的缓冲区中的直接缓冲区写入和文件传输的次数。
+     *
+     * @return  The number of copies avoided
+     */
+    public synchronized long copiesAvoided() {
+        return copiesAvoided;
+    }
+
+    public synchronized boolean isOpen() {
+        return buf != null;
+    }
+
+    /**
+     * Flushes and closes this stream, closes the channel and returns the
+     * buffer to the pool.
+     *
+     * <p> If this stream is already closed then invoking this method has no
+     * effect.  </p>
+     *
+     * <p>
+     *  刷新并关闭此流,关闭通道并将缓冲区归还给池。
+     *
+     *  <p>如果此流已关闭,则调用此方法无效。 </p>
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     */
+    public synchronized void close() throws IOException {
+        ByteBuffer bb = buf;
+        if (bb == null)
+            return;
+        try {
+            flushBuffer(bb);
+        } finally {
+            buf = null;
+            pool.release(bb);
+            ch.close();
+        }
+    }
+
+}
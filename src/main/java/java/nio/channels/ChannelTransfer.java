@@ -0,0 +1,298 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio.channels;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DirectBufferPool;
+
+
+/**
+ * Moves bytes from one channel to another without passing them through the
+ * Java heap.
+ *
+ * <p> When the source is a {@link FileChannel}, bytes are moved with {@link
+ * FileChannel#transferTo FileChannel.transferTo}, which lets the operating
+ * system copy them directly from the file to the target, for example with
+ * <tt>sendfile</tt>.  Otherwise, as between two sockets or from a socket
+ * to a file, bytes are staged in a direct buffer taken from a {@link
+ * DirectBufferPool}, so that they are copied only between the kernel and
+ * native memory.  The buffer is returned to the pool when the transfer is
+ * {@link #close closed}.  </p>
+ *
+ * <p> A transfer works with blocking and non-blocking channels alike.
+ * Each invocation of {@link #transfer transfer} moves as many bytes as the
+ * channels accept without blocking and returns the number of bytes written
+ * to the target.  Bytes read from a non-blocking source but not yet
+ * accepted by the target are kept by the transfer; while there are {@link
+ * #pending pending} bytes the caller should wait for the target to become
+ * writable, and otherwise for the source to become readable:
+ *
+ * <blockquote><pre>
+ * long n = transfer.transfer(Long.MAX_VALUE);
+ * if (n &lt; 0) {
+ *     // end of stream
+ * } else if (transfer.pending() &gt; 0) {
+ *     targetKey.interestOps(SelectionKey.OP_WRITE);
+ *     sourceKey.interestOps(0);
+ * } else {
+ *     targetKey.interestOps(0);
+ *     sourceKey.interestOps(SelectionKey.OP_READ);
+ * }
+ * </pre></blockquote>
+ *
+ * <p> A transfer uses the source and target channels' current positions,
+ * where they have one, and advances them.  It does not close either
+ * channel.  Transfers are not safe for use by multiple concurrent
+ * threads.  </p>
+ *
+ * <p>
+ *  将字节从一个通道移动到另一个通道,而不经过Java堆。
+ *
+ *  <p>当源是{@link FileChannel}时,字节通过{@link FileChannel#transferTo FileChannel.transferTo}移动,
+ * 这让操作系统直接将它们从文件复制到目标,例如使用<tt>sendfile</tt>。
+ * 否则,例如在两个套接字之间或从套接字到文件,字节在从{@link DirectBufferPool}获取的直接缓冲区中暂存,因此它们仅在内核和本机内存之间复制。
+ * 当传输被{@link #close关闭}时,缓冲区被归还给池。 </p>
+ *
+ *  <p>传输同样适用于阻塞和非阻塞通道。每次调用{@link #transfer transfer}都会移动通道在不阻塞的情况下接受的尽可能多的字节,并返回写入目标的字节数。
+ * 从非阻塞源读取但尚未被目标接受的字节由传输保留;当存在{@link #pending待处理}字节时,调用者应等待目标变为可写,否则等待源变为可读:
+ *
+ * <blockquote><pre>
+ * long n = transfer.transfer(Long.MAX_VALUE);
+ * if (n &lt; 0) {
+ *     // end of stream
+ * } else if (transfer.pending() &gt; 0) {
+ *     targetKey.interestOps(SelectionKey.OP_WRITE);
+ *     sourceKey.interestOps(0);
+ * } else {
+ *     targetKey.interestOps(0);
+ *     sourceKey.interestOps(SelectionKey.OP_READ);
+ * }
+ * </pre></blockquote>
+ *
+ *  <p>传输使用源通道和目标通道的当前位置(如果有)并推进它们。它不会关闭任何一个通道。传输不能安全地由多个并发线程使用。 </p>
+ *
+ * @see FileChannel#transferTo
+ * @see FileChannel#transferFrom
+ * @since 1.8
+ */
+
+public final class ChannelTransfer
+    implements Closeable
+{
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ReadableByteChannel source;
+    private final WritableByteChannel target;
+
+    // The source, if it is a file channel; bytes then bypass the buffer
+    private final FileChannel file;
+
+    private final DirectBufferPool pool;
+
+    // Staged bytes, between position and limit; null if not needed or
+    // once closed
+    private ByteBuffer buffer;
+
+    private boolean eof;
+    private boolean closed;
+
+    private ChannelTransfer(ReadableByteChannel source,
+                            WritableByteChannel target,
+                            DirectBufferPool pool)
+    {
+        this.source = source;
+        this.target = target;
+        this.pool = pool;
+        if (source instanceof FileChannel) {
+            this.file = (FileChannel)source;
+        } else {
+            this.file = null;
+            this.buffer = pool.allocate(BUFFER_SIZE);
+            this.buffer.limit(0);
+        }
+    }
+
+    /**
+     * Creates a transfer between the given channels, staging bytes where
+     * needed in buffers from a pool shared by all such transfers.
+     *
+     * <p>
+     *  在给定通道之间创建一个传输,在需要时将字节暂存在所有此类传输共享的池中的缓冲区中。
+     *
+     * @param  source
+     *         The channel from which bytes are read
+     *
+     * @param  target
+     *         The channel to which bytes are written
+     *
+     * @return  A new transfer
+     */
+    public static ChannelTransfer open(ReadableByteChannel source,
+                                       WritableByteChannel target)
+    {
+        return open(source, target, Channels.bufferPool);
+    }
+
+    /**
+     * Creates a transfer between the given channels, staging bytes where
+     * needed in buffers from the given pool.
+     *
+     * <p>
+     *  在给定通道之间创建一个传输,在需要时将字节暂存在给定池中的缓冲区中。
+     *
+     * @param  source
+     *         The channel from which bytes are read
+     *
+     * @param  target
+     *         The channel to which bytes are written
+     *
+     * @param  pool
+     *         The pool from which a staging buffer is taken
+     *
+     * @return  A new transfer
+     */
+    public static ChannelTransfer open(ReadableByteChannel source,
+                                       WritableByteChannel target,
+                                       DirectBufferPool pool)
+    {
+        if (source == null || target == null || pool == null)
+            throw new NullPointerException();
+        return new ChannelTransfer(source, target, pool);
+    }
+
+    /**
+     * Moves up to the given number of bytes from the source to the target.
+     *
+     * <p> Bytes kept from an earlier invocation are written first, and
+     * count towards the given number.  Further bytes are then read and
+     * written until the given number has been written, the source has no
+     * bytes available, or the target accepts no more.  </p>
+     *
+     * <p>
+     *  将最多给定数量的字节从源移动到目标。
+     *
+     *  <p>先写入从之前调用中保留的字节,并计入给定数量。然后读取和写入更多字节,直到写入了给定数量、源没有可用字节或目标不再接受为止。 </p>
+     *
+     * @param  count
+     *         The maximum number of bytes to be written; must be
+     *         non-negative
+     *
+     * @return  The number of bytes written to the target, possibly zero,
+     *          or <tt>-1</tt> if the source has reached end-of-stream and
+     *          no bytes are pending
+     *
+     * @throws  IllegalArgumentException
+     *          If <tt>count</tt> is negative
+     *
+     * @throws  ClosedChannelException
+     *          If this transfer, or either channel, is closed
+     *
+     * @throws  IOException
+     *          If some other I/O error occurs
+     */
+    public long transfer(long count) throws IOException {
+        if (count < 0)
+            throw new IllegalArgumentException("Negative count");
+        if (closed)
+            throw new ClosedChannelException();
+        if (file != null) {
+            long pos = file.position();
+            long n = file.transferTo(pos, count, target);
+            if (n > 0) {
+                file.position(pos + n);
+            } else if (count > 0 && pos >= file.size()) {
+                return -1;
+            }
+            return n;
+        }
+        ByteBuffer bb = buffer;
+        long total = 0;
+        for (;;) {
+            if (bb.hasRemaining()) {
+                int lim = bb.limit();
+                if (bb.remaining() > count - total)
+                    bb.limit(bb.position() + (int)(count - total));
+                total += target.write(bb);
+                bb.limit(lim);
+                if (bb.hasRemaining())
+                    break;      // target is full, or count reached
+            }
+            if (total >= count || eof)
+                break;
+            bb.clear();
+            bb.limit((int)Math.min(bb.capacity(), count - total));
+            int n = source.read(bb);
+            bb.flip();
+            if (n < 0)
+                eof = true;
+            if (n <= 0)
+                break;
+        }
+        return (total == 0 && eof) ? -1 : total;
+    }
+
+    /**
+     * Returns the number of bytes read from the source and not yet written
+     * to the target.
+     *
+     * <p>
+     *  返回已从源读取但尚未写入目标的字节数。
+     *
+     * @return  The number of pending bytes
+     */
+    public int pending() {
+        ByteBuffer bb = buffer;
+        return (bb == null) ? 0 : bb.remaining();
+    }
+
+    /**
+     * Closes this transfer and returns its staging buffer, if any, to the
+     * pool.  Pending bytes are discarded; neither channel is closed.
+     *
+     * <p> If this transfer is already closed then invoking this method has
+     * no effect.  </p>
+     *
+     * <p>
+     *  关闭此传输,并将其暂存缓冲区(如果有)归还给池。待处理的字节被丢弃;两个通道都不会被关闭。
+     *
+     *  <p>如果此传输已关闭,则调用此方法无效。 </p>
+     */
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        ByteBuffer bb = buffer;
+        if (bb != null) {
+            buffer = null;
+            pool.release(bb);
+        }
+    }
+
+}
@@ -34,6 +34,7 @@ import java.io.Reader;
 import java.io.Writer;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.DirectBufferPool;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
@@ -69,6 +70,9 @@ public final class Channels {
 
     private Channels() { }              // No instantiation
 
+    // Direct buffers for the transfers and stream adapters of this package
+    static final DirectBufferPool bufferPool = new DirectBufferPool();
+
     private static void checkNotNull(Object o, String name) {
         if (o == null)
             throw new NullPointerException("\"" + name + "\" is null!");
@@ -101,7 +105,7 @@ public final class Channels {
      * @throws  IllegalBlockingModeException
      *          If the channel is selectable and configured non-blocking.
      */
-    private static void writeFully(WritableByteChannel ch, ByteBuffer bb)
+    static void writeFully(WritableByteChannel ch, ByteBuffer bb)
         throws IOException
     {
         if (ch instanceof SelectableChannel) {
@@ -0,0 +1,853 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * A queue through which batches of positional read, write and force
+ * operations are submitted to a {@link FileChannel} and completed
+ * asynchronously.
+ *
+ * <p> Operations are first prepared by the <tt>read</tt>, <tt>write</tt>
+ * and <tt>force</tt> methods, which only add an entry to the submission
+ * queue, and are then handed to the queue's worker threads as one batch by
+ * the {@link #submit submit} method.  Each operation is carried out by
+ * one worker with the channel's positional {@link FileChannel#read(ByteBuffer,
+ * long) read} and {@link FileChannel#write(ByteBuffer,long) write}
+ * methods, after which its {@link CompletionHandler} is invoked by that
+ * worker.  The number of operations in flight is bounded by the number of
+ * workers, which is fixed when the queue is {@link #open opened}.  </p>
+ *
+ * <p> This implementation emulates a submission queue in Java: there is no
+ * native support, so submitting a batch does not batch system calls.  Each
+ * operation is still one blocking positional read or write, or one force,
+ * made by a worker thread.  What the queue saves is the caller's thread,
+ * which prepares and submits operations without blocking, and the cost of
+ * a thread per operation; it does not reduce the number of system calls
+ * made.  </p>
+ *
+ * <p> Operations other than force operations may be carried out in any
+ * order and concurrently with each other.  A force operation is a
+ * barrier: it is not started until every operation submitted before it
+ * has completed, and no operation submitted after it is started until it
+ * has completed.  A write that must be durable is therefore followed by a
+ * force operation, and its handler, or that of the force operation, tells
+ * when the data has reached the device.  </p>
+ *
+ * <p> Buffers that are used over and over again can be {@link
+ * #registerBuffers registered} with the queue and then named by index,
+ * together with the region of the buffer to transfer.  Registered buffers
+ * must be direct, so their operations never stage data through a temporary
+ * buffer, and their position and limit are never used, so that several
+ * operations may use regions of the same buffer at once.  Scattering reads and gathering writes
+ * transfer a contiguous file region from or to an array of buffers in one
+ * operation.  </p>
+ *
+ * <p> The preparation methods and {@link #submit submit} are intended to
+ * be invoked by a single thread; they are nevertheless safe for use by
+ * multiple concurrent threads.  Completion handlers are invoked by the
+ * worker threads and should not block for long.  </p>
+ *
+ * <p>
+ *  一个队列,通过它将批量的定位读取、写入和强制操作提交给{@link FileChannel}并异步完成。
+ *
+ *  <p>操作首先由<tt>read</tt>、<tt>write</tt>和<tt>force</tt>方法准备,这些方法仅向提交队列添加一个条目,
+ * 然后由{@link #submit submit}方法作为一个批次交给队列的工作线程。
+ * 每个操作由一个工作线程使用通道的定位{@link FileChannel#read(ByteBuffer,long) read}和{@link FileChannel#write(ByteBuffer,long) write}方法执行,
+ * 之后由该工作线程调用其{@link CompletionHandler}。
+ * 进行中的操作数量受工作线程数量的限制,该数量在队列{@link #open打开}时确定。 </p>
+ *
+ *  <p>此实现在Java中模拟提交队列:没有本机支持,因此提交一个批次并不会批量执行系统调用。每个操作仍然是由工作线程进行的一次阻塞定位读取或写入,或一次强制。
+ * 队列节省的是调用者的线程(它在不阻塞的情况下准备和提交操作)以及每个操作一个线程的开销;它不会减少所进行的系统调用的数量。 </p>
+ *
+ *  <p>强制操作以外的操作可以按任何顺序执行,并且可以彼此并发执行。强制操作是一个屏障:在它之前提交的每个操作完成之前,它不会启动;在它完成之前,在它之后提交的任何操作都不会启动。
+ * 因此,必须持久的写入后面跟着一个强制操作,其处理程序或强制操作的处理程序会告知数据何时已到达设备。 </p>
+ *
+ *  <p>反复使用的缓冲区可以向队列{@link #registerBuffers注册},然后按索引以及要传输的缓冲区区域命名。
+ * 注册的缓冲区必须是直接缓冲区,因此它们的操作从不通过临时缓冲区暂存数据,并且从不使用它们的位置和限制,以便多个操作可以同时使用同一缓冲区的不同区域。
+ * 分散读取和聚集写入在一个操作中将连续的文件区域传输到缓冲区数组或从缓冲区数组传输。 </p>
+ *
+ *  <p>准备方法和{@link #submit submit}旨在由单个线程调用;不过它们可以安全地由多个并发线程使用。完成处理程序由工作线程调用,不应长时间阻塞。 </p>
+ *
+ * @see AsynchronousFileChannel
+ * @since 1.8
+ */
+
+public final class FileSubmissionQueue
+    implements Channel
+{
+
+    // Operation kinds
+    private static final int READ = 0;
+    private static final int WRITE = 1;
+    private static final int FORCE = 2;
+
+    // A prepared operation
+    private static final class Op {
+        final int kind;
+        final ByteBuffer[] buffers;     // a single buffer unless scattering
+        final boolean vectored;         // result is a Long rather than an Integer
+        final long position;            // or, for FORCE, 1 if metadata is forced
+        final Object attachment;
+        final CompletionHandler<Object,Object> handler;
+
+        @SuppressWarnings("unchecked")
+        Op(int kind, ByteBuffer[] buffers, boolean vectored, long position,
+           Object attachment, CompletionHandler<?,?> handler)
+        {
+            this.kind = kind;
+            this.buffers = buffers;
+            this.vectored = vectored;
+            this.position = position;
+            this.attachment = attachment;
+            this.handler = (CompletionHandler<Object,Object>)handler;
+        }
+    }
+
+    private final FileChannel channel;
+    private final int entries;
+
+    // Guards the fields below
+    private final Object lock = new Object();
+
+    // Prepared operations not yet submitted
+    private final ArrayDeque<Op> prepared = new ArrayDeque<>();
+
+    // Submitted operations not yet started
+    private final ArrayDeque<Op> submitted = new ArrayDeque<>();
+
+    // Operations started and not yet completed
+    private int running;
+
+    // Whether the running operation is a barrier
+    private boolean barrier;
+
+    private boolean closed;
+
+    private ByteBuffer[] registered = new ByteBuffer[0];
+
+    private final Thread[] workers;
+
+    private FileSubmissionQueue(FileChannel channel, int entries, int threads,
+                                ThreadFactory factory)
+    {
+        this.channel = channel;
+        this.entries = entries;
+        this.workers = new Thread[threads];
+        Runnable task = new Runnable() {
+            public void run() {
+                work();
+            }
+        };
+        for (int i = 0; i < threads; i++) {
+            Thread t = factory.newThread(task);
+            if (t == null)
+                throw new IllegalStateException("Thread factory returned null");
+            workers[i] = t;
+        }
+        for (Thread t : workers)
+            t.start();
+    }
+
+    /**
+     * Opens a submission queue for the given channel.
+     *
+     * <p> The queue's worker threads are daemon threads.  They are stopped
+     * when the queue is {@link #close closed}; closing the queue does not
+     * close the channel.  </p>
+     *
+     * <p>
+     *  为给定通道打开一个提交队列。
+     *
+     *  <p>队列的工作线程是守护线程。当队列被{@link #close关闭}时它们被停止;关闭队列不会关闭通道。 </p>
+     *
+     * @param  channel
+     *         The channel to which operations are submitted
+     *
+     * @param  entries
+     *         The maximum number of operations that may be prepared and not
+     *         yet submitted
+     *
+     * @param  threads
+     *         The number of worker threads, and so the maximum number of
+     *         operations in flight
+     *
+     * @return  A new submission queue
+     *
+     * @throws  IllegalArgumentException
+     *          If <tt>entries</tt> or <tt>threads</tt> is not positive
+     */
+    public static FileSubmissionQueue open(FileChannel channel, int entries,
+                                           int threads)
+    {
+        return open(channel, entries, threads, new ThreadFactory() {
+            private int n;
+            public synchronized Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "FileSubmissionQueue-" + (++n));
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    /**
+     * Opens a submission queue for the given channel whose worker threads
+     * are created by the given factory.
+     *
+     * <p>
+     *  为给定通道打开一个提交队列,其工作线程由给定工厂创建。
+     *
+     * @param  channel
+     *         The channel to which operations are submitted
+     *
+     * @param  entries
+     *         The maximum number of operations that may be prepared and not
+     *         yet submitted
+     *
+     * @param  threads
+     *         The number of worker threads, and so the maximum number of
+     *         operations in flight
+     *
+     * @param  factory
+     *         The factory to use when creating worker threads
+     *
+     * @return  A new submission queue
+     *
+     * @throws  IllegalArgumentException
+     *          If <tt>entries</tt> or <tt>threads</tt> is not positive
+     */
+    public static FileSubmissionQueue open(FileChannel channel, int entries,
+                                           int threads, ThreadFactory factory)
+    {
+        if (channel == null || factory == null)
+            throw new NullPointerException();
+        if (entries <= 0)
+            throw new IllegalArgumentException("Non-positive entries: " + entries);
+        if (threads <= 0)
+            throw new IllegalArgumentException("Non-positive threads: " + threads);
+        return new FileSubmissionQueue(channel, entries, threads, factory);
+    }
+
+    /**
+     * Registers the given buffers with this queue, replacing any buffers
+     * registered before.
+     *
+     * <p> A registered buffer is named by its index in the given array in
+     * the {@link #readFixed readFixed} and {@link #writeFixed writeFixed}
+     * methods.  Operations already prepared keep using the buffers that
+     * were registered when they were prepared.  </p>
+     *
+     * <p>
+     *  向此队列注册给定的缓冲区,替换之前注册的任何缓冲区。
+     *
+     *  <p>注册的缓冲区在{@link #readFixed readFixed}和{@link #writeFixed writeFixed}方法中按其在给定数组中的索引命名。
+     * 已准备的操作继续使用准备时注册的缓冲区。 </p>
+     *
+     * @param  buffers
+     *         The buffers to register
+     *
+     * @throws  IllegalArgumentException
+     *          If any of the buffers is not direct
+     *
+     * @throws  ClosedChannelException
+     *          If this queue is closed
+     */
+    public void registerBuffers(ByteBuffer... buffers)
+        throws ClosedChannelException
+    {
+        ByteBuffer[] bufs = buffers.clone();
+        for (ByteBuffer bb : bufs) {
+            if (!bb.isDirect())
+                throw new IllegalArgumentException("Buffer is not direct");
+        }
+        synchronized (lock) {
+            ensureOpen();
+            registered = bufs;
+        }
+    }
+
+    /**
+     * Prepares a read of a sequence of bytes from the channel into the
+     * given buffer, starting at the given file position.
+     *
+     * <p> When carried out, the operation reads as if by {@link
+     * FileChannel#read(ByteBuffer,long) FileChannel.read(dst, position)}
+     * and its handler is passed the number of bytes read, or <tt>-1</tt>
+     * if the position is at or beyond the end of the file.  </p>
+     *
+     * <p>
+     *  准备从给定文件位置开始,将一个字节序列从通道读取到给定缓冲区中。
+     *
+     *  <p>执行时,该操作就像通过{@link FileChannel#read(ByteBuffer,long) FileChannel.read(dst, position)}一样读取,
+     * 其处理程序被传递读取的字节数,如果位置位于或超出文件末尾,则传递<tt>-1</tt>。 </p>
+     *
+     * @param  <A>
+     *         The type of the attachment
+     *
+     * @param  dst
+     *         The buffer into which bytes are to be transferred
+     *
+     * @param  position
+     *         The file position at which the transfer is to begin; must be
+     *         non-negative
+     *
+     * @param  attachment
+     *         The object to attach to the operation; can be <tt>null</tt>
+     *
+     * @param  handler
+     *         The handler for consuming the result
+     *
+     * @throws  IllegalArgumentException
+     *          If the position is negative or the buffer is read-only
+     *
+     * @throws  IllegalStateException
+     *          If the submission queue is full
+     *
+     * @throws  ClosedChannelException
+     *          If this queue is closed
+     */
+    public <A> void read(ByteBuffer dst, long position, A attachment,
+                         CompletionHandler<Integer,? super A> handler)
+        throws ClosedChannelException
+    {
+        if (dst.isReadOnly())
+            throw new IllegalArgumentException("Read-only buffer");
+        prepare(READ, new ByteBuffer[] { dst }, false, position, attachment,
+                handler);
+    }
+
+    /**
+     * Prepares a scattering read of a sequence of bytes from the channel
+     * into the given buffers, starting at the given file position.
+     *
+     * <p> When carried out, the operation fills the buffers in turn with
+     * consecutive bytes of the file and its handler is passed the total
+     * number of bytes read, or <tt>-1</tt> if the position is at or beyond
+     * the end of the file.  </p>
+     *
+     * <p>
+     *  准备从给定文件位置开始,将一个字节序列从通道分散读取到给定缓冲区中。
+     *
+     *  <p>执行时,该操作依次用文件的连续字节填充缓冲区,其处理程序被传递读取的总字节数,如果位置位于或超出文件末尾,则传递<tt>-1</tt>。 </p>
+     *
+     * @param  <A>
+     *         The type of the attachment
+     *
+     * @param  dsts
+     *         The buffers into which bytes are to be transferred
+     *
+     * @param  position
+     *         The file position at which the transfer is to begin; must be
+     *         non-negative
+     *
+     * @param  attachment
+     *         The object to attach to the operation; can be <tt>null</tt>
+     *
+     * @param  handler
+     *         The handler for consuming the result
+     *
+     * @throws  IllegalArgumentException
+     *          If the position is negative or any buffer is read-only
+     *
+     * @throws  IllegalStateException
+     *          If the submission queue is full
+     *
+     * @throws  ClosedChannelException
+     *          If this queue is closed
+     */
+    public <A> void read(ByteBuffer[] dsts, long position, A attachment,
+                         CompletionHandler<Long,? super A> handler)
+        throws ClosedChannelException
+    {
+        ByteBuffer[] bufs = dsts.clone();
+        for (ByteBuffer bb : bufs) {
+            if (bb.isReadOnly())
+                throw new IllegalArgumentException("Read-only buffer");
+        }
+        prepare(READ, bufs, true, position, attachment, handler);
+    }
+
+    /**
+     * Prepares a read into a region of the registered buffer with the given
+     * index.
+     *
+     * <p> This method works in the same manner as the {@link
+     * #read(ByteBuffer,long,Object,CompletionHandler) read} method, reading
+     * into the given region rather than the buffer's remaining bytes.  The
+     * buffer's position and limit are neither used nor changed.  </p>
+     *
+     * <p>
+     *  准备读取到具有给定索引的注册缓冲区的某个区域中。
+     *
+     *  <p>此方法的工作方式与{@link #read(ByteBuffer,long,Object,CompletionHandler) read}方法相同,
+     * 读取到给定区域而不是缓冲区的剩余字节中。缓冲区的位置和限制既不被使用也不被更改。 </p>
+     *
+     * @param  <A>
+     *         The type of the attachment
+     *
+     * @param  index
+     *         The index of the registered buffer
+     *
+     * @param  offset
+     *         The offset within the buffer of the first byte to be read
+     *         into; must be non-negative and no larger than the buffer's
+     *         capacity
+     *
+     * @param  length
+     *         The maximum number of bytes to be read; must be non-negative
+     *         and no larger than the buffer's capacity minus <tt>offset</tt>
+     *
+     * @param  position
+     *         The file position at which the transfer is to begin; must be
+     *         non-negative
+     *
+     * @param  attachment
+     *         The object to attach to the operation; can be <tt>null</tt>
+     *
+     * @param  handler
+     *         The handler for consuming the result
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If no buffer is registered with the given index, or the
+     *          preconditions on the <tt>offset</tt> and <tt>length</tt>
+     *          parameters do not hold
+     *
+     * @throws  IllegalArgumentException
+     *          If the position is negative or the buffer is read-only
+     *
+     * @throws  IllegalStateException
+     *          If the submission queue is full
+     *
+     * @throws  ClosedChannelException
+     *          If this queue is closed
+     */
+    public <A> void readFixed(int index, int offset, int length, long position,
+                              A attachment,
+                              CompletionHandler<Integer,? super A> handler)
+        throws ClosedChannelException
+    {
+        read(registered(index, offset, length), position, attachment, handler);
+    }
+
+    /**
+     * Prepares a write of a sequence of bytes to the channel from the given
+     * buffer, starting at the given file position.
+     *
+     * <p> When carried out, the operation writes as if by {@link
+     * FileChannel#write(ByteBuffer,long) FileChannel.write(src, position)}
+     * and its handler is passed the number of bytes written.  </p>
+     *
+     * <p>
+     *  准备从给定文件位置开始,将一个字节序列从给定缓冲区写入通道。
+     *
+     *  <p>执行时,该操作就像通过{@link FileChannel#write(ByteBuffer,long) FileChannel.write(src, position)}一样写入,其处理程序被传递写入的字节数。
+     *  </p>
+     *
+     * @param  <A>
+     *         The type of the attachment
+     *
+     * @param  src
+     *         The buffer from which bytes are to be transferred
+     *
+     * @param  position
+     *         The file position at which the transfer is to begin; must be
+     *         non-negative
+     *
+     * @param  attachment
+     *         The object to attach to the operation; can be <tt>null</tt>
+     *
+     * @param  handler
+     *         The handler for consuming the result
+     *
+     * @throws  IllegalArgumentException
+     *          If the position is negative
+     *
+     * @throws  IllegalStateException
+     *          If the submission queue is full
+     *
+     * @throws  ClosedChannelException
+     *          If this queue is closed
+     */
+    public <A> void write(ByteBuffer src, long position, A attachment,
+                          CompletionHandler<Integer,? super A> handler)
+        throws ClosedChannelException
+    {
+        prepare(WRITE, new ByteBuffer[] { src }, false, position, attachment,
+                handler);
+    }
+
+    /**
+     * Prepares a gathering write of a sequence of bytes to the channel from
+     * the given buffers, starting at the given file position.
+     *
+     * <p> When carried out, the operation writes the remaining bytes of
+     * each buffer in turn to consecutive positions of the file and its
+     * handler is passed the total number of bytes written.  </p>
+     *
+     * <p>
+     *  准备从给定文件位置开始,将一个字节序列从给定缓冲区聚集写入通道。
+     *
+     *  <p>执行时,该操作依次将每个缓冲区的剩余字节写入文件的连续位置,其处理程序被传递写入的总字节数。 </p>
+     *
+     * @param  <A>
+     *         The type of the attachment
+     *
+     * @param  srcs
+     *         The buffers from which bytes are to be transferred
+     *
+     * @param  position
+     *         The file position at which the transfer is to begin; must be
+     *         non-negative
+     *
+     * @param  attachment
+     *         The object to attach to the operation; can be <tt>null</tt>
+     *
+     * @param  handler
+     *         The handler for consuming the result
+     *
+     * @throws  IllegalArgumentException
+     *          If the position is negative
+     *
+     * @throws  IllegalStateException
+     *          If the submission queue is full
+     *
+     * @throws  ClosedChannelException
+     *          If this queue is closed
+     */
+    public <A> void write(ByteBuffer[] srcs, long position, A attachment,
+                          CompletionHandler<Long,? super A> handler)
+        throws ClosedChannelException
+    {
+        prepare(WRITE, srcs.clone(), true, position, attachment, handler);
+    }
+
+    /**
+     * Prepares a write from a region of the registered buffer with the
+     * given index.
+     *
+     * <p> This method works in the same manner as the {@link
+     * #write(ByteBuffer,long,Object,CompletionHandler) write} method,
+     * writing the given region rather than the buffer's remaining bytes.
+     * The buffer's position and limit are neither used nor changed.  </p>
+     *
+     * <p>
+     *  准备从具有给定索引的注册缓冲区的某个区域写入。
+     *
+     *  <p>此方法的工作方式与{@link #write(ByteBuffer,long,Object,CompletionHandler) write}方法相同,
+     * 写入给定区域而不是缓冲区的剩余字节。缓冲区的位置和限制既不被使用也不被更改。 </p>
+     *
+     * @param  <A>
+     *         The type of the attachment
+     *
+     * @param  index
+     *         The index of the registered buffer
+     *
+     * @param  offset
+     *         The offset within the buffer of the first byte to be written;
+     *         must be non-negative and no larger than the buffer's capacity
+     *
+     * @param  length
+     *         The number of bytes to be written; must be non-negative and
+     *         no larger than the buffer's capacity minus <tt>offset</tt>
+     *
+     * @param  position
+     *         The file position at which the transfer is to begin; must be
+     *         non-negative
+     *
+     * @param  attachment
+     *         The object to attach to the operation; can be <tt>null</tt>
+     *
+     * @param  handler
+     *         The handler for consuming the result
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If no buffer is registered with the given index, or the
+     *          preconditions on the <tt>offset</tt> and <tt>length</tt>
+     *          parameters do not hold
+     *
+     * @throws  IllegalArgumentException
+     *          If the position is negative
+     *
+     * @throws  IllegalStateException
+     *          If the submission queue is full
+     *
+     * @throws  ClosedChannelException
+     *          If this queue is closed
+     */
+    public <A> void writeFixed(int index, int offset, int length, long position,
+                               A attachment,
+                               CompletionHandler<Integer,? super A> handler)
+        throws ClosedChannelException
+    {
+        write(registered(index, offset, length), position, attachment, handler);
+    }
+
+    /**
+     * Prepares a force operation, which acts as a barrier.
+     *
+     * <p> When carried out, the operation forces updates to the channel's
+     * file as if by {@link FileChannel#force FileChannel.force(metaData)}
+     * and its handler is passed <tt>null</tt>.  It is not started before
+     * every operation submitted before it has completed.  </p>
+     *
+     * <p>
+     *  准备一个充当屏障的强制操作。
+     *
+     *  <p>执行时,该操作就像通过{@link FileChannel#force FileChannel.force(metaData)}一样强制更新通道的文件,其处理程序被传递<tt>null</tt>。
+     * 在它之前提交的每个操作完成之前,它不会启动。 </p>
+     *
+     * @param  <A>
+     *         The type of the attachment
+     *
+     * @param  metaData
+     *         If <tt>true</tt> then updates to the file's metadata are
+     *         forced as well as updates to its content
+     *
+     * @param  attachment
+     *         The object to attach to the operation; can be <tt>null</tt>
+     *
+     * @param  handler
+     *         The handler for consuming the result
+     *
+     * @throws  IllegalStateException
+     *          If the submission queue is full
+     *
+     * @throws  ClosedChannelException
+     *          If this queue is closed
+     */
+    public <A> void force(boolean metaData, A attachment,
+                          CompletionHandler<Void,? super A> handler)
+        throws ClosedChannelException
+    {
+        prepare(FORCE, null, false, metaData ? 1L : 0L, attachment, handler);
+    }
+
+    /**
+     * Submits every prepared operation to the worker threads.
+     *
+     * <p>
+     *  将每个准备好的操作提交给工作线程。
+     *
+     * @return  The number of operations submitted
+     *
+     * @throws  ClosedChannelException
+     *          If this queue is closed
+     */
+    public int submit() throws ClosedChannelException {
+        synchronized (lock) {
+            ensureOpen();
+            int n = prepared.size();
+            if (n > 0) {
+                submitted.addAll(prepared);
+                prepared.clear();
+                lock.notifyAll();
+            }
+            return n;
+        }
+    }
+
+    /**
+     * Returns the number of operations submitted and not yet completed.
+     *
+     * <p>
+     *  返回已提交但尚未完成的操作数。
+     *
+     * @return  The number of operations in flight or waiting for a worker
+     */
+    public int pending() {
+        synchronized (lock) {
+            return submitted.size() + running;
+        }
+    }
+
+    public boolean isOpen() {
+        synchronized (lock) {
+            return !closed;
+        }
+    }
+
+    /**
+     * Closes this queue.
+     *
+     * <p> Operations already submitted are carried out and completed as
+     * usual; prepared operations that were not submitted are discarded
+     * without invoking their handlers.  The worker threads terminate once
+     * every submitted operation has completed.  The channel is not
+     * closed.  </p>
+     *
+     * <p>
+     *  关闭此队列。
+     *
+     *  <p>已提交的操作照常执行和完成;未提交的准备操作将被丢弃,而不调用其处理程序。每个提交的操作完成后,工作线程终止。通道不会被关闭。 </p>
+     */
+    public void close() {
+        synchronized (lock) {
+            if (closed)
+                return;
+            closed = true;
+            prepared.clear();
+            lock.notifyAll();
+        }
+    }
+
+
+    // -- Internals --
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (closed)
+            throw new ClosedChannelException();
+    }
+
+    // Returns a duplicate of the registered buffer with the given index,
+    // positioned at the given region, so that operations on the same buffer
+    // do not share its position and limit
+    //
+    private ByteBuffer registered(int index, int offset, int length) {
+        ByteBuffer[] bufs;
+        synchronized (lock) {
+            bufs = registered;
+        }
+        if (index < 0 || index >= bufs.length)
+            throw new IndexOutOfBoundsException("No buffer registered at " + index);
+        ByteBuffer bb = bufs[index].duplicate();
+        if ((offset | length) < 0 || offset > bb.capacity() - length)
+            throw new IndexOutOfBoundsException();
+        bb.limit(offset + length).position(offset);
+        return bb;
+    }
+
+    private void prepare(int kind, ByteBuffer[] buffers, boolean vectored,
+                         long position, Object attachment,
+                         CompletionHandler<?,?> handler)
+        throws ClosedChannelException
+    {
+        if (handler == null)
+            throw new NullPointerException("'handler' is null");
+        if (position < 0)
+            throw new IllegalArgumentException("Negative position");
+        if (buffers != null) {
+            for (ByteBuffer bb : buffers) {
+                if (bb == null)
+                    throw new NullPointerException();
+            }
+        }
+        Op op = new Op(kind, buffers, vectored, position, attachment, handler);
+        synchronized (lock) {
+            ensureOpen();
+            if (prepared.size() >= entries)
+                throw new IllegalStateException("Submission queue is full");
+            prepared.add(op);
+        }
+    }
+
+    // Takes the next operation that may be started, waiting if there is
+    // none; returns null once the queue is closed and drained
+    //
+    private Op take() {
+        synchronized (lock) {
+            for (;;) {
+                Op op = submitted.peek();
+                if (op != null && !barrier
+                    && (op.kind != FORCE || running == 0)) {
+                    submitted.poll();
+                    running++;
+                    barrier = (op.kind == FORCE);
+                    if (!barrier && !submitted.isEmpty())
+                        lock.notify();  // more work for another worker
+                    return op;
+                }
+                if (op == null && closed)
+                    return null;
+                try {
+                    lock.wait();
+                } catch (InterruptedException x) {
+                    // Keep going until closed
+                }
+            }
+        }
+    }
+
+    private void work() {
+        Op op;
+        while ((op = take()) != null) {
+            Object result = null;
+            Throwable exc = null;
+            try {
+                result = execute(op);
+            } catch (Throwable x) {
+                exc = x;
+            }
+            synchronized (lock) {
+                running--;
+                barrier = false;
+                lock.notifyAll();
+            }
+            try {
+                if (exc == null)
+                    op.handler.completed(result, op.attachment);
+                else
+                    op.handler.failed(exc, op.attachment);
+            } catch (Throwable ignore) {
+                // As with asynchronous channels, exceptions thrown by the
+                // handler are ignored
+            }
+        }
+    }
+
+    private Object execute(Op op) throws IOException {
+        if (op.kind == FORCE) {
+            channel.force(op.position != 0L);
+            return null;
+        }
+        boolean read = (op.kind == READ);
+        if (!op.vectored) {
+            ByteBuffer bb = op.buffers[0];
+            return read ? channel.read(bb, op.position)
+                        : channel.write(bb, op.position);
+        }
+        long total = 0;
+        for (ByteBuffer bb : op.buffers) {
+            while (bb.hasRemaining()) {
+                int n = read ? channel.read(bb, op.position + total)
+                             : channel.write(bb, op.position + total);
+                if (n <= 0) {
+                    if (n < 0 && total == 0)
+                        return -1L;
+                    return total;
+                }
+                total += n;
+            }
+        }
+        return total;
+    }
+
+}
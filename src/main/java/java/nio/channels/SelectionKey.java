@@ -274,6 +274,73 @@ public abstract class SelectionKey {
      */
     public abstract SelectionKey interestOps(int ops);
 
+    /**
+     * Atomically sets this key's interest set to the bitwise union ("or") of
+     * the existing interest set and the given value.
+     *
+     * <p> This method may be invoked at any time.  It synchronizes on this
+     * key only, never on the selector's key sets, so it does not wait for a
+     * selection operation in progress; the selector applies the new
+     * interest set in its next selection operation.  </p>
+     *
+     * <p>
+     *  以原子方式将此键的兴趣集设置为现有兴趣集与给定值的按位并集("或")。
+     *
+     *  <p>此方法可能随时被调用。它仅在此键上同步,从不在选择器的键集上同步,因此它不会等待正在进行的选择操作;选择器在其下一次选择操作中应用新的兴趣集。 </p>
+     *
+     * @param  ops  The interest set to apply
+     *
+     * @return  The previous interest set
+     *
+     * @throws  IllegalArgumentException
+     *          If a bit in the set does not correspond to an operation that
+     *          is supported by this key's channel, that is, if
+     *          {@code (ops & ~channel().validOps()) != 0}
+     *
+     * @throws  CancelledKeyException
+     *          If this key has been cancelled
+     *
+     * @since 1.8
+     */
+    public int interestOpsOr(int ops) {
+        synchronized (this) {
+            int oldVal = interestOps();
+            interestOps(oldVal | ops);
+            return oldVal;
+        }
+    }
+
+    /**
+     * Atomically sets this key's interest set to the bitwise intersection
+     * ("and") of the existing interest set and the given value.
+     *
+     * <p> This method may be invoked at any time.  It synchronizes on this
+     * key only, never on the selector's key sets, so it does not wait for a
+     * selection operation in progress; the selector applies the new
+     * interest set in its next selection operation.  </p>
+     *
+     * <p>
+     *  以原子方式将此键的兴趣集设置为现有兴趣集与给定值的按位交集("与")。
+     *
+     *  <p>此方法可能随时被调用。它仅在此键上同步,从不在选择器的键集上同步,因此它不会等待正在进行的选择操作;选择器在其下一次选择操作中应用新的兴趣集。 </p>
+     *
+     * @param  ops  The interest set to apply
+     *
+     * @return  The previous interest set
+     *
+     * @throws  CancelledKeyException
+     *          If this key has been cancelled
+     *
+     * @since 1.8
+     */
+    public int interestOpsAnd(int ops) {
+        synchronized (this) {
+            int oldVal = interestOps();
+            interestOps(oldVal & ops);
+            return oldVal;
+        }
+    }
+
     /**
      * Retrieves this key's ready-operation set.
      *
@@ -30,6 +30,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.nio.channels.spi.SelectorProvider;
 import java.util.Set;
+import java.util.function.Consumer;
 
 
 /**
@@ -294,6 +295,10 @@ import java.util.Set;
 
 public abstract class Selector implements Closeable {
 
+    // Whether the selection operations that take an action disarm each key
+    // before passing it to the action
+    private volatile boolean oneShot;
+
     /**
      * Initializes a new instance of this class.
      * <p>
@@ -505,6 +510,223 @@ public abstract class Selector implements Closeable {
      */
     public abstract int select() throws IOException;
 
+    /**
+     * Selects and performs an action on the keys whose corresponding
+     * channels are ready for I/O operations.
+     *
+     * <p> This method performs a blocking <a href="#selop">selection
+     * operation</a>, as {@link #select(long)} does, and then invokes the
+     * given action once for each key whose ready-operation set was updated.
+     * The keys are not added to the selected-key set; instead the
+     * selected-key set is cleared, so that a selector used only through
+     * this method and its overloads never accumulates selected keys.  If
+     * this selector is in <a href="#oneshot">one-shot</a> mode then each
+     * key's ready operations are removed from its interest set before the
+     * action is invoked.  </p>
+     *
+     * <p> The action may cancel keys, change their interest sets and
+     * register channels with this selector.  If the action closes this
+     * selector then {@link ClosedSelectorException} is thrown once the
+     * action returns.  </p>
+     *
+     * <p>
+     *  选择相应通道已准备好进行I/O操作的键并对其执行操作。
+     *
+     *  <p>此方法执行阻塞<a href="#selop">选择操作</a>,就像{@link #select(long)}一样,然后对就绪操作集被更新的每个键调用一次给定操作。
+     * 键不会被添加到所选键集中;相反,所选键集会被清除,因此仅通过此方法及其重载使用的选择器永远不会累积所选键。
+     * 如果此选择器处于<a href="#oneshot">一次性</a>模式,则在调用操作之前,会从每个键的兴趣集中删除其就绪操作。 </p>
+     *
+     *  <p>操作可以取消键、更改其兴趣集并向此选择器注册通道。如果操作关闭了此选择器,则在操作返回后抛出{@link ClosedSelectorException}。 </p>
+     *
+     * @param  action   The action to perform
+     *
+     * @param  timeout  If positive, block for up to <tt>timeout</tt>
+     *                  milliseconds, more or less, while waiting for a
+     *                  channel to become ready; if zero, block indefinitely;
+     *                  must not be negative
+     *
+     * @return  The number of keys on which the action was performed
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     *
+     * @throws  ClosedSelectorException
+     *          If this selector is closed or is closed by the action
+     *
+     * @throws  IllegalArgumentException
+     *          If the value of the timeout argument is negative
+     *
+     * @since 1.8
+     */
+    public int select(Consumer<SelectionKey> action, long timeout)
+        throws IOException
+    {
+        if (timeout < 0)
+            throw new IllegalArgumentException("Negative timeout");
+        if (action == null)
+            throw new NullPointerException();
+        return doSelect(action, timeout);
+    }
+
+    /**
+     * Selects and performs an action on the keys whose corresponding
+     * channels are ready for I/O operations.
+     *
+     * <p> This method works in the same manner as {@link
+     * #select(Consumer,long) select(action, 0)}, blocking until at least one
+     * channel is selected, this selector's {@link #wakeup wakeup} method is
+     * invoked, or the current thread is interrupted.  </p>
+     *
+     * <p>
+     *  选择相应通道已准备好进行I/O操作的键并对其执行操作。
+     *
+     *  <p>此方法的工作方式与{@link #select(Consumer,long) select(action, 0)}相同,阻塞直到至少选择一个通道、
+     * 调用此选择器的{@link #wakeup wakeup}方法或当前线程被中断。 </p>
+     *
+     * @param  action   The action to perform
+     *
+     * @return  The number of keys on which the action was performed
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     *
+     * @throws  ClosedSelectorException
+     *          If this selector is closed or is closed by the action
+     *
+     * @since 1.8
+     */
+    public int select(Consumer<SelectionKey> action) throws IOException {
+        return select(action, 0);
+    }
+
+    /**
+     * Selects and performs an action on the keys whose corresponding
+     * channels are ready for I/O operations, without blocking.
+     *
+     * <p> This method works in the same manner as {@link
+     * #select(Consumer,long) select(action, timeout)}, except that it
+     * performs a non-blocking selection operation, as {@link #selectNow()}
+     * does.  </p>
+     *
+     * <p>
+     *  以非阻塞方式选择相应通道已准备好进行I/O操作的键并对其执行操作。
+     *
+     *  <p>此方法的工作方式与{@link #select(Consumer,long) select(action, timeout)}相同,
+     * 只是它像{@link #selectNow()}一样执行非阻塞选择操作。 </p>
+     *
+     * @param  action   The action to perform
+     *
+     * @return  The number of keys on which the action was performed
+     *
+     * @throws  IOException
+     *          If an I/O error occurs
+     *
+     * @throws  ClosedSelectorException
+     *          If this selector is closed or is closed by the action
+     *
+     * @since 1.8
+     */
+    public int selectNow(Consumer<SelectionKey> action) throws IOException {
+        if (action == null)
+            throw new NullPointerException();
+        return doSelect(action, -1);
+    }
+
+    /**
+     * Sets whether or not this selector is in one-shot mode.
+     *
+     * <a name="oneshot"></a>
+     * <p> In one-shot mode the selection operations that take an action
+     * remove each selected key's ready operations from its interest set
+     * before passing the key to the action.  A channel is therefore
+     * reported once for each readiness event, as with edge-triggered
+     * notification, rather than by every selection operation until it has
+     * been drained.  Once the channel has been read or written until no
+     * more bytes could be transferred, the handler re-arms the key with
+     * {@link SelectionKey#interestOpsOr interestOpsOr}, which may be done
+     * from any thread without waiting for a selection operation in
+     * progress.  This allows a channel to be handed to a worker thread
+     * without the selector reporting it again in the meantime.  </p>
+     *
+     * <p> The mode has no effect on the {@link #select()}, {@link
+     * #select(long)} and {@link #selectNow()} methods.  </p>
+     *
+     * <p>
+     *  设置此选择器是否处于一次性模式。
+     *
+     *  <a name="oneshot"></a>
+     *  <p>在一次性模式下,接受操作的选择操作会在将每个所选键传递给操作之前,从其兴趣集中删除该键的就绪操作。
+     * 因此,与边缘触发通知一样,通道对每个就绪事件报告一次,而不是在被耗尽之前由每个选择操作报告。
+     * 一旦通道被读取或写入直到无法再传输更多字节,处理程序就使用{@link SelectionKey#interestOpsOr interestOpsOr}重新启用该键,
+     * 这可以从任何线程完成,而无需等待正在进行的选择操作。这允许将通道交给工作线程,而选择器在此期间不会再次报告它。 </p>
+     *
+     *  <p>该模式对{@link #select()}、{@link #select(long)}和{@link #selectNow()}方法没有影响。 </p>
+     *
+     * @param  on
+     *         <tt>true</tt> to enable one-shot mode, <tt>false</tt> to
+     *         disable it
+     *
+     * @return  This selector
+     *
+     * @since 1.8
+     */
+    public Selector setOneShot(boolean on) {
+        oneShot = on;
+        return this;
+    }
+
+    /**
+     * Tells whether or not this selector is in one-shot mode.
+     *
+     * <p>
+     *  告诉此选择器是否处于一次性模式。
+     *
+     * @return  <tt>true</tt> if, and only if, this selector is in one-shot
+     *          mode
+     *
+     * @see #setOneShot
+     * @since 1.8
+     */
+    public boolean isOneShot() {
+        return oneShot;
+    }
+
+    private int doSelect(Consumer<SelectionKey> action, long timeout)
+        throws IOException
+    {
+        SelectionKey[] keys;
+        synchronized (this) {
+            Set<SelectionKey> selectedKeys = selectedKeys();
+            synchronized (selectedKeys) {
+                selectedKeys.clear();
+                if (timeout < 0)
+                    selectNow();
+                else
+                    select(timeout);
+                // Take the keys out of the set, as the action may select
+                // again; an array avoids copying into another set
+                keys = selectedKeys.toArray(new SelectionKey[selectedKeys.size()]);
+                selectedKeys.clear();
+            }
+        }
+        boolean disarm = oneShot;
+        int n = 0;
+        for (SelectionKey k : keys) {
+            if (disarm) {
+                try {
+                    k.interestOpsAnd(~k.readyOps());
+                } catch (CancelledKeyException x) {
+                    continue;
+                }
+            }
+            action.accept(k);
+            n++;
+            if (!isOpen())
+                throw new ClosedSelectorException();
+        }
+        return n;
+    }
+
     /**
      * Causes the first selection operation that has not yet returned to return
      * immediately.
@@ -0,0 +1,191 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.nio.file.FileTreeWalker.Event;
+
+/**
+ * A {@code Spliterator} over the nodes of a file tree, for the streams
+ * returned by {@link Files#walk walk} and {@link Files#find find}.
+ *
+ * <p> Used sequentially, the file tree is walked depth-first, as by a single
+ * {@link FileTreeWalker}. When split, the remaining entries of a directory
+ * are read ahead, with their attributes, and some of them are handed to a
+ * new walker, so that a parallel stream walks subtrees in the threads of its
+ * {@link java.util.concurrent.ForkJoinPool}. The walkers of a spliterator and
+ * of those split from it are closed together.
+ *
+ * <pre>{@code
+ *     try (FileTreeSpliterator spliterator = new FileTreeSpliterator(start, maxDepth, options)) {
+ *         StreamSupport.stream(spliterator, true).forEach(ev -> process(ev.file()));
+ *     }
+ * }</pre>
+ * <p>
+ *  文件树节点上的{@code Spliterator},用于{@link Files#walk walk}和{@link Files#find find}返回的流。
+ * 
+ *  <p>顺序使用时,文件树以深度优先的方式遍历,如同单个{@link FileTreeWalker}。
+ * 拆分时,目录的剩余条目连同其属性被预读,其中一部分交给新的遍历器,以便并行流在其{@link java.util.concurrent.ForkJoinPool}的线程中遍历子树。
+ * 一个spliterator及从中拆分出的spliterator的遍历器一起关闭。
+ * 
+ *  <pre> {@ code try(FileTreeSpliterator spliterator = new FileTreeSpliterator(start,maxDepth,options)){StreamSupport.stream(spliterator,true).forEach(ev  - > process(ev.file())); }
+ * } </pre>
+ */
+
+class FileTreeSpliterator implements Spliterator<Event>, Closeable {
+    private final FileTreeWalker walker;
+    private final Set<FileTreeWalker> walkers;
+    private Event next;
+
+    /**
+     * Creates a new spliterator to walk the file tree starting at the given
+     * file.
+     *
+     * <p>
+     *  创建一个新的spliterator以遍历从给定文件开始的文件树。
+     * 
+     * @throws  IllegalArgumentException
+     *          if {@code maxDepth} is negative
+     * @throws  IOException
+     *          if an I/O errors occurs opening the starting file
+     * @throws  SecurityException
+     *          if the security manager denies access to the starting file
+     * @throws  NullPointerException
+     *          if {@code start} or {@code options} is {@code null} or
+     *          the options array contains a {@code null} element
+     */
+    FileTreeSpliterator(Path start, int maxDepth, FileVisitOption... options)
+        throws IOException
+    {
+        this.walker = new FileTreeWalker(Arrays.asList(options), maxDepth);
+        this.walkers = ConcurrentHashMap.newKeySet();
+        this.next = walker.walk(start);
+        assert next.type() == FileTreeWalker.EventType.ENTRY ||
+               next.type() == FileTreeWalker.EventType.START_DIRECTORY;
+
+        // IOException if there a problem accessing the starting file
+        IOException ioe = next.ioeException();
+        if (ioe != null)
+            throw ioe;
+        walkers.add(walker);
+    }
+
+    private FileTreeSpliterator(FileTreeWalker walker, Set<FileTreeWalker> walkers) {
+        this.walker = walker;
+        this.walkers = walkers;
+    }
+
+    /**
+     * Returns the next event, or {@code null} at the end of the walk.
+     * END_DIRECTORY events are returned only if they report an I/O error.
+     * <p>
+     *  返回下一个事件,如果遍历结束则返回{@code null}。END_DIRECTORY事件仅在报告I/O错误时返回。
+     */
+    private Event fetchNext() {
+        Event ev = next;
+        if (ev != null) {
+            next = null;
+            return ev;
+        }
+        ev = walker.next();
+        while (ev != null &&
+               ev.type() == FileTreeWalker.EventType.END_DIRECTORY &&
+               ev.ioeException() == null) {
+            ev = walker.next();
+        }
+        if (ev == null) {
+            // no directories left open, nothing to close
+            walkers.remove(walker);
+        }
+        return ev;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Event> action) {
+        Objects.requireNonNull(action);
+        if (!walker.isOpen())
+            throw new IllegalStateException();
+        Event ev = fetchNext();
+        if (ev == null)
+            return false;
+        IOException ioe = ev.ioeException();
+        if (ioe != null)
+            throw new UncheckedIOException(ioe);
+        action.accept(ev);
+        return true;
+    }
+
+    @Override
+    public Spliterator<Event> trySplit() {
+        if (!walker.isOpen())
+            return null;
+        FileTreeWalker split = walker.split();
+        if (split == null && next == null) {
+            // step into the next directory, if any, to split its entries
+            next = fetchNext();
+            if (next != null && next.type() == FileTreeWalker.EventType.START_DIRECTORY)
+                split = walker.split();
+        }
+        if (split == null)
+            return null;
+        walkers.add(split);
+        return new FileTreeSpliterator(split, walkers);
+    }
+
+    @Override
+    public long estimateSize() {
+        // unknown, and worth splitting while there are entries to split off
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.DISTINCT | Spliterator.NONNULL;
+    }
+
+    /**
+     * Closes the walkers of this spliterator and of all those split from
+     * the same spliterator.
+     * <p>
+     *  关闭此spliterator以及从同一spliterator拆分出的所有spliterator的遍历器。
+     */
+    @Override
+    public void close() {
+        for (FileTreeWalker w : walkers) {
+            w.close();
+        }
+        walker.close();
+    }
+}
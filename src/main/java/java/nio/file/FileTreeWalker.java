@@ -30,8 +30,11 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import sun.nio.fs.BasicFileAttributesHolder;
 
 /**
@@ -71,6 +74,12 @@ class FileTreeWalker implements Closeable {
     private final ArrayDeque<DirectoryNode> stack = new ArrayDeque<>();
     private boolean closed;
 
+    // number of entries read ahead of a directory stream at a time
+    private static final int BATCH_SIZE = 1024;
+
+    // fewest files, without directories, worth splitting in two
+    private static final int MIN_SPLIT_FILES = 128;
+
     /**
      * The element on the walking stack corresponding to a directory node.
      * <p>
@@ -84,6 +93,15 @@ class FileTreeWalker implements Closeable {
         private final Iterator<Path> iterator;
         private boolean skipped;
 
+        // entries read ahead of the iterator, with their attributes, and
+        // the number of directories to open among them, which come first
+        private List<Event> entries = Collections.emptyList();
+        private int index;
+        private int directories;
+
+        // I/O error when reading ahead, reported at the end of the directory
+        private IOException ioe;
+
         DirectoryNode(Path dir, Object key, DirectoryStream<Path> stream) {
             this.dir = dir;
             this.key = key;
@@ -91,6 +109,38 @@ class FileTreeWalker implements Closeable {
             this.iterator = stream.iterator();
         }
 
+        /**
+         * Creates a node for entries split off from another walker. The
+         * node has no stream of its own.
+         * <p>
+         *  为从另一个遍历器拆分出来的条目创建节点。该节点没有自己的流。
+         */
+        DirectoryNode(Path dir, Object key, List<Event> entries, int directories) {
+            this.dir = dir;
+            this.key = key;
+            this.stream = null;
+            this.iterator = Collections.emptyIterator();
+            this.entries = entries;
+            this.directories = directories;
+        }
+
+        /**
+         * Creates a node for an ancestor of entries split off from another
+         * walker, used only for its depth and to detect cycles.
+         * <p>
+         *  为从另一个遍历器拆分出来的条目的祖先创建节点,仅用于其深度和检测循环。
+         */
+        DirectoryNode(Path dir, Object key) {
+            this.dir = dir;
+            this.key = key;
+            this.stream = null;
+            this.iterator = null;
+        }
+
+        boolean isAncestor() {
+            return iterator == null;
+        }
+
         Path directory() {
             return dir;
         }
@@ -114,6 +164,68 @@ class FileTreeWalker implements Closeable {
         boolean skipped() {
             return skipped;
         }
+
+        IOException exception() {
+            return ioe;
+        }
+
+        int remaining() {
+            return entries.size() - index;
+        }
+
+        int directories() {
+            return directories;
+        }
+
+        /**
+         * Returns the next entry read ahead, or {@code null} if there are none.
+         * <p>
+         *  返回下一个预读的条目,如果没有则返回{@code null}。
+         */
+        Event nextEntry() {
+            if (index == entries.size())
+                return null;
+            Event ev = entries.get(index++);
+            if (directories > 0)
+                directories--;
+            if (index == entries.size()) {
+                entries = Collections.emptyList();
+                index = 0;
+            }
+            return ev;
+        }
+
+        /**
+         * Removes and returns the next {@code n} entries read ahead.
+         * <p>
+         *  删除并返回接下来的{@code n}个预读条目。
+         */
+        List<Event> takeEntries(int n) {
+            List<Event> list = new ArrayList<>(entries.subList(index, index + n));
+            index += n;
+            directories = Math.max(directories - n, 0);
+            return list;
+        }
+
+        /**
+         * Adds entries read ahead of the iterator, keeping the directories
+         * first.
+         * <p>
+         *  添加在迭代器之前预读的条目,保持目录在前。
+         */
+        void addEntries(List<Event> dirs, List<Event> files, IOException ioe) {
+            if (!dirs.isEmpty() || !files.isEmpty()) {
+                List<Event> list = new ArrayList<>(remaining() + dirs.size() + files.size());
+                list.addAll(entries.subList(index, index + directories));
+                list.addAll(dirs);
+                list.addAll(entries.subList(index + directories, entries.size()));
+                list.addAll(files);
+                entries = list;
+                index = 0;
+                directories += dirs.size();
+            }
+            this.ioe = ioe;
+        }
     }
 
     /**
@@ -225,6 +337,18 @@ class FileTreeWalker implements Closeable {
         this.maxDepth = maxDepth;
     }
 
+    /**
+     * Creates a {@code FileTreeWalker} with the same options and maximum
+     * depth as the given walker.
+     * <p>
+     *  创建一个与给定遍历器具有相同选项和最大深度的{@code FileTreeWalker}。
+     */
+    private FileTreeWalker(FileTreeWalker walker) {
+        this.followLinks = walker.followLinks;
+        this.linkOptions = walker.linkOptions;
+        this.maxDepth = walker.maxDepth;
+    }
+
     /**
      * Returns the attributes of the given file, taking into account whether
      * the walk is following sym links is not. The {@code canUseCached}
@@ -327,7 +451,18 @@ class FileTreeWalker implements Closeable {
                 return null;
             throw se;
         }
+        return visit(entry, attrs, ignoreSecurityException);
+    }
 
+    /**
+     * Visits the given file with the given attributes, returning the {@code
+     * Event} corresponding to that visit.
+     * <p>
+     *  使用给定属性访问指定的文件,返回与访问对应的{@code Event}。
+     */
+    private Event visit(Path entry, BasicFileAttributes attrs,
+                        boolean ignoreSecurityException)
+    {
         // at maximum depth or file is not a directory
         int depth = stack.size();
         if (depth >= maxDepth || !attrs.isDirectory()) {
@@ -384,29 +519,41 @@ class FileTreeWalker implements Closeable {
      */
     Event next() {
         DirectoryNode top = stack.peek();
-        if (top == null)
-            return null;      // stack is empty, we are done
+        if (top == null || top.isAncestor())
+            return null;      // stack is empty, or only ancestors of split entries remain
 
         // continue iteration of the directory at the top of the stack
         Event ev;
         do {
             Path entry = null;
+            Event prefetched = null;
             IOException ioe = null;
 
-            // get next entry in the directory
+            // get next entry in the directory, entries read ahead first
             if (!top.skipped()) {
-                Iterator<Path> iterator = top.iterator();
-                try {
-                    if (iterator.hasNext()) {
-                        entry = iterator.next();
+                prefetched = top.nextEntry();
+                if (prefetched == null) {
+                    ioe = top.exception();
+                    if (ioe == null) {
+                        Iterator<Path> iterator = top.iterator();
+                        try {
+                            if (iterator.hasNext()) {
+                                entry = iterator.next();
+                            }
+                        } catch (DirectoryIteratorException x) {
+                            ioe = x.getCause();
+                        }
                     }
-                } catch (DirectoryIteratorException x) {
-                    ioe = x.getCause();
                 }
             }
 
             // no next entry so close and pop directory, creating corresponding event
-            if (entry == null) {
+            if (entry == null && prefetched == null) {
+                if (top.stream() == null) {
+                    // entries split off from another walker, which ends the directory
+                    stack.pop();
+                    return next();
+                }
                 try {
                     top.stream().close();
                 } catch (IOException e) {
@@ -421,15 +568,124 @@ class FileTreeWalker implements Closeable {
             }
 
             // visit the entry
-            ev = visit(entry,
-                       true,   // ignoreSecurityException
-                       true);  // canUseCached
+            if (prefetched != null) {
+                ev = (prefetched.ioeException() != null) ? prefetched :
+                    visit(prefetched.file(), prefetched.attributes(), true);
+            } else {
+                ev = visit(entry,
+                           true,   // ignoreSecurityException
+                           true);  // canUseCached
+            }
 
         } while (ev == null);
 
         return ev;
     }
 
+    /**
+     * Splits off some of the remaining entries of a directory on the stack,
+     * returning a new walker that visits them, or {@code null} if there are
+     * none worth splitting off. The directory nearest the start of the walk
+     * is preferred, as its entries are likely to have the largest subtrees.
+     *
+     * Entries are read ahead of the directory stream, with their attributes,
+     * so that directories can be split off before other files. Entries split
+     * off are visited by the new walker, with the same depth and cycle
+     * detection as this walker, and not by this walker; neither walker
+     * returns the END_DIRECTORY event for the directory they came from.
+     * <p>
+     *  拆分堆栈上某个目录的部分剩余条目,返回访问它们的新遍历器,如果没有值得拆分的条目则返回{@code null}。
+     * 优先选择最接近遍历起点的目录,因为其条目可能具有最大的子树。
+     * 
+     *  条目连同其属性在目录流之前被预读,以便目录可以先于其他文件被拆分。
+     * 拆分出的条目由新遍历器访问,具有与此遍历器相同的深度和循环检测,而不由此遍历器访问;两个遍历器都不会为这些条目所在的目录返回END_DIRECTORY事件。
+     * 
+     */
+    FileTreeWalker split() {
+        if (closed)
+            return null;
+
+        int depth = 0;
+        Iterator<DirectoryNode> nodes = stack.descendingIterator();
+        while (nodes.hasNext()) {
+            DirectoryNode node = nodes.next();
+            depth++;
+            if (node.isAncestor() || node.skipped())
+                continue;
+
+            if (node.remaining() < BATCH_SIZE)
+                readAhead(node, depth < maxDepth);
+
+            // split the directories in two, or else the files
+            int dirs = node.directories();
+            int n;
+            if (dirs > 1) {
+                n = dirs / 2;
+            } else if (dirs == 1 && node.remaining() > 1) {
+                n = 1;
+            } else if (dirs == 0 && node.remaining() >= MIN_SPLIT_FILES) {
+                n = node.remaining() / 2;
+            } else {
+                continue;
+            }
+            List<Event> entries = node.takeEntries(n);
+
+            // the new walker's stack has the ancestors then the split entries
+            FileTreeWalker walker = new FileTreeWalker(this);
+            Iterator<DirectoryNode> ancestors = stack.descendingIterator();
+            for (int i = 1; i < depth; i++) {
+                DirectoryNode ancestor = ancestors.next();
+                walker.stack.push(new DirectoryNode(ancestor.directory(), ancestor.key()));
+            }
+            walker.stack.push(new DirectoryNode(node.directory(), node.key(),
+                                                entries, Math.min(dirs, n)));
+            return walker;
+        }
+        return null;
+    }
+
+    /**
+     * Reads up to BATCH_SIZE entries ahead of the given directory's stream,
+     * with their attributes. The {@code opens} parameter is whether the
+     * directories among them would be opened, rather than be at maximum
+     * depth.
+     * <p>
+     *  在给定目录的流之前预读最多BATCH_SIZE个条目及其属性。{@code opens}参数表示其中的目录是否会被打开,而不是处于最大深度。
+     * 
+     */
+    private void readAhead(DirectoryNode node, boolean opens) {
+        if (node.stream() == null || node.exception() != null)
+            return;
+
+        List<Event> dirs = new ArrayList<>();
+        List<Event> files = new ArrayList<>();
+        IOException ioe = null;
+        Iterator<Path> iterator = node.iterator();
+        try {
+            for (int n = 0; n < BATCH_SIZE && iterator.hasNext(); n++) {
+                Path entry = iterator.next();
+                BasicFileAttributes attrs;
+                try {
+                    attrs = getAttributes(entry, true);
+                } catch (IOException x) {
+                    files.add(new Event(EventType.ENTRY, entry, x));
+                    continue;
+                } catch (SecurityException se) {
+                    continue;   // ignored, as when the entry is visited
+                }
+                Event ev = new Event(EventType.ENTRY, entry, attrs);
+                if (opens && attrs.isDirectory()) {
+                    dirs.add(ev);
+                } else {
+                    files.add(ev);
+                }
+            }
+        } catch (DirectoryIteratorException x) {
+            ioe = x.getCause();
+        }
+        node.addEntries(dirs, files, ioe);
+    }
+
     /**
      * Pops the directory node that is the current top of the stack so that
      * there are no more events for the directory (including no END_DIRECTORY)
@@ -442,9 +698,11 @@ class FileTreeWalker implements Closeable {
     void pop() {
         if (!stack.isEmpty()) {
             DirectoryNode node = stack.pop();
-            try {
-                node.stream().close();
-            } catch (IOException ignore) { }
+            if (node.stream() != null) {
+                try {
+                    node.stream().close();
+                } catch (IOException ignore) { }
+            }
         }
     }
 
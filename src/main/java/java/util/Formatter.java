@@ -59,6 +59,8 @@ import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
 
 import sun.misc.DoubleConsts;
+import sun.misc.DoubleToDecimal;
+import sun.misc.FloatToDecimal;
 import sun.misc.FormattedFloatingDecimal;
 
 /**
@@ -2533,6 +2535,749 @@ public final class Formatter implements Closeable, Flushable {
         return this;
     }
 
+    /**
+     * Compiles the given format string into a reusable {@link Template}.
+     * The locale used is the {@linkplain
+     * Locale#getDefault(Locale.Category) default locale} for
+     * {@linkplain Locale.Category#FORMAT formatting}.
+     *
+     * @param  format
+     *         A format string as described in <a href="#syntax">Format string
+     *         syntax</a>.  Explicit and relative argument indices are not
+     *         supported.
+     *
+     * @throws  IllegalFormatException
+     *          If the format string contains an illegal syntax or a format
+     *          specifier that is incompatible with the given flags.
+     *
+     * @throws  IllegalArgumentException
+     *          If a format specifier uses an explicit or relative argument
+     *          index
+     *
+     * @return  The compiled template
+     *
+     * @since 1.8
+     */
+    public static Template compile(String format) {
+        return compile(Locale.getDefault(Locale.Category.FORMAT), format);
+    }
+
+    /**
+     * Compiles the given format string into a reusable {@link Template}
+     * that formats using the specified locale.
+     *
+     * @param  l
+     *         The {@linkplain java.util.Locale locale} to apply during
+     *         formatting.  If {@code l} is {@code null} then no localization
+     *         is applied.
+     *
+     * @param  format
+     *         A format string as described in <a href="#syntax">Format string
+     *         syntax</a>.  Explicit and relative argument indices are not
+     *         supported.
+     *
+     * @throws  IllegalFormatException
+     *          If the format string contains an illegal syntax or a format
+     *          specifier that is incompatible with the given flags.
+     *
+     * @throws  IllegalArgumentException
+     *          If a format specifier uses an explicit or relative argument
+     *          index
+     *
+     * @return  The compiled template
+     *
+     * @since 1.8
+     */
+    public static Template compile(Locale l, String format) {
+        return new Template(l, format);
+    }
+
+    /**
+     * A format string that has been parsed once so that it can be applied
+     * many times without parsing it again.
+     *
+     * <p> Templates are immutable and safe for use by multiple concurrent
+     * threads.  A template is applied through an {@link Appender}, which
+     * receives the arguments one at a time, in the order of the format
+     * specifiers, and is reused from one output to the next:
+     *
+     * <blockquote><pre>
+     *   static final Formatter.Template LINE
+     *       = Formatter.compile(Locale.US, "%-8s %6d %10.3f%n");
+     *
+     *   Formatter.Appender app = LINE.appender();
+     *   app.begin(sb).arg(name).arg(count).arg(total).end();
+     * </pre></blockquote>
+     *
+     * <p> The conversions {@code 'd'} and {@code 'x'} applied to {@code int}
+     * or {@code long} arguments, {@code 'f'} applied to finite {@code double}
+     * arguments, and {@code 's'}, {@code 'b'} and {@code 'c'} applied to
+     * primitive or {@link CharSequence} arguments are written directly to the
+     * destination without boxing the argument or creating intermediate
+     * strings, provided no grouping or parentheses flag is given and the
+     * locale uses ASCII digits and {@code '.'} as its decimal separator.
+     * All other arguments are formatted exactly as by {@link
+     * Formatter#format(Locale,String,Object...)}.
+     *
+     * @since 1.8
+     */
+    public static final class Template {
+        private final Locale l;
+        private final String format;
+        private final FormatString[] fsa;
+
+        // true if the locale formats numbers with '0'..'9' and '.'
+        private final boolean ascii;
+
+        private Template(Locale l, String format) {
+            Formatter parser = new Formatter(l, (Appendable) null);
+            FormatString[] fsa = parser.parse(format);
+            for (FormatString fs : fsa) {
+                int index = fs.index();
+                if (index != -2 && index != 0)
+                    throw new IllegalArgumentException(
+                        "Argument index not supported in template: " + fs);
+            }
+            this.l = l;
+            this.format = format;
+            this.fsa = fsa;
+            this.ascii = parser.zero == '0'
+                && (l == null || l.equals(Locale.US)
+                    || DecimalFormatSymbols.getInstance(l).getDecimalSeparator() == '.');
+        }
+
+        /**
+         * Returns a new appender for this template.  Appenders are not safe
+         * for use by multiple concurrent threads.
+         *
+         * @return  A new appender
+         */
+        public Appender appender() {
+            return new Appender(this);
+        }
+
+        /**
+         * Returns the locale this template formats with.
+         *
+         * @return  {@code null} if no localization is applied, otherwise a
+         *          locale
+         */
+        public Locale locale() {
+            return l;
+        }
+
+        /**
+         * Returns the format string this template was compiled from.
+         *
+         * @return  The format string
+         */
+        public String toString() {
+            return format;
+        }
+    }
+
+    /**
+     * Applies a {@link Template} to a sequence of arguments.  An output is
+     * started with {@link #begin(Appendable) begin}, which writes any text
+     * that precedes the first format specifier, continued with one {@code
+     * arg} call per format specifier, and completed with {@link #end() end}.
+     * Arguments beyond the last format specifier are ignored.
+     *
+     * <p> An appender keeps its scratch space between outputs, so that once
+     * it has been used a few times formatting through the fast conversions
+     * described in {@link Template} does not allocate.  Appenders are not
+     * safe for use by multiple concurrent threads.
+     *
+     * <p> As with {@link Formatter}, an {@code IOException} thrown by the
+     * destination is not propagated; it is available from {@link
+     * #ioException()}.
+     *
+     * @since 1.8
+     */
+    public static final class Appender {
+        private static final int LEFT_JUSTIFY  = Flags.LEFT_JUSTIFY.valueOf();
+        private static final int UPPERCASE     = Flags.UPPERCASE.valueOf();
+        private static final int ALTERNATE     = Flags.ALTERNATE.valueOf();
+        private static final int PLUS          = Flags.PLUS.valueOf();
+        private static final int LEADING_SPACE = Flags.LEADING_SPACE.valueOf();
+        private static final int ZERO_PAD      = Flags.ZERO_PAD.valueOf();
+
+        // flags handled without falling back to the formatter
+        private static final int DECIMAL_FLAGS
+            = LEFT_JUSTIFY | PLUS | LEADING_SPACE | ZERO_PAD;
+        private static final int HEX_FLAGS
+            = LEFT_JUSTIFY | UPPERCASE | ALTERNATE | ZERO_PAD;
+        private static final int FLOAT_FLAGS = DECIMAL_FLAGS | ALTERNATE;
+        private static final int STRING_FLAGS = LEFT_JUSTIFY | UPPERCASE;
+
+        private final Template t;
+
+        // prints the conversions that have no fast path; its destination
+        // is the destination of the current output
+        private final Formatter fmt;
+
+        // the template's format strings, bound to fmt
+        private final FormatString[] fsa;
+
+        private Appendable out;
+
+        // index in fsa of the next format specifier to receive an argument
+        private int next;
+
+        private char[] buf = new char[32];
+        private final char[] digits = new char[DoubleToDecimal.MAX_CHARS];
+
+        private Appender(Template t) {
+            this.t = t;
+            fmt = new Formatter(t.l, (Appendable) null);
+            fsa = new FormatString[t.fsa.length];
+            for (int i = 0; i < fsa.length; i++) {
+                FormatString fs = t.fsa[i];
+                if (fs instanceof FixedString)
+                    fsa[i] = fmt.new FixedString(((FixedString) fs).s);
+                else
+                    fsa[i] = fmt.new FormatSpecifier((FormatSpecifier) fs);
+            }
+        }
+
+        /**
+         * Starts a new output to the given destination and writes the text
+         * that precedes the first format specifier.  An output that was
+         * started but not ended is abandoned.
+         *
+         * @param  a
+         *         Destination for the formatted output
+         *
+         * @return  This appender
+         */
+        public Appender begin(Appendable a) {
+            out = Objects.requireNonNull(a);
+            fmt.a = a;
+            fmt.lastException = null;
+            next = 0;
+            text();
+            return this;
+        }
+
+        /**
+         * Formats a {@code long} argument with the next format specifier.
+         *
+         * @param  value
+         *         The argument
+         *
+         * @throws  IllegalFormatException
+         *          If the format specifier is incompatible with the argument
+         *
+         * @throws  IllegalStateException
+         *          If no output has been started
+         *
+         * @return  This appender
+         */
+        public Appender arg(long value) {
+            FormatSpecifier fs = spec();
+            if (fs != null) {
+                try {
+                    if (!printLong(fs, value, false))
+                        fs.print(Long.valueOf(value), t.l);
+                } catch (IOException x) {
+                    fmt.lastException = x;
+                }
+                advance();
+            }
+            return this;
+        }
+
+        /**
+         * Formats an {@code int} argument with the next format specifier.
+         *
+         * @param  value
+         *         The argument
+         *
+         * @throws  IllegalFormatException
+         *          If the format specifier is incompatible with the argument
+         *
+         * @throws  IllegalStateException
+         *          If no output has been started
+         *
+         * @return  This appender
+         */
+        public Appender arg(int value) {
+            FormatSpecifier fs = spec();
+            if (fs != null) {
+                try {
+                    if (!printLong(fs, value, true))
+                        fs.print(Integer.valueOf(value), t.l);
+                } catch (IOException x) {
+                    fmt.lastException = x;
+                }
+                advance();
+            }
+            return this;
+        }
+
+        /**
+         * Formats a {@code double} argument with the next format specifier.
+         *
+         * @param  value
+         *         The argument
+         *
+         * @throws  IllegalFormatException
+         *          If the format specifier is incompatible with the argument
+         *
+         * @throws  IllegalStateException
+         *          If no output has been started
+         *
+         * @return  This appender
+         */
+        public Appender arg(double value) {
+            FormatSpecifier fs = spec();
+            if (fs != null) {
+                try {
+                    if (!printDouble(fs, value))
+                        fs.print(Double.valueOf(value), t.l);
+                } catch (IOException x) {
+                    fmt.lastException = x;
+                }
+                advance();
+            }
+            return this;
+        }
+
+        /**
+         * Formats a {@code boolean} argument with the next format specifier.
+         *
+         * @param  value
+         *         The argument
+         *
+         * @throws  IllegalFormatException
+         *          If the format specifier is incompatible with the argument
+         *
+         * @throws  IllegalStateException
+         *          If no output has been started
+         *
+         * @return  This appender
+         */
+        public Appender arg(boolean value) {
+            FormatSpecifier fs = spec();
+            if (fs != null) {
+                try {
+                    if (!printBoolean(fs, value))
+                        fs.print(Boolean.valueOf(value), t.l);
+                } catch (IOException x) {
+                    fmt.lastException = x;
+                }
+                advance();
+            }
+            return this;
+        }
+
+        /**
+         * Formats a {@code char} argument with the next format specifier.
+         *
+         * @param  value
+         *         The argument
+         *
+         * @throws  IllegalFormatException
+         *          If the format specifier is incompatible with the argument
+         *
+         * @throws  IllegalStateException
+         *          If no output has been started
+         *
+         * @return  This appender
+         */
+        public Appender arg(char value) {
+            FormatSpecifier fs = spec();
+            if (fs != null) {
+                try {
+                    if (!printChar(fs, value))
+                        fs.print(Character.valueOf(value), t.l);
+                } catch (IOException x) {
+                    fmt.lastException = x;
+                }
+                advance();
+            }
+            return this;
+        }
+
+        /**
+         * Formats an object argument with the next format specifier.
+         *
+         * @param  value
+         *         The argument, may be {@code null}
+         *
+         * @throws  IllegalFormatException
+         *          If the format specifier is incompatible with the argument
+         *
+         * @throws  IllegalStateException
+         *          If no output has been started
+         *
+         * @return  This appender
+         */
+        public Appender arg(Object value) {
+            FormatSpecifier fs = spec();
+            if (fs != null) {
+                try {
+                    if (!printObject(fs, value))
+                        fs.print(value, t.l);
+                } catch (IOException x) {
+                    fmt.lastException = x;
+                }
+                advance();
+            }
+            return this;
+        }
+
+        /**
+         * Completes the current output.
+         *
+         * @throws  MissingFormatArgumentException
+         *          If a format specifier has not received an argument
+         *
+         * @throws  IllegalStateException
+         *          If no output has been started
+         */
+        public void end() {
+            if (out == null)
+                throw new IllegalStateException("No output started");
+            if (next < fsa.length)
+                throw new MissingFormatArgumentException(fsa[next].toString());
+            out = null;
+            fmt.a = null;
+        }
+
+        /**
+         * Returns the {@code IOException} last thrown by the destination of
+         * the current or most recent output.
+         *
+         * @return  The last exception thrown by the Appendable or {@code null}
+         *          if no such exception exists.
+         */
+        public IOException ioException() {
+            return fmt.lastException;
+        }
+
+        private FormatSpecifier spec() {
+            if (out == null)
+                throw new IllegalStateException("No output started");
+            return (next < fsa.length) ? (FormatSpecifier) fsa[next] : null;
+        }
+
+        private void advance() {
+            next++;
+            text();
+        }
+
+        // Writes the fixed text, line separators and percent signs up to
+        // the next format specifier that takes an argument.
+        private void text() {
+            while (next < fsa.length && fsa[next].index() == -2) {
+                try {
+                    fsa[next].print(null, t.l);
+                } catch (IOException x) {
+                    fmt.lastException = x;
+                }
+                next++;
+            }
+        }
+
+        private boolean printLong(FormatSpecifier fs, long value, boolean isInt)
+            throws IOException
+        {
+            if (fs.dt)
+                return false;
+            int flags = fs.f.valueOf();
+            switch (fs.c) {
+            case Conversion.DECIMAL_INTEGER:
+                if (!t.ascii || (flags & ~DECIMAL_FLAGS) != 0)
+                    return false;
+                int len = decimal(value, flags, fs.width);
+                justify(fs, buf, len);
+                return true;
+            case Conversion.HEXADECIMAL_INTEGER:
+                if ((flags & ~HEX_FLAGS) != 0)
+                    return false;
+                if (isInt && value < 0)
+                    value += (1L << 32);
+                len = hex(value, flags, fs.width);
+                justify(fs, buf, len);
+                return true;
+            case Conversion.STRING:
+                if ((flags & ~STRING_FLAGS) != 0)
+                    return false;
+                len = decimal(value, 0, -1);
+                justify(fs, buf, truncate(fs, len));
+                return true;
+            case Conversion.BOOLEAN:
+                return printBoolean(fs, true);
+            default:
+                return false;
+            }
+        }
+
+        private boolean printDouble(FormatSpecifier fs, double value)
+            throws IOException
+        {
+            if (fs.dt)
+                return false;
+            int flags = fs.f.valueOf();
+            switch (fs.c) {
+            case Conversion.DECIMAL_FLOAT:
+                // from 10^16 up, FormattedFloatingDecimal prints more digits
+                // than the shortest decimal that fixed starts from
+                if (!t.ascii || (flags & ~FLOAT_FLAGS) != 0
+                    || Double.isNaN(value) || Double.isInfinite(value)
+                    || Math.abs(value) >= 1e16)
+                    return false;
+                int prec = (fs.precision == -1) ? 6 : fs.precision;
+                // fixed may grow buf, so it must run before buf is read
+                int len = fixed(value, flags, prec, fs.width);
+                justify(fs, buf, len);
+                return true;
+            case Conversion.STRING:
+                if ((flags & ~STRING_FLAGS) != 0)
+                    return false;
+                char[] d = digits;
+                len = DoubleToDecimal.getChars(value, d, 0);
+                if ((flags & UPPERCASE) != 0) {
+                    for (int i = 0; i < len; i++) {
+                        if (d[i] >= 'a' && d[i] <= 'z')
+                            d[i] -= 'a' - 'A';
+                    }
+                }
+                justify(fs, d, truncate(fs, len));
+                return true;
+            case Conversion.BOOLEAN:
+                return printBoolean(fs, true);
+            default:
+                return false;
+            }
+        }
+
+        private boolean printBoolean(FormatSpecifier fs, boolean value)
+            throws IOException
+        {
+            if (fs.dt || fs.c != Conversion.BOOLEAN
+                || (fs.f.valueOf() & ~LEFT_JUSTIFY) != 0)
+                return false;
+            String s = value ? "true" : "false";
+            justify(fs, s, truncate(fs, s.length()));
+            return true;
+        }
+
+        private boolean printChar(FormatSpecifier fs, char value)
+            throws IOException
+        {
+            if (fs.dt)
+                return false;
+            switch (fs.c) {
+            case Conversion.CHARACTER:
+            case Conversion.STRING:
+                if ((fs.f.valueOf() & ~LEFT_JUSTIFY) != 0)
+                    return false;
+                buf[0] = value;
+                justify(fs, buf, truncate(fs, 1));
+                return true;
+            case Conversion.BOOLEAN:
+                return printBoolean(fs, true);
+            default:
+                return false;
+            }
+        }
+
+        private boolean printObject(FormatSpecifier fs, Object value)
+            throws IOException
+        {
+            if (fs.dt || fs.c != Conversion.STRING
+                || !(value instanceof CharSequence)
+                || value instanceof Formattable
+                || (fs.f.valueOf() & ~LEFT_JUSTIFY) != 0)
+                return false;
+            CharSequence cs = (CharSequence) value;
+            justify(fs, cs, truncate(fs, cs.length()));
+            return true;
+        }
+
+        // Writes value in decimal to buf, preceded by its sign and, if
+        // ZERO_PAD is set, by zeros up to width.  Returns the length.
+        private int decimal(long value, int flags, int width) {
+            ensure(Math.max(width, 0) + 20);
+            int n = sign(value < 0, flags);
+            // accumulate negatively so that Long.MIN_VALUE needs no case
+            long q = (value < 0) ? value : -value;
+            int len = 1;
+            for (long p = q / 10; p != 0; p /= 10)
+                len++;
+            n = zeros(n, len, flags, width);
+            int end = n + len;
+            for (int i = end - 1; i >= n; i--) {
+                buf[i] = (char) ('0' - (q % 10));
+                q /= 10;
+            }
+            return end;
+        }
+
+        // Writes value in hexadecimal, as an unsigned number, to buf.
+        private int hex(long value, int flags, int width) {
+            ensure(Math.max(width, 0) + 18);
+            boolean upper = (flags & UPPERCASE) != 0;
+            int n = 0;
+            if ((flags & ALTERNATE) != 0) {
+                buf[n++] = '0';
+                buf[n++] = upper ? 'X' : 'x';
+            }
+            int len = Math.max(1, (67 - Long.numberOfLeadingZeros(value)) >> 2);
+            n = zeros(n, len, flags, width);
+            int end = n + len;
+            for (int i = end - 1; i >= n; i--) {
+                int d = (int) value & 0xf;
+                buf[i] = (char) ((d < 10) ? '0' + d : (upper ? 'A' : 'a') + d - 10);
+                value >>>= 4;
+            }
+            return end;
+        }
+
+        // Writes the finite value, below 10^16 in magnitude, to buf with prec
+        // digits after the point, rounding the shortest decimal that uniquely
+        // distinguishes it half up, as FormattedFloatingDecimal does.
+        private int fixed(double value, int flags, int prec, int width) {
+            boolean neg = Double.compare(value, 0.0) == -1;
+            char[] d = digits;
+            int len = DoubleToDecimal.getChars(Math.abs(value), d, 0);
+
+            // Gather the digits in place; the value is then
+            // 0.d[0]d[1]...d[nd-1] * 10^point
+            int nd = 0;
+            int point = -1;
+            int exp = 0;
+            for (int i = 0; i < len; i++) {
+                char ch = d[i];
+                if (ch == '.') {
+                    point = nd;
+                } else if (ch == 'E') {
+                    boolean eneg = d[++i] == '-';
+                    if (eneg)
+                        i++;
+                    for (; i < len; i++)
+                        exp = exp * 10 + (d[i] - '0');
+                    if (eneg)
+                        exp = -exp;
+                } else {
+                    d[nd++] = ch;
+                }
+            }
+            if (point < 0)
+                point = nd;
+            int lead = 0;
+            while (lead < nd && d[lead] == '0')
+                lead++;
+            while (nd > lead && d[nd - 1] == '0')
+                nd--;
+            point += exp - lead;
+            nd -= lead;
+            System.arraycopy(d, lead, d, 0, nd);
+
+            int keep = point + prec;
+            if (keep < nd) {
+                boolean up = keep >= 0 && d[keep] >= '5';
+                nd = Math.max(keep, 0);
+                if (up) {
+                    int i = nd - 1;
+                    while (i >= 0 && d[i] == '9')
+                        i--;
+                    if (i < 0) {
+                        d[0] = '1';
+                        nd = 1;
+                        point++;
+                    } else {
+                        d[i]++;
+                        nd = i + 1;
+                    }
+                }
+            }
+            if (nd == 0)
+                point = 0;
+
+            int intLen = (point > 0) ? point : 1;
+            boolean dot = prec > 0 || (flags & ALTERNATE) != 0;
+            ensure(Math.max(width, 0) + intLen + prec + 2);
+            int n = sign(neg, flags);
+            n = zeros(n, intLen + (dot ? 1 : 0) + prec, flags, width);
+            if (point > 0) {
+                for (int i = 0; i < point; i++)
+                    buf[n++] = (i < nd) ? d[i] : '0';
+            } else {
+                buf[n++] = '0';
+            }
+            if (dot)
+                buf[n++] = '.';
+            for (int i = point, end = point + prec; i < end; i++)
+                buf[n++] = (i >= 0 && i < nd) ? d[i] : '0';
+            return n;
+        }
+
+        private int sign(boolean neg, int flags) {
+            int n = 0;
+            if (neg)
+                buf[n++] = '-';
+            else if ((flags & PLUS) != 0)
+                buf[n++] = '+';
+            else if ((flags & LEADING_SPACE) != 0)
+                buf[n++] = ' ';
+            return n;
+        }
+
+        // Appends zeros at n while n + len is less than width, if ZERO_PAD
+        // is set.  Returns the new position.
+        private int zeros(int n, int len, int flags, int width) {
+            if ((flags & ZERO_PAD) != 0) {
+                while (n + len < width)
+                    buf[n++] = '0';
+            }
+            return n;
+        }
+
+        private static int truncate(FormatSpecifier fs, int len) {
+            return (fs.precision != -1 && fs.precision < len) ? fs.precision : len;
+        }
+
+        private void ensure(int size) {
+            if (buf.length < size)
+                buf = new char[Math.max(size, buf.length << 1)];
+        }
+
+        private void justify(FormatSpecifier fs, char[] cs, int len)
+            throws IOException
+        {
+            boolean left = fs.f.contains(Flags.LEFT_JUSTIFY);
+            if (!left)
+                pad(fs.width - len);
+            if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(cs, 0, len);
+            } else {
+                for (int i = 0; i < len; i++)
+                    out.append(cs[i]);
+            }
+            if (left)
+                pad(fs.width - len);
+        }
+
+        private void justify(FormatSpecifier fs, CharSequence cs, int len)
+            throws IOException
+        {
+            boolean left = fs.f.contains(Flags.LEFT_JUSTIFY);
+            if (!left)
+                pad(fs.width - len);
+            out.append(cs, 0, len);
+            if (left)
+                pad(fs.width - len);
+        }
+
+        private void pad(int n) throws IOException {
+            for (; n > 0; n--)
+                out.append(' ');
+        }
+    }
+
     // %[argument_index$][flags][width][.precision][t]conversion
     private static final String formatSpecifier
         = "%(\\d+\\$)?([-#+ 0,(\\<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])";
@@ -2735,6 +3480,17 @@ public final class Formatter implements Closeable, Flushable {
                 throw new UnknownFormatConversionException(String.valueOf(c));
         }
 
+        // Copies a specifier parsed by another formatter so that it prints
+        // to this formatter's destination; used by Template.Appender.
+        FormatSpecifier(FormatSpecifier fs) {
+            index = fs.index;
+            f = fs.f;
+            width = fs.width;
+            precision = fs.precision;
+            dt = fs.dt;
+            c = fs.c;
+        }
+
         public void print(Object arg, Locale l) throws IOException {
             if (dt) {
                 printDateTime(arg, l);
@@ -2880,10 +3636,20 @@ public final class Formatter implements Closeable, Flushable {
             } else {
                 if (f.contains(Flags.ALTERNATE))
                     failMismatch(Flags.ALTERNATE, 's');
-                if (arg == null)
+                if (arg == null) {
                     print("null");
-                else
+                } else if (width == -1 && precision == -1
+                           && !f.contains(Flags.UPPERCASE)
+                           && (arg instanceof Double || arg instanceof Float)) {
+                    // Nothing to pad, truncate or convert: render the
+                    // digits straight into the destination.
+                    if (arg instanceof Double)
+                        DoubleToDecimal.appendTo(((Double)arg).doubleValue(), a);
+                    else
+                        FloatToDecimal.appendTo(((Float)arg).floatValue(), a);
+                } else {
                     print(arg.toString());
+                }
             }
         }
 
@@ -244,7 +244,26 @@ class JarFile extends ZipFile {
         return man;
     }
 
-    private native String[] getMetaInfEntryNames();
+    // Names of the "META-INF/" entries, found once; empty if there are none
+    private volatile String[] metaInfNames;
+
+    /*
+     * Returns the names of the entries whose names start with "META-INF/",
+     * ignoring case, or null if there are no such entries.
+     * <p>
+     *  返回名称以"META-INF/"开头(忽略大小写)的条目的名称,如果没有此类条目,则返回null。
+     */
+    private String[] getMetaInfEntryNames() {
+        String[] names = metaInfNames;
+        if (names == null) {
+            names = SharedSecrets.getJavaUtilZipFileAccess().getMetaInfEntryNames(this);
+            if (names == null) {
+                names = new String[0];
+            }
+            metaInfNames = names;
+        }
+        return (names.length == 0) ? null : names;
+    }
 
     /**
      * Returns the <code>JarEntry</code> for the given entry name or
@@ -0,0 +1,190 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.jar;
+
+import java.security.AccessController;
+import java.security.CodeSigner;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import sun.security.action.GetPropertyAction;
+
+/**
+ * A cache of the signers found by processing signature blocks, shared by
+ * every {@link JarVerifier}.
+ *
+ * <p> Processing a signature block verifies its signature and the
+ * certificates of its signers, and checks the digests that its signature
+ * file gives for the manifest and its sections.  The result depends on
+ * nothing but the bytes of the block, of the signature file and of the
+ * manifest, so it is cached under a SHA-256 digest of them.  When a signed
+ * jar is opened again, as it is by each class loader and by each {@code
+ * JarURLConnection} that does not share an open {@code JarFile}, the
+ * signers of its blocks are taken from the cache instead of verifying the
+ * signatures again.  Entries are always hashed as they are read and
+ * checked against the digests of the manifest, so a change to their
+ * content is noticed whatever the cache holds.
+ *
+ * <p> The cache holds the results of at most {@code MAX_BLOCKS} signature
+ * blocks, least recently used first out, and can be disabled by setting
+ * the system property {@code jdk.jar.disableVerificationCache} to {@code
+ * true}.
+ *
+ * <p>
+ *  通过处理签名块找到的签名者的缓存,由每个{@link JarVerifier}共享。
+ *
+ *  <p>处理签名块会验证其签名及其签名者的证书,并检查其签名文件为清单及其各节给出的摘要。
+ * 结果仅取决于块、签名文件和清单的字节,因此以它们的SHA-256摘要为键进行缓存。
+ * 当再次打开已签名的jar时(每个类加载器以及每个不共享已打开{@code JarFile}的{@code JarURLConnection}都会这样做),其块的签名者将从缓存中获取,而不是再次验证签名。
+ * 条目在读取时总是会被哈希并与清单的摘要进行核对,因此无论缓存中有什么,对其内容的更改都会被发现。
+ *
+ *  <p>缓存最多保存{@code MAX_BLOCKS}个签名块的结果,最近最少使用的先移出,可以通过将系统属性{@code jdk.jar.disableVerificationCache}设置为{@code true}来禁用。
+ */
+final class JarVerificationCache {
+
+    private static final int MAX_BLOCKS = 256;
+
+    private static final boolean disabled =
+        Boolean.parseBoolean(AccessController.doPrivileged(
+            new GetPropertyAction("jdk.jar.disableVerificationCache")));
+
+    /**
+     * The result of processing a signature block.
+     * <p>
+     *  处理签名块的结果。
+     */
+    static final class Block {
+        /** entry name -> signers found for it by the block */
+        final Map<String, CodeSigner[]> signers;
+
+        /** the manifest digests that the block checked */
+        final List<Object> manifestDigests;
+
+        Block(Map<String, CodeSigner[]> signers, List<Object> manifestDigests) {
+            this.signers = Collections.unmodifiableMap(
+                new HashMap<String, CodeSigner[]>(signers));
+            this.manifestDigests = Collections.unmodifiableList(
+                new ArrayList<Object>(manifestDigests));
+        }
+    }
+
+    // digest of block, signature file and manifest -> result, in access
+    // order
+    private static final Map<String, Block> blocks =
+        Collections.synchronizedMap(
+            new LinkedHashMap<String, Block>(16, 0.75f, true) {
+                private static final long serialVersionUID = 5315372530414893472L;
+
+                protected boolean removeEldestEntry(
+                        Map.Entry<String, Block> eldest) {
+                    return size() > MAX_BLOCKS;
+                }
+            });
+
+    private JarVerificationCache() {
+    }
+
+    /**
+     * Returns a new digest from which a cache key is made, or null if the
+     * cache is disabled.
+     * <p>
+     *  返回用于生成缓存键的新摘要,如果缓存被禁用则返回null。
+     */
+    static MessageDigest newKey() {
+        if (disabled) {
+            return null;
+        }
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException nsae) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a digest of the given manifest, or null if the cache is
+     * disabled.
+     * <p>
+     *  返回给定清单的摘要,如果缓存被禁用则返回null。
+     */
+    static byte[] hash(byte[] manifest) {
+        MessageDigest md = newKey();
+        if (md == null) {
+            return null;
+        }
+        update(md, manifest);
+        return md.digest();
+    }
+
+    /**
+     * Adds the given bytes, preceded by their length, to the given digest.
+     * <p>
+     *  将给定的字节(前面加上其长度)添加到给定的摘要中。
+     */
+    static void update(MessageDigest md, byte[] b) {
+        int n = b.length;
+        md.update(new byte[] {
+            (byte)(n >>> 24), (byte)(n >>> 16), (byte)(n >>> 8), (byte)n });
+        md.update(b);
+    }
+
+    /**
+     * Completes the given digest and returns it as a cache key.
+     * <p>
+     *  完成给定的摘要并将其作为缓存键返回。
+     */
+    static String keyOf(MessageDigest md) {
+        return Base64.getEncoder().encodeToString(md.digest());
+    }
+
+    /**
+     * Returns the result cached under the given key, or null.
+     * <p>
+     *  返回在给定键下缓存的结果,或null。
+     */
+    static Block get(String key) {
+        return blocks.get(key);
+    }
+
+    /**
+     * Caches and returns the given result under the given key.
+     * <p>
+     *  以给定键缓存并返回给定的结果。
+     */
+    static Block put(String key, Map<String, CodeSigner[]> signers,
+                     List<Object> manifestDigests) {
+        Block block = new Block(signers, manifestDigests);
+        blocks.put(key, block);
+        return block;
+    }
+}
@@ -104,6 +104,12 @@ class JarVerifier {
     /** collect -DIGEST-MANIFEST values for blacklist */
     private List<Object> manifestDigests;
 
+    /** digest of the manifest, or null if signature blocks are not cached */
+    private byte[] manifestHash;
+
+    /** cache keys of the signature blocks not processed yet */
+    private Map<SignatureFileVerifier, MessageDigest> blockKeys;
+
     public JarVerifier(byte rawBytes[]) {
         manifestRawBytes = rawBytes;
         sigFileSigners = new Hashtable<>();
@@ -297,7 +303,7 @@ class JarVerifier {
                             }
 
                             sfv.setSignatureFile(bytes);
-                            sfv.process(sigFileSigners, manifestDigests);
+                            processBlock(sfv, bytes);
                         }
                     }
                     return;
@@ -313,15 +319,30 @@ class JarVerifier {
                 if (manDig == null) {
                     synchronized(manifestRawBytes) {
                         if (manDig == null) {
+                            manifestHash =
+                                JarVerificationCache.hash(manifestRawBytes);
                             manDig = new ManifestDigester(manifestRawBytes);
                             manifestRawBytes = null;
                         }
                     }
                 }
 
+                byte[] block = baos.toByteArray();
                 SignatureFileVerifier sfv =
                   new SignatureFileVerifier(signerCache,
-                                            manDig, uname, baos.toByteArray());
+                                            manDig, uname, block);
+
+                if (manifestHash != null) {
+                    MessageDigest md = JarVerificationCache.newKey();
+                    if (md != null) {
+                        JarVerificationCache.update(md, manifestHash);
+                        JarVerificationCache.update(md, uname.getBytes("UTF-8"));
+                        JarVerificationCache.update(md, block);
+                        if (blockKeys == null)
+                            blockKeys = new IdentityHashMap<>();
+                        blockKeys.put(sfv, md);
+                    }
+                }
 
                 if (sfv.needSignatureFileBytes()) {
                     // see if we have already parsed an external .SF file
@@ -340,7 +361,7 @@ class JarVerifier {
                         sfv.setSignatureFile(bytes);
                     }
                 }
-                sfv.process(sigFileSigners, manifestDigests);
+                processBlock(sfv, sigFileData.get(key));
 
             } catch (IOException ioe) {
                 // e.g. sun.security.pkcs.ParsingException
@@ -472,6 +493,7 @@ class JarVerifier {
         pendingBlocks = null;
         signerCache = null;
         manDig = null;
+        blockKeys = null;
         // MANIFEST.MF is always treated as signed and verified,
         // move its signers from sigFileSigners to verifiedSigners.
         if (sigFileSigners.containsKey(JarFile.MANIFEST_NAME)) {
@@ -946,6 +968,65 @@ class JarVerifier {
         eagerValidation = eager;
     }
 
+    /*
+     * Processes the given signature block, whose signature file has the
+     * given bytes.  The signers it finds are taken from the verification
+     * cache if a block with the same bytes, signature file and manifest
+     * has been processed before, and are put there otherwise.
+     * <p>
+     * 处理给定的签名块,其签名文件具有给定的字节。如果之前处理过具有相同字节、签名文件和清单的块,则从验证缓存中获取它找到的签名者,否则将其放入缓存。
+     */
+    private void processBlock(SignatureFileVerifier sfv, byte[] sf)
+        throws IOException, SignatureException, NoSuchAlgorithmException,
+               CertificateException
+    {
+        MessageDigest md = (blockKeys == null) ? null : blockKeys.remove(sfv);
+        if (md == null) {
+            sfv.process(sigFileSigners, manifestDigests);
+            return;
+        }
+        if (sf != null)
+            JarVerificationCache.update(md, sf);
+        String key = JarVerificationCache.keyOf(md);
+        JarVerificationCache.Block block = JarVerificationCache.get(key);
+        if (block == null) {
+            Hashtable<String, CodeSigner[]> signers = new Hashtable<>();
+            List<Object> digests = new ArrayList<>();
+            sfv.process(signers, digests);
+            block = JarVerificationCache.put(key, signers, digests);
+        }
+        manifestDigests.addAll(block.manifestDigests);
+        for (Map.Entry<String, CodeSigner[]> e : block.signers.entrySet()) {
+            addSigners(e.getKey(), e.getValue());
+        }
+    }
+
+    // Adds the given signers to those of the named entry, sharing equal
+    // arrays through signerCache as SignatureFileVerifier does
+    private void addSigners(String name, CodeSigner[] newSigners) {
+        CodeSigner[] oldSigners = sigFileSigners.get(name);
+        CodeSigner[] signers;
+        if (oldSigners == null) {
+            signers = newSigners;
+        } else {
+            signers = Arrays.copyOf(oldSigners,
+                                    oldSigners.length + newSigners.length);
+            System.arraycopy(newSigners, 0, signers, oldSigners.length,
+                             newSigners.length);
+        }
+        List<CodeSigner> list = Arrays.asList(signers);
+        for (int i = signerCache.size() - 1; i >= 0; i--) {
+            CodeSigner[] cached = signerCache.get(i);
+            List<CodeSigner> cachedList = Arrays.asList(cached);
+            if (cachedList.containsAll(list) && list.containsAll(cachedList)) {
+                sigFileSigners.put(name, cached);
+                return;
+            }
+        }
+        signerCache.add(signers);
+        sigFileSigners.put(name, signers);
+    }
+
     public synchronized List<Object> getManifestDigests() {
         return Collections.unmodifiableList(manifestDigests);
     }
@@ -26,11 +26,14 @@
 
 package java.util.jar;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FilterInputStream;
 import java.io.DataOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -60,6 +63,16 @@ public class Manifest implements Cloneable {
     // manifest entries
     private Map<String, Attributes> entries = new HashMap<>();
 
+    // Bytes of the entry sections read but not yet parsed, and the offsets
+    // within them of the attribute lines of each section not yet parsed,
+    // by name.  Sections are parsed when first looked up, so that a jar
+    // file's class loader only pays for the entries it loads.
+    private byte[] rawEntries;
+    private volatile Map<String, int[]> pending;
+
+    // initial capacity of the Attributes of a pending section
+    private int pendingSize;
+
     /**
      * Constructs a new, empty Manifest.
      * <p>
@@ -124,6 +137,9 @@ public class Manifest implements Cloneable {
      * @return a Map of the entries contained in this Manifest
      */
     public Map<String,Attributes> getEntries() {
+        if (pending != null) {
+            parsePending(null, true);
+        }
         return entries;
     }
 
@@ -163,6 +179,9 @@ public class Manifest implements Cloneable {
      * @return the Attributes for the specified entry name
      */
     public Attributes getAttributes(String name) {
+        if (pending != null) {
+            return parsePending(name, false);
+        }
         return getEntries().get(name);
     }
 
@@ -174,7 +193,11 @@ public class Manifest implements Cloneable {
      */
     public void clear() {
         attr.clear();
-        entries.clear();
+        synchronized (this) {
+            pending = null;
+            rawEntries = null;
+            entries.clear();
+        }
     }
 
     /**
@@ -195,7 +218,7 @@ public class Manifest implements Cloneable {
         // Write out the main attributes for the manifest
         attr.writeMain(dos);
         // Now write out the pre-entry attributes
-        Iterator<Map.Entry<String, Attributes>> it = entries.entrySet().iterator();
+        Iterator<Map.Entry<String, Attributes>> it = getEntries().entrySet().iterator();
         while (it.hasNext()) {
             Map.Entry<String, Attributes> e = it.next();
             StringBuffer buffer = new StringBuffer("Name: ");
@@ -251,6 +274,12 @@ public class Manifest implements Cloneable {
         byte[] lbuf = new byte[512];
         // Read the main attributes for the manifest
         attr.read(fis, lbuf);
+        if (pending == null && entries.isEmpty()) {
+            // Nothing to merge with, so keep the sections for later
+            indexEntries(readFully(fis));
+            return;
+        }
+        getEntries();
         // Total number of entries, attributes read
         int ecount = 0, acount = 0;
         // Average size of entry attributes
@@ -315,6 +344,229 @@ public class Manifest implements Cloneable {
         }
     }
 
+    /*
+     * Parses the pending section of the given name, or all pending sections,
+     * and returns the Attributes of the given name.
+     * <p>
+     *  解析给定名称的待处理段或所有待处理段,并返回给定名称的属性。
+     */
+    private synchronized Attributes parsePending(String name, boolean all) {
+        Map<String, int[]> p = pending;
+        if (p != null) {
+            try {
+                byte[] lbuf = new byte[512];
+                if (all) {
+                    for (Map.Entry<String, int[]> e : p.entrySet()) {
+                        parseSection(e.getKey(), e.getValue(), lbuf);
+                    }
+                    p.clear();
+                } else {
+                    int[] offsets = p.remove(name);
+                    if (offsets != null) {
+                        parseSection(name, offsets, lbuf);
+                    }
+                }
+            } catch (IOException e) {
+                // the sections were checked when indexed
+                throw new InternalError(e);
+            }
+            if (p.isEmpty()) {
+                rawEntries = null;
+                pending = null;
+            }
+        }
+        return entries.get(name);
+    }
+
+    private void parseSection(String name, int[] offsets, byte[] lbuf)
+        throws IOException
+    {
+        byte[] raw = rawEntries;
+        Attributes attr = entries.get(name);
+        if (attr == null) {
+            attr = new Attributes(pendingSize);
+            entries.put(name, attr);
+        }
+        for (int off : offsets) {
+            attr.read(new FastInputStream(new ByteArrayInputStream(
+                raw, off, raw.length - off), 1024), lbuf);
+        }
+    }
+
+    /*
+     * Reads the rest of the given stream.
+     * <p>
+     *  读取给定流的其余部分。
+     */
+    private static byte[] readFully(FastInputStream fis) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        byte[] b = new byte[8192];
+        int n;
+        while ((n = fis.read(b, 0, b.length)) != -1) {
+            out.write(b, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    /*
+     * Finds the entry sections in the given bytes and records where the
+     * attribute lines of each begin, without parsing them.  The bytes are
+     * checked as {@link #read} and {@link Attributes#read} would check them,
+     * with the same exceptions, so that parsing a section later cannot fail.
+     * <p>
+     *  在给定字节中查找条目段并记录每个段的属性行的开始位置,而不解析它们。
+     * 这些字节会像{@link #read}和{@link Attributes#read}那样被检查,并抛出相同的异常,因此稍后解析段不会失败。
+     */
+    private void indexEntries(byte[] raw) throws IOException {
+        Map<String, int[]> index = new HashMap<>();
+        int n = raw.length;
+        int pos = 0;
+        // Total number of entries, attributes read
+        int ecount = 0, acount = 0;
+
+        while (pos < n) {
+            int eol = lineEnd(raw, pos, "manifest line too long");
+            if (eol < 0) {
+                break;
+            }
+            int len = lineLength(raw, pos, eol);
+            int start = pos;
+            pos = eol + 1;
+            if (len == 0) {
+                continue;
+            }
+            if (len < 6 || toLower(raw[start]) != 'n' ||
+                toLower(raw[start+1]) != 'a' || toLower(raw[start+2]) != 'm' ||
+                toLower(raw[start+3]) != 'e' || raw[start+4] != ':' ||
+                raw[start+5] != ' ') {
+                throw new IOException("invalid manifest format");
+            }
+            byte[] nbuf = Arrays.copyOfRange(raw, start + 6, start + len);
+            while (pos < n && raw[pos] == ' ') {
+                // name is wrapped
+                eol = lineEnd(raw, pos, "manifest line too long");
+                if (eol < 0) {
+                    break;
+                }
+                len = lineLength(raw, pos, eol);
+                int nlen = nbuf.length;
+                nbuf = Arrays.copyOf(nbuf, nlen + len - 1);
+                System.arraycopy(raw, pos + 1, nbuf, nlen, len - 1);
+                pos = eol + 1;
+            }
+            if (eol < 0) {
+                break;
+            }
+            String name = new String(nbuf, 0, nbuf.length, "UTF8");
+
+            int[] offsets = index.get(name);
+            if (offsets == null) {
+                offsets = new int[] { pos };
+            } else {
+                offsets = Arrays.copyOf(offsets, offsets.length + 1);
+                offsets[offsets.length - 1] = pos;
+            }
+            index.put(name, offsets);
+            ecount++;
+
+            // check the attribute lines, up to the next empty line
+            boolean named = false;
+            while (pos < n) {
+                eol = lineEnd(raw, pos, "line too long");
+                if (eol < 0) {
+                    pos = n;
+                    break;
+                }
+                len = lineLength(raw, pos, eol);
+                start = pos;
+                pos = eol + 1;
+                if (len == 0) {
+                    break;
+                }
+                if (raw[start] == ' ') {
+                    if (!named) {
+                        throw new IOException("misplaced continuation line");
+                    }
+                    continue;
+                }
+                int i = 0;
+                while (raw[start + i++] != ':') {
+                    if (i >= len) {
+                        throw new IOException("invalid header field");
+                    }
+                }
+                if (raw[start + i++] != ' ') {
+                    throw new IOException("invalid header field");
+                }
+                if (!isValidName(raw, start, i - 2)) {
+                    throw new IOException("invalid header field name: " +
+                                          new String(raw, 0, start, i - 2));
+                }
+                named = true;
+                acount++;
+            }
+        }
+
+        if (!index.isEmpty()) {
+            //XXX: Fix for when the average is 0; see read
+            pendingSize = Math.max(2, acount / ecount);
+            rawEntries = raw;
+            pending = index;
+        }
+    }
+
+    /*
+     * Returns the index of the newline ending the line at the given
+     * position, which like a line read into a 512 byte buffer must be
+     * found within 512 bytes, or -1 if the bytes end first; as with
+     * {@code FastInputStream.readLine} an unterminated last line is
+     * ignored.
+     * <p>
+     *  返回结束给定位置处行的换行符索引,与读入512字节缓冲区的行一样,必须在512字节内找到;如果字节先结束则返回-1。
+     * 与{@code FastInputStream.readLine}一样,未终止的最后一行将被忽略。
+     */
+    private static int lineEnd(byte[] raw, int pos, String msg)
+        throws IOException
+    {
+        int end = Math.min(raw.length, pos + 512);
+        for (int i = pos; i < end; i++) {
+            if (raw[i] == '\n') {
+                return i;
+            }
+        }
+        if (end == raw.length && end - pos < 512) {
+            return -1;
+        }
+        throw new IOException(msg);
+    }
+
+    private static int lineLength(byte[] raw, int pos, int eol) {
+        int len = eol - pos;
+        if (len > 0 && raw[eol - 1] == '\r') {
+            --len;
+        }
+        return len;
+    }
+
+    /*
+     * Checks an attribute name as {@code Attributes.Name} does.
+     * <p>
+     *  像{@code Attributes.Name}那样检查属性名称。
+     */
+    private static boolean isValidName(byte[] raw, int off, int len) {
+        if (len <= 0 || len > 70) {
+            return false;
+        }
+        for (int i = off; i < off + len; i++) {
+            int c = raw[i];
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') ||
+                  (c >= '0' && c <= '9') || c == '_' || c == '-')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private String parseName(byte[] lbuf, int len) {
         if (toLower(lbuf[0]) == 'n' && toLower(lbuf[1]) == 'a' &&
             toLower(lbuf[2]) == 'm' && toLower(lbuf[3]) == 'e' &&
@@ -328,7 +580,7 @@ public class Manifest implements Cloneable {
         return null;
     }
 
-    private int toLower(int c) {
+    private static int toLower(int c) {
         return (c >= 'A' && c <= 'Z') ? 'a' + (c - 'A') : c;
     }
 
@@ -348,7 +600,7 @@ public class Manifest implements Cloneable {
         if (o instanceof Manifest) {
             Manifest m = (Manifest)o;
             return attr.equals(m.getMainAttributes()) &&
-                   entries.equals(m.getEntries());
+                   getEntries().equals(m.getEntries());
         } else {
             return false;
         }
@@ -361,7 +613,7 @@ public class Manifest implements Cloneable {
      * 
      */
     public int hashCode() {
-        return attr.hashCode() + entries.hashCode();
+        return attr.hashCode() + getEntries().hashCode();
     }
 
     /**
@@ -0,0 +1,653 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.logging;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <tt>Handler</tt> that hands records to a target <tt>Handler</tt> on a
+ * background thread.
+ * <p>
+ * The thread that logs only checks the level and filter of this
+ * <tt>Handler</tt> and places the <tt>LogRecord</tt> in a bounded ring
+ * buffer, without taking a lock.  A single writer thread takes the records
+ * from the buffer in batches, publishes them to the target, which formats
+ * and writes them, and flushes the target once the buffer is empty.  A
+ * slow disk therefore delays the writer thread only, not the threads that
+ * log.
+ * <p>
+ * Since records are published later and on another thread, the source
+ * class and method names of each record are inferred, as described in
+ * {@link LogRecord}, before it is buffered, unless the target formats
+ * records with a {@link SimpleFormatter} whose format does not print them.
+ * Message parameters are formatted by the target, so they should not be
+ * modified after they are logged.
+ * <p>
+ * When the buffer is full, the {@link Overflow} policy of the
+ * <tt>AsyncHandler</tt> decides whether the logging thread waits for space
+ * or the record is dropped.  The number of dropped records is given by
+ * {@link #getDroppedCount} and, for all <tt>AsyncHandlers</tt> together,
+ * by {@link LoggingMXBean#getDroppedRecordCount}.
+ * <p>
+ * <b>Configuration:</b>
+ * By default each <tt>AsyncHandler</tt> is initialized using the following
+ * <tt>LogManager</tt> configuration properties where <tt>&lt;handler-name&gt;</tt>
+ * refers to the fully-qualified class name of the handler.
+ * If properties are not defined
+ * (or have invalid values) then the specified default values are used.
+ * If no default value is defined then a RuntimeException is thrown.
+ * <ul>
+ * <li>   &lt;handler-name&gt;.level
+ *        specifies the level for the <tt>Handler</tt>
+ *        (defaults to <tt>Level.ALL</tt>). </li>
+ * <li>   &lt;handler-name&gt;.filter
+ *        specifies the name of a <tt>Filter</tt> class to use
+ *        (defaults to no <tt>Filter</tt>). </li>
+ * <li>   &lt;handler-name&gt;.size
+ *        defines the buffer size, rounded up to a power of two
+ *        (defaults to 1024). </li>
+ * <li>   &lt;handler-name&gt;.batch
+ *        defines the most records published before the writer thread
+ *        looks for more (defaults to 256). </li>
+ * <li>   &lt;handler-name&gt;.overflow
+ *        specifies the <tt>Overflow</tt> policy, by name
+ *        (defaults to <tt>BLOCK</tt>). </li>
+ * <li>   &lt;handler-name&gt;.dropLevel
+ *        defines the level below which records are dropped under the
+ *        <tt>DROP_LOWEST</tt> policy (defaults to <tt>Level.WARNING</tt>). </li>
+ * <li>   &lt;handler-name&gt;.sample
+ *        defines one in how many records is kept under the
+ *        <tt>SAMPLE</tt> policy (defaults to 10). </li>
+ * <li>   &lt;handler-name&gt;.target
+ *        specifies the name of the target <tt>Handler </tt> class.
+ *        (no default). </li>
+ * </ul>
+ * <p>
+ * For example, to write a log file on a background thread:
+ * <ul>
+ * <li>   handlers=java.util.logging.AsyncHandler </li>
+ * <li>   java.util.logging.AsyncHandler.target=java.util.logging.FileHandler </li>
+ * <li>   java.util.logging.AsyncHandler.overflow=DROP_LOWEST </li>
+ * </ul>
+ * <p>
+ * <p>
+ *  在后台线程上将记录交给目标<tt>处理程序</tt>的<tt>处理程序</tt>。
+ * <p>
+ *  记录日志的线程只检查此<tt>处理程序</tt>的级别和过滤器,并将<tt> LogRecord </tt>放入有界环形缓冲区,而不获取锁。
+ * 单个写入线程从缓冲区中批量取出记录,将它们发布到目标(由目标格式化并写入),并在缓冲区为空时刷新目标。因此,慢速磁盘只会延迟写入线程,而不会延迟记录日志的线程。
+ * <p>
+ *  由于记录稍后在另一个线程上发布,因此每条记录的源类名和方法名在缓冲之前按照{@link LogRecord}中的描述进行推断,除非目标使用格式不打印它们的{@link SimpleFormatter}来格式化记录。消息参数由目标格式化,因此在记录后不应修改它们。
+ * <p>
+ *  当缓冲区已满时,<tt> AsyncHandler </tt>的{@link Overflow}策略决定记录日志的线程是等待空间还是丢弃记录。
+ * 丢弃的记录数由{@link #getDroppedCount}给出,所有<tt> AsyncHandler </tt>的总数由{@link LoggingMXBean#getDroppedRecordCount}给出。
+ * <p>
+ *  <b>配置：</b>默认情况下,每个<tt> AsyncHandler </tt>都使用以下<tt> LogManager </tt>配置属性进行初始化,其中<tt>&lt; handler-name&gt; </tt>指处理程序的完全限定类名。
+ * 如果未定义属性(或具有无效值),则使用指定的默认值。如果没有定义默认值,那么抛出RuntimeException。
+ * <ul>
+ * <li>&lt; handler-name&gt; .level指定<tt>处理程序</tt>的级别(默认为<tt> Level.ALL </tt>)。
+ *  </li> <li>&lt; handler-name&gt; .filter指定要使用的<tt> Filter </tt>类的名称(默认为无<tt> Filter </tt>)。
+ *  </li> <li>&lt; handler-name&gt; .size定义缓冲区大小,向上舍入为2的幂(默认为1024)。
+ *  </li> <li>&lt; handler-name&gt; .batch定义写入线程在查找更多记录之前发布的最多记录数(默认为256)。
+ *  </li> <li>&lt; handler-name&gt; .overflow按名称指定<tt> Overflow </tt>策略(默认为<tt> BLOCK </tt>)。
+ *  </li> <li>&lt; handler-name&gt; .dropLevel定义在<tt> DROP_LOWEST </tt>策略下低于该级别的记录将被丢弃(默认为<tt> Level.WARNING </tt>)。
+ *  </li> <li>&lt; handler-name&gt; .sample定义在<tt> SAMPLE </tt>策略下每多少条记录保留一条(默认为10)。
+ *  </li> <li>&lt; handler-name&gt; .target指定目标<tt>处理程序</tt>类的名称。 (无默认值)。 </li>
+ * </ul>
+ * <p>
+ *  例如,要在后台线程上写入日志文件：
+ * <ul>
+ *  <li> handlers = java.util.logging.AsyncHandler </li> <li> java.util.logging.AsyncHandler.target = java.util.logging.FileHandler </li>
+ *  <li> java.util.logging.AsyncHandler.overflow = DROP_LOWEST </li>
+ * </ul>
+ * <p>
+ *
+ * @since 1.8
+ */
+
+public class AsyncHandler extends Handler {
+
+    /**
+     * What an <tt>AsyncHandler</tt> does with a record when its buffer is
+     * full.
+     * <p>
+     *  当<tt> AsyncHandler </tt>的缓冲区已满时如何处理记录。
+     *
+     * @since 1.8
+     */
+    public enum Overflow {
+        /**
+         * The logging thread waits until there is space for the record.
+         * <p>
+         *  记录日志的线程等待,直到有空间容纳该记录。
+         */
+        BLOCK,
+
+        /**
+         * Records below the drop level are dropped; the logging thread
+         * waits to buffer other records.
+         * <p>
+         *  低于丢弃级别的记录被丢弃;记录日志的线程等待缓冲其他记录。
+         */
+        DROP_LOWEST,
+
+        /**
+         * One in every <tt>sample</tt> records is kept, and the logging
+         * thread waits to buffer it; the others are dropped.
+         * <p>
+         *  每<tt> sample </tt>条记录中保留一条,记录日志的线程等待缓冲它;其他的被丢弃。
+         */
+        SAMPLE
+    }
+
+    private final static int DEFAULT_SIZE = 1024;
+    private final static int DEFAULT_BATCH = 256;
+    private final static int DEFAULT_SAMPLE = 10;
+
+    // how long a blocked logging thread or an idle writer parks at most
+    private final static long PARK_NANOS = 100_000L;
+    private final static long IDLE_NANOS = 100_000_000L;
+
+    // all open AsyncHandlers, for LoggingMXBean
+    private final static CopyOnWriteArrayList<AsyncHandler> handlers =
+        new CopyOnWriteArrayList<>();
+
+    private final static AtomicInteger threadNumber = new AtomicInteger();
+
+    private Handler target;
+    private volatile Overflow overflow;
+    private volatile Level dropLevel;
+    private volatile int sample;
+    private int batch;
+
+    /*
+     * The ring buffer.  A slot may be claimed by the producer that
+     * advances tail from the value of its sequence, and taken by the
+     * writer when its sequence is one past head; the writer then adds
+     * the capacity to the sequence, freeing the slot for the next lap.
+     * <p>
+     *  环形缓冲区。当槽的序列值等于tail时,生产者可以通过推进tail来占用该槽;当其序列比head大1时,写入线程取出该槽;然后写入线程将容量加到序列上,为下一圈释放该槽。
+     */
+    private AtomicReferenceArray<LogRecord> slots;
+    private AtomicLongArray sequences;
+    private int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    // head as of the last record handed to the target
+    private volatile long published;
+
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger sampled = new AtomicInteger();
+
+    private Thread writer;
+    private volatile boolean idle;
+    private volatile boolean closed;
+
+    // Private method to configure an AsyncHandler from LogManager
+    // properties and/or default values as specified in the class
+    // javadoc.
+    private int configure() {
+        LogManager manager = LogManager.getLogManager();
+        String cname = getClass().getName();
+        int size = manager.getIntProperty(cname + ".size", DEFAULT_SIZE);
+        if (size <= 0) {
+            size = DEFAULT_SIZE;
+        }
+        batch = manager.getIntProperty(cname + ".batch", DEFAULT_BATCH);
+        if (batch <= 0) {
+            batch = DEFAULT_BATCH;
+        }
+        overflow = Overflow.BLOCK;
+        String val = manager.getStringProperty(cname + ".overflow", null);
+        if (val != null) {
+            for (Overflow o : Overflow.values()) {
+                if (o.name().equalsIgnoreCase(val)) {
+                    overflow = o;
+                }
+            }
+        }
+        dropLevel = manager.getLevelProperty(cname + ".dropLevel", Level.WARNING);
+        sample = manager.getIntProperty(cname + ".sample", DEFAULT_SAMPLE);
+        if (sample <= 0) {
+            sample = DEFAULT_SAMPLE;
+        }
+        setLevel(manager.getLevelProperty(cname + ".level", Level.ALL));
+        setFilter(manager.getFilterProperty(cname + ".filter", null));
+        return size;
+    }
+
+    /**
+     * Create an <tt>AsyncHandler</tt> and configure it based on
+     * <tt>LogManager</tt> configuration properties.
+     * <p>
+     *  创建一个<tt> AsyncHandler </tt>,并根据<tt> LogManager </tt>配置属性配置它。
+     */
+    public AsyncHandler() {
+        sealed = false;
+        int size = configure();
+        sealed = true;
+
+        LogManager manager = LogManager.getLogManager();
+        String handlerName = getClass().getName();
+        String targetName = manager.getProperty(handlerName + ".target");
+        if (targetName == null) {
+            throw new RuntimeException("The handler " + handlerName
+                    + " does not specify a target");
+        }
+        Class<?> clz;
+        try {
+            clz = ClassLoader.getSystemClassLoader().loadClass(targetName);
+            target = (Handler) clz.newInstance();
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException("AsyncHandler can't load handler target \"" + targetName + "\"" , e);
+        }
+        init(size);
+    }
+
+    /**
+     * Create an <tt>AsyncHandler</tt>.
+     * <p>
+     * The <tt>AsyncHandler</tt> is configured based on <tt>LogManager</tt>
+     * properties (or their default values) except that the given target,
+     * buffer size and overflow policy are used.
+     * <p>
+     *  创建一个<tt> AsyncHandler </tt>。
+     * <p>
+     *  <tt> AsyncHandler </tt>基于<tt> LogManager </tt>属性(或其默认值)进行配置,但使用给定的目标、缓冲区大小和溢出策略。
+     *
+     * @param target  the Handler to which to publish records.
+     * @param size    the number of log records to buffer, rounded up
+     *                to a power of two (must be greater than zero)
+     * @param overflow  what to do with a record when the buffer is full
+     *
+     * @throws IllegalArgumentException if {@code size is <= 0}
+     */
+    public AsyncHandler(Handler target, int size, Overflow overflow) {
+        if (target == null || overflow == null) {
+            throw new NullPointerException();
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+        sealed = false;
+        configure();
+        sealed = true;
+        this.target = target;
+        this.overflow = overflow;
+        init(size);
+    }
+
+    // Initialize.  Size is a count of LogRecords.
+    private void init(int size) {
+        int capacity = Integer.highestOneBit(Math.min(size, 1 << 30));
+        if (capacity < size) {
+            capacity <<= 1;
+        }
+        slots = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        mask = capacity - 1;
+
+        final Runnable r = new Runnable() {
+            public void run() {
+                drain();
+            }
+        };
+        writer = AccessController.doPrivileged(new PrivilegedAction<Thread>() {
+            public Thread run() {
+                Thread t = new Thread(r, "AsyncHandler-" + threadNumber.incrementAndGet());
+                t.setDaemon(true);
+                t.setContextClassLoader(null);
+                return t;
+            }
+        });
+        writer.start();
+        handlers.add(this);
+    }
+
+    /**
+     * Buffer a <tt>LogRecord</tt> for publication by the writer thread.
+     * <p>
+     * The record is first checked with {@link #isLoggable}.  If the buffer
+     * is full the record is dropped or the calling thread waits, as the
+     * {@link Overflow} policy decides; a waiting thread drops the record
+     * after all if the handler is closed, or if an <tt>Error</tt> thrown by
+     * the target has ended the writer thread.  Records logged by the writer
+     * thread itself, that is by the target, are published directly.
+     * <p>
+     *  缓冲一个<tt> LogRecord </tt>以供写入线程发布。
+     * <p>
+     *  首先使用{@link #isLoggable}检查记录。如果缓冲区已满,则根据{@link Overflow}策略丢弃记录或调用线程等待;如果处理程序已关闭,或者目标抛出的<tt> Error </tt>已结束写入线程,等待的线程最终会丢弃该记录。写入线程本身(即目标)记录的记录将直接发布。
+     *
+     * @param  record  description of the log event. A null record is
+     *                 silently ignored and is not published
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        if (Thread.currentThread() == writer) {
+            target.publish(record);
+            return;
+        }
+        // infer the caller while it is still on the stack, unless the
+        // target's formatter is known not to print it
+        Formatter f = target.getFormatter();
+        if (f == null || f.getClass() != SimpleFormatter.class ||
+                SimpleFormatter.formatsSource()) {
+            record.getSourceClassName();
+        }
+        if (offer(record)) {
+            return;
+        }
+        switch (overflow) {
+            case DROP_LOWEST:
+                if (record.getLevel().intValue() < dropLevel.intValue()) {
+                    dropped.increment();
+                    return;
+                }
+                break;
+            case SAMPLE:
+                if (sampled.incrementAndGet() % sample != 0) {
+                    dropped.increment();
+                    return;
+                }
+                break;
+        }
+        do {
+            // the buffer is never drained once closed, or once an Error
+            // thrown by the target has ended the writer thread
+            if (closed || !writer.isAlive()) {
+                dropped.increment();
+                return;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, PARK_NANOS);
+        } while (!offer(record));
+    }
+
+    // Adds a record to the buffer, or returns false if it is full.
+    private boolean offer(LogRecord record) {
+        for (;;) {
+            long t = tail.get();
+            int i = (int)t & mask;
+            long seq = sequences.get(i);
+            if (seq == t) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    slots.set(i, record);
+                    sequences.set(i, t + 1);
+                    if (idle) {
+                        LockSupport.unpark(writer);
+                    }
+                    return true;
+                }
+            } else if (seq < t) {
+                return false;
+            }
+        }
+    }
+
+    // Takes the next record from the buffer, or returns null if there is
+    // none.  Only called by the writer thread.
+    private LogRecord poll() {
+        long h = head;
+        int i = (int)h & mask;
+        if (sequences.get(i) != h + 1) {
+            return null;
+        }
+        LogRecord record = slots.get(i);
+        slots.lazySet(i, null);
+        sequences.set(i, h + mask + 1);
+        head = h + 1;
+        return record;
+    }
+
+    // The writer thread: publishes records in batches until closed and
+    // drained, flushing the target whenever the buffer runs empty.
+    private void drain() {
+        LogRecord[] records = new LogRecord[batch];
+        boolean written = false;
+        for (;;) {
+            int n = 0;
+            LogRecord record;
+            while (n < records.length && (record = poll()) != null) {
+                records[n++] = record;
+            }
+            for (int i = 0; i < n; i++) {
+                try {
+                    target.publish(records[i]);
+                } catch (Exception ex) {
+                    reportError(null, ex, ErrorManager.WRITE_FAILURE);
+                }
+                records[i] = null;
+            }
+            published = head;
+            if (n == records.length) {
+                written = true;
+                continue;
+            }
+            if (n > 0 || written) {
+                try {
+                    target.flush();
+                } catch (Exception ex) {
+                    reportError(null, ex, ErrorManager.FLUSH_FAILURE);
+                }
+                written = false;
+            }
+            if (n > 0) {
+                continue;
+            }
+            idle = true;
+            if (head == tail.get()) {
+                if (closed) {
+                    return;
+                }
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+            idle = false;
+        }
+    }
+
+    /**
+     * Wait until the records buffered so far have been published, then
+     * flush the target <tt>Handler</tt>.
+     * <p>
+     *  等待到目前为止缓冲的记录被发布,然后刷新目标<tt>处理程序</tt>。
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() != writer) {
+            long t = tail.get();
+            while (published < t && writer.isAlive()) {
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+        target.flush();
+    }
+
+    /**
+     * Publish the buffered records, stop the writer thread and close the
+     * target <tt>Handler</tt>.  Records logged after this are discarded.
+     * <p>
+     *  发布缓冲的记录,停止写入线程并关闭目标<tt>处理程序</tt>。之后记录的记录将被丢弃。
+     *
+     * @exception  SecurityException  if a security manager exists and if
+     *             the caller does not have <tt>LoggingPermission("control")</tt>.
+     */
+    @Override
+    public void close() throws SecurityException {
+        checkPermission();
+        closed = true;
+        handlers.remove(this);
+        if (Thread.currentThread() != writer) {
+            LockSupport.unpark(writer);
+            boolean interrupted = false;
+            while (writer.isAlive()) {
+                try {
+                    writer.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        target.close();
+        setLevel(Level.OFF);
+    }
+
+    /**
+     * Set the <tt>Overflow</tt> policy.
+     * <p>
+     *  设置<tt> Overflow </tt>策略。
+     *
+     * @param overflow  what to do with a record when the buffer is full
+     * @exception  SecurityException  if a security manager exists and if
+     *             the caller does not have <tt>LoggingPermission("control")</tt>.
+     */
+    public void setOverflow(Overflow overflow) throws SecurityException {
+        if (overflow == null) {
+            throw new NullPointerException();
+        }
+        checkPermission();
+        this.overflow = overflow;
+    }
+
+    /**
+     * Get the <tt>Overflow</tt> policy.
+     * <p>
+     *  获取<tt> Overflow </tt>策略。
+     *
+     * @return what is done with a record when the buffer is full
+     */
+    public Overflow getOverflow() {
+        return overflow;
+    }
+
+    /**
+     * Set the level below which records are dropped under the
+     * <tt>DROP_LOWEST</tt> policy.
+     * <p>
+     *  设置在<tt> DROP_LOWEST </tt>策略下低于该级别的记录将被丢弃的级别。
+     *
+     * @param newLevel  the new drop level
+     * @exception  SecurityException  if a security manager exists and if
+     *             the caller does not have <tt>LoggingPermission("control")</tt>.
+     */
+    public void setDropLevel(Level newLevel) throws SecurityException {
+        if (newLevel == null) {
+            throw new NullPointerException();
+        }
+        checkPermission();
+        dropLevel = newLevel;
+    }
+
+    /**
+     * Get the level below which records are dropped under the
+     * <tt>DROP_LOWEST</tt> policy.
+     * <p>
+     *  获取在<tt> DROP_LOWEST </tt>策略下低于该级别的记录将被丢弃的级别。
+     *
+     * @return the drop level
+     */
+    public Level getDropLevel() {
+        return dropLevel;
+    }
+
+    /**
+     * Set one in how many records is kept under the <tt>SAMPLE</tt> policy.
+     * <p>
+     *  设置在<tt> SAMPLE </tt>策略下每多少条记录保留一条。
+     *
+     * @param sample  the sampling interval (must be greater than zero)
+     * @exception  SecurityException  if a security manager exists and if
+     *             the caller does not have <tt>LoggingPermission("control")</tt>.
+     * @throws IllegalArgumentException if {@code sample is <= 0}
+     */
+    public void setSample(int sample) throws SecurityException {
+        if (sample <= 0) {
+            throw new IllegalArgumentException();
+        }
+        checkPermission();
+        this.sample = sample;
+    }
+
+    /**
+     * Get one in how many records is kept under the <tt>SAMPLE</tt> policy.
+     * <p>
+     *  获取在<tt> SAMPLE </tt>策略下每多少条记录保留一条。
+     *
+     * @return the sampling interval
+     */
+    public int getSample() {
+        return sample;
+    }
+
+    /**
+     * Returns the number of records this <tt>AsyncHandler</tt> has dropped
+     * because its buffer was full or it was closed.
+     * <p>
+     *  返回此<tt> AsyncHandler </tt>因缓冲区已满或已关闭而丢弃的记录数。
+     *
+     * @return the number of dropped records
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of records buffered and not yet published.
+     * <p>
+     *  返回已缓冲但尚未发布的记录数。
+     *
+     * @return the number of pending records
+     */
+    public int getPendingCount() {
+        return (int)Math.max(0, tail.get() - published);
+    }
+
+    // Total of the records dropped by all open AsyncHandlers.
+    static long totalDroppedCount() {
+        long n = 0;
+        for (AsyncHandler h : handlers) {
+            n += h.dropped.sum();
+        }
+        return n;
+    }
+}
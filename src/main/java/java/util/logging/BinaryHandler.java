@@ -0,0 +1,242 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.logging;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * <tt>Handler</tt> that writes records in binary form, with a
+ * {@link BinaryLogWriter}, to a file or an output stream.
+ * <p>
+ * Records are not formatted as text when they are published, so the
+ * <tt>Formatter</tt> and encoding of a <tt>BinaryHandler</tt> are not
+ * used; a {@link BinaryLogReader} reads the records back to be formatted
+ * later.  The output is buffered by the writer, and written when its
+ * buffer is full or the handler is flushed or closed.
+ * <p>
+ * <b>Configuration:</b>
+ * By default each <tt>BinaryHandler</tt> is initialized using the following
+ * <tt>LogManager</tt> configuration properties where <tt>&lt;handler-name&gt;</tt>
+ * refers to the fully-qualified class name of the handler.
+ * If properties are not defined
+ * (or have invalid values) then the specified default values are used.
+ * <ul>
+ * <li>   &lt;handler-name&gt;.level
+ *        specifies the default level for the <tt>Handler</tt>
+ *        (defaults to <tt>Level.ALL</tt>). </li>
+ * <li>   &lt;handler-name&gt;.filter
+ *        specifies the name of a <tt>Filter</tt> class to use
+ *        (defaults to no <tt>Filter</tt>). </li>
+ * <li>   &lt;handler-name&gt;.pattern
+ *        specifies a pattern for generating the output file name, as for
+ *        <tt>FileHandler</tt>, except that "%g" and "%u" are always 0.
+ *        (Defaults to "%h/java%u.blog"). </li>
+ * <li>   &lt;handler-name&gt;.append
+ *        specifies whether the <tt>BinaryHandler</tt> should append onto
+ *        an existing file (defaults to false). </li>
+ * </ul>
+ * <p>
+ * For example, the properties for {@code BinaryHandler} would be:
+ * <ul>
+ * <li>   java.util.logging.BinaryHandler.pattern=%h/audit.blog </li>
+ * <li>   java.util.logging.BinaryHandler.append=true </li>
+ * </ul>
+ * <p>
+ * <p>
+ *  以二进制形式使用{@link BinaryLogWriter}将记录写入文件或输出流的<tt>处理程序</tt>。
+ * <p>
+ *  记录在发布时不会格式化为文本,因此不使用<tt> BinaryHandler </tt>的<tt>格式化程序</tt>和编码; {@link BinaryLogReader}读回记录以供稍后格式化。
+ * 输出由写入器缓冲,并在其缓冲区已满或处理程序被刷新或关闭时写入。
+ * <p>
+ *  <b>配置：</b>默认情况下,每个<tt> BinaryHandler </tt>都使用以下<tt> LogManager </tt>配置属性进行初始化,其中<tt>&lt; handler-name&gt; </tt>指处理程序的完全限定类名。
+ * 如果未定义属性(或具有无效值),则使用指定的默认值。
+ * <ul>
+ * <li>&lt; handler-name&gt; .level指定<tt>处理程序</tt>的默认级别(默认为<tt> Level.ALL </tt>)。
+ *  </li> <li>&lt; handler-name&gt; .filter指定要使用的<tt> Filter </tt>类的名称(默认为无<tt> Filter </tt>)。
+ *  </li> <li>&lt; handler-name&gt; .pattern指定用于生成输出文件名的模式,与<tt> FileHandler </tt>相同,但"%g"和"%u"始终为0。(默认为"%h/java%u.blog")。
+ *  </li> <li>&lt; handler-name&gt; .append指定<tt> BinaryHandler </tt>是否应追加到现有文件(默认为false)。 </li>
+ * </ul>
+ * <p>
+ *  例如,{@code BinaryHandler}的属性将是：
+ * <ul>
+ *  <li> java.util.logging.BinaryHandler.pattern =%h/audit.blog </li> <li> java.util.logging.BinaryHandler.append = true </li>
+ * </ul>
+ * <p>
+ *
+ * @see BinaryLogReader
+ * @since 1.8
+ */
+
+public class BinaryHandler extends Handler {
+    private String pattern;
+    private boolean append;
+    private BinaryLogWriter writer;
+
+    // Private method to configure a BinaryHandler from LogManager
+    // properties and/or default values as specified in the class
+    // javadoc.
+    private void configure() {
+        LogManager manager = LogManager.getLogManager();
+
+        String cname = getClass().getName();
+
+        pattern = manager.getStringProperty(cname + ".pattern", "%h/java%u.blog");
+        append = manager.getBooleanProperty(cname + ".append", false);
+        setLevel(manager.getLevelProperty(cname + ".level", Level.ALL));
+        setFilter(manager.getFilterProperty(cname + ".filter", null));
+    }
+
+    /**
+     * Construct a default <tt>BinaryHandler</tt>.  This will be configured
+     * entirely from <tt>LogManager</tt> properties (or their default values).
+     * <p>
+     *  构造一个默认的<tt> BinaryHandler </tt>。这将完全从<tt> LogManager </tt>属性(或其默认值)进行配置。
+     *
+     * @exception  IOException if there are IO problems opening the file.
+     * @exception  SecurityException  if a security manager exists and if
+     *             the caller does not have <tt>LoggingPermission("control"))</tt>.
+     */
+    public BinaryHandler() throws IOException, SecurityException {
+        checkPermission();
+        configure();
+        open();
+    }
+
+    /**
+     * Initialize a <tt>BinaryHandler</tt> to write to the given filename,
+     * with optional append.
+     * <p>
+     *  初始化<tt> BinaryHandler </tt>以写入给定的文件名,可选择追加。
+     *
+     * @param pattern  the name of the output file
+     * @param append  specifies append mode
+     * @exception  IOException if there are IO problems opening the file.
+     * @exception  SecurityException  if a security manager exists and if
+     *             the caller does not have <tt>LoggingPermission("control")</tt>.
+     * @exception  IllegalArgumentException if pattern is an empty string
+     */
+    public BinaryHandler(String pattern, boolean append)
+        throws IOException, SecurityException
+    {
+        if (pattern.length() < 1) {
+            throw new IllegalArgumentException();
+        }
+        checkPermission();
+        configure();
+        this.pattern = pattern;
+        this.append = append;
+        open();
+    }
+
+    /**
+     * Create a <tt>BinaryHandler</tt> that writes to the given output
+     * stream, configured otherwise from <tt>LogManager</tt> properties (or
+     * their default values).
+     * <p>
+     *  创建写入给定输出流的<tt> BinaryHandler </tt>,其他方面从<tt> LogManager </tt>属性(或其默认值)进行配置。
+     *
+     * @param out  the output stream
+     * @exception  IOException if there are IO problems writing the header.
+     */
+    public BinaryHandler(OutputStream out) throws IOException {
+        sealed = false;
+        configure();
+        sealed = true;
+        writer = new BinaryLogWriter(out);
+    }
+
+    private void open() throws IOException {
+        String name = FileHandler.generate(pattern, 1, 0, 0).toString();
+        OutputStream out = new FileOutputStream(name, append);
+        try {
+            writer = new BinaryLogWriter(out);
+        } catch (IOException | RuntimeException x) {
+            out.close();
+            throw x;
+        }
+    }
+
+    /**
+     * Write a <tt>LogRecord</tt>, in binary form.
+     * <p>
+     *  以二进制形式写入<tt> LogRecord </tt>。
+     *
+     * @param  record  description of the log event. A null record is
+     *                 silently ignored and is not published
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        try {
+            writer.write(record);
+        } catch (Exception ex) {
+            // We don't want to throw an exception here, but we
+            // report the exception to any registered ErrorManager.
+            reportError(null, ex, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    /**
+     * Flush any buffered records.
+     * <p>
+     *  刷新任何缓冲的记录。
+     */
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (Exception ex) {
+            // We don't want to throw an exception here, but we
+            // report the exception to any registered ErrorManager.
+            reportError(null, ex, ErrorManager.FLUSH_FAILURE);
+        }
+    }
+
+    /**
+     * Write any buffered records and close the output.
+     * <p>
+     *  写入任何缓冲的记录并关闭输出。
+     *
+     * @exception  SecurityException  if a security manager exists and if
+     *             the caller does not have <tt>LoggingPermission("control")</tt>.
+     */
+    @Override
+    public void close() throws SecurityException {
+        checkPermission();
+        try {
+            writer.close();
+        } catch (Exception ex) {
+            // We don't want to throw an exception here, but we
+            // report the exception to any registered ErrorManager.
+            reportError(null, ex, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+}
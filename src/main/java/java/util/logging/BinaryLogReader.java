@@ -0,0 +1,401 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.logging;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+import static java.util.logging.BinaryLogWriter.*;
+
+/**
+ * Reads the <tt>LogRecords</tt> written by a {@link BinaryLogWriter}.
+ * <p>
+ * The records read have the level, logger name, time, sequence number,
+ * thread ID, source names, resource bundle name, message and parameters
+ * of the records written; their resource bundles are not loaded.  A level
+ * that is not known to this virtual machine by its name and value is
+ * created.  A thrown exception is read back as a <tt>Throwable</tt> whose
+ * string form, stack trace and causes are those of the exception written,
+ * but not its class.
+ * <p>
+ * The records can be formatted as text with any <tt>Formatter</tt>.  This
+ * class can be run as a program, which prints the records of the given
+ * files, or of the standard input, with a <tt>SimpleFormatter</tt>:
+ * <blockquote><pre>
+ *     java java.util.logging.BinaryLogReader audit.blog
+ * </pre></blockquote>
+ * <p>
+ * <p>
+ *  读取由{@link BinaryLogWriter}写入的<tt> LogRecords </tt>。
+ * <p>
+ *  读取的记录具有所写记录的级别、记录器名称、时间、序列号、线程ID、源名称、资源包名称、消息和参数;不加载其资源包。
+ * 创建此虚拟机按名称和值不知道的级别。抛出的异常被读回为<tt> Throwable </tt>,其字符串形式、堆栈跟踪和原因与所写异常相同,但类不同。
+ * <p>
+ *  可以使用任何<tt>格式化程序</tt>将记录格式化为文本。此类可以作为程序运行,使用<tt> SimpleFormatter </tt>打印给定文件或标准输入的记录：
+ * <blockquote><pre>
+ *     java java.util.logging.BinaryLogReader audit.blog
+ * </pre></blockquote>
+ *
+ * @see BinaryLogWriter
+ * @since 1.8
+ */
+public final class BinaryLogReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private int pos;
+    private int count;
+    private char[] cbuf = new char[128];
+
+    private final ArrayList<String> names = new ArrayList<>();
+    private final ArrayList<Level> levels = new ArrayList<>();
+    private long lastMillis;
+    private long lastSequence;
+
+    /**
+     * Creates a reader of the records in the given input stream, which
+     * must start with the header written by a <tt>BinaryLogWriter</tt>.
+     * <p>
+     *  创建给定输入流中记录的读取器,该输入流必须以<tt> BinaryLogWriter </tt>写入的头开始。
+     *
+     * @param in the input stream
+     * @throws IOException if an I/O error occurs, or the stream does not
+     *         start with a header
+     */
+    public BinaryLogReader(InputStream in) throws IOException {
+        if (in == null) {
+            throw new NullPointerException();
+        }
+        this.in = in;
+        if (!fill() || buf[pos] != HEADER) {
+            throw new IOException("Not a binary log");
+        }
+    }
+
+    /**
+     * Reads the next record.
+     * <p>
+     *  读取下一条记录。
+     *
+     * @return the record, or null at the end of the stream
+     * @throws IOException if an I/O error occurs, or the stream ends
+     *         within a record or is not in the binary log format
+     */
+    public LogRecord read() throws IOException {
+        for (;;) {
+            if (pos >= count && !fill()) {
+                return null;
+            }
+            byte tag = buf[pos++];
+            if (tag == RECORD) {
+                return readRecord();
+            }
+            if (tag != HEADER) {
+                throw new IOException("Bad record tag: " + tag);
+            }
+            readHeader();
+        }
+    }
+
+    /**
+     * Closes the input stream.
+     * <p>
+     *  关闭输入流。
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public void close() throws IOException {
+        in.close();
+    }
+
+    // The header of a writer's output: its names are numbered afresh.
+    private void readHeader() throws IOException {
+        for (int i = 1; i < MAGIC.length; i++) {
+            if (readByte() != MAGIC[i]) {
+                throw new IOException("Bad header");
+            }
+        }
+        int version = readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version: " + version);
+        }
+        names.clear();
+        levels.clear();
+        lastMillis = 0;
+        lastSequence = 0;
+    }
+
+    private LogRecord readRecord() throws IOException {
+        long millis = lastMillis + readZigZag();
+        lastMillis = millis;
+        long sequence = lastSequence + readZigZag();
+        lastSequence = sequence;
+        int threadID = (int) readZigZag();
+        Level level = readLevel();
+        String logger = readName();
+        String sourceClass = readName();
+        String sourceMethod = readName();
+        String bundle = readName();
+        String message = readName();
+
+        LogRecord record = new LogRecord(level, message);
+        record.setMillis(millis);
+        record.setSequenceNumber(sequence);
+        record.setThreadID(threadID);
+        record.setLoggerName(logger);
+        record.setSourceClassName(sourceClass);
+        record.setSourceMethodName(sourceMethod);
+        record.setResourceBundleName(bundle);
+        int n = (int) readVarLong();
+        if (n > 0) {
+            Object[] params = new Object[n - 1];
+            for (int i = 0; i < params.length; i++) {
+                params[i] = readParameter();
+            }
+            record.setParameters(params);
+        }
+        if (readByte() != 0) {
+            record.setThrown(readThrowable());
+        }
+        return record;
+    }
+
+    private Level readLevel() throws IOException {
+        int n = (int) readVarLong();
+        if (n != LEVEL_DEFINE) {
+            return levels.get(n - LEVEL_FIRST);
+        }
+        String name = readString();
+        int value = (int) readZigZag();
+        Level level = Level.findLevel(name);
+        if (level == null || level.intValue() != value) {
+            level = new Level(name, value);
+        }
+        levels.add(level);
+        return level;
+    }
+
+    private String readName() throws IOException {
+        int n = (int) readVarLong();
+        switch (n) {
+            case NAME_NULL:
+                return null;
+            case NAME_LITERAL:
+                return readString();
+            case NAME_DEFINE:
+                String s = readString();
+                names.add(s);
+                return s;
+            default:
+                if (n - NAME_FIRST >= names.size()) {
+                    throw new IOException("Bad name number: " + n);
+                }
+                return names.get(n - NAME_FIRST);
+        }
+    }
+
+    private Object readParameter() throws IOException {
+        byte type = readByte();
+        switch (type) {
+            case PARAM_NULL:
+                return null;
+            case PARAM_STRING:
+            case PARAM_OTHER:
+                return readString();
+            case PARAM_INT:
+                return (int) readZigZag();
+            case PARAM_LONG:
+                return readZigZag();
+            case PARAM_DOUBLE:
+                return Double.longBitsToDouble(readFixed(8));
+            case PARAM_FLOAT:
+                return Float.intBitsToFloat((int) readFixed(4));
+            case PARAM_BOOLEAN:
+                return readByte() != 0;
+            case PARAM_CHAR:
+                return (char) readVarLong();
+            case PARAM_SHORT:
+                return (short) readZigZag();
+            case PARAM_BYTE:
+                return readByte();
+            default:
+                throw new IOException("Bad parameter type: " + type);
+        }
+    }
+
+    private Throwable readThrowable() throws IOException {
+        String className = readName();
+        String message = readName();
+        int n = (int) readVarLong();
+        StackTraceElement[] frames = new StackTraceElement[n];
+        for (int i = 0; i < n; i++) {
+            String declaringClass = readName();
+            String methodName = readName();
+            String fileName = readName();
+            int lineNumber = (int) readZigZag();
+            frames[i] = new StackTraceElement(declaringClass, methodName,
+                                              fileName, lineNumber);
+        }
+        Throwable cause = (readByte() != 0) ? readThrowable() : null;
+        Throwable t = new RecordedThrowable(className, message, cause);
+        t.setStackTrace(frames);
+        return t;
+    }
+
+    /*
+     * An exception read back, which prints as the exception written.
+     * <p>
+     *  读回的异常,其打印形式与所写的异常相同。
+     */
+    private static final class RecordedThrowable extends Throwable {
+        private static final long serialVersionUID = 2462364390454146592L;
+
+        private final String className;
+
+        RecordedThrowable(String className, String message, Throwable cause) {
+            super(message, cause, false, true);
+            this.className = className;
+        }
+
+        @Override
+        public String toString() {
+            String message = getLocalizedMessage();
+            return (message != null) ? (className + ": " + message) : className;
+        }
+    }
+
+    private String readString() throws IOException {
+        int utflen = (int) readVarLong();
+        if (cbuf.length < utflen) {
+            cbuf = new char[Math.max(utflen, cbuf.length * 2)];
+        }
+        char[] c = cbuf;
+        int n = 0;
+        int end = utflen;
+        for (int i = 0; i < end; i++) {
+            int b = readByte() & 0xFF;
+            if (b < 0x80) {
+                c[n++] = (char) b;
+            } else if ((b & 0xE0) == 0xC0) {
+                int b2 = readByte();
+                i++;
+                c[n++] = (char) (((b & 0x1F) << 6) | (b2 & 0x3F));
+            } else if ((b & 0xF0) == 0xE0) {
+                int b2 = readByte();
+                int b3 = readByte();
+                i += 2;
+                c[n++] = (char) (((b & 0x0F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F));
+            } else {
+                throw new IOException("Malformed string");
+            }
+        }
+        return new String(c, 0, n);
+    }
+
+    private long readZigZag() throws IOException {
+        long v = readVarLong();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private long readVarLong() throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readByte();
+            v |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return v;
+            }
+        }
+        throw new IOException("Malformed integer");
+    }
+
+    private long readFixed(int n) throws IOException {
+        long v = 0;
+        for (int i = 0; i < n; i++) {
+            v |= (long) (readByte() & 0xFF) << (8 * i);
+        }
+        return v;
+    }
+
+    private byte readByte() throws IOException {
+        if (pos >= count && !fill()) {
+            throw new EOFException("Truncated record");
+        }
+        return buf[pos++];
+    }
+
+    // Refills the buffer, returning false at the end of the stream.
+    private boolean fill() throws IOException {
+        int n = in.read(buf, 0, buf.length);
+        if (n <= 0) {
+            return false;
+        }
+        pos = 0;
+        count = n;
+        return true;
+    }
+
+    /**
+     * Prints the records in the given files, or in the standard input if
+     * none is given, formatted by a <tt>SimpleFormatter</tt>, to the
+     * standard output.
+     * <p>
+     *  将给定文件(如果未给出则为标准输入)中的记录用<tt> SimpleFormatter </tt>格式化后打印到标准输出。
+     *
+     * @param args the names of the files to print
+     * @throws IOException if an I/O error occurs, or a file is not in the
+     *         binary log format
+     */
+    public static void main(String[] args) throws IOException {
+        Formatter formatter = new SimpleFormatter();
+        PrintStream out = System.out;
+        if (args.length == 0) {
+            print(new BinaryLogReader(System.in), formatter, out);
+        }
+        for (String name : args) {
+            try (InputStream in = new FileInputStream(name)) {
+                print(new BinaryLogReader(in), formatter, out);
+            }
+        }
+        out.flush();
+    }
+
+    private static void print(BinaryLogReader reader, Formatter formatter,
+                              PrintStream out) throws IOException {
+        LogRecord record;
+        while ((record = reader.read()) != null) {
+            out.print(formatter.format(record));
+        }
+    }
+}
@@ -0,0 +1,537 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.logging;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+
+/**
+ * Writes <tt>LogRecords</tt> to an output stream in a compact binary form,
+ * which a {@link BinaryLogReader} turns back into <tt>LogRecords</tt>.
+ * <p>
+ * Formatting a record as text, as <tt>SimpleFormatter</tt> and
+ * <tt>XMLFormatter</tt> do, costs a <tt>String.format</tt> or a large
+ * <tt>StringBuilder</tt> per record, and yields a file in which each record
+ * repeats its logger, level and source names.  A <tt>BinaryLogWriter</tt>
+ * instead writes each field of a record as it is: the time and sequence
+ * number as differences from the previous record's, integers in as few
+ * bytes as their values need, and logger, level, source and message
+ * template names as numbers once they have occurred, the name itself being
+ * written only the first time.  The message parameters keep their types
+ * where they are strings, primitive wrappers or null; other parameters are
+ * written as their <tt>toString</tt>.  A thrown exception is written as its
+ * class name, message, stack trace and causes.
+ * <p>
+ * Records are encoded into a buffer owned by the writer, without
+ * allocating, and the buffer is written to the output stream when it is
+ * full or {@link #flush flushed}; an output stream that buffers is not
+ * needed.  The record being encoded is kept whole in the buffer, so that a
+ * record that cannot be written, as when a parameter's <tt>toString</tt>
+ * throws, is dropped without a trace in the output.  If writing to the
+ * output stream fails, the stream may end within a record, and the next
+ * record is preceded by a new header.  Messages are numbered rather than
+ * written in full when the record has parameters or a resource bundle,
+ * that is when the message is a template or a key; other messages are
+ * written in full.
+ * <p>
+ * Each writer starts with a header, after which names are numbered afresh,
+ * so that the output of several writers can be concatenated, as when a
+ * file is appended to.  Writers are safe for use by multiple concurrent
+ * threads.
+ * <p>
+ * <p>
+ *  以紧凑的二进制形式将<tt> LogRecords </tt>写入输出流,{@link BinaryLogReader}可将其还原为<tt> LogRecords </tt>。
+ * <p>
+ *  像<tt> SimpleFormatter </tt>和<tt> XMLFormatter </tt>那样将记录格式化为文本,每条记录都需要一次<tt> String.format </tt>或一个大的<tt> StringBuilder </tt>,
+ * 并且生成的文件中每条记录都会重复其记录器、级别和源名称。
+ * <tt> BinaryLogWriter </tt>则按原样写入记录的每个字段：时间和序列号作为与前一条记录的差值,整数用其值所需的尽可能少的字节,
+ * 记录器、级别、源和消息模板名称在出现过后以数字表示,名称本身仅在第一次写入。
+ * 消息参数在是字符串、基本类型包装器或null时保留其类型;其他参数写为其<tt> toString </tt>。抛出的异常写为其类名、消息、堆栈跟踪和原因。
+ * <p>
+ *  记录被编码到写入器拥有的缓冲区中,不进行分配,缓冲区在已满或被{@link #flush刷新}时写入输出流;不需要带缓冲的输出流。
+ * 正在编码的记录完整地保留在缓冲区中,因此无法写入的记录(例如当参数的<tt> toString </tt>抛出异常时)会被丢弃,不会在输出中留下痕迹。
+ * 如果写入输出流失败,流可能在一条记录中间结束,下一条记录之前会写入一个新的头。
+ * 当记录具有参数或资源包时(即消息是模板或键时),消息被编号而不是完整写入;其他消息被完整写入。
+ * <p>
+ *  每个写入器以一个头开始,之后名称重新编号,因此可以连接多个写入器的输出,例如在追加到文件时。写入器可以安全地由多个并发线程使用。
+ *
+ * @see BinaryLogReader
+ * @see BinaryHandler
+ * @since 1.8
+ */
+public final class BinaryLogWriter implements Closeable, Flushable {
+
+    /*
+     * The format.  A header is the bytes "JLOG" and the version.  Each
+     * record starts with the RECORD tag; then come, as variable-length
+     * integers unless stated otherwise:
+     *
+     *   millis - previous millis (zigzag)
+     *   sequence number - previous sequence number (zigzag)
+     *   thread ID (zigzag)
+     *   level: 0, name, value (zigzag) to define the next level number,
+     *          or 1 + a level number
+     *   logger name, source class name, source method name,
+     *   resource bundle name, message: names, see below
+     *   parameters: 0 for null, or 1 + count, then for each a type byte
+     *               and its value
+     *   thrown: a byte, 0 for none or 1 then the throwable: class name,
+     *           message, frame count, for each frame its class, method and
+     *           file names and line number (zigzag), then a byte, 1 if a
+     *           cause follows
+     *
+     * A name is 0 for null, 1 then a string written in full, 2 then a
+     * string that becomes the next name number, or 3 + a name number.
+     * A string is its length in bytes and its chars encoded as in
+     * DataOutput.writeUTF.
+     * <p>
+     *  格式。头是字节"JLOG"和版本。每条记录以RECORD标记开始;然后是(除非另有说明)可变长度整数：毫秒差、序列号差、线程ID、级别、名称、参数和抛出的异常,如上所述。
+     *  名称为0表示null,1后跟完整写入的字符串,2后跟成为下一个名称编号的字符串,或3 +名称编号。字符串是其字节长度及按DataOutput.writeUTF编码的字符。
+     */
+    static final byte HEADER = 'J';
+    static final byte[] MAGIC = { 'J', 'L', 'O', 'G' };
+    static final byte VERSION = 1;
+    static final byte RECORD = 1;
+
+    static final int NAME_NULL = 0;
+    static final int NAME_LITERAL = 1;
+    static final int NAME_DEFINE = 2;
+    static final int NAME_FIRST = 3;
+
+    static final int LEVEL_DEFINE = 0;
+    static final int LEVEL_FIRST = 1;
+
+    static final byte PARAM_NULL = 0;
+    static final byte PARAM_STRING = 1;
+    static final byte PARAM_INT = 2;
+    static final byte PARAM_LONG = 3;
+    static final byte PARAM_DOUBLE = 4;
+    static final byte PARAM_FLOAT = 5;
+    static final byte PARAM_BOOLEAN = 6;
+    static final byte PARAM_CHAR = 7;
+    static final byte PARAM_SHORT = 8;
+    static final byte PARAM_BYTE = 9;
+    static final byte PARAM_OTHER = 10;
+
+    // most names numbered, after which names are written in full
+    static final int MAX_NAMES = 65536;
+    // most causes written for a thrown exception
+    static final int MAX_CAUSES = 16;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private byte[] buf = new byte[BUFFER_SIZE];
+    private int count;
+    // start of the record being written; the bytes before it are whole
+    // records, which alone are written out when the buffer is full
+    private int mark;
+    // set when writing to the output stream failed
+    private boolean resync;
+
+    private final HashMap<String, Integer> names = new HashMap<>();
+    // by identity, as Level.equals compares values only
+    private final IdentityHashMap<Level, Integer> levels = new IdentityHashMap<>();
+    private long lastMillis;
+    private long lastSequence;
+    private boolean closed;
+
+    /**
+     * Creates a writer that writes records to the given output stream,
+     * starting with a header.
+     * <p>
+     *  创建一个将记录写入给定输出流的写入器,以头开始。
+     *
+     * @param out the output stream
+     * @throws IOException if an I/O error occurs writing the header
+     */
+    public BinaryLogWriter(OutputStream out) throws IOException {
+        if (out == null) {
+            throw new NullPointerException();
+        }
+        this.out = out;
+        writeHeader();
+        drain();
+    }
+
+    /**
+     * Writes a record.  The record is buffered until the buffer is full
+     * or the writer is flushed.
+     * <p>
+     *  写入一条记录。记录被缓冲,直到缓冲区已满或写入器被刷新。
+     *
+     * @param record the record
+     * @throws IOException if an I/O error occurs, or the writer is closed
+     */
+    public synchronized void write(LogRecord record) throws IOException {
+        if (closed) {
+            throw new IOException("Writer closed");
+        }
+        Object[] params = record.getParameters();
+        String[] others = null;
+        if (params != null) {
+            for (int i = 0; i < params.length; i++) {
+                if (isOther(params[i])) {
+                    if (others == null) {
+                        others = new String[params.length];
+                    }
+                    others[i] = String.valueOf(params[i]);
+                }
+            }
+        }
+        if (resync) {
+            // the stream may end within a record; start afresh
+            names.clear();
+            levels.clear();
+            lastMillis = 0;
+            lastSequence = 0;
+            writeHeader();
+            mark = count;
+            resync = false;
+        }
+        long prevMillis = lastMillis;
+        long prevSequence = lastSequence;
+        int nameCount = names.size();
+        int levelCount = levels.size();
+        boolean done = false;
+        try {
+            writeRecord(record, params, others);
+            done = true;
+        } finally {
+            if (done) {
+                mark = count;
+            } else {
+                // drop the record, and the names and levels it defined
+                count = mark;
+                lastMillis = prevMillis;
+                lastSequence = prevSequence;
+                for (Iterator<Integer> i = names.values().iterator(); i.hasNext(); ) {
+                    if (i.next() >= nameCount) {
+                        i.remove();
+                    }
+                }
+                for (Iterator<Integer> i = levels.values().iterator(); i.hasNext(); ) {
+                    if (i.next() >= levelCount) {
+                        i.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeRecord(LogRecord record, Object[] params,
+                             String[] others) throws IOException {
+        writeByte(RECORD);
+        long millis = record.getMillis();
+        writeZigZag(millis - lastMillis);
+        lastMillis = millis;
+        long sequence = record.getSequenceNumber();
+        writeZigZag(sequence - lastSequence);
+        lastSequence = sequence;
+        writeZigZag(record.getThreadID());
+        writeLevel(record.getLevel());
+        writeName(record.getLoggerName(), true);
+        writeName(record.getSourceClassName(), true);
+        writeName(record.getSourceMethodName(), true);
+        String bundle = record.getResourceBundleName();
+        writeName(bundle, true);
+        writeName(record.getMessage(), params != null || bundle != null);
+        if (params == null) {
+            writeVarLong(0);
+        } else {
+            writeVarLong(params.length + 1);
+            for (int i = 0; i < params.length; i++) {
+                writeParameter(params[i], (others == null) ? null : others[i]);
+            }
+        }
+        Throwable thrown = record.getThrown();
+        if (thrown == null) {
+            writeByte(0);
+        } else {
+            writeByte(1);
+            writeThrowable(thrown);
+        }
+    }
+
+    /**
+     * Writes the buffered records to the output stream, and flushes it.
+     * <p>
+     *  将缓冲的记录写入输出流并刷新它。
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public synchronized void flush() throws IOException {
+        if (!closed) {
+            drain();
+            out.flush();
+        }
+    }
+
+    /**
+     * Writes the buffered records to the output stream, and closes it.
+     * <p>
+     *  将缓冲的记录写入输出流并关闭它。
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                drain();
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        for (byte b : MAGIC) {
+            writeByte(b);
+        }
+        writeByte(VERSION);
+    }
+
+    private void writeLevel(Level level) throws IOException {
+        Integer n = levels.get(level);
+        if (n != null) {
+            writeVarLong(LEVEL_FIRST + n);
+        } else {
+            writeVarLong(LEVEL_DEFINE);
+            writeString(level.getName());
+            writeZigZag(level.intValue());
+            levels.put(level, levels.size());
+        }
+    }
+
+    private void writeName(String s, boolean number) throws IOException {
+        if (s == null) {
+            writeVarLong(NAME_NULL);
+            return;
+        }
+        if (number) {
+            Integer n = names.get(s);
+            if (n != null) {
+                writeVarLong(NAME_FIRST + n);
+                return;
+            }
+            if (names.size() < MAX_NAMES) {
+                names.put(s, names.size());
+                writeVarLong(NAME_DEFINE);
+                writeString(s);
+                return;
+            }
+        }
+        writeVarLong(NAME_LITERAL);
+        writeString(s);
+    }
+
+    // Returns true if the given parameter is written as its toString.
+    private static boolean isOther(Object p) {
+        return p != null && !(p instanceof String || p instanceof Integer
+            || p instanceof Long || p instanceof Double || p instanceof Float
+            || p instanceof Boolean || p instanceof Character
+            || p instanceof Short || p instanceof Byte);
+    }
+
+    // Writes a parameter; other is its toString if isOther(p).
+    private void writeParameter(Object p, String other) throws IOException {
+        if (p == null) {
+            writeByte(PARAM_NULL);
+        } else if (p instanceof String) {
+            writeByte(PARAM_STRING);
+            writeString((String)p);
+        } else if (p instanceof Integer) {
+            writeByte(PARAM_INT);
+            writeZigZag((Integer)p);
+        } else if (p instanceof Long) {
+            writeByte(PARAM_LONG);
+            writeZigZag((Long)p);
+        } else if (p instanceof Double) {
+            writeByte(PARAM_DOUBLE);
+            writeFixed(Double.doubleToRawLongBits((Double)p));
+        } else if (p instanceof Float) {
+            writeByte(PARAM_FLOAT);
+            writeFixed(Float.floatToRawIntBits((Float)p));
+        } else if (p instanceof Boolean) {
+            writeByte(PARAM_BOOLEAN);
+            writeByte((Boolean)p ? 1 : 0);
+        } else if (p instanceof Character) {
+            writeByte(PARAM_CHAR);
+            writeVarLong((Character)p);
+        } else if (p instanceof Short) {
+            writeByte(PARAM_SHORT);
+            writeZigZag((Short)p);
+        } else if (p instanceof Byte) {
+            writeByte(PARAM_BYTE);
+            writeByte((Byte)p);
+        } else {
+            writeByte(PARAM_OTHER);
+            writeString(other);
+        }
+    }
+
+    private void writeThrowable(Throwable t) throws IOException {
+        for (int depth = 0; ; depth++) {
+            writeName(t.getClass().getName(), true);
+            writeName(t.getLocalizedMessage(), false);
+            StackTraceElement[] frames = t.getStackTrace();
+            writeVarLong(frames.length);
+            for (StackTraceElement frame : frames) {
+                writeName(frame.getClassName(), true);
+                writeName(frame.getMethodName(), true);
+                writeName(frame.getFileName(), true);
+                writeZigZag(frame.getLineNumber());
+            }
+            Throwable cause = t.getCause();
+            if (cause == null || cause == t || depth + 1 >= MAX_CAUSES) {
+                writeByte(0);
+                return;
+            }
+            writeByte(1);
+            t = cause;
+        }
+    }
+
+    // Writes the length in bytes and the chars of the given string, each
+    // in one to three bytes as DataOutput.writeUTF does.
+    private void writeString(String s) throws IOException {
+        int len = s.length();
+        int utflen = 0;
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            utflen += (c >= 0x0001 && c <= 0x007F) ? 1 : (c > 0x07FF) ? 3 : 2;
+        }
+        writeVarLong(utflen);
+        ensure(utflen);
+        byte[] b = buf;
+        int n = count;
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                b[n++] = (byte) c;
+            } else if (c > 0x07FF) {
+                b[n++] = (byte) (0xE0 | ((c >> 12) & 0x0F));
+                b[n++] = (byte) (0x80 | ((c >>  6) & 0x3F));
+                b[n++] = (byte) (0x80 | ( c        & 0x3F));
+            } else {
+                b[n++] = (byte) (0xC0 | ((c >>  6) & 0x1F));
+                b[n++] = (byte) (0x80 | ( c        & 0x3F));
+            }
+        }
+        count = n;
+    }
+
+    private void writeZigZag(long v) throws IOException {
+        writeVarLong((v << 1) ^ (v >> 63));
+    }
+
+    // Writes seven bits per byte, low bits first, the high bit of each
+    // byte but the last set.
+    private void writeVarLong(long v) throws IOException {
+        ensure(10);
+        byte[] b = buf;
+        int n = count;
+        while ((v & ~0x7FL) != 0) {
+            b[n++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        b[n++] = (byte) v;
+        count = n;
+    }
+
+    private void writeFixed(long v) throws IOException {
+        ensure(8);
+        for (int i = 0; i < 8; i++) {
+            buf[count++] = (byte) (v >>> (8 * i));
+        }
+    }
+
+    private void writeFixed(int v) throws IOException {
+        ensure(4);
+        for (int i = 0; i < 4; i++) {
+            buf[count++] = (byte) (v >>> (8 * i));
+        }
+    }
+
+    private void writeByte(int v) throws IOException {
+        ensure(1);
+        buf[count++] = (byte) v;
+    }
+
+    // Makes room for n more bytes, writing out the whole records before
+    // the mark and moving the record being written to the start of the
+    // buffer, which grows for a record longer than it.
+    private void ensure(int n) throws IOException {
+        if (buf.length - count < n) {
+            int done = mark;
+            int len = count - done;
+            if (done > 0) {
+                // dropped, with the record being written, if writing fails
+                count = 0;
+                mark = 0;
+                writeOut(done);
+            }
+            byte[] b = buf;
+            if (b.length < len + n) {
+                b = new byte[Math.max(len + n, 2 * b.length)];
+            }
+            System.arraycopy(buf, done, b, 0, len);
+            buf = b;
+            count = len;
+            mark = 0;
+        }
+    }
+
+    private void drain() throws IOException {
+        if (count > 0) {
+            int n = count;
+            count = 0;
+            mark = 0;
+            writeOut(n);
+        }
+        if (buf.length > BUFFER_SIZE) {
+            buf = new byte[BUFFER_SIZE];
+        }
+    }
+
+    // Writes out the first n bytes of the buffer.  If that fails, the
+    // stream may end within a record, so the next record starts afresh.
+    private void writeOut(int n) throws IOException {
+        try {
+            out.write(buf, 0, n);
+        } catch (IOException | RuntimeException x) {
+            resync = true;
+            throw x;
+        }
+    }
+}
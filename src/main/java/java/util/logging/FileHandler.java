@@ -676,6 +676,13 @@ public class FileHandler extends StreamHandler {
      */
     private File generate(String pattern, int generation, int unique)
             throws IOException {
+        return generate(pattern, count, generation, unique);
+    }
+
+    // Package private version for other file handlers, given the
+    // number of files in the rotating set.
+    static File generate(String pattern, int count, int generation, int unique)
+            throws IOException {
         File file = null;
         String word = "";
         int ix = 0;
@@ -1025,6 +1025,70 @@ public class Logger {
         doLog(lr);
     }
 
+    /**
+     * Log a message, with two object parameters.
+     * <p>
+     * If the logger is currently enabled for the given message
+     * level then a corresponding LogRecord is created and forwarded
+     * to all the registered output Handler objects.  Otherwise no
+     * parameter array is allocated, as it is by the caller of
+     * {@link #log(Level, String, Object[])}.
+     * <p>
+     * <p>
+     *  记录一条消息,带有两个对象参数。
+     * <p>
+     *  如果记录器当前对于给定的消息级别被启用,则创建相应的LogRecord并将其转发到所有注册的输出Handler对象。
+     * 否则不会分配参数数组,而{@link #log(Level, String, Object[])}的调用者则会分配。
+     * <p>
+     *
+     * @param   level   One of the message level identifiers, e.g., SEVERE
+     * @param   msg     The string message (or a key in the message catalog)
+     * @param   param1  first parameter to the message
+     * @param   param2  second parameter to the message
+     * @since 1.8
+     */
+    public void log(Level level, String msg, Object param1, Object param2) {
+        if (!isLoggable(level)) {
+            return;
+        }
+        LogRecord lr = new LogRecord(level, msg);
+        Object params[] = { param1, param2 };
+        lr.setParameters(params);
+        doLog(lr);
+    }
+
+    /**
+     * Log a message, with three object parameters.
+     * <p>
+     * If the logger is currently enabled for the given message
+     * level then a corresponding LogRecord is created and forwarded
+     * to all the registered output Handler objects.  Otherwise no
+     * parameter array is allocated.
+     * <p>
+     * <p>
+     *  记录一条消息,带有三个对象参数。
+     * <p>
+     *  如果记录器当前对于给定的消息级别被启用,则创建相应的LogRecord并将其转发到所有注册的输出Handler对象。否则不会分配参数数组。
+     * <p>
+     *
+     * @param   level   One of the message level identifiers, e.g., SEVERE
+     * @param   msg     The string message (or a key in the message catalog)
+     * @param   param1  first parameter to the message
+     * @param   param2  second parameter to the message
+     * @param   param3  third parameter to the message
+     * @since 1.8
+     */
+    public void log(Level level, String msg, Object param1, Object param2,
+                    Object param3) {
+        if (!isLoggable(level)) {
+            return;
+        }
+        LogRecord lr = new LogRecord(level, msg);
+        Object params[] = { param1, param2, param3 };
+        lr.setParameters(params);
+        doLog(lr);
+    }
+
     /**
      * Log a message, with an array of object arguments.
      * <p>
@@ -124,4 +124,8 @@ class Logging implements LoggingMXBean {
             return p.getName();
         }
     }
+
+    public long getDroppedRecordCount() {
+        return AsyncHandler.totalDroppedCount();
+    }
 }
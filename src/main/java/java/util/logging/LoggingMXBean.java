@@ -178,4 +178,21 @@ public interface LoggingMXBean {
      *         is returned.
      */
     public String getParentLoggerName(String loggerName);
+
+    /**
+     * Returns the number of log records dropped by the open
+     * {@link AsyncHandler}s because their buffers were full.
+     *
+     * <p>
+     *  返回打开的{@link AsyncHandler}因缓冲区已满而丢弃的日志记录数。
+     *
+     * @return the number of dropped log records; zero if there is
+     *         no open <tt>AsyncHandler</tt>.
+     *
+     * @see AsyncHandler#getDroppedCount
+     * @since 1.8
+     */
+    public default long getDroppedRecordCount() {
+        return 0;
+    }
 }
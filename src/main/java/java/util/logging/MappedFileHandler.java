@@ -0,0 +1,874 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.logging;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ScopedBuffer;
+import java.nio.channels.FileChannel;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * File logging <tt>Handler</tt> that appends records to memory-mapped
+ * files.
+ * <p>
+ * Like {@link FileHandler}, the <tt>MappedFileHandler</tt> writes to a
+ * rotating set of files, each of which holds up to a given number of bytes
+ * and is named after a pattern.  Each file is created at its full size and
+ * mapped into memory, and threads that log copy their formatted records
+ * into the mapping, each into a range it reserves without taking a lock.
+ * Records thus cost no system call and no lock on this <tt>Handler</tt>,
+ * only the formatting, which happens on the thread that logs; the
+ * <tt>Formatter</tt> must therefore be safe for use by multiple threads,
+ * as <tt>SimpleFormatter</tt> and <tt>XMLFormatter</tt> are.
+ * <p>
+ * The next file is mapped in advance by a background thread.  When a
+ * record does not fit in the current file, the threads that log switch to
+ * the next file at once; the background thread then waits for the
+ * records still being copied into the full file, writes the formatter's
+ * tail, unmaps the file, truncates it to the bytes written and rotates
+ * the set of files, renaming successively older files by adding "1", "2",
+ * etc. to the base file name, while logging continues in the new file.
+ * Until it is rotated out, the current file is longer than its contents,
+ * which are followed by zero bytes.
+ * <p>
+ * Records copied into a mapping reach the file when the operating system
+ * writes the mapped pages back, which it does without a system call per
+ * record and even if the virtual machine exits abnormally, but not if the
+ * operating system fails.  When records must survive such a failure, the
+ * {@link Force} policy decides when the mapping is forced to the storage
+ * device.  A force covers every record copied before it, so concurrent
+ * flushes share one force, much as a database commits a group of
+ * transactions together.
+ * <p>
+ * Unlike <tt>FileHandler</tt>, the <tt>MappedFileHandler</tt> does not use
+ * a lock file, so two handlers must not share a pattern, and it always
+ * starts a new file rather than appending to an existing one, after
+ * rotating the files of an earlier run as <tt>FileHandler</tt> does.  Rotation
+ * renames files that are still open, which not every platform permits;
+ * failures are reported to the <tt>ErrorManager</tt>.
+ * <p>
+ * <b>Configuration:</b>
+ * By default each <tt>MappedFileHandler</tt> is initialized using the following
+ * <tt>LogManager</tt> configuration properties where <tt>&lt;handler-name&gt;</tt>
+ * refers to the fully-qualified class name of the handler.
+ * If properties are not defined
+ * (or have invalid values) then the specified default values are used.
+ * <ul>
+ * <li>   &lt;handler-name&gt;.level
+ *        specifies the default level for the <tt>Handler</tt>
+ *        (defaults to <tt>Level.ALL</tt>). </li>
+ * <li>   &lt;handler-name&gt;.filter
+ *        specifies the name of a <tt>Filter</tt> class to use
+ *        (defaults to no <tt>Filter</tt>). </li>
+ * <li>   &lt;handler-name&gt;.formatter
+ *        specifies the name of a <tt>Formatter</tt> class to use
+ *        (defaults to <tt>java.util.logging.XMLFormatter</tt>) </li>
+ * <li>   &lt;handler-name&gt;.encoding
+ *        the name of the character set encoding to use (defaults to
+ *        the default platform encoding). </li>
+ * <li>   &lt;handler-name&gt;.limit
+ *        specifies the size in bytes of each file
+ *        (defaults to 16777216). </li>
+ * <li>   &lt;handler-name&gt;.count
+ *        specifies how many output files to cycle through (defaults to 1). </li>
+ * <li>   &lt;handler-name&gt;.pattern
+ *        specifies a pattern for generating the output file name.  See
+ *        <tt>FileHandler</tt> for details, except that "%u" is always 0.
+ *        (Defaults to "%h/java%u.log"). </li>
+ * <li>   &lt;handler-name&gt;.force
+ *        specifies the <tt>Force</tt> policy, by name
+ *        (defaults to <tt>NEVER</tt>). </li>
+ * <li>   &lt;handler-name&gt;.forceInterval
+ *        specifies the interval in milliseconds between forces under the
+ *        <tt>PERIODIC</tt> policy (defaults to 1000). </li>
+ * </ul>
+ * <p>
+ * For example, the properties for {@code MappedFileHandler} would be:
+ * <ul>
+ * <li>   java.util.logging.MappedFileHandler.limit=67108864 </li>
+ * <li>   java.util.logging.MappedFileHandler.count=10 </li>
+ * <li>   java.util.logging.MappedFileHandler.force=PERIODIC </li>
+ * </ul>
+ * <p>
+ * <p>
+ *  将记录追加到内存映射文件的文件日志<tt>处理程序</tt>。
+ * <p>
+ *  与{@link FileHandler}一样,<tt> MappedFileHandler </tt>写入一组轮转文件,每个文件最多保存给定数量的字节,并按模式命名。
+ * 每个文件以其完整大小创建并映射到内存中,记录日志的线程将其格式化的记录复制到映射中,每个线程复制到它在不获取锁的情况下保留的范围中。
+ * 因此,记录不需要系统调用,也不需要此<tt>处理程序</tt>上的锁,只需要在记录日志的线程上进行格式化;因此,<tt>格式化程序</tt>必须可以安全地由多个线程使用,就像<tt> SimpleFormatter </tt>和<tt> XMLFormatter </tt>一样。
+ * <p>
+ *  下一个文件由后台线程提前映射。当记录不适合当前文件时,记录日志的线程立即切换到下一个文件;
+ * 然后后台线程等待仍在复制到已满文件中的记录,写入格式化程序的尾部,取消映射该文件,将其截断为写入的字节并轮转文件集,通过在基本文件名中添加"1","2"等来重命名逐渐变旧的文件,同时日志记录在新文件中继续。
+ * 在被轮转出去之前,当前文件比其内容长,内容后面是零字节。
+ * <p>
+ *  复制到映射中的记录在操作系统写回映射页时到达文件,操作系统在不需要每条记录一次系统调用的情况下执行此操作,即使虚拟机异常退出也是如此,但如果操作系统发生故障则不会。
+ * 当记录必须在此类故障中幸存时,{@link Force}策略决定何时将映射强制写入存储设备。强制写入涵盖之前复制的每条记录,因此并发刷新共享一次强制写入,就像数据库一起提交一组事务一样。
+ * <p>
+ *  与<tt> FileHandler </tt>不同,<tt> MappedFileHandler </tt>不使用锁文件,因此两个处理程序不得共享一个模式,并且它总是在像<tt> FileHandler </tt>一样轮转先前运行的文件后开始一个新文件,而不是追加到现有文件。
+ * 轮转会重命名仍处于打开状态的文件,并非每个平台都允许这样做;失败将报告给<tt> ErrorManager </tt>。
+ * <p>
+ *  <b>配置：</b>默认情况下,每个<tt> MappedFileHandler </tt>都使用以下<tt> LogManager </tt>配置属性进行初始化,其中<tt>&lt; handler-name&gt; </tt>指处理程序的完全限定类名。
+ * 如果未定义属性(或具有无效值),则使用指定的默认值。
+ * <ul>
+ * <li>&lt; handler-name&gt; .level指定<tt>处理程序</tt>的默认级别(默认为<tt> Level.ALL </tt>)。
+ *  </li> <li>&lt; handler-name&gt; .filter指定要使用的<tt> Filter </tt>类的名称(默认为无<tt> Filter </tt>)。
+ *  </li> <li>&lt; handler-name&gt; .formatter指定要使用的<tt> Formatter </tt>类的名称(默认为<tt> java.util.logging.XMLFormatter </tt>) </li>
+ *  <li>&lt; handler-name&gt; .encoding要使用的字符集编码的名称(默认为默认平台编码)。
+ *  </li> <li>&lt; handler-name&gt; .limit指定每个文件的字节大小(默认为16777216)。
+ *  </li> <li>&lt; handler-name&gt; .count指定要循环的输出文件数(默认为1)。
+ *  </li> <li>&lt; handler-name&gt; .pattern指定用于生成输出文件名的模式。详见<tt> FileHandler </tt>,但"%u"始终为0。(默认为"%h/java%u.log")。
+ *  </li> <li>&lt; handler-name&gt; .force按名称指定<tt> Force </tt>策略(默认为<tt> NEVER </tt>)。
+ *  </li> <li>&lt; handler-name&gt; .forceInterval指定<tt> PERIODIC </tt>策略下两次强制写入之间的间隔(以毫秒为单位)(默认为1000)。 </li>
+ * </ul>
+ * <p>
+ *  例如,{@code MappedFileHandler}的属性将是：
+ * <ul>
+ *  <li> java.util.logging.MappedFileHandler.limit = 67108864 </li> <li> java.util.logging.MappedFileHandler.count = 10 </li>
+ *  <li> java.util.logging.MappedFileHandler.force = PERIODIC </li>
+ * </ul>
+ * <p>
+ *
+ * @see FileHandler
+ * @since 1.8
+ */
+
+public class MappedFileHandler extends Handler {
+
+    /**
+     * When a <tt>MappedFileHandler</tt> forces its current file to the
+     * storage device.  Whatever the policy, files are forced when they
+     * are rotated out or closed, except under <tt>NEVER</tt>, and
+     * {@link MappedFileHandler#force} forces the current file at once.
+     * <p>
+     *  <tt> MappedFileHandler </tt>何时将其当前文件强制写入存储设备。
+     * 无论采用何种策略,除<tt> NEVER </tt>外,文件在被轮转出去或关闭时都会被强制写入,并且{@link MappedFileHandler#force}立即强制写入当前文件。
+     *
+     * @since 1.8
+     */
+    public enum Force {
+        /**
+         * Files are written back by the operating system only.
+         * <p>
+         *  文件仅由操作系统写回。
+         */
+        NEVER,
+
+        /**
+         * Every {@link MappedFileHandler#flush flush} forces the records
+         * copied before it; concurrent flushes share a force.
+         * <p>
+         *  每次{@link MappedFileHandler#flush flush}都会强制写入之前复制的记录;并发刷新共享一次强制写入。
+         */
+        FLUSH,
+
+        /**
+         * A background thread forces the current file at a fixed
+         * interval, if records were copied since the last force.
+         * <p>
+         *  如果自上次强制写入以来复制了记录,后台线程将以固定间隔强制写入当前文件。
+         */
+        PERIODIC
+    }
+
+    private final static int DEFAULT_LIMIT = 16 * 1024 * 1024;
+    private final static int DEFAULT_INTERVAL = 1000;
+
+    // how long a thread waiting for a file switch or for writers parks
+    private final static long PARK_NANOS = 10_000L;
+
+    private final static AtomicInteger threadNumber = new AtomicInteger();
+
+    private String pattern;
+    private int limit;
+    private int count;
+    private volatile Force force;
+    private long forceInterval;
+    private File files[];
+
+    // the file records are copied into; null once closed
+    private volatile Segment current;
+    // the next file, mapped in advance
+    private final AtomicReference<Segment> spare = new AtomicReference<>();
+    private int spareNumber;
+
+    // work for the background thread, which ends with a null task
+    private final LinkedBlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    private Thread roller;
+    private boolean stopped;
+
+    private final Object forceLock = new Object();
+    // the number of the last file sealed, in order; guarded by forceLock
+    private long sealedNumber = -1;
+
+    /*
+     * A mapped file.  A thread that copies into the mapping, or forces it,
+     * first counts itself among the writers and checks that the file is
+     * not sealed; once sealed, the file is unmapped when the count drops
+     * to zero.  As with StreamHandler, the formatter's head is written,
+     * and room for its tail reserved, when the first record is published.
+     * <p>
+     *  一个映射文件。复制到映射中或强制写入映射的线程首先将自己计入写入者,并检查文件是否未被密封;密封后,当计数降为零时取消映射文件。
+     * 与StreamHandler一样,在发布第一条记录时写入格式化程序的头部,并为其尾部保留空间。
+     */
+    private static final class Segment {
+        volatile File file;
+        final FileChannel channel;
+        final ScopedBuffer mapping;
+        final MappedByteBuffer buffer;
+        final AtomicInteger position = new AtomicInteger();
+        final AtomicInteger writers = new AtomicInteger();
+        final AtomicBoolean sealed = new AtomicBoolean();
+        volatile boolean started;
+        int limit;                      // end of the space for records
+        byte[] tail;
+        int forced;                     // guarded by forceLock
+        Segment next;                   // set when sealed
+        long number;                    // files before it, counting from open
+        volatile int rollFailures;      // times the next file failed to open
+
+        Segment(File file, FileChannel channel, ScopedBuffer mapping) {
+            this.file = file;
+            this.channel = channel;
+            this.mapping = mapping;
+            this.buffer = (MappedByteBuffer)mapping.buffer();
+        }
+
+        // Reserves len bytes, or returns -1 if they do not fit.
+        int reserve(int len) {
+            for (;;) {
+                int pos = position.get();
+                if (len > limit - pos) {
+                    return -1;
+                }
+                if (position.compareAndSet(pos, pos + len)) {
+                    return pos;
+                }
+            }
+        }
+
+        void put(int pos, byte[] b) {
+            ByteBuffer bb = buffer.duplicate();
+            bb.position(pos);
+            bb.put(b);
+        }
+    }
+
+    // Private method to configure a MappedFileHandler from LogManager
+    // properties and/or default values as specified in the class
+    // javadoc.
+    private void configure() {
+        LogManager manager = LogManager.getLogManager();
+
+        String cname = getClass().getName();
+
+        pattern = manager.getStringProperty(cname + ".pattern", "%h/java%u.log");
+        limit = manager.getIntProperty(cname + ".limit", DEFAULT_LIMIT);
+        if (limit <= 0) {
+            limit = DEFAULT_LIMIT;
+        }
+        count = manager.getIntProperty(cname + ".count", 1);
+        if (count <= 0) {
+            count = 1;
+        }
+        force = Force.NEVER;
+        String val = manager.getStringProperty(cname + ".force", null);
+        if (val != null) {
+            for (Force f : Force.values()) {
+                if (f.name().equalsIgnoreCase(val)) {
+                    force = f;
+                }
+            }
+        }
+        forceInterval = manager.getIntProperty(cname + ".forceInterval", DEFAULT_INTERVAL);
+        if (forceInterval <= 0) {
+            forceInterval = DEFAULT_INTERVAL;
+        }
+        setLevel(manager.getLevelProperty(cname + ".level", Level.ALL));
+        setFilter(manager.getFilterProperty(cname + ".filter", null));
+        setFormatter(manager.getFormatterProperty(cname + ".formatter", new XMLFormatter()));
+        try {
+            setEncoding(manager.getStringProperty(cname +".encoding", null));
+        } catch (Exception ex) {
+            try {
+                setEncoding(null);
+            } catch (Exception ex2) {
+                // doing a setEncoding with null should always work.
+                // assert false;
+            }
+        }
+    }
+
+    /**
+     * Construct a default <tt>MappedFileHandler</tt>.  This will be
+     * configured entirely from <tt>LogManager</tt> properties (or their
+     * default values).
+     * <p>
+     *  构造一个默认的<tt> MappedFileHandler </tt>。这将完全从<tt> LogManager </tt>属性(或其默认值)进行配置。
+     *
+     * @exception  IOException if there are IO problems opening the files.
+     * @exception  SecurityException  if a security manager exists and if
+     *             the caller does not have <tt>LoggingPermission("control"))</tt>.
+     */
+    public MappedFileHandler() throws IOException, SecurityException {
+        checkPermission();
+        configure();
+        openFiles();
+    }
+
+    /**
+     * Initialize a <tt>MappedFileHandler</tt> to write to a set of files
+     * of the given size, with the given force policy.
+     * <p>
+     * The <tt>MappedFileHandler</tt> is configured based on
+     * <tt>LogManager</tt> properties (or their default values) except
+     * that the given pattern argument is used as the filename pattern, the
+     * file limit is set to the limit argument, the file count is set to
+     * the given count argument and the force policy to the given force
+     * argument.
+     * <p>
+     *  初始化<tt> MappedFileHandler </tt>以使用给定的强制策略写入一组给定大小的文件。
+     * <p>
+     *  <tt> MappedFileHandler </tt>基于<tt> LogManager </tt>属性(或其默认值)进行配置,但给定的模式参数用作文件名模式,文件限制设置为limit参数,文件计数设置为给定的count参数,强制策略设置为给定的force参数。
+     *
+     * @param pattern  the pattern for naming the output file
+     * @param limit  the size in bytes of each file
+     * @param count  the number of files to use
+     * @param force  when to force the current file to the storage device
+     * @exception  IOException if there are IO problems opening the files.
+     * @exception  SecurityException  if a security manager exists and if
+     *             the caller does not have <tt>LoggingPermission("control")</tt>.
+     * @exception  IllegalArgumentException if {@code limit <= 0}, or {@code count < 1}.
+     * @exception  IllegalArgumentException if pattern is an empty string
+     */
+    public MappedFileHandler(String pattern, int limit, int count, Force force)
+        throws IOException, SecurityException
+    {
+        if (limit <= 0 || count < 1 || pattern.length() < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (force == null) {
+            throw new NullPointerException();
+        }
+        checkPermission();
+        configure();
+        this.pattern = pattern;
+        this.limit = limit;
+        this.count = count;
+        this.force = force;
+        openFiles();
+    }
+
+    // Maps the first file and starts the background thread.
+    private void openFiles() throws IOException {
+        files = new File[count];
+        for (int i = 0; i < count; i++) {
+            files[i] = FileHandler.generate(pattern, count, i, 0);
+        }
+        // as FileHandler does, keep the files of an earlier run
+        rotate();
+        current = newSegment(files[0], 0);
+
+        final Runnable r = new Runnable() {
+            public void run() {
+                runTasks();
+            }
+        };
+        roller = AccessController.doPrivileged(new PrivilegedAction<Thread>() {
+            public Thread run() {
+                Thread t = new Thread(r, "MappedFileHandler-" + threadNumber.incrementAndGet());
+                t.setDaemon(true);
+                t.setContextClassLoader(null);
+                return t;
+            }
+        });
+        roller.start();
+    }
+
+    // Creates and maps a file with room for at least len bytes of records.
+    private Segment newSegment(File file, int len) throws IOException {
+        Formatter formatter = getFormatter();
+        byte[] head = encode(formatter.getHead(this));
+        byte[] tail = encode(formatter.getTail(this));
+        long size = Math.max(limit, (long)head.length + len + tail.length);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("record too large: " + len);
+        }
+        FileChannel ch = FileChannel.open(file.toPath(), CREATE, READ, WRITE,
+                                          TRUNCATE_EXISTING);
+        try {
+            return new Segment(file, ch,
+                ScopedBuffer.map(ch, FileChannel.MapMode.READ_WRITE, 0, size));
+        } catch (IOException | RuntimeException x) {
+            ch.close();
+            file.delete();
+            throw x;
+        }
+    }
+
+    // Writes the formatter's head and reserves room for its tail.
+    private void start(Segment s) throws UnsupportedEncodingException {
+        synchronized (s) {
+            if (s.started) {
+                return;
+            }
+            Formatter formatter = getFormatter();
+            byte[] head = encode(formatter.getHead(this));
+            byte[] tail = encode(formatter.getTail(this));
+            int capacity = s.buffer.capacity();
+            if (head.length + tail.length > capacity) {
+                head = tail = new byte[0];
+            }
+            s.put(0, head);
+            s.position.set(head.length);
+            s.tail = tail;
+            s.limit = capacity - tail.length;
+            s.started = true;
+        }
+    }
+
+    private byte[] encode(String s) throws UnsupportedEncodingException {
+        String encoding = getEncoding();
+        return (encoding == null) ? s.getBytes() : s.getBytes(encoding);
+    }
+
+    /**
+     * Format and copy a <tt>LogRecord</tt> into the current file.
+     * <p>
+     *  格式化<tt> LogRecord </tt>并将其复制到当前文件中。
+     *
+     * @param  record  description of the log event. A null record is
+     *                 silently ignored and is not published
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        byte[] b;
+        try {
+            b = encode(getFormatter().format(record));
+        } catch (Exception ex) {
+            // We don't want to throw an exception here, but we
+            // report the exception to any registered ErrorManager.
+            reportError(null, ex, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        for (;;) {
+            Segment s = current;
+            if (s == null) {
+                return;
+            }
+            s.writers.incrementAndGet();
+            try {
+                if (!s.sealed.get()) {
+                    if (!s.started) {
+                        start(s);
+                    }
+                    int pos = s.reserve(b.length);
+                    if (pos >= 0) {
+                        s.put(pos, b);
+                        return;
+                    }
+                }
+            } catch (IOException ex) {
+                reportError(null, ex, ErrorManager.WRITE_FAILURE);
+                return;
+            } finally {
+                s.writers.decrementAndGet();
+            }
+            if (!rollOver(s, b.length)) {
+                return;
+            }
+        }
+    }
+
+    /*
+     * Replaces the given full file with the spare file, or waits for the
+     * thread doing so, and hands the full file to the background thread.
+     * Returns false if the record cannot be logged.
+     * <p>
+     *  用备用文件替换给定的已满文件,或等待执行此操作的线程,并将已满文件交给后台线程。如果记录无法记录则返回false。
+     */
+    private boolean rollOver(Segment s, int len) {
+        // read before the seal is tried, so that a failure of the thread
+        // that holds the seal is seen even if it ends before the wait starts
+        int failures = s.rollFailures;
+        if (!s.sealed.compareAndSet(false, true)) {
+            while (current == s) {
+                if (s.rollFailures != failures) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            return true;
+        }
+        Segment next = spare.getAndSet(null);
+        try {
+            if (next != null) {
+                start(next);
+                if (len > next.limit - next.position.get()) {
+                    discard(next);
+                    next = null;
+                }
+            }
+            if (next == null) {
+                next = newSegment(spareFile(), len);
+                start(next);
+            }
+        } catch (IOException ex) {
+            if (next != null) {
+                discard(next);
+            }
+            reportError(null, ex, ErrorManager.OPEN_FAILURE);
+            // keep the full file; the record is lost, as are those of the
+            // threads waiting for the switch, which are woken
+            s.sealed.set(false);
+            s.rollFailures++;
+            synchronized (forceLock) {
+                forceLock.notifyAll();
+            }
+            return false;
+        }
+        s.next = next;
+        next.number = s.number + 1;
+        current = next;
+        final Segment full = s;
+        tasks.add(new Runnable() {
+            public void run() {
+                seal(full);
+            }
+        });
+        return true;
+    }
+
+    private synchronized File spareFile() {
+        return new File(files[0].getPath() + ".next" + spareNumber++);
+    }
+
+    // The background thread: seals full files, maps the spare file in
+    // advance and, under the PERIODIC policy, forces the current file.
+    private void runTasks() {
+        long interval = TimeUnit.MILLISECONDS.toNanos(forceInterval);
+        long deadline = System.nanoTime() + interval;
+        while (!stopped) {
+            if (spare.get() == null && current != null) {
+                try {
+                    Segment s = newSegment(spareFile(), 0);
+                    if (!spare.compareAndSet(null, s)) {
+                        discard(s);
+                    }
+                } catch (IOException ex) {
+                    reportError(null, ex, ErrorManager.OPEN_FAILURE);
+                }
+            }
+            Runnable task;
+            try {
+                if (force == Force.PERIODIC) {
+                    task = tasks.poll(deadline - System.nanoTime(),
+                                      TimeUnit.NANOSECONDS);
+                } else {
+                    task = tasks.take();
+                }
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (task != null) {
+                try {
+                    task.run();
+                } catch (Exception ex) {
+                    reportError(null, ex, ErrorManager.GENERIC_FAILURE);
+                }
+            }
+            if (force == Force.PERIODIC && System.nanoTime() - deadline >= 0) {
+                forceCurrent();
+                deadline = System.nanoTime() + interval;
+            }
+        }
+        Segment s = spare.getAndSet(null);
+        if (s != null) {
+            discard(s);
+        }
+    }
+
+    /*
+     * Completes a full file once no thread is copying into it, and rotates
+     * it out, putting the file that replaced it in its place.
+     * <p>
+     *  在没有线程复制到已满文件后完成该文件,并将其轮转出去,将替换它的文件放在其位置。
+     */
+    private void seal(Segment s) {
+        while (s.writers.get() != 0) {
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+        try {
+            start(s);
+        } catch (IOException ex) {
+            reportError(null, ex, ErrorManager.WRITE_FAILURE);
+        }
+        int end = s.position.get();
+        if (s.tail != null) {
+            s.put(end, s.tail);
+            end += s.tail.length;
+        }
+        try {
+            if (force != Force.NEVER) {
+                s.buffer.force();
+            }
+            s.mapping.close();
+            s.channel.truncate(end);
+        } catch (IOException ex) {
+            reportError(null, ex, ErrorManager.CLOSE_FAILURE);
+        } finally {
+            try {
+                s.channel.close();
+            } catch (IOException ex) {
+                reportError(null, ex, ErrorManager.CLOSE_FAILURE);
+            }
+        }
+        synchronized (forceLock) {
+            sealedNumber = s.number;
+            forceLock.notifyAll();
+        }
+        if (s.next == null) {
+            return;
+        }
+        rotate();
+        if (count == 1) {
+            files[0].delete();
+        }
+        Segment next = s.next;
+        if (next.file.renameTo(files[0])) {
+            next.file = files[0];
+        } else {
+            reportError("Couldn't rename " + next.file + " to " + files[0],
+                        null, ErrorManager.GENERIC_FAILURE);
+        }
+    }
+
+    // Renames successively older files by adding "1", "2", etc.
+    private void rotate() {
+        for (int i = count-2; i >= 0; i--) {
+            File f1 = files[i];
+            File f2 = files[i+1];
+            if (f1.exists()) {
+                if (f2.exists()) {
+                    f2.delete();
+                }
+                f1.renameTo(f2);
+            }
+        }
+    }
+
+    // Unmaps and deletes a spare file that was never used.
+    private void discard(Segment s) {
+        s.mapping.close();
+        try {
+            s.channel.close();
+        } catch (IOException ex) {
+            reportError(null, ex, ErrorManager.CLOSE_FAILURE);
+        }
+        s.file.delete();
+    }
+
+    // Forces the given file if records were copied since it was last
+    // forced.  A thread that finds a force under way waits for it, and
+    // returns if it covered the records copied before the call.  Returns
+    // false if the file is sealed, and so is forced by the seal instead.
+    private boolean forceSegment(Segment s) {
+        int upTo = s.position.get();
+        synchronized (forceLock) {
+            if (s.forced >= upTo) {
+                return true;
+            }
+            s.writers.incrementAndGet();
+            try {
+                if (s.sealed.get()) {
+                    return false;
+                }
+                int pos = s.position.get();
+                s.buffer.force();
+                s.forced = pos;
+                return true;
+            } finally {
+                s.writers.decrementAndGet();
+            }
+        }
+    }
+
+    // Forces the current file; called by the background thread, which
+    // cannot wait for the seals it performs.
+    private void forceCurrent() {
+        Segment s = current;
+        if (s != null) {
+            forceSegment(s);
+        }
+    }
+
+    // Forces the records copied before the call: the files replaced before
+    // the current one are forced when sealed, so waits for their seals,
+    // and then forces the current file or, if it is sealed, waits for it.
+    private void forceCopied() {
+        Segment s = current;
+        if (s == null) {
+            return;
+        }
+        awaitSealed(s.number - 1, null);
+        while (!forceSegment(s)) {
+            if (awaitSealed(s.number, s)) {
+                return;
+            }
+            // the file could not be replaced and is open again
+        }
+    }
+
+    // Waits until the file with the given number, and so every file before
+    // it, has been sealed, or until the given file, if any, is unsealed by
+    // a failed roll-over.  Returns true if the file was sealed.
+    private boolean awaitSealed(long number, Segment s) {
+        boolean interrupted = false;
+        boolean done;
+        synchronized (forceLock) {
+            while (!(done = sealedNumber >= number)
+                   && (s == null || s.sealed.get())) {
+                try {
+                    forceLock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return done;
+    }
+
+    /**
+     * Flush the records copied so far, as the {@link Force} policy decides.
+     * Records copied into the mapping are already visible to readers of
+     * the file, so under the <tt>NEVER</tt> and <tt>PERIODIC</tt> policies
+     * this method does nothing.  Under the <tt>FLUSH</tt> policy it also
+     * waits for the files replaced before the current one to be forced by
+     * the background thread.
+     * <p>
+     *  根据{@link Force}策略刷新到目前为止复制的记录。复制到映射中的记录对文件的读取者已经可见,因此在<tt> NEVER </tt>和<tt> PERIODIC </tt>策略下此方法不执行任何操作。
+     * 在<tt> FLUSH </tt>策略下,它还会等待当前文件之前被替换的文件由后台线程强制写入。
+     */
+    @Override
+    public void flush() {
+        if (force == Force.FLUSH) {
+            forceCopied();
+        }
+    }
+
+    /**
+     * Force the records copied so far to the storage device, whatever the
+     * {@link Force} policy.  Under the <tt>NEVER</tt> policy, files already
+     * replaced by a newer one were closed without being forced, and only
+     * the records of the current file are forced.
+     * <p>
+     *  无论{@link Force}策略如何,都将到目前为止复制的记录强制写入存储设备。
+     * 在<tt> NEVER </tt>策略下,已被较新文件替换的文件在关闭时未被强制写入,只有当前文件的记录会被强制写入。
+     */
+    public void force() {
+        forceCopied();
+    }
+
+    /**
+     * Get the <tt>Force</tt> policy.
+     * <p>
+     *  获取<tt> Force </tt>策略。
+     *
+     * @return when the current file is forced to the storage device
+     */
+    public Force getForce() {
+        return force;
+    }
+
+    /**
+     * Close all the files, after writing the formatter's tail and, unless
+     * the policy is <tt>NEVER</tt>, forcing the current file.  Records
+     * published after this are discarded.
+     * <p>
+     *  在写入格式化程序的尾部并(除非策略为<tt> NEVER </tt>)强制写入当前文件后,关闭所有文件。之后发布的记录将被丢弃。
+     *
+     * @exception  SecurityException  if a security manager exists and if
+     *             the caller does not have <tt>LoggingPermission("control")</tt>.
+     */
+    @Override
+    public synchronized void close() throws SecurityException {
+        checkPermission();
+        Segment s;
+        for (;;) {
+            s = current;
+            if (s == null) {
+                return;
+            }
+            if (s.sealed.compareAndSet(false, true)) {
+                break;
+            }
+            // a full file is being replaced
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+        current = null;
+        final Segment last = s;
+        tasks.add(new Runnable() {
+            public void run() {
+                seal(last);
+                stopped = true;
+            }
+        });
+        boolean interrupted = false;
+        while (roller.isAlive()) {
+            try {
+                roller.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        setLevel(Level.OFF);
+    }
+}
@@ -73,6 +73,8 @@ public class SimpleFormatter extends Formatter {
 
     // format string for printing the log record
     private static final String format = LoggingSupport.getSimpleFormat();
+    // whether the format prints the source, which costs a stack walk
+    private static final boolean formatsSource = usesArgument(format, 2);
     private final Date dat = new Date();
 
     /**
@@ -176,7 +178,9 @@ public class SimpleFormatter extends Formatter {
     public synchronized String format(LogRecord record) {
         dat.setTime(record.getMillis());
         String source;
-        if (record.getSourceClassName() != null) {
+        if (!formatsSource) {
+            source = null;
+        } else if (record.getSourceClassName() != null) {
             source = record.getSourceClassName();
             if (record.getSourceMethodName() != null) {
                source += " " + record.getSourceMethodName();
@@ -202,4 +206,64 @@ public class SimpleFormatter extends Formatter {
                              message,
                              throwable);
     }
+
+    // Whether records formatted by a SimpleFormatter need their source
+    // class and method names.
+    static boolean formatsSource() {
+        return formatsSource;
+    }
+
+    /*
+     * Returns true if the given format string may use the argument of the
+     * given (one-based) index, following the syntax of format specifiers
+     * in java.util.Formatter.
+     * <p>
+     *  如果给定的格式字符串可能使用给定(从1开始)索引的参数,则返回true,遵循java.util.Formatter中格式说明符的语法。
+     */
+    static boolean usesArgument(String fmt, int index) {
+        int n = fmt.length();
+        int ordinary = 0, last = 0;
+        for (int i = 0; i < n; i++) {
+            if (fmt.charAt(i) != '%') {
+                continue;
+            }
+            // [argument_index$][flags][width][.precision]conversion
+            int j = ++i;
+            while (j < n && Character.isDigit(fmt.charAt(j))) {
+                j++;
+            }
+            int explicit = 0;
+            if (j > i && j < n && fmt.charAt(j) == '$') {
+                try {
+                    explicit = Integer.parseInt(fmt.substring(i, j));
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+                i = j + 1;
+            }
+            boolean relative = false;
+            while (i < n && "-#+ 0,(<".indexOf(fmt.charAt(i)) >= 0) {
+                relative |= fmt.charAt(i) == '<';
+                i++;
+            }
+            while (i < n && (Character.isDigit(fmt.charAt(i)) || fmt.charAt(i) == '.')) {
+                i++;
+            }
+            if (i >= n) {
+                break;
+            }
+            char c = fmt.charAt(i);
+            if (c == '%' || c == 'n') {
+                continue;
+            }
+            if (c == 't' || c == 'T') {
+                i++;
+            }
+            last = relative ? last : (explicit > 0 ? explicit : ++ordinary);
+            if (last == index) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -166,6 +166,69 @@ class CRC32 implements Checksum {
         return (long)crc & 0xffffffffL;
     }
 
+    /*
+     * Returns the CRC-32 of two sequences of bytes, one after the other,
+     * given the CRC-32 of each and the length of the second.  This is the
+     * algorithm of zlib's crc32_combine: the CRC-32 of the first sequence is
+     * advanced over len2 zero bytes by repeated squaring of the GF(2)
+     * matrix that appends one zero bit, and the second is then added in.
+     * <p>
+     *  给定每个序列的CRC-32和第二个序列的长度,返回两个连续字节序列的CRC-32。
+     * 这是zlib的crc32_combine算法：通过对追加一个零位的GF(2)矩阵反复平方,将第一个序列的CRC-32推进len2个零字节,然后加上第二个序列的CRC-32。
+     */
+    static long combine(long crc1, long crc2, long len2) {
+        if (len2 <= 0) {
+            return crc1;
+        }
+        long[] even = new long[32];     // even-power-of-two zeros operator
+        long[] odd = new long[32];      // odd-power-of-two zeros operator
+
+        // put operator for one zero bit in odd
+        odd[0] = 0xedb88320L;           // CRC-32 polynomial
+        long row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        gf2MatrixSquare(even, odd);     // two zero bits
+        gf2MatrixSquare(odd, even);     // four zero bits
+
+        // apply len2 zeros to crc1 (the first square puts the operator for
+        // one zero byte, eight zero bits, in even)
+        do {
+            gf2MatrixSquare(even, odd);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2MatrixTimes(even, crc1);
+            }
+            len2 >>= 1;
+            if (len2 == 0) {
+                break;
+            }
+            gf2MatrixSquare(odd, even);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2MatrixTimes(odd, crc1);
+            }
+            len2 >>= 1;
+        } while (len2 != 0);
+        return crc1 ^ crc2;
+    }
+
+    private static long gf2MatrixTimes(long[] mat, long vec) {
+        long sum = 0;
+        for (int i = 0; vec != 0; i++, vec >>>= 1) {
+            if ((vec & 1) != 0) {
+                sum ^= mat[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(long[] square, long[] mat) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = gf2MatrixTimes(mat, mat[n]);
+        }
+    }
+
     private native static int update(int crc, int b);
     private native static int updateBytes(int crc, byte[] b, int off, int len);
 
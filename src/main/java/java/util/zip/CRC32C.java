@@ -0,0 +1,243 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.zip;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import sun.misc.Unsafe;
+import sun.nio.ch.DirectBuffer;
+
+/**
+ * A class that can be used to compute the CRC-32C of a data stream.
+ *
+ * <p> CRC-32C is defined in <a href="http://www.ietf.org/rfc/rfc3720.txt">RFC
+ * 3720</a>: Internet Small Computer Systems Interface (iSCSI).  It uses the
+ * Castagnoli polynomial, which detects more errors than that of {@link
+ * CRC32} and is the one computed by the CRC32 instruction of x86 and the
+ * CRC32C instructions of ARMv8.
+ *
+ * <p> The checksum is computed eight bytes at a time, with eight lookup
+ * tables ("slicing-by-8"), reading each eight bytes as one word.  Bytes
+ * of a direct buffer are read in place, without being copied.
+ *
+ * <p> Passing a {@code null} argument to a method in this class will cause
+ * a {@link NullPointerException} to be thrown.
+ *
+ * <p>
+ *  可用于计算数据流的CRC-32C的类。
+ *
+ *  <p>CRC-32C在<a href="http://www.ietf.org/rfc/rfc3720.txt">RFC 3720</a>：Internet小型计算机系统接口(iSCSI)中定义。
+ * 它使用Castagnoli多项式,该多项式比{@link CRC32}的多项式检测更多错误,并且是x86的CRC32指令和ARMv8的CRC32C指令计算的多项式。
+ *
+ *  <p>校验和每次计算八个字节,使用八个查找表("slicing-by-8"),将每八个字节作为一个字读取。直接缓冲区的字节被就地读取,不会被复制。
+ *
+ *  <p>将{@code null}参数传递给此类中的方法将导致抛出{@link NullPointerException}。
+ *
+ * @see Checksum
+ * @since 1.8
+ */
+public final class CRC32C implements Checksum {
+
+    /*
+     * The Castagnoli polynomial, bit-reversed, as the tables are for the
+     * reflected (least significant bit first) algorithm.
+     * <p>
+     *  位反转的Castagnoli多项式,因为这些表用于反射(最低有效位优先)算法。
+     */
+    private static final int REVERSED_CRC32C_POLY = 0x82F63B78;
+
+    private static final Unsafe UNSAFE = Unsafe.getUnsafe();
+
+    private static final boolean LITTLE_ENDIAN =
+        ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    private static final long BYTE_BASE = UNSAFE.arrayBaseOffset(byte[].class);
+
+    // Tables for the eight bytes of a word: TABLE0 is the byte-at-a-time
+    // table, and TABLEn advances a byte's CRC over n further zero bytes
+    private static final int[] TABLE0 = new int[256];
+    private static final int[] TABLE1 = new int[256];
+    private static final int[] TABLE2 = new int[256];
+    private static final int[] TABLE3 = new int[256];
+    private static final int[] TABLE4 = new int[256];
+    private static final int[] TABLE5 = new int[256];
+    private static final int[] TABLE6 = new int[256];
+    private static final int[] TABLE7 = new int[256];
+
+    static {
+        for (int n = 0; n < 256; n++) {
+            int c = n;
+            for (int k = 0; k < 8; k++) {
+                c = ((c & 1) != 0) ? (c >>> 1) ^ REVERSED_CRC32C_POLY : c >>> 1;
+            }
+            TABLE0[n] = c;
+        }
+        int[][] tables = { TABLE0, TABLE1, TABLE2, TABLE3,
+                           TABLE4, TABLE5, TABLE6, TABLE7 };
+        for (int t = 1; t < 8; t++) {
+            for (int n = 0; n < 256; n++) {
+                int c = tables[t - 1][n];
+                tables[t][n] = (c >>> 8) ^ TABLE0[c & 0xff];
+            }
+        }
+    }
+
+    // Register, inverted
+    private int crc = 0xFFFFFFFF;
+
+    /**
+     * Creates a new CRC32C object.
+     * <p>
+     *  创建一个新的CRC32C对象。
+     */
+    public CRC32C() {
+    }
+
+    /**
+     * Updates the CRC-32C checksum with the specified byte (the low
+     * eight bits of the argument b).
+     *
+     * <p>
+     *  使用指定的字节(参数b的低8位)更新CRC-32C校验和。
+     *
+     * @param b the byte to update the checksum with
+     */
+    public void update(int b) {
+        crc = (crc >>> 8) ^ TABLE0[(crc ^ b) & 0xff];
+    }
+
+    /**
+     * Updates the CRC-32C checksum with the specified array of bytes.
+     *
+     * <p>
+     *  使用指定的字节数组更新CRC-32C校验和。
+     *
+     * @throws  ArrayIndexOutOfBoundsException
+     *          if {@code off} is negative, or {@code len} is negative,
+     *          or {@code off+len} is greater than the length of the
+     *          array {@code b}
+     */
+    public void update(byte[] b, int off, int len) {
+        if (b == null) {
+            throw new NullPointerException();
+        }
+        if (off < 0 || len < 0 || off > b.length - len) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        crc = update(crc, b, BYTE_BASE + off, len);
+    }
+
+    /**
+     * Updates the CRC-32C checksum with the bytes from the specified buffer.
+     *
+     * The checksum is updated with the bytes remaining in the buffer,
+     * starting at its position.  Upon return, the buffer's position will be
+     * equal to its limit; its limit will not have been changed.
+     *
+     * <p>
+     *  使用指定缓冲区中的字节更新CRC-32C校验和。
+     *
+     *  校验和使用缓冲区中从其位置开始的剩余字节进行更新。返回时,缓冲区的位置将等于其限制;其限制不会改变。
+     *
+     * @param buffer the ByteBuffer to update the checksum with
+     */
+    public void update(ByteBuffer buffer) {
+        int pos = buffer.position();
+        int limit = buffer.limit();
+        int rem = limit - pos;
+        if (rem <= 0) {
+            return;
+        }
+        if (buffer instanceof DirectBuffer) {
+            crc = update(crc, null, ((DirectBuffer)buffer).address() + pos, rem);
+        } else if (buffer.hasArray()) {
+            crc = update(crc, buffer.array(),
+                         BYTE_BASE + buffer.arrayOffset() + pos, rem);
+        } else {
+            byte[] b = new byte[Math.min(rem, 4096)];
+            while (buffer.hasRemaining()) {
+                int n = Math.min(buffer.remaining(), b.length);
+                buffer.get(b, 0, n);
+                crc = update(crc, b, BYTE_BASE, n);
+            }
+        }
+        buffer.position(limit);
+    }
+
+    /**
+     * Resets CRC-32C to initial value.
+     * <p>
+     *  将CRC-32C重置为初始值。
+     */
+    public void reset() {
+        crc = 0xFFFFFFFF;
+    }
+
+    /**
+     * Returns CRC-32C value.
+     * <p>
+     *  返回CRC-32C值。
+     */
+    public long getValue() {
+        return (~crc) & 0xFFFFFFFFL;
+    }
+
+    /*
+     * Updates the register with len bytes at the given offset in the given
+     * array, or at the given address if the array is null.  Bytes are taken
+     * one at a time until the offset is eight-byte aligned, then a word at
+     * a time.
+     * <p>
+     *  使用给定数组中给定偏移量处的len个字节(如果数组为null,则使用给定地址处的字节)更新寄存器。逐字节处理直到偏移量八字节对齐,然后每次处理一个字。
+     */
+    private static int update(int crc, byte[] b, long off, int len) {
+        long end = off + len;
+        for (; off < end && (off & 7) != 0; off++) {
+            crc = (crc >>> 8) ^ TABLE0[(crc ^ UNSAFE.getByte(b, off)) & 0xff];
+        }
+        for (; off <= end - 8; off += 8) {
+            long v = UNSAFE.getLong(b, off);
+            if (!LITTLE_ENDIAN) {
+                v = Long.reverseBytes(v);
+            }
+            int lo = crc ^ (int)v;
+            int hi = (int)(v >>> 32);
+            crc = TABLE7[lo & 0xff] ^
+                  TABLE6[(lo >>> 8) & 0xff] ^
+                  TABLE5[(lo >>> 16) & 0xff] ^
+                  TABLE4[lo >>> 24] ^
+                  TABLE3[hi & 0xff] ^
+                  TABLE2[(hi >>> 8) & 0xff] ^
+                  TABLE1[(hi >>> 16) & 0xff] ^
+                  TABLE0[hi >>> 24];
+        }
+        for (; off < end; off++) {
+            crc = (crc >>> 8) ^ TABLE0[(crc ^ UNSAFE.getByte(b, off)) & 0xff];
+        }
+        return crc;
+    }
+}
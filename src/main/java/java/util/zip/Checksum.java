@@ -26,6 +26,8 @@
 
 package java.util.zip;
 
+import java.nio.ByteBuffer;
+
 /**
  * An interface representing a data checksum.
  *
@@ -60,6 +62,61 @@ interface Checksum {
      */
     public void update(byte[] b, int off, int len);
 
+    /**
+     * Updates the current checksum with the specified array of bytes.
+     *
+     * <p>
+     *  使用指定的字节数组更新当前校验和。
+     *
+     * @param b the byte array to update the checksum with
+     * @since 1.8
+     */
+    default public void update(byte[] b) {
+        update(b, 0, b.length);
+    }
+
+    /**
+     * Updates the current checksum with the bytes from the specified buffer.
+     *
+     * The checksum is updated with the bytes remaining in the buffer,
+     * starting at its position.  Upon return, the buffer's position will be
+     * equal to its limit; its limit will not have been changed.
+     *
+     * <p>The default implementation passes the bytes of a heap buffer
+     * straight from its array, and copies those of other buffers through a
+     * temporary array; implementations such as {@link CRC32} read direct
+     * buffers in place.
+     *
+     * <p>
+     *  使用指定缓冲区中的字节更新当前校验和。
+     *
+     *  校验和使用缓冲区中从其位置开始的剩余字节进行更新。返回时,缓冲区的位置将等于其限制;其限制不会改变。
+     *
+     *  <p>默认实现直接从其数组传递堆缓冲区的字节,并通过临时数组复制其他缓冲区的字节;诸如{@link CRC32}之类的实现就地读取直接缓冲区。
+     *
+     * @param buffer the ByteBuffer to update the checksum with
+     * @since 1.8
+     */
+    default public void update(ByteBuffer buffer) {
+        int pos = buffer.position();
+        int limit = buffer.limit();
+        int rem = limit - pos;
+        if (rem <= 0) {
+            return;
+        }
+        if (buffer.hasArray()) {
+            update(buffer.array(), pos + buffer.arrayOffset(), rem);
+        } else {
+            byte[] b = new byte[Math.min(rem, 4096)];
+            while (buffer.hasRemaining()) {
+                int n = Math.min(buffer.remaining(), b.length);
+                buffer.get(b, 0, n);
+                update(b, 0, n);
+            }
+        }
+        buffer.position(limit);
+    }
+
     /**
      * Returns the current checksum value.
      * <p>
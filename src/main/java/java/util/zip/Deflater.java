@@ -26,6 +26,9 @@
 
 package java.util.zip;
 
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
 /**
  * This class provides support for general purpose compression using the
  * popular ZLIB compression library. The ZLIB compression library was
@@ -97,12 +100,23 @@ class Deflater {
     private final ZStreamRef zsRef;
     private byte[] buf = new byte[0];
     private int off, len;
+    // The buffer input was last set from, whose position is advanced as
+    // input is consumed, or null if input was set from an array; input
+    // from a direct buffer is copied into buf a chunk at a time
+    private ByteBuffer input;
     private int level, strategy;
     private boolean setParams;
     private boolean finish, finished;
     private long bytesRead;
     private long bytesWritten;
 
+    // Largest array a direct buffer is copied through in one step
+    private static final int COPY_CHUNK = 8192;
+
+    // The arrays that direct input and output are copied through,
+    // allocated when first needed and kept until end
+    private byte[] inChunk, outChunk;
+
     /**
      * Compression method for the deflate algorithm (the only one currently
      * supported).
@@ -279,6 +293,7 @@ class Deflater {
             this.buf = b;
             this.off = off;
             this.len = len;
+            this.input = null;
         }
     }
 
@@ -296,6 +311,47 @@ class Deflater {
         setInput(b, 0, b.length);
     }
 
+    /**
+     * Sets input data for compression from the bytes remaining in the given
+     * buffer. This should be called whenever needsInput() returns true
+     * indicating that more input data is required.
+     *
+     * <p>The buffer's position is advanced as its bytes are compressed.
+     * The buffer must not be modified until all of its bytes have been
+     * consumed or other input has been set.
+     *
+     * <p>
+     *  从给定缓冲区中剩余的字节设置压缩的输入数据。当needsInput()返回true表示需要更多输入数据时,应调用此方法。
+     *
+     *  <p>缓冲区的位置随着其字节被压缩而前进。在其所有字节都被消耗或设置了其他输入之前,不得修改缓冲区。
+     *
+     * @param input the buffer holding the input data bytes
+     * @see Deflater#needsInput
+     * @since 1.8
+     */
+    public void setInput(ByteBuffer input) {
+        if (input == null) {
+            throw new NullPointerException();
+        }
+        synchronized (zsRef) {
+            if (input.isDirect()) {
+                this.buf = null;
+                this.off = 0;
+            } else if (input.hasArray()) {
+                this.buf = input.array();
+                this.off = input.arrayOffset() + input.position();
+            } else {
+                // read-only heap buffer: its array is not accessible
+                byte[] b = new byte[input.remaining()];
+                input.duplicate().get(b);
+                this.buf = b;
+                this.off = 0;
+            }
+            this.len = input.remaining();
+            this.input = input;
+        }
+    }
+
     /**
      * Sets preset dictionary for compression. A preset dictionary is used
      * when the history buffer can be predetermined. When the data is later
@@ -345,6 +401,33 @@ class Deflater {
         setDictionary(b, 0, b.length);
     }
 
+    /**
+     * Sets preset dictionary for compression from the bytes remaining in the
+     * given buffer, and advances its position to its limit.
+     *
+     * <p>
+     *  从给定缓冲区中剩余的字节设置压缩的预设字典,并将其位置推进到其限制。
+     *
+     * @param dictionary the buffer holding the dictionary data bytes
+     * @see Inflater#inflate
+     * @see Inflater#getAdler
+     * @since 1.8
+     */
+    public void setDictionary(ByteBuffer dictionary) {
+        int pos = dictionary.position();
+        int rem = Math.max(dictionary.limit() - pos, 0);
+        if (dictionary.hasArray()) {
+            setDictionary(dictionary.array(), dictionary.arrayOffset() + pos, rem);
+        } else {
+            // the whole dictionary is copied, as its Adler-32 value is
+            // computed over all of its bytes
+            byte[] b = new byte[rem];
+            dictionary.duplicate().get(b);
+            setDictionary(b, 0, rem);
+        }
+        dictionary.position(pos + rem);
+    }
+
     /**
      * Sets the compression strategy to the specified value.
      *
@@ -583,17 +666,139 @@ class Deflater {
             throw new ArrayIndexOutOfBoundsException();
         }
         synchronized (zsRef) {
-            ensureOpen();
-            if (flush == NO_FLUSH || flush == SYNC_FLUSH ||
-                flush == FULL_FLUSH) {
-                int thisLen = this.len;
-                int n = deflateBytes(zsRef.address(), b, off, len, flush);
-                bytesWritten += n;
-                bytesRead += (thisLen - this.len);
+            return deflate0(b, off, len, flush);
+        }
+    }
+
+    /**
+     * Compresses the input data and fills the given buffer, from its
+     * position, with compressed data, using {@link #NO_FLUSH} as the
+     * compression flush mode.  Returns the actual number of bytes of
+     * compressed data, by which the buffer's position is advanced.
+     *
+     * <p>
+     *  使用{@link #NO_FLUSH}作为压缩刷新模式,压缩输入数据并从给定缓冲区的位置开始用压缩数据填充它。返回压缩数据的实际字节数,缓冲区的位置将前进该字节数。
+     *
+     * @param output the buffer for the compressed data
+     * @return the actual number of bytes of compressed data written to the
+     *         output buffer
+     * @throws ReadOnlyBufferException if the buffer is read-only
+     * @since 1.8
+     */
+    public int deflate(ByteBuffer output) {
+        return deflate(output, NO_FLUSH);
+    }
+
+    /**
+     * Compresses the input data and fills the given buffer, from its
+     * position, with compressed data, using the given compression flush
+     * mode.  Returns the actual number of bytes of compressed data, by which
+     * the buffer's position is advanced.
+     *
+     * <p>The flush modes are those of {@link #deflate(byte[], int, int, int)}.
+     *
+     * <p>
+     *  使用给定的压缩刷新模式,压缩输入数据并从给定缓冲区的位置开始用压缩数据填充它。返回压缩数据的实际字节数,缓冲区的位置将前进该字节数。
+     *
+     *  <p>刷新模式与{@link #deflate(byte[], int, int, int)}的相同。
+     *
+     * @param output the buffer for the compressed data
+     * @param flush the compression flush mode
+     * @return the actual number of bytes of compressed data written to the
+     *         output buffer
+     * @throws ReadOnlyBufferException if the buffer is read-only
+     * @throws IllegalArgumentException if the flush mode is invalid
+     * @since 1.8
+     */
+    public int deflate(ByteBuffer output, int flush) {
+        if (output.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        int pos = output.position();
+        int rem = Math.max(output.limit() - pos, 0);
+        int n;
+        synchronized (zsRef) {
+            if (output.hasArray()) {
+                n = deflate0(output.array(), output.arrayOffset() + pos, rem,
+                             flush);
+            } else {
+                // compress into a bounded array and copy it out, until the
+                // buffer is full or a chunk is left partly empty
+                byte[] b = outChunk;
+                if (b == null) {
+                    b = outChunk = new byte[COPY_CHUNK];
+                }
+                n = 0;
+                int k, m;
+                do {
+                    m = Math.min(rem - n, b.length);
+                    k = deflate0(b, 0, m, flush);
+                    output.put(b, 0, k);
+                    n += k;
+                } while (k == m && n < rem);
                 return n;
             }
+        }
+        output.position(pos + n);
+        return n;
+    }
+
+    /*
+     * Compresses into the given array from the input array, or from the
+     * input direct buffer a chunk at a time, until the array is full or the
+     * input is used up.  Called with the lock held.
+     * <p>
+     *  从输入数组,或从输入直接缓冲区一次一块地压缩到给定数组中,直到数组已满或输入用完为止。在持有锁的情况下调用。
+     */
+    private int deflate0(byte[] b, int off, int len, int flush) {
+        ensureOpen();
+        if (flush != NO_FLUSH && flush != SYNC_FLUSH && flush != FULL_FLUSH) {
             throw new IllegalArgumentException();
         }
+        ByteBuffer in = this.input;
+        if (in == null || !in.isDirect()) {
+            int thisLen = this.len;
+            int n = deflateBytes(zsRef.address(), b, off, len, flush);
+            int read = thisLen - this.len;
+            bytesWritten += n;
+            bytesRead += read;
+            if (in != null) {
+                in.position(in.position() + read);
+            }
+            return n;
+        }
+        byte[] chunk = inChunk;
+        if (chunk == null) {
+            chunk = inChunk = new byte[COPY_CHUNK];
+        }
+        boolean finishing = this.finish;
+        int n = 0;
+        int thisLen, read;
+        do {
+            thisLen = Math.min(in.remaining(), chunk.length);
+            boolean last = thisLen == in.remaining();
+            in.duplicate().get(chunk, 0, thisLen);
+            this.buf = chunk;
+            this.off = 0;
+            this.len = thisLen;
+            // zlib must not see the end of the stream, nor flush, before
+            // the last chunk of the input
+            this.finish = finishing && last;
+            try {
+                n += deflateBytes(zsRef.address(), b, off + n, len - n,
+                                  last ? flush : NO_FLUSH);
+            } finally {
+                this.finish = finishing;
+                read = thisLen - this.len;
+                in.position(in.position() + read);
+                this.buf = null;
+                this.off = 0;
+                this.len = in.remaining();
+                bytesRead += read;
+            }
+        } while (read == thisLen && this.len > 0 && n < len);
+        bytesWritten += n;
+        return n;
     }
 
     /**
@@ -696,6 +901,8 @@ class Deflater {
             reset(zsRef.address());
             finish = false;
             finished = false;
+            buf = new byte[0];
+            input = null;
             off = len = 0;
             bytesRead = bytesWritten = 0;
         }
@@ -718,6 +925,8 @@ class Deflater {
             if (addr != 0) {
                 end(addr);
                 buf = null;
+                input = null;
+                inChunk = outChunk = null;
             }
         }
     }
@@ -65,6 +65,11 @@ class GZIPInputStream extends InflaterInputStream {
 
     private boolean closed = false;
 
+    // If true, a trailer is always followed by an attempt to read another
+    // member, reading ahead from the underlying stream if need be, rather
+    // than only when its available() suggests there is one
+    private final boolean allMembers;
+
     /**
      * Check to make sure that this stream has not been closed
      * <p>
@@ -92,8 +97,22 @@ class GZIPInputStream extends InflaterInputStream {
      * @exception IllegalArgumentException if {@code size <= 0}
      */
     public GZIPInputStream(InputStream in, int size) throws IOException {
+        this(in, size, false);
+    }
+
+    /*
+     * Creates a new input stream with the specified buffer size that, if
+     * allMembers is true, reads every member of a multi-member stream up to
+     * the end of the underlying stream.
+     * <p>
+     *  创建具有指定缓冲区大小的新输入流,如果allMembers为true,则读取多成员流的每个成员,直到底层流的末尾。
+     */
+    GZIPInputStream(InputStream in, int size, boolean allMembers)
+        throws IOException
+    {
         super(in, new Inflater(true), size);
         usesDefaultInflater = true;
+        this.allMembers = allMembers;
         readHeader(in);
     }
 
@@ -269,8 +288,9 @@ class GZIPInputStream extends InflaterInputStream {
         // If there are more bytes available in "in" or
         // the leftover in the "inf" is > 26 bytes:
         // this.trailer(8) + next.header.min(10) + next.trailer(8)
-        // try concatenated case
-        if (this.in.available() > 0 || n > 26) {
+        // try concatenated case; when reading all members, read ahead for
+        // a header regardless, as available() may be 0 on pipes and sockets
+        if (allMembers || this.in.available() > 0 || n > 26) {
             int m = 8;                  // this.trailer
             try {
                 m += readHeader(in);    // next.header
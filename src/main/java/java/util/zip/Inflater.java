@@ -26,6 +26,9 @@
 
 package java.util.zip;
 
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
 /**
  * This class provides support for general purpose decompression using the
  * popular ZLIB compression library. The ZLIB compression library was
@@ -97,6 +100,10 @@ class Inflater {
     private final ZStreamRef zsRef;
     private byte[] buf = defaultBuf;
     private int off, len;
+    // The buffer input was last set from, whose position is advanced as
+    // input is consumed, or null if input was set from an array; input
+    // from a direct buffer is copied into buf a chunk at a time
+    private ByteBuffer input;
     private boolean finished;
     private boolean needDict;
     private long bytesRead;
@@ -104,6 +111,13 @@ class Inflater {
 
     private static final byte[] defaultBuf = new byte[0];
 
+    // Largest array a direct buffer is copied through in one step
+    private static final int COPY_CHUNK = 8192;
+
+    // The arrays that direct input and output are copied through,
+    // allocated when first needed and kept until end
+    private byte[] inChunk, outChunk;
+
     static {
         /* Zip library is loaded from System.initializeSystemClass */
         initIDs();
@@ -164,6 +178,7 @@ class Inflater {
             this.buf = b;
             this.off = off;
             this.len = len;
+            this.input = null;
         }
     }
 
@@ -182,6 +197,47 @@ class Inflater {
         setInput(b, 0, b.length);
     }
 
+    /**
+     * Sets input data for decompression from the bytes remaining in the
+     * given buffer. Should be called whenever needsInput() returns true
+     * indicating that more input data is required.
+     *
+     * <p>The buffer's position is advanced as its bytes are decompressed.
+     * The buffer must not be modified until all of its bytes have been
+     * consumed or other input has been set.
+     *
+     * <p>
+     *  从给定缓冲区中剩余的字节设置解压缩的输入数据。应该在needsInput()返回true时调用,指示需要更多输入数据。
+     *
+     *  <p>缓冲区的位置随着其字节被解压缩而前进。在其所有字节都被消耗或设置了其他输入之前,不得修改缓冲区。
+     *
+     * @param input the buffer holding the input data bytes
+     * @see Inflater#needsInput
+     * @since 1.8
+     */
+    public void setInput(ByteBuffer input) {
+        if (input == null) {
+            throw new NullPointerException();
+        }
+        synchronized (zsRef) {
+            if (input.isDirect()) {
+                this.buf = null;
+                this.off = 0;
+            } else if (input.hasArray()) {
+                this.buf = input.array();
+                this.off = input.arrayOffset() + input.position();
+            } else {
+                // read-only heap buffer: its array is not accessible
+                byte[] b = new byte[input.remaining()];
+                input.duplicate().get(b);
+                this.buf = b;
+                this.off = 0;
+            }
+            this.len = input.remaining();
+            this.input = input;
+        }
+    }
+
     /**
      * Sets the preset dictionary to the given array of bytes. Should be
      * called when inflate() returns 0 and needsDictionary() returns true
@@ -230,6 +286,35 @@ class Inflater {
         setDictionary(b, 0, b.length);
     }
 
+    /**
+     * Sets the preset dictionary to the bytes remaining in the given buffer,
+     * and advances its position to its limit. Should be called when
+     * inflate() returns 0 and needsDictionary() returns true indicating that
+     * a preset dictionary is required.
+     *
+     * <p>
+     *  将预设字典设置为给定缓冲区中剩余的字节,并将其位置推进到其限制。应该在inflate()返回0且needsDictionary()返回true(表示需要预设字典)时调用。
+     *
+     * @param dictionary the buffer holding the dictionary data bytes
+     * @see Inflater#needsDictionary
+     * @see Inflater#getAdler
+     * @since 1.8
+     */
+    public void setDictionary(ByteBuffer dictionary) {
+        int pos = dictionary.position();
+        int rem = Math.max(dictionary.limit() - pos, 0);
+        if (dictionary.hasArray()) {
+            setDictionary(dictionary.array(), dictionary.arrayOffset() + pos, rem);
+        } else {
+            // the whole dictionary is copied, as its Adler-32 value is
+            // checked over all of its bytes
+            byte[] b = new byte[rem];
+            dictionary.duplicate().get(b);
+            setDictionary(b, 0, rem);
+        }
+        dictionary.position(pos + rem);
+    }
+
     /**
      * Returns the total number of bytes remaining in the input buffer.
      * This can be used to find out what bytes still remain in the input
@@ -323,13 +408,111 @@ class Inflater {
             throw new ArrayIndexOutOfBoundsException();
         }
         synchronized (zsRef) {
-            ensureOpen();
+            return inflate0(b, off, len);
+        }
+    }
+
+    /**
+     * Uncompresses bytes into the given buffer, from its position.  Returns
+     * the actual number of bytes uncompressed, by which the buffer's
+     * position is advanced.  A return value of 0 indicates that
+     * needsInput() or needsDictionary() should be called in order to
+     * determine if more input data or a preset dictionary is required.
+     *
+     * <p>
+     *  从给定缓冲区的位置开始将字节解压缩到其中。返回未压缩的实际字节数,缓冲区的位置将前进该字节数。
+     * 返回值为0表示需要调用needsInput()或needsDictionary(),以确定是否需要更多输入数据或预设字典。
+     *
+     * @param output the buffer for the uncompressed data
+     * @return the actual number of uncompressed bytes
+     * @exception DataFormatException if the compressed data format is invalid
+     * @throws ReadOnlyBufferException if the buffer is read-only
+     * @see Inflater#needsInput
+     * @see Inflater#needsDictionary
+     * @since 1.8
+     */
+    public int inflate(ByteBuffer output) throws DataFormatException {
+        if (output.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        int pos = output.position();
+        int rem = Math.max(output.limit() - pos, 0);
+        int n;
+        synchronized (zsRef) {
+            if (output.hasArray()) {
+                n = inflate0(output.array(), output.arrayOffset() + pos, rem);
+            } else {
+                // uncompress into a bounded array and copy it out, until the
+                // buffer is full or a chunk is left partly empty
+                byte[] b = outChunk;
+                if (b == null) {
+                    b = outChunk = new byte[COPY_CHUNK];
+                }
+                n = 0;
+                int k, m;
+                do {
+                    m = Math.min(rem - n, b.length);
+                    k = inflate0(b, 0, m);
+                    output.put(b, 0, k);
+                    n += k;
+                } while (k == m && n < rem);
+                return n;
+            }
+        }
+        output.position(pos + n);
+        return n;
+    }
+
+    /*
+     * Uncompresses into the given array from the input array, or from the
+     * input direct buffer a chunk at a time, until the array is full, the
+     * input is used up, or the stream ends or needs a dictionary.  Called
+     * with the lock held.
+     * <p>
+     *  从输入数组,或从输入直接缓冲区一次一块地解压缩到给定数组中,直到数组已满、输入用完、流结束或需要字典为止。在持有锁的情况下调用。
+     */
+    private int inflate0(byte[] b, int off, int len)
+        throws DataFormatException
+    {
+        ensureOpen();
+        ByteBuffer in = this.input;
+        if (in == null || !in.isDirect()) {
             int thisLen = this.len;
             int n = inflateBytes(zsRef.address(), b, off, len);
+            int read = thisLen - this.len;
             bytesWritten += n;
-            bytesRead += (thisLen - this.len);
+            bytesRead += read;
+            if (in != null) {
+                in.position(in.position() + read);
+            }
             return n;
         }
+        byte[] chunk = inChunk;
+        if (chunk == null) {
+            chunk = inChunk = new byte[COPY_CHUNK];
+        }
+        int n = 0;
+        int thisLen, read;
+        do {
+            thisLen = Math.min(in.remaining(), chunk.length);
+            in.duplicate().get(chunk, 0, thisLen);
+            this.buf = chunk;
+            this.off = 0;
+            this.len = thisLen;
+            try {
+                n += inflateBytes(zsRef.address(), b, off + n, len - n);
+            } finally {
+                read = thisLen - this.len;
+                in.position(in.position() + read);
+                this.buf = null;
+                this.off = 0;
+                this.len = in.remaining();
+                bytesRead += read;
+            }
+        } while (read == thisLen && this.len > 0 && n < len
+                 && !finished && !needDict);
+        bytesWritten += n;
+        return n;
     }
 
     /**
@@ -452,6 +635,7 @@ class Inflater {
             ensureOpen();
             reset(zsRef.address());
             buf = defaultBuf;
+            input = null;
             finished = false;
             needDict = false;
             off = len = 0;
@@ -476,6 +660,8 @@ class Inflater {
             if (addr != 0) {
                 end(addr);
                 buf = null;
+                input = null;
+                inChunk = outChunk = null;
             }
         }
     }
@@ -0,0 +1,386 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.zip;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class implements a stream filter for reading compressed data in
+ * the GZIP file format, decompressing ahead of the reader on another
+ * thread.
+ *
+ * <p> A task in a {@link ForkJoinPool} reads and decompresses the
+ * underlying stream into a bounded number of chunks while the reader
+ * consumes earlier ones, so that reading the compressed data, inflating it
+ * and processing the result overlap.  Every member of a multi-member GZIP
+ * stream, such as one written by concatenating files or by {@link
+ * ParallelGZIPOutputStream} appending to a file, is read, up to the end
+ * of the underlying stream; unlike {@link GZIPInputStream}, the presence
+ * of a further member is established by reading ahead rather than from
+ * {@link InputStream#available() available()}, which is often zero for
+ * pipes and sockets.
+ *
+ * <p> The header of the first member is read, and format errors in it
+ * reported, by the constructor.  Errors found later by the read-ahead task
+ * are reported by the next {@code read} that needs the data.
+ *
+ * <p>
+ *  此类实现了一个流过滤器,用于读取GZIP文件格式的压缩数据,在另一个线程上先于读取者进行解压缩。
+ *
+ *  <p>{@link ForkJoinPool}中的任务将底层流读取并解压缩为有限数量的块,同时读取者消费较早的块,从而使读取压缩数据、解压缩和处理结果重叠进行。
+ * 多成员GZIP流的每个成员(例如通过连接文件或由{@link ParallelGZIPOutputStream}追加到文件而写入的流)都会被读取,直到底层流的末尾;
+ * 与{@link GZIPInputStream}不同,是否存在下一个成员是通过预读来确定的,而不是通过{@link InputStream#available() available()},对于管道和套接字,后者通常为零。
+ *
+ *  <p>构造函数读取第一个成员的头,并报告其中的格式错误。预读任务稍后发现的错误由需要该数据的下一个{@code read}报告。
+ *
+ * @see GZIPInputStream
+ * @see ParallelGZIPOutputStream
+ * @since 1.8
+ */
+public
+class ParallelGZIPInputStream extends InputStream {
+
+    private final static int CHUNK_SIZE = 64 * 1024;
+
+    // Maximum number of decompressed chunks held ahead of the reader
+    private final static int MAX_CHUNKS = 4;
+
+    private final GZIPInputStream gz;
+    private final ForkJoinPool pool;
+
+    // Guards the fields below; the read-ahead task and readers wait on it
+    private final Object lock = new Object();
+
+    // Decompressed chunks not yet consumed, oldest first
+    private final ArrayDeque<Chunk> chunks = new ArrayDeque<>();
+
+    // The chunk being consumed, and the position in it
+    private Chunk current;
+    private int pos;
+
+    private boolean running;    // a read-ahead task is submitted or running
+    private boolean eof;        // the read-ahead task has reached the end
+    private IOException failure;
+    private boolean closed;
+
+    /**
+     * Creates a new input stream that decompresses ahead in the
+     * {@linkplain ForkJoinPool#commonPool common pool}.
+     *
+     * <p>
+     *  创建一个在{@linkplain ForkJoinPool#commonPool公共池}中预先解压缩的新输入流。
+     *
+     * @param in the input stream
+     *
+     * @exception ZipException if a GZIP format error has occurred or the
+     *                         compression method used is unsupported
+     * @exception IOException if an I/O error has occurred
+     */
+    public ParallelGZIPInputStream(InputStream in) throws IOException {
+        this(in, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new input stream that decompresses ahead in the given pool.
+     *
+     * <p>
+     *  创建一个在给定池中预先解压缩的新输入流。
+     *
+     * @param in the input stream
+     * @param pool the pool in which the read-ahead task runs
+     *
+     * @exception ZipException if a GZIP format error has occurred or the
+     *                         compression method used is unsupported
+     * @exception IOException if an I/O error has occurred
+     */
+    public ParallelGZIPInputStream(InputStream in, ForkJoinPool pool)
+        throws IOException
+    {
+        if (pool == null) {
+            throw new NullPointerException();
+        }
+        this.gz = new GZIPInputStream(in, CHUNK_SIZE, true);
+        this.pool = pool;
+        synchronized (lock) {
+            startReadAhead();
+        }
+    }
+
+    /**
+     * Reads a byte of uncompressed data. This method will block until
+     * enough input is available for decompression.
+     * <p>
+     *  读取一个字节的未压缩数据。此方法将阻塞,直到有足够的输入可用于解压缩。
+     *
+     * @return the byte read, or -1 if end of compressed input is reached
+     * @exception IOException if an I/O error has occurred
+     */
+    public int read() throws IOException {
+        synchronized (lock) {
+            if (!await()) {
+                return -1;
+            }
+            return current.data[pos++] & 0xff;
+        }
+    }
+
+    /**
+     * Reads uncompressed data into an array of bytes. If <code>len</code> is
+     * not zero, the method will block until some data has been decompressed;
+     * otherwise, no bytes are read and <code>0</code> is returned.
+     * <p>
+     *  将未压缩的数据读入字节数组。如果<code>len</code>不为零,则该方法将阻塞,直到某些数据已被解压缩;否则,不读取任何字节,并返回<code>0</code>。
+     *
+     * @param b the buffer into which the data is read
+     * @param off the start offset in the destination array <code>b</code>
+     * @param len the maximum number of bytes read
+     * @return  the actual number of bytes read, or -1 if the end of the
+     *          compressed input stream is reached
+     *
+     * @exception  NullPointerException If <code>b</code> is <code>null</code>.
+     * @exception  IndexOutOfBoundsException If <code>off</code> is negative,
+     * <code>len</code> is negative, or <code>len</code> is greater than
+     * <code>b.length - off</code>
+     * @exception ZipException if the compressed input data is corrupt.
+     * @exception IOException if an I/O error has occurred.
+     */
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        synchronized (lock) {
+            if (len == 0) {
+                ensureOpen();
+                return 0;
+            }
+            if (!await()) {
+                return -1;
+            }
+            int n = 0;
+            do {
+                int k = Math.min(len - n, current.len - pos);
+                System.arraycopy(current.data, pos, b, off + n, k);
+                pos += k;
+                n += k;
+            } while (n < len && (pos < current.len || nextChunk()));
+            return n;
+        }
+    }
+
+    /**
+     * Returns the number of bytes that have been decompressed ahead and can
+     * be read without blocking.
+     * <p>
+     *  返回已预先解压缩并且可以无阻塞读取的字节数。
+     *
+     * @return the number of bytes that can be read without blocking
+     * @exception IOException if this stream has been closed
+     */
+    public int available() throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            long n = (current == null) ? 0 : current.len - pos;
+            for (Chunk c : chunks) {
+                n += c.len;
+            }
+            return (int)Math.min(n, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Closes this input stream and the underlying stream.  This method does
+     * not wait for the read-ahead task: a read that the task has in progress
+     * is ended by closing the underlying stream, or else left to complete,
+     * and the task then stops.
+     * <p>
+     *  关闭此输入流和底层流。此方法不等待预读任务:任务正在进行的读取会因关闭底层流而结束,否则任其完成,然后任务停止。
+     *
+     * @exception IOException if an I/O error has occurred
+     */
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            chunks.clear();
+            current = null;
+            lock.notifyAll();
+        }
+        gz.close();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /*
+     * Waits until the current chunk has data to read, and returns false at
+     * the end of the stream.  Called with the lock held.
+     * <p>
+     *  等待直到当前块有数据可读,并在流结束时返回false。在持有锁的情况下调用。
+     */
+    private boolean await() throws IOException {
+        ensureOpen();
+        while (current == null || pos == current.len) {
+            if (nextChunk()) {
+                return true;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (eof) {
+                return false;
+            }
+            try {
+                lock.wait();
+            } catch (InterruptedException x) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            ensureOpen();
+        }
+        return true;
+    }
+
+    /*
+     * Moves to the next decompressed chunk, if there is one, restarting the
+     * read-ahead task if it stopped for lack of room.  Called with the lock
+     * held.
+     * <p>
+     *  如果有下一个解压缩块,则移动到该块,如果预读任务因缺少空间而停止,则重新启动它。在持有锁的情况下调用。
+     */
+    private boolean nextChunk() {
+        Chunk c = chunks.poll();
+        if (c == null) {
+            current = null;
+            return false;
+        }
+        current = c;
+        pos = 0;
+        startReadAhead();
+        return true;
+    }
+
+    // Called with the lock held
+    private void startReadAhead() {
+        if (!running && !eof && failure == null && !closed
+            && chunks.size() < MAX_CHUNKS) {
+            running = true;
+            pool.execute(new Runnable() {
+                public void run() {
+                    readAhead();
+                }
+            });
+        }
+    }
+
+    /*
+     * Body of the read-ahead task: decompresses chunks until there is no
+     * more room for them, the end is reached, or the stream is closed.
+     * <p>
+     *  预读任务的主体：解压缩块,直到没有更多空间、到达末尾或流被关闭。
+     */
+    private void readAhead() {
+        try {
+            for (;;) {
+                byte[] data = new byte[CHUNK_SIZE];
+                int n = 0;
+                IOException x = null;
+                try {
+                    // fill the chunk, so that small reads do not make small
+                    // chunks
+                    while (n < data.length) {
+                        int k = gz.read(data, n, data.length - n);
+                        if (k < 0) {
+                            break;
+                        }
+                        n += k;
+                    }
+                } catch (IOException e) {
+                    x = e;
+                } catch (RuntimeException e) {
+                    x = new IOException(e);
+                }
+                synchronized (lock) {
+                    if (closed) {
+                        return;
+                    }
+                    if (n > 0) {
+                        chunks.add(new Chunk(data, n));
+                    }
+                    if (x != null) {
+                        failure = x;
+                    } else if (n < data.length) {
+                        eof = true;
+                    }
+                    if (failure != null || eof
+                        || chunks.size() >= MAX_CHUNKS) {
+                        return;
+                    }
+                    lock.notifyAll();
+                }
+            }
+        } catch (Throwable t) {
+            // An Error: fail the readers rather than leave them waiting
+            synchronized (lock) {
+                if (failure == null) {
+                    failure = new IOException(t);
+                }
+            }
+            throw t;
+        } finally {
+            synchronized (lock) {
+                running = false;
+                // a reader may have made room since the task decided to stop
+                startReadAhead();
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /*
+     * Decompressed data and its length.
+     * <p>
+     *  解压缩的数据及其长度。
+     */
+    private static final class Chunk {
+        final byte[] data;
+        final int len;
+
+        Chunk(byte[] data, int len) {
+            this.data = data;
+            this.len = len;
+        }
+    }
+}
@@ -0,0 +1,453 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.zip;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * This class implements a stream filter for writing compressed data in
+ * the GZIP file format, compressing on several threads at once.
+ *
+ * <p> Data written to the stream is cut into blocks of a fixed size, and
+ * each block is compressed by a separate task in a {@link ForkJoinPool}.
+ * The compressor of each block is primed, with {@link
+ * Deflater#setDictionary Deflater.setDictionary}, with the last 32K bytes
+ * of the data before it, and every block but the last ends with a {@link
+ * Deflater#SYNC_FLUSH SYNC_FLUSH}; the compressed blocks are written in
+ * order, so together they form a single deflate stream in a single GZIP
+ * member, readable by any GZIP reader.  The CRC-32 of the member is
+ * combined from the CRC-32 of each block.  Compression ratio is close to
+ * that of {@link GZIPOutputStream}.
+ *
+ * <p> At most twice as many blocks as the parallelism of the pool are
+ * compressed or waiting to be written at any time; a writer that gets
+ * further ahead blocks until the oldest block has been written.
+ *
+ * <p> Like {@link GZIPOutputStream}, this class is safe for use by
+ * multiple concurrent threads, which are serialized.
+ *
+ * <p>
+ *  此类实现了一个流过滤器,用于以GZIP文件格式写入压缩数据,同时在多个线程上压缩。
+ *
+ *  <p>写入流的数据被切分为固定大小的块,每个块由{@link ForkJoinPool}中的一个单独任务压缩。
+ * 每个块的压缩器都使用{@link Deflater#setDictionary Deflater.setDictionary}以其之前数据的最后32K字节作为预设字典,
+ * 除最后一个块外,每个块都以{@link Deflater#SYNC_FLUSH SYNC_FLUSH}结束;压缩的块按顺序写入,因此它们一起在单个GZIP成员中形成单个deflate流,可由任何GZIP读取器读取。
+ * 成员的CRC-32由每个块的CRC-32组合而成。压缩率接近{@link GZIPOutputStream}的压缩率。
+ *
+ *  <p>任何时候最多有池并行度两倍的块正在被压缩或等待写入;超前更多的写入者将阻塞,直到最旧的块被写入。
+ *
+ *  <p>与{@link GZIPOutputStream}一样,此类可以安全地被多个并发线程使用,这些线程被串行化。
+ *
+ * @see GZIPOutputStream
+ * @see ParallelGZIPInputStream
+ * @since 1.8
+ */
+public
+class ParallelGZIPOutputStream extends FilterOutputStream {
+    /*
+     * GZIP header magic number.
+     * <p>
+     *  GZIP标题幻数。
+     */
+    private final static int GZIP_MAGIC = 0x8b1f;
+
+    // Size of the deflate window, and so of each block's dictionary
+    private final static int DICT_SIZE = 32 * 1024;
+
+    private final static int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    private final ForkJoinPool pool;
+    private final int level;
+    private final int blockSize;
+    private final int maxPending;
+
+    // The block being filled, and the number of bytes in it
+    private byte[] block;
+    private int count;
+
+    // The last DICT_SIZE bytes, or fewer, of the data submitted so far
+    private final byte[] window = new byte[DICT_SIZE];
+    private int windowLen;
+
+    // Blocks submitted for compression and not yet written, oldest first
+    private final ArrayDeque<ForkJoinTask<Block>> pending = new ArrayDeque<>();
+
+    // CRC-32 and length of the data written so far
+    private long crc;
+    private long totalIn;
+
+    private boolean finished;
+    private boolean closed;
+
+    /**
+     * Creates a new output stream that compresses blocks of the default
+     * size at the default compression level in the {@linkplain
+     * ForkJoinPool#commonPool common pool}.
+     *
+     * <p>
+     *  创建一个新的输出流,它在{@linkplain ForkJoinPool#commonPool公共池}中以默认压缩级别压缩默认大小的块。
+     *
+     * @param out the output stream
+     * @exception IOException If an I/O error has occurred.
+     */
+    public ParallelGZIPOutputStream(OutputStream out) throws IOException {
+        this(out, Deflater.DEFAULT_COMPRESSION, DEFAULT_BLOCK_SIZE,
+             ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new output stream that compresses blocks of the given size
+     * at the given compression level in the given pool.
+     *
+     * <p>
+     *  创建一个新的输出流,它在给定的池中以给定的压缩级别压缩给定大小的块。
+     *
+     * @param out the output stream
+     * @param level the compression level (0-9), or
+     *        {@link Deflater#DEFAULT_COMPRESSION}
+     * @param blockSize the number of bytes compressed by each task
+     * @param pool the pool in which blocks are compressed
+     * @exception IOException If an I/O error has occurred.
+     * @exception IllegalArgumentException if {@code blockSize <= 0} or the
+     *            compression level is invalid
+     */
+    public ParallelGZIPOutputStream(OutputStream out, int level, int blockSize,
+                                    ForkJoinPool pool)
+        throws IOException
+    {
+        super(out);
+        if (out == null || pool == null) {
+            throw new NullPointerException();
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize <= 0");
+        }
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("invalid compression level");
+        }
+        this.pool = pool;
+        this.level = level;
+        this.blockSize = blockSize;
+        this.maxPending = Math.max(2, pool.getParallelism() * 2);
+        this.block = new byte[blockSize];
+        writeHeader();
+    }
+
+    /**
+     * Writes a byte to the compressed output stream. This method will
+     * block until the byte can be written.
+     * <p>
+     *  将一个字节写入压缩输出流。此方法将阻塞,直到可以写入该字节。
+     *
+     * @param b the byte to be written
+     * @exception IOException if an I/O error has occurred
+     */
+    public void write(int b) throws IOException {
+        byte[] buf = new byte[1];
+        buf[0] = (byte)(b & 0xff);
+        write(buf, 0, 1);
+    }
+
+    /**
+     * Writes an array of bytes to the compressed output stream. This method
+     * will block until all the bytes are written or handed to a compression
+     * task.
+     * <p>
+     *  将字节数组写入压缩输出流。此方法将阻塞,直到所有字节都被写入或交给压缩任务。
+     *
+     * @param b the data to be written
+     * @param off the start offset of the data
+     * @param len the length of the data
+     * @exception IOException if an I/O error has occurred
+     */
+    public synchronized void write(byte[] b, int off, int len)
+        throws IOException
+    {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureOpen();
+        if (finished) {
+            throw new IOException("write beyond end of stream");
+        }
+        while (len > 0) {
+            if (count == blockSize) {
+                // submitted only once more data follows, so that the last
+                // block is always compressed with FINISH
+                submit(false);
+            }
+            int n = Math.min(len, blockSize - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Flushes this output stream: the data written so far is compressed,
+     * ending with a {@link Deflater#SYNC_FLUSH SYNC_FLUSH}, and written,
+     * and the underlying stream is flushed.  Flushing often reduces both
+     * the compression ratio and the parallelism.
+     * <p>
+     *  刷新此输出流：到目前为止写入的数据被压缩(以{@link Deflater#SYNC_FLUSH SYNC_FLUSH}结束)并写入,然后刷新底层流。频繁刷新会同时降低压缩率和并行度。
+     *
+     * @exception IOException if an I/O error has occurred
+     */
+    public synchronized void flush() throws IOException {
+        ensureOpen();
+        if (!finished) {
+            if (count > 0) {
+                submit(false);
+            }
+            while (!pending.isEmpty()) {
+                writeBlock(pending.poll());
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Finishes writing compressed data to the output stream without closing
+     * the underlying stream.
+     * <p>
+     *  完成将压缩数据写入输出流,而不关闭底层流。
+     *
+     * @exception IOException if an I/O error has occurred
+     */
+    public synchronized void finish() throws IOException {
+        ensureOpen();
+        if (finished) {
+            return;
+        }
+        finished = true;
+        submit(true);
+        while (!pending.isEmpty()) {
+            writeBlock(pending.poll());
+        }
+        byte[] trailer = new byte[8];
+        writeInt((int)crc, trailer, 0);         // CRC-32 of uncompr. data
+        writeInt((int)totalIn, trailer, 4);     // Number of uncompr. bytes
+        out.write(trailer);
+    }
+
+    /**
+     * Writes remaining compressed data to the output stream and closes the
+     * underlying stream.
+     * <p>
+     *  将剩余的压缩数据写入输出流并关闭底层流。
+     *
+     * @exception IOException if an I/O error has occurred
+     */
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            finish();
+        } finally {
+            closed = true;
+            for (ForkJoinTask<Block> t : pending) {
+                t.cancel(false);
+            }
+            pending.clear();
+            out.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /*
+     * Hands the current block to a compression task, primed with the data
+     * before it, and starts a new block.  If as many blocks as allowed are
+     * pending, the oldest is written first.
+     * <p>
+     *  将当前块交给压缩任务(以其之前的数据作为预设字典),并开始一个新块。如果待处理的块已达到允许的数量,则先写入最旧的块。
+     */
+    private void submit(boolean last) throws IOException {
+        while (pending.size() >= maxPending) {
+            writeBlock(pending.poll());
+        }
+        byte[] data = block;
+        int len = count;
+        byte[] dict = (windowLen == 0) ? null : Arrays.copyOf(window, windowLen);
+        pending.add(pool.submit(new Block(data, len, dict, level, last)));
+
+        // slide the window over the submitted data
+        if (len >= DICT_SIZE) {
+            System.arraycopy(data, len - DICT_SIZE, window, 0, DICT_SIZE);
+            windowLen = DICT_SIZE;
+        } else if (len > 0) {
+            int keep = Math.min(windowLen, DICT_SIZE - len);
+            System.arraycopy(window, windowLen - keep, window, 0, keep);
+            System.arraycopy(data, 0, window, keep, len);
+            windowLen = keep + len;
+        }
+        block = last ? null : new byte[blockSize];
+        count = 0;
+    }
+
+    /*
+     * Waits for a compression task and writes its output.
+     * <p>
+     *  等待压缩任务并写入其输出。
+     */
+    private void writeBlock(ForkJoinTask<Block> task) throws IOException {
+        Block b;
+        try {
+            b = task.get();
+        } catch (InterruptedException x) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException x) {
+            Throwable cause = x.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new IOException(cause);
+        }
+        out.write(b.out, 0, b.outLen);
+        crc = CRC32.combine(crc, b.crc, b.len);
+        totalIn += b.len;
+    }
+
+    /*
+     * Writes GZIP member header.
+     * <p>
+     *  写入GZIP成员头。
+     */
+    private void writeHeader() throws IOException {
+        out.write(new byte[] {
+                      (byte) GZIP_MAGIC,        // Magic number (short)
+                      (byte)(GZIP_MAGIC >> 8),  // Magic number (short)
+                      Deflater.DEFLATED,        // Compression method (CM)
+                      0,                        // Flags (FLG)
+                      0,                        // Modification time MTIME (int)
+                      0,                        // Modification time MTIME (int)
+                      0,                        // Modification time MTIME (int)
+                      0,                        // Modification time MTIME (int)
+                      0,                        // Extra flags (XFLG)
+                      0                         // Operating system (OS)
+                  });
+    }
+
+    /*
+     * Writes integer in Intel byte order to a byte array, starting at a
+     * given offset.
+     * <p>
+     *  将英特尔字节顺序的整数写入字节数组,从给定的偏移量开始。
+     */
+    private static void writeInt(int i, byte[] buf, int offset) {
+        buf[offset] = (byte)i;
+        buf[offset + 1] = (byte)(i >> 8);
+        buf[offset + 2] = (byte)(i >> 16);
+        buf[offset + 3] = (byte)(i >> 24);
+    }
+
+    /*
+     * A block of data and, once the task has run, its compressed form and
+     * its CRC-32.
+     * <p>
+     *  一个数据块,以及任务运行后其压缩形式和CRC-32。
+     */
+    private static final class Block implements Callable<Block> {
+        final byte[] data;
+        final int len;
+        final byte[] dict;
+        final int level;
+        final boolean last;
+
+        byte[] out;
+        int outLen;
+        long crc;
+
+        Block(byte[] data, int len, byte[] dict, int level, boolean last) {
+            this.data = data;
+            this.len = len;
+            this.dict = dict;
+            this.level = level;
+            this.last = last;
+        }
+
+        public Block call() {
+            CRC32 c = new CRC32();
+            c.update(data, 0, len);
+            crc = c.getValue();
+
+            Deflater def = new Deflater(level, true);
+            try {
+                if (dict != null) {
+                    def.setDictionary(dict);
+                }
+                def.setInput(data, 0, len);
+                // incompressible data grows by a few bytes per 16K
+                byte[] buf = new byte[len + (len >> 10) + 64];
+                int n = 0;
+                if (last) {
+                    def.finish();
+                    while (!def.finished()) {
+                        if (n == buf.length) {
+                            buf = Arrays.copyOf(buf, buf.length * 2);
+                        }
+                        n += def.deflate(buf, n, buf.length - n);
+                    }
+                } else {
+                    // SYNC_FLUSH has emitted everything once it leaves
+                    // part of the output buffer unused
+                    do {
+                        if (n == buf.length) {
+                            buf = Arrays.copyOf(buf, buf.length * 2);
+                        }
+                        n += def.deflate(buf, n, buf.length - n,
+                                         Deflater.SYNC_FLUSH);
+                    } while (n == buf.length);
+                }
+                out = buf;
+                outLen = n;
+            } finally {
+                def.end();
+            }
+            return this;
+        }
+    }
+}
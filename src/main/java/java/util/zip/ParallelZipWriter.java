@@ -0,0 +1,572 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.zip;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * This class writes a ZIP file whose entries are compressed in parallel.
+ *
+ * <p> Each entry is given whole, as an array of bytes or as a file, and is
+ * compressed by a separate task in a {@link ForkJoinPool}, into memory or,
+ * once its compressed data grows past a threshold, into a temporary file.
+ * Entries are then written to the ZIP file in the order in which they were
+ * given, each with a local header holding its CRC-32 and sizes, and with
+ * ZIP64 extra fields and end records where sizes, offsets or the number of
+ * entries require them, exactly as {@link ZipOutputStream} would write
+ * them.  Compressed data held in temporary files, and the data of {@code
+ * STORED} entries given as files, is copied into the ZIP file with {@link
+ * FileChannel#transferTo FileChannel.transferTo}, without passing through
+ * the Java heap.
+ *
+ * <p> At most twice as many entries as the parallelism of the pool are
+ * compressed or waiting to be written at any time; a caller that gets
+ * further ahead blocks until the oldest entry has been written.
+ *
+ * <p> Instances of this class are safe for use by multiple concurrent
+ * threads, which are serialized.
+ *
+ * <p>
+ *  此类写入一个ZIP文件,其条目被并行压缩。
+ *
+ *  <p>每个条目作为整体(字节数组或文件)给出,并由{@link ForkJoinPool}中的一个单独任务压缩到内存中,或者在其压缩数据超过阈值后压缩到临时文件中。
+ * 然后,条目按照给出的顺序写入ZIP文件,每个条目都有一个包含其CRC-32和大小的本地头,并在大小、偏移量或条目数量需要时带有ZIP64额外字段和结束记录,与{@link ZipOutputStream}写入的完全相同。
+ * 保存在临时文件中的压缩数据以及作为文件给出的{@code STORED}条目的数据通过{@link FileChannel#transferTo FileChannel.transferTo}复制到ZIP文件中,而不经过Java堆。
+ *
+ *  <p>任何时候最多有池并行度两倍的条目正在被压缩或等待写入;超前更多的调用者将阻塞,直到最旧的条目被写入。
+ *
+ *  <p>此类的实例可以安全地被多个并发线程使用,这些线程被串行化。
+ *
+ * @see ZipOutputStream
+ * @since 1.8
+ */
+public
+class ParallelZipWriter implements Closeable {
+
+    /**
+     * Compression method for uncompressed (STORED) entries.
+     * <p>
+     *  未压缩(STORED)条目的压缩方法。
+     */
+    public static final int STORED = ZipEntry.STORED;
+
+    /**
+     * Compression method for compressed (DEFLATED) entries.
+     * <p>
+     *  压缩(DEFLATED)条目的压缩方法。
+     */
+    public static final int DEFLATED = ZipEntry.DEFLATED;
+
+    // Compressed data larger than this is spilled to a temporary file
+    private static final int SPILL_THRESHOLD = 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel ch;
+    private final ZipOutputStream zos;
+    private final ForkJoinPool pool;
+    private final int maxPending;
+
+    // Entries handed to tasks and not yet written, oldest first
+    private final ArrayDeque<ForkJoinTask<EntryData>> pending = new ArrayDeque<>();
+
+    private int method = DEFLATED;
+    private int level = Deflater.DEFAULT_COMPRESSION;
+    private boolean finished;
+    private boolean closed;
+
+    /**
+     * Creates a new writer of the given file, with entry names and comments
+     * in UTF-8, that compresses in the {@linkplain ForkJoinPool#commonPool
+     * common pool}.  The file is created, or truncated if it exists.
+     *
+     * <p>
+     *  创建给定文件的新写入器,条目名称和注释采用UTF-8,在{@linkplain ForkJoinPool#commonPool公共池}中压缩。创建该文件,如果文件存在则截断。
+     *
+     * @param file the ZIP file to write
+     * @exception IOException if an I/O error has occurred
+     */
+    public ParallelZipWriter(File file) throws IOException {
+        this(file, StandardCharsets.UTF_8, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new writer of the given file, with entry names and comments
+     * in the given charset, that compresses in the given pool.  The file is
+     * created, or truncated if it exists.
+     *
+     * <p>
+     *  创建给定文件的新写入器,条目名称和注释采用给定字符集,在给定池中压缩。创建该文件,如果文件存在则截断。
+     *
+     * @param file the ZIP file to write
+     * @param charset the {@linkplain java.nio.charset.Charset charset}
+     *        to be used to encode the entry names and comments
+     * @param pool the pool in which entries are compressed
+     * @exception IOException if an I/O error has occurred
+     */
+    public ParallelZipWriter(File file, Charset charset, ForkJoinPool pool)
+        throws IOException
+    {
+        if (charset == null)
+            throw new NullPointerException("charset is null");
+        if (pool == null)
+            throw new NullPointerException("pool is null");
+        this.pool = pool;
+        this.maxPending = Math.max(2, pool.getParallelism() * 2);
+        this.ch = new FileOutputStream(file).getChannel();
+        OutputStream out = new BufferedOutputStream(Channels.newOutputStream(ch),
+                                                    BUFFER_SIZE);
+        this.zos = new ZipOutputStream(out, charset);
+    }
+
+    /**
+     * Sets the ZIP file comment.
+     * <p>
+     *  设置ZIP文件注释。
+     *
+     * @param comment the comment string
+     * @exception IllegalArgumentException if the length of the specified
+     *            ZIP file comment is greater than 0xFFFF bytes
+     */
+    public synchronized void setComment(String comment) {
+        zos.setComment(comment);
+    }
+
+    /**
+     * Sets the default compression method for subsequent entries. This
+     * default will be used whenever the compression method is not specified
+     * for an individual ZIP file entry, and is initially set to DEFLATED.
+     * <p>
+     *  设置后续条目的默认压缩方法。只要没有为单个ZIP文件条目指定压缩方法,就会使用此默认值,其初始设置为DEFLATED。
+     *
+     * @param method the default compression method
+     * @exception IllegalArgumentException if the specified compression method
+     *            is invalid
+     */
+    public synchronized void setMethod(int method) {
+        if (method != DEFLATED && method != STORED) {
+            throw new IllegalArgumentException("invalid compression method");
+        }
+        this.method = method;
+    }
+
+    /**
+     * Sets the compression level for subsequent entries which are DEFLATED.
+     * The default setting is DEFAULT_COMPRESSION.
+     * <p>
+     *  为后续DEFLATED条目设置压缩级别。默认设置为DEFAULT_COMPRESSION。
+     *
+     * @param level the compression level (0-9)
+     * @exception IllegalArgumentException if the compression level is invalid
+     */
+    public synchronized void setLevel(int level) {
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("invalid compression level");
+        }
+        this.level = level;
+    }
+
+    /**
+     * Adds an entry with the given data.  The data is compressed in the
+     * background and the array must not be modified until this writer has
+     * been {@linkplain #finish finished}.  The entry's size, compressed size
+     * and CRC-32 are computed, replacing any values it has.
+     *
+     * <p>
+     *  添加具有给定数据的条目。数据在后台压缩,在此写入器{@linkplain #finish完成}之前不得修改该数组。计算条目的大小、压缩大小和CRC-32,替换其已有的任何值。
+     *
+     * @param e the ZIP entry
+     * @param b the data of the entry
+     * @exception ZipException if a ZIP format error has occurred
+     * @exception IOException if an I/O error has occurred
+     */
+    public synchronized void putEntry(ZipEntry e, byte[] b) throws IOException {
+        if (b == null) {
+            throw new NullPointerException();
+        }
+        submit(new EntryData(new ZipEntry(e), b, null, entryMethod(e), level));
+    }
+
+    /**
+     * Adds an entry with the contents of the given file.  The file is read
+     * in the background and must not be modified until this writer has been
+     * {@linkplain #finish finished}.  The entry's size, compressed size and
+     * CRC-32 are computed, replacing any values it has.  The contents of a
+     * {@code STORED} entry are copied into the ZIP file by the operating
+     * system, without passing through the Java heap.
+     *
+     * <p>
+     *  添加具有给定文件内容的条目。文件在后台读取,在此写入器{@linkplain #finish完成}之前不得修改。计算条目的大小、压缩大小和CRC-32,替换其已有的任何值。
+     * {@code STORED}条目的内容由操作系统复制到ZIP文件中,而不经过Java堆。
+     *
+     * @param e the ZIP entry
+     * @param source the file holding the data of the entry
+     * @exception ZipException if a ZIP format error has occurred
+     * @exception IOException if an I/O error has occurred
+     */
+    public synchronized void putEntry(ZipEntry e, File source) throws IOException {
+        if (source == null) {
+            throw new NullPointerException();
+        }
+        submit(new EntryData(new ZipEntry(e), null, source, entryMethod(e), level));
+    }
+
+    /**
+     * Writes all pending entries and the central directory, without closing
+     * the file.  No entries may be added afterwards.
+     * <p>
+     *  写入所有待处理条目和中央目录,而不关闭文件。之后不能再添加条目。
+     *
+     * @exception ZipException if a ZIP file error has occurred
+     * @exception IOException if an I/O error has occurred
+     */
+    public synchronized void finish() throws IOException {
+        ensureOpen();
+        if (finished) {
+            return;
+        }
+        while (!pending.isEmpty()) {
+            writeEntry(pending.peek());
+            pending.poll();
+        }
+        zos.finish();
+        zos.flush();
+        finished = true;
+    }
+
+    /**
+     * Finishes writing the ZIP file, if it has not been finished, and closes
+     * it.
+     * <p>
+     *  如果ZIP文件尚未完成,则完成写入,然后关闭它。
+     *
+     * @exception ZipException if a ZIP file error has occurred
+     * @exception IOException if an I/O error has occurred
+     */
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            finish();
+        } finally {
+            closed = true;
+            discardPending();
+            zos.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private int entryMethod(ZipEntry e) throws ZipException {
+        int m = (e.method == -1) ? method : e.method;
+        if (m != DEFLATED && m != STORED) {
+            throw new ZipException("unsupported compression method");
+        }
+        return m;
+    }
+
+    /*
+     * Hands an entry to a task, first writing the oldest pending entries if
+     * as many entries as allowed are pending.
+     * <p>
+     *  将条目交给任务,如果待处理的条目已达到允许的数量,则先写入最旧的待处理条目。
+     */
+    private void submit(EntryData d) throws IOException {
+        ensureOpen();
+        if (finished) {
+            throw new IOException("write beyond end of stream");
+        }
+        while (pending.size() >= maxPending) {
+            writeEntry(pending.peek());
+            pending.poll();
+        }
+        pending.add(pool.submit(d));
+    }
+
+    /*
+     * Waits for the task of an entry, then writes the entry.
+     * <p>
+     *  等待条目的任务完成,然后写入该条目。
+     */
+    private void writeEntry(ForkJoinTask<EntryData> task) throws IOException {
+        EntryData d;
+        try {
+            d = task.get();
+        } catch (InterruptedException x) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException x) {
+            Throwable cause = x.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new IOException(cause);
+        }
+        try {
+            zos.putRawEntry(d.entry);
+            if (d.out != null) {
+                zos.writeRaw(d.out, 0, d.outLen);
+            } else {
+                File f = (d.spill != null) ? d.spill : d.source;
+                zos.flush();
+                try (FileChannel src = new RandomAccessFile(f, "r").getChannel()) {
+                    transferFully(src, d.entry.csize);
+                }
+                zos.rawWritten(d.entry.csize);
+            }
+        } finally {
+            d.delete();
+        }
+    }
+
+    /*
+     * Copies count bytes from the start of the given channel to the ZIP
+     * file, at its current position.
+     * <p>
+     *  将给定通道开头的count个字节复制到ZIP文件的当前位置。
+     */
+    private void transferFully(FileChannel src, long count) throws IOException {
+        long pos = 0;
+        while (pos < count) {
+            long n = src.transferTo(pos, count - pos, ch);
+            if (n <= 0 && pos >= src.size()) {
+                throw new ZipException("file truncated while being written");
+            }
+            pos += n;
+        }
+    }
+
+    /*
+     * Waits for the tasks of entries that will not be written, and deletes
+     * their temporary files.
+     * <p>
+     *  等待不会被写入的条目的任务,并删除它们的临时文件。
+     */
+    private void discardPending() {
+        ForkJoinTask<EntryData> task;
+        while ((task = pending.poll()) != null) {
+            try {
+                task.get().delete();
+            } catch (InterruptedException x) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException x) {
+                // the task left no temporary file behind
+            }
+        }
+    }
+
+    /*
+     * An entry and its data, and, once the task has run, its compressed
+     * data, in memory or in a temporary file; a STORED entry given as a
+     * file is left in that file.
+     * <p>
+     *  一个条目及其数据,以及任务运行后其压缩数据(在内存中或临时文件中);作为文件给出的STORED条目保留在该文件中。
+     */
+    private static final class EntryData implements Callable<EntryData> {
+        final ZipEntry entry;
+        final byte[] data;
+        final File source;
+        final int level;
+
+        byte[] out;
+        int outLen;
+        File spill;
+
+        EntryData(ZipEntry entry, byte[] data, File source, int method, int level) {
+            this.entry = entry;
+            this.data = data;
+            this.source = source;
+            this.level = level;
+            entry.method = method;
+        }
+
+        public EntryData call() throws IOException {
+            CRC32 crc = new CRC32();
+            if (entry.method == STORED) {
+                if (data != null) {
+                    crc.update(data, 0, data.length);
+                    out = data;
+                    outLen = data.length;
+                    entry.size = data.length;
+                } else {
+                    entry.size = checksum(source, crc);
+                }
+                entry.csize = entry.size;
+                entry.crc = crc.getValue();
+                return this;
+            }
+
+            Deflater def = new Deflater(level, true);
+            try (Sink sink = new Sink()) {
+                byte[] buf = new byte[BUFFER_SIZE];
+                if (data != null) {
+                    crc.update(data, 0, data.length);
+                    def.setInput(data, 0, data.length);
+                    def.finish();
+                    deflate(def, buf, sink);
+                } else {
+                    try (FileChannel src = new RandomAccessFile(source, "r").getChannel()) {
+                        ByteBuffer bb = ByteBuffer.allocate(BUFFER_SIZE);
+                        while (src.read(bb) >= 0) {
+                            bb.flip();
+                            crc.update(bb.array(), 0, bb.limit());
+                            def.setInput(bb.array(), 0, bb.limit());
+                            deflate(def, buf, sink);
+                            bb.clear();
+                        }
+                        def.finish();
+                        deflate(def, buf, sink);
+                    }
+                }
+                entry.size = def.getBytesRead();
+                entry.csize = def.getBytesWritten();
+                entry.crc = crc.getValue();
+                out = sink.buf;
+                outLen = sink.count;
+                spill = sink.file;
+                sink.file = null;
+            } finally {
+                def.end();
+            }
+            return this;
+        }
+
+        // Deflates until the deflater needs more input, or is finished
+        private static void deflate(Deflater def, byte[] buf, Sink sink)
+            throws IOException
+        {
+            while (!def.finished()) {
+                int n = def.deflate(buf, 0, buf.length);
+                if (n > 0) {
+                    sink.write(buf, 0, n);
+                } else if (def.needsInput()) {
+                    break;
+                }
+            }
+        }
+
+        // Computes the CRC-32 of a file, returning its length
+        private static long checksum(File f, CRC32 crc) throws IOException {
+            try (FileChannel src = new RandomAccessFile(f, "r").getChannel()) {
+                ByteBuffer bb = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                long size = 0;
+                int n;
+                while ((n = src.read(bb)) >= 0) {
+                    bb.flip();
+                    crc.update(bb);
+                    bb.clear();
+                    size += n;
+                }
+                return size;
+            }
+        }
+
+        void delete() {
+            out = null;
+            if (spill != null) {
+                spill.delete();
+                spill = null;
+            }
+        }
+    }
+
+    /*
+     * Collects compressed data in memory, moving it to a temporary file
+     * once it grows past SPILL_THRESHOLD.  Closing deletes the temporary
+     * file unless it has been taken, by clearing the field.
+     * <p>
+     *  在内存中收集压缩数据,一旦超过SPILL_THRESHOLD,就将其移动到临时文件中。关闭时删除临时文件,除非通过清除该字段已将其取走。
+     */
+    private static final class Sink implements Closeable {
+        byte[] buf = new byte[256];
+        int count;
+        File file;
+        private OutputStream fout;
+
+        void write(byte[] b, int off, int len) throws IOException {
+            if (fout == null && count + len > SPILL_THRESHOLD) {
+                file = File.createTempFile("zip", ".tmp");
+                fout = new BufferedOutputStream(new FileOutputStream(file),
+                                                BUFFER_SIZE);
+                fout.write(buf, 0, count);
+                buf = null;
+                count = 0;
+            }
+            if (fout != null) {
+                fout.write(b, off, len);
+            } else {
+                if (count + len > buf.length) {
+                    buf = Arrays.copyOf(buf, Math.max(buf.length << 1, count + len));
+                }
+                System.arraycopy(b, off, buf, count, len);
+                count += len;
+            }
+        }
+
+        public void close() throws IOException {
+            if (fout != null) {
+                try {
+                    fout.close();
+                } finally {
+                    fout = null;
+                    if (file != null) {
+                        file.delete();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -31,10 +31,13 @@ import java.io.InputStream;
 import java.io.IOException;
 import java.io.EOFException;
 import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -43,6 +46,7 @@ import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -66,7 +70,7 @@ import static java.util.zip.ZipUtils.*;
  */
 public
 class ZipFile implements ZipConstants, Closeable {
-    private long jzfile;           // address of jzfile data
+    private final Source zsrc;     // central directory index and file access
     private final String name;     // zip file name
     private final int total;       // total number of entries
     private final boolean locsig;  // if zip file starts with LOCSIG (usually true)
@@ -95,13 +99,6 @@ class ZipFile implements ZipConstants, Closeable {
      */
     public static final int OPEN_DELETE = 0x4;
 
-    static {
-        /* Zip library is loaded from System.initializeSystemClass */
-        initIDs();
-    }
-
-    private static native void initIDs();
-
     private static final boolean usemmap;
 
     static {
@@ -260,12 +257,15 @@ class ZipFile implements ZipConstants, Closeable {
             throw new NullPointerException("charset is null");
         this.zc = ZipCoder.get(charset);
         long t0 = System.nanoTime();
-        jzfile = open(name, mode, file.lastModified(), usemmap);
+        this.zsrc = new Source(file, usemmap);
+        if ((mode & OPEN_DELETE) != 0 && !file.delete()) {
+            file.deleteOnExit();
+        }
         sun.misc.PerfCounter.getZipFileOpenTime().addElapsedTimeFrom(t0);
         sun.misc.PerfCounter.getZipFileCount().increment();
         this.name = name;
-        this.total = getTotal(jzfile);
-        this.locsig = startsWithLOC(jzfile);
+        this.total = zsrc.total;
+        this.locsig = zsrc.locsig;
     }
 
     /**
@@ -341,13 +341,11 @@ class ZipFile implements ZipConstants, Closeable {
      * Since 1.7
      */
     public String getComment() {
-        synchronized (this) {
-            ensureOpen();
-            byte[] bcomm = getCommentBytes(jzfile);
-            if (bcomm == null)
-                return null;
-            return zc.toString(bcomm, bcomm.length);
-        }
+        ensureOpen();
+        byte[] bcomm = zsrc.comment;
+        if (bcomm == null)
+            return null;
+        return zc.toString(bcomm, bcomm.length);
     }
 
     /**
@@ -366,25 +364,14 @@ class ZipFile implements ZipConstants, Closeable {
         if (name == null) {
             throw new NullPointerException("name");
         }
-        long jzentry = 0;
-        synchronized (this) {
-            ensureOpen();
-            jzentry = getEntry(jzfile, zc.getBytes(name), true);
-            if (jzentry != 0) {
-                ZipEntry ze = getZipEntry(name, jzentry);
-                freeEntry(jzfile, jzentry);
-                return ze;
-            }
+        ensureOpen();
+        int pos = zsrc.getEntryPos(zc.getBytes(name), true);
+        if (pos != -1) {
+            return getZipEntry(name, pos);
         }
         return null;
     }
 
-    private static native long getEntry(long jzfile, byte[] name,
-                                        boolean addSlash);
-
-    // freeEntry releases the C jzentry struct.
-    private static native void freeEntry(long jzfile, long jzentry);
-
     // the outstanding inputstreams that need to be closed,
     // mapped to the inflater objects they use.
     private final Map<InputStream, Inflater> streams = new WeakHashMap<>();
@@ -413,41 +400,40 @@ class ZipFile implements ZipConstants, Closeable {
         if (entry == null) {
             throw new NullPointerException("entry");
         }
-        long jzentry = 0;
+        int pos;
         ZipFileInputStream in = null;
-        synchronized (this) {
-            ensureOpen();
-            if (!zc.isUTF8() && (entry.flag & EFS) != 0) {
-                jzentry = getEntry(jzfile, zc.getBytesUTF8(entry.name), false);
-            } else {
-                jzentry = getEntry(jzfile, zc.getBytes(entry.name), false);
-            }
-            if (jzentry == 0) {
-                return null;
-            }
-            in = new ZipFileInputStream(jzentry);
+        ensureOpen();
+        if (!zc.isUTF8() && (entry.flag & EFS) != 0) {
+            pos = zsrc.getEntryPos(zc.getBytesUTF8(entry.name), false);
+        } else {
+            pos = zsrc.getEntryPos(zc.getBytes(entry.name), false);
+        }
+        if (pos == -1) {
+            return null;
+        }
+        in = new ZipFileInputStream(pos);
 
-            switch (getEntryMethod(jzentry)) {
-            case STORED:
-                synchronized (streams) {
-                    streams.put(in, null);
-                }
-                return in;
-            case DEFLATED:
-                // MORE: Compute good size for inflater stream:
-                long size = getEntrySize(jzentry) + 2; // Inflater likes a bit of slack
-                if (size > 65536) size = 8192;
-                if (size <= 0) size = 4096;
-                Inflater inf = getInflater();
-                InputStream is =
-                    new ZipFileInflaterInputStream(in, inf, (int)size);
-                synchronized (streams) {
-                    streams.put(is, inf);
-                }
-                return is;
-            default:
-                throw new ZipException("invalid compression method");
+        switch (zsrc.cenShort(pos + CENHOW)) {
+        case STORED:
+            synchronized (streams) {
+                streams.put(in, null);
+            }
+            return in;
+        case DEFLATED:
+            // MORE: Compute good size for inflater stream:
+            long size = in.size() + 2; // Inflater likes a bit of slack
+            if (size > 65536) size = 8192;
+            if (size <= 0) size = 4096;
+            Inflater inf = getInflater();
+            InputStream is =
+                new ZipFileInflaterInputStream(in, inf, (int)size);
+            synchronized (streams) {
+                streams.put(is, inf);
             }
+            return is;
+        default:
+            in.close();
+            throw new ZipException("invalid compression method");
         }
     }
 
@@ -515,11 +501,9 @@ class ZipFile implements ZipConstants, Closeable {
      */
     private Inflater getInflater() {
         Inflater inf;
-        synchronized (inflaterCache) {
-            while (null != (inf = inflaterCache.poll())) {
-                if (false == inf.ended()) {
-                    return inf;
-                }
+        while (null != (inf = inflaterCache.poll())) {
+            if (false == inf.ended()) {
+                return inf;
             }
         }
         return new Inflater(true);
@@ -534,14 +518,20 @@ class ZipFile implements ZipConstants, Closeable {
     private void releaseInflater(Inflater inf) {
         if (false == inf.ended()) {
             inf.reset();
-            synchronized (inflaterCache) {
-                inflaterCache.add(inf);
+            inflaterCache.add(inf);
+            if (closeRequested) {
+                // raced with close(), which may already have drained the cache
+                while (null != (inf = inflaterCache.poll())) {
+                    inf.end();
+                }
             }
         }
     }
 
-    // List of available Inflater objects for decompression
-    private Deque<Inflater> inflaterCache = new ArrayDeque<>();
+    // List of available Inflater objects for decompression, shared
+    // without locking by all streams of this zip file
+    private final ConcurrentLinkedQueue<Inflater> inflaterCache =
+        new ConcurrentLinkedQueue<>();
 
     /**
      * Returns the path name of the ZIP file.
@@ -567,10 +557,8 @@ class ZipFile implements ZipConstants, Closeable {
         }
 
         public boolean hasNext() {
-            synchronized (ZipFile.this) {
-                ensureOpen();
-                return i < total;
-            }
+            ensureOpen();
+            return i < total;
         }
 
         public ZipEntry nextElement() {
@@ -578,31 +566,11 @@ class ZipFile implements ZipConstants, Closeable {
         }
 
         public ZipEntry next() {
-            synchronized (ZipFile.this) {
-                ensureOpen();
-                if (i >= total) {
-                    throw new NoSuchElementException();
-                }
-                long jzentry = getNextEntry(jzfile, i++);
-                if (jzentry == 0) {
-                    String message;
-                    if (closeRequested) {
-                        message = "ZipFile concurrently closed";
-                    } else {
-                        message = getZipMessage(ZipFile.this.jzfile);
-                    }
-                    throw new ZipError("jzentry == 0" +
-                                       ",\n jzfile = " + ZipFile.this.jzfile +
-                                       ",\n total = " + ZipFile.this.total +
-                                       ",\n name = " + ZipFile.this.name +
-                                       ",\n i = " + i +
-                                       ",\n message = " + message
-                        );
-                }
-                ZipEntry ze = getZipEntry(null, jzentry);
-                freeEntry(jzfile, jzentry);
-                return ze;
+            ensureOpen();
+            if (i >= total) {
+                throw new NoSuchElementException();
             }
+            return getZipEntry(null, zsrc.entryPos[i++]);
         }
     }
 
@@ -639,26 +607,40 @@ class ZipFile implements ZipConstants, Closeable {
                         Spliterator.IMMUTABLE | Spliterator.NONNULL), false);
     }
 
-    private ZipEntry getZipEntry(String name, long jzentry) {
+    private ZipEntry getZipEntry(String name, int pos) {
+        Source src = zsrc;
         ZipEntry e = new ZipEntry();
-        e.flag = getEntryFlag(jzentry);  // get the flag first
+        e.flag = src.cenShort(pos + CENFLG);  // get the flag first
+        int nlen = src.cenShort(pos + CENNAM);
+        int elen = src.cenShort(pos + CENEXT);
+        int clen = src.cenShort(pos + CENCOM);
         if (name != null) {
             e.name = name;
         } else {
-            byte[] bname = getEntryBytes(jzentry, JZENTRY_NAME);
+            byte[] bname = src.cenBytes(pos + CENHDR, nlen);
             if (!zc.isUTF8() && (e.flag & EFS) != 0) {
                 e.name = zc.toStringUTF8(bname, bname.length);
             } else {
                 e.name = zc.toString(bname, bname.length);
             }
         }
-        e.time = dosToJavaTime(getEntryTime(jzentry));
-        e.crc = getEntryCrc(jzentry);
-        e.size = getEntrySize(jzentry);
-        e.csize = getEntryCSize(jzentry);
-        e.method = getEntryMethod(jzentry);
-        e.setExtra0(getEntryBytes(jzentry, JZENTRY_EXTRA), false);
-        byte[] bcomm = getEntryBytes(jzentry, JZENTRY_COMMENT);
+        e.time = dosToJavaTime(src.cenInt(pos + CENTIM));
+        e.crc = src.cenInt(pos + CENCRC);
+        e.size = src.cenInt(pos + CENLEN);
+        e.csize = src.cenInt(pos + CENSIZ);
+        e.method = src.cenShort(pos + CENHOW);
+        if (elen != 0) {
+            byte[] extra = src.cenBytes(pos + CENHDR + nlen, elen);
+            e.setExtra0(extra, false);
+            if (e.size == ZIP64_MAGICVAL || e.csize == ZIP64_MAGICVAL) {
+                long[] sizes = Source.zip64Sizes(extra, e.size, e.csize,
+                                                 src.cenInt(pos + CENOFF));
+                e.size = sizes[0];
+                e.csize = sizes[1];
+            }
+        }
+        byte[] bcomm = (clen == 0) ? null
+            : src.cenBytes(pos + CENHDR + nlen + elen, clen);
         if (bcomm == null) {
             e.comment = null;
         } else {
@@ -671,8 +653,6 @@ class ZipFile implements ZipConstants, Closeable {
         return e;
     }
 
-    private static native long getNextEntry(long jzfile, int i);
-
     /**
      * Returns the number of entries in the ZIP file.
      * <p>
@@ -722,19 +702,14 @@ class ZipFile implements ZipConstants, Closeable {
 
             // Release cached inflaters
             Inflater inf;
-            synchronized (inflaterCache) {
-                while (null != (inf = inflaterCache.poll())) {
-                    inf.end();
-                }
+            while (null != (inf = inflaterCache.poll())) {
+                inf.end();
             }
 
-            if (jzfile != 0) {
-                // Close the zip file
-                long zf = this.jzfile;
-                jzfile = 0;
-
-                close(zf);
-            }
+            // Close the zip file; a mapped central directory is left to be
+            // unmapped by the collector, as a concurrent lookup may still be
+            // reading it
+            zsrc.close();
         }
     }
 
@@ -764,14 +739,12 @@ class ZipFile implements ZipConstants, Closeable {
         close();
     }
 
-    private static native void close(long jzfile);
-
     private void ensureOpen() {
         if (closeRequested) {
             throw new IllegalStateException("zip file closed");
         }
 
-        if (jzfile == 0) {
+        if (zsrc == null) {
             throw new IllegalStateException("The object is not initialized.");
         }
     }
@@ -789,41 +762,70 @@ class ZipFile implements ZipConstants, Closeable {
      */
    private class ZipFileInputStream extends InputStream {
         private volatile boolean closeRequested = false;
-        protected long jzentry; // address of jzentry data
-        private   long pos;     // current position within entry data
+        private   long pos;     // current position within the zip file,
+                                // or minus the LOC header offset until the
+                                // header has been read
         protected long rem;     // number of remaining bytes within entry
         protected long size;    // uncompressed size of this entry
 
-        ZipFileInputStream(long jzentry) {
-            pos = 0;
-            rem = getEntryCSize(jzentry);
-            size = getEntrySize(jzentry);
-            this.jzentry = jzentry;
+        ZipFileInputStream(int cenpos) {
+            Source src = ZipFile.this.zsrc;
+            rem = src.cenInt(cenpos + CENSIZ);
+            size = src.cenInt(cenpos + CENLEN);
+            long locoff = src.cenInt(cenpos + CENOFF);
+            if (rem == ZIP64_MAGICVAL || size == ZIP64_MAGICVAL ||
+                locoff == ZIP64_MAGICVAL) {
+                int nlen = src.cenShort(cenpos + CENNAM);
+                int elen = src.cenShort(cenpos + CENEXT);
+                if (elen != 0) {
+                    byte[] extra = src.cenBytes(cenpos + CENHDR + nlen, elen);
+                    long[] v = Source.zip64Sizes(extra, size, rem, locoff);
+                    size = v[0];
+                    rem = v[1];
+                    locoff = v[2];
+                }
+            }
+            pos = -(locoff + src.locpos);
         }
 
-        public int read(byte b[], int off, int len) throws IOException {
-            synchronized (ZipFile.this) {
-                long rem = this.rem;
-                long pos = this.pos;
-                if (rem == 0) {
-                    return -1;
-                }
-                if (len <= 0) {
-                    return 0;
+        // Reads the LOC header, on first use, to find the entry data
+        private long initDataOffset() throws IOException {
+            if (pos <= 0) {
+                byte[] loc = new byte[LOCHDR];
+                pos = -pos;
+                int len = ZipFile.this.zsrc.readFullyAt(loc, 0, loc.length, pos);
+                if (len != LOCHDR) {
+                    throw new ZipException("ZipFile error reading zip file");
                 }
-                if (len > rem) {
-                    len = (int) rem;
-                }
-
-                ensureOpenOrZipException();
-                len = ZipFile.read(ZipFile.this.jzfile, jzentry, pos, b,
-                                   off, len);
-                if (len > 0) {
-                    this.pos = (pos + len);
-                    this.rem = (rem - len);
+                if (get32(loc, 0) != LOCSIG) {
+                    throw new ZipException("ZipFile invalid LOC header (bad signature)");
                 }
+                pos += LOCHDR + get16(loc, LOCNAM) + get16(loc, LOCEXT);
             }
+            return pos;
+        }
+
+        public int read(byte b[], int off, int len) throws IOException {
+            long rem = this.rem;
             if (rem == 0) {
+                return -1;
+            }
+            if (len <= 0) {
+                return 0;
+            }
+            if (len > rem) {
+                len = (int) rem;
+            }
+
+            ensureOpenOrZipException();
+            long pos = initDataOffset();
+            // reads at pos under the lock of the file, shared by all streams
+            len = ZipFile.this.zsrc.readAt(b, off, len, pos);
+            if (len > 0) {
+                this.pos = (pos + len);
+                this.rem = (rem - len);
+            }
+            if (this.rem == 0) {
                 close();
             }
             return len;
@@ -838,10 +840,10 @@ class ZipFile implements ZipConstants, Closeable {
             }
         }
 
-        public long skip(long n) {
+        public long skip(long n) throws IOException {
             if (n > rem)
                 n = rem;
-            pos += n;
+            pos = initDataOffset() + n;
             rem -= n;
             if (rem == 0) {
                 close();
@@ -863,12 +865,6 @@ class ZipFile implements ZipConstants, Closeable {
             closeRequested = true;
 
             rem = 0;
-            synchronized (ZipFile.this) {
-                if (jzentry != 0 && ZipFile.this.jzfile != 0) {
-                    freeEntry(ZipFile.this.jzfile, jzentry);
-                    jzentry = 0;
-                }
-            }
             synchronized (streams) {
                 streams.remove(this);
             }
@@ -885,6 +881,9 @@ class ZipFile implements ZipConstants, Closeable {
                 public boolean startsWithLocHeader(ZipFile zip) {
                     return zip.startsWithLocHeader();
                 }
+                public String[] getMetaInfEntryNames(ZipFile zip) {
+                    return zip.getMetaInfEntryNames();
+                }
              }
         );
     }
@@ -900,26 +899,394 @@ class ZipFile implements ZipConstants, Closeable {
         return locsig;
     }
 
-    private static native long open(String name, int mode, long lastModified,
-                                    boolean usemmap) throws IOException;
-    private static native int getTotal(long jzfile);
-    private static native boolean startsWithLOC(long jzfile);
-    private static native int read(long jzfile, long jzentry,
-                                   long pos, byte[] b, int off, int len);
-
-    // access to the native zentry object
-    private static native long getEntryTime(long jzentry);
-    private static native long getEntryCrc(long jzentry);
-    private static native long getEntryCSize(long jzentry);
-    private static native long getEntrySize(long jzentry);
-    private static native int getEntryMethod(long jzentry);
-    private static native int getEntryFlag(long jzentry);
-    private static native byte[] getCommentBytes(long jzfile);
-
-    private static final int JZENTRY_NAME = 0;
-    private static final int JZENTRY_EXTRA = 1;
-    private static final int JZENTRY_COMMENT = 2;
-    private static native byte[] getEntryBytes(long jzentry, int type);
-
-    private static native String getZipMessage(long jzfile);
+    /**
+     * Returns the names of the entries whose names start with "META-INF/",
+     * ignoring case, or null if there are no such entries.  The names are
+     * taken from the central directory without creating the entries.
+     * <p>
+     *  返回名称以"META-INF/"开头(忽略大小写)的条目的名称,如果没有此类条目,则返回null。名称直接取自中央目录,而不创建条目。
+     */
+    private String[] getMetaInfEntryNames() {
+        ensureOpen();
+        Source src = zsrc;
+        int[] mpos = src.metaPos;
+        if (mpos.length == 0) {
+            return null;
+        }
+        String[] names = new String[mpos.length];
+        for (int i = 0; i < mpos.length; i++) {
+            int pos = mpos[i];
+            byte[] bname = src.cenBytes(pos + CENHDR, src.cenShort(pos + CENNAM));
+            if (!zc.isUTF8() && (src.cenShort(pos + CENFLG) & EFS) != 0) {
+                names[i] = zc.toStringUTF8(bname, bname.length);
+            } else {
+                names[i] = zc.toString(bname, bname.length);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * The central directory of a zip file, indexed by entry name, and the
+     * file from which entry data is read.
+     *
+     * <p> The central directory is mapped into memory, or read into the heap
+     * if memory mapping is disabled, once when the file is opened.  An
+     * open-addressed hash table over the entry names then maps each name to
+     * the position of its central directory header.  Neither the index nor
+     * the directory changes after construction, so lookups need no lock;
+     * only the reads of entry data hold the lock of the file.
+     * <p>
+     *  zip文件的中央目录(按条目名称索引)以及读取条目数据的文件。
+     *
+     *  <p>中央目录在打开文件时被映射到内存中一次,如果禁用了内存映射,则读入堆中。然后,条目名称上的开放寻址哈希表将每个名称映射到其中央目录头的位置。
+     * 索引和目录在构造后都不会改变,因此查找不需要锁;只有条目数据的读取持有文件的锁。
+     */
+    private static final class Source {
+        // Maximum number of bytes searched backwards for the END header
+        private static final int READBLOCKSZ = 128;
+
+        // The prefix of the names of the entries recorded in metaPos
+        private static final byte[] META_INF = {
+            'M', 'E', 'T', 'A', '-', 'I', 'N', 'F', '/'
+        };
+
+        private final RandomAccessFile zfile;
+
+        // The central directory, little-endian, from position zero
+        private final ByteBuffer cen;
+
+        // Offset added to LOC offsets, for files with data prepended
+        final long locpos;
+
+        // Central directory positions of the entries, in directory order
+        final int[] entryPos;
+
+        // Central directory positions of the "META-INF/" entries
+        final int[] metaPos;
+
+        // Open-addressed hash table: the name hash and the position of the
+        // entry in each slot, and -1 in empty slots
+        private final int[] hashes;
+        private final int[] slots;
+        private final int mask;
+
+        final int total;
+        final boolean locsig;
+        final byte[] comment;
+
+        Source(File file, boolean usemmap) throws IOException {
+            zfile = new RandomAccessFile(file, "r");
+            try {
+                long len = zfile.length();
+                byte[] head = new byte[4];
+                locsig = readFullyAt(head, 0, 4, 0) == 4 && get32(head, 0) == LOCSIG;
+
+                // locate the END header, and the ZIP64 END header if any
+                long endpos = findEND(len);
+                byte[] end = new byte[ENDHDR];
+                readFullyAt(end, 0, ENDHDR, endpos);
+                long cenlen = get32(end, ENDSIZ);
+                long cenoff = get32(end, ENDOFF);
+                int comlen = get16(end, ENDCOM);
+                long cenend = endpos;
+                if (endpos >= ZIP64_LOCHDR) {
+                    byte[] loc64 = new byte[ZIP64_LOCHDR];
+                    readFullyAt(loc64, 0, ZIP64_LOCHDR, endpos - ZIP64_LOCHDR);
+                    if (get32(loc64, 0) == ZIP64_LOCSIG) {
+                        long end64pos = get64(loc64, ZIP64_LOCOFF);
+                        byte[] end64 = new byte[ZIP64_ENDHDR];
+                        if (readFullyAt(end64, 0, ZIP64_ENDHDR, end64pos) == ZIP64_ENDHDR
+                            && get32(end64, 0) == ZIP64_ENDSIG) {
+                            cenlen = get64(end64, ZIP64_ENDSIZ);
+                            cenoff = get64(end64, ZIP64_ENDOFF);
+                            cenend = end64pos;
+                        }
+                    }
+                }
+                if (cenlen > cenend) {
+                    throw new ZipException("invalid END header (bad central directory size)");
+                }
+                if (cenlen > Integer.MAX_VALUE) {
+                    throw new ZipException("invalid END header (central directory size too large)");
+                }
+                long cenpos = cenend - cenlen;
+                locpos = cenpos - cenoff;
+                if (locpos < 0) {
+                    throw new ZipException("invalid END header (bad central directory offset)");
+                }
+                if (comlen > 0 && endpos + ENDHDR + comlen <= len) {
+                    comment = new byte[comlen];
+                    readFullyAt(comment, 0, comlen, endpos + ENDHDR);
+                } else {
+                    comment = null;
+                }
+
+                ByteBuffer bb;
+                if (usemmap && cenlen > 0) {
+                    bb = zfile.getChannel().map(FileChannel.MapMode.READ_ONLY, cenpos, cenlen);
+                } else {
+                    byte[] b = new byte[(int) cenlen];
+                    if (readFullyAt(b, 0, b.length, cenpos) != b.length) {
+                        throw new ZipException("read CEN tables failed");
+                    }
+                    bb = ByteBuffer.wrap(b);
+                }
+                cen = bb.order(ByteOrder.LITTLE_ENDIAN);
+
+                // walk the directory, recording each entry's position
+                int limit = (int) cenlen;
+                int[] epos = new int[Math.max(16, Math.min(get16(end, ENDTOT), limit / CENHDR))];
+                int[] mpos = new int[4];
+                int n = 0;
+                int m = 0;
+                int pos = 0;
+                while (pos + CENHDR <= limit) {
+                    if ((cen.getInt(pos) & 0xffffffffL) != CENSIG) {
+                        throw new ZipException("invalid CEN header (bad signature)");
+                    }
+                    int next = pos + CENHDR + cenShort(pos + CENNAM)
+                        + cenShort(pos + CENEXT) + cenShort(pos + CENCOM);
+                    if (next > limit) {
+                        throw new ZipException("invalid CEN header (bad header size)");
+                    }
+                    if (n == epos.length) {
+                        epos = Arrays.copyOf(epos, n << 1);
+                    }
+                    epos[n++] = pos;
+                    if (isMetaName(pos + CENHDR, cenShort(pos + CENNAM))) {
+                        if (m == mpos.length) {
+                            mpos = Arrays.copyOf(mpos, m << 1);
+                        }
+                        mpos[m++] = pos;
+                    }
+                    pos = next;
+                }
+                entryPos = (n == epos.length) ? epos : Arrays.copyOf(epos, n);
+                metaPos = Arrays.copyOf(mpos, m);
+                total = n;
+
+                // build the name index, at most half full; a name that occurs
+                // more than once maps to its last entry, as it did natively
+                int cap = Integer.highestOneBit(Math.max(8, n) * 2 - 1) << 1;
+                mask = cap - 1;
+                hashes = new int[cap];
+                slots = new int[cap];
+                Arrays.fill(slots, -1);
+                for (int i = 0; i < n; i++) {
+                    int p = entryPos[i];
+                    int h = hashN(p + CENHDR, cenShort(p + CENNAM));
+                    int j = h & mask;
+                    while (slots[j] != -1
+                           && !(hashes[j] == h && sameName(slots[j], p))) {
+                        j = (j + 1) & mask;
+                    }
+                    hashes[j] = h;
+                    slots[j] = p;
+                }
+            } catch (IOException | RuntimeException x) {
+                zfile.close();
+                throw x;
+            }
+        }
+
+        // Returns the position of the END header
+        private long findEND(long len) throws IOException {
+            byte[] buf = new byte[READBLOCKSZ];
+            long ziplen = len;
+            long minHDR = (ziplen - ENDHDR - 0xFFFF) > 0 ? ziplen - ENDHDR - 0xFFFF : 0;
+            long minPos = minHDR - (buf.length - ENDHDR);
+            for (long pos = ziplen - buf.length; pos >= minPos; pos -= (buf.length - ENDHDR)) {
+                int off = 0;
+                if (pos < 0) {
+                    // Pretend there are some NUL bytes before start of file
+                    off = (int) -pos;
+                    Arrays.fill(buf, 0, off, (byte) 0);
+                }
+                int n = buf.length - off;
+                if (readFullyAt(buf, off, n, pos + off) != n) {
+                    throw new ZipException("zip END header not found");
+                }
+                // Now scan the block backwards for END header signature
+                for (int i = buf.length - ENDHDR; i >= 0; i--) {
+                    if (buf[i]   == (byte) 'P' &&
+                        buf[i+1] == (byte) 'K' &&
+                        buf[i+2] == (byte) '\005' &&
+                        buf[i+3] == (byte) '\006' &&
+                        pos + i + ENDHDR + get16(buf, i + ENDCOM) == ziplen) {
+                        return pos + i;
+                    }
+                }
+            }
+            throw new ZipException("zip END header not found");
+        }
+
+        /**
+         * Returns the central directory position of the entry with the given
+         * encoded name, or -1.  If addSlash is true and there is no such
+         * entry, a directory entry of the same name is looked up as well.
+         * <p>
+         *  返回具有给定编码名称的条目的中央目录位置,或-1。如果addSlash为true且没有此类条目,则还会查找同名的目录条目。
+         */
+        int getEntryPos(byte[] name, boolean addSlash) {
+            int len = name.length;
+            int h = 0;
+            for (int i = 0; i < len; i++) {
+                h = 31 * h + name[i];
+            }
+            int pos = lookup(name, len, h);
+            if (pos == -1 && addSlash && len > 0 && name[len - 1] != '/') {
+                byte[] dname = Arrays.copyOf(name, len + 1);
+                dname[len] = (byte) '/';
+                pos = lookup(dname, len + 1, 31 * h + '/');
+            }
+            return pos;
+        }
+
+        private int lookup(byte[] name, int len, int h) {
+            for (int j = h & mask; slots[j] != -1; j = (j + 1) & mask) {
+                int p = slots[j];
+                if (hashes[j] == h && cenShort(p + CENNAM) == len) {
+                    int q = p + CENHDR;
+                    int i = 0;
+                    while (i < len && cen.get(q + i) == name[i]) {
+                        i++;
+                    }
+                    if (i == len) {
+                        return p;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        // Returns true if the entries at the given central directory
+        // positions have the same name
+        private boolean sameName(int p, int q) {
+            int len = cenShort(p + CENNAM);
+            if (cenShort(q + CENNAM) != len) {
+                return false;
+            }
+            for (int i = 0; i < len; i++) {
+                if (cen.get(p + CENHDR + i) != cen.get(q + CENHDR + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Returns true if the name of the given length at the given position
+        // starts with "META-INF/", ignoring the case of the ASCII letters
+        private boolean isMetaName(int pos, int len) {
+            if (len < META_INF.length) {
+                return false;
+            }
+            for (int i = 0; i < META_INF.length; i++) {
+                int c = cen.get(pos + i);
+                if (c >= 'a' && c <= 'z') {
+                    c -= 'a' - 'A';
+                }
+                if (c != META_INF[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Hash of the name of the given length at the given position, equal
+        // to the hash getEntryPos computes for the same bytes
+        private int hashN(int pos, int len) {
+            int h = 0;
+            for (int i = 0; i < len; i++) {
+                h = 31 * h + cen.get(pos + i);
+            }
+            return h;
+        }
+
+        int cenShort(int pos) {
+            return cen.getShort(pos) & 0xffff;
+        }
+
+        long cenInt(int pos) {
+            return cen.getInt(pos) & 0xffffffffL;
+        }
+
+        byte[] cenBytes(int pos, int len) {
+            byte[] b = new byte[len];
+            for (int i = 0; i < len; i++) {
+                b[i] = cen.get(pos + i);
+            }
+            return b;
+        }
+
+        /**
+         * Returns the uncompressed size, compressed size and LOC offset of an
+         * entry, replacing each one that is ZIP64_MAGICVAL in the central
+         * directory with its value from the ZIP64 extra field.
+         * <p>
+         *  返回条目的未压缩大小、压缩大小和LOC偏移量,将中央目录中每个为ZIP64_MAGICVAL的值替换为ZIP64额外字段中的值。
+         */
+        static long[] zip64Sizes(byte[] extra, long size, long csize, long locoff) {
+            int off = 0;
+            while (off + 4 <= extra.length) {
+                int tag = get16(extra, off);
+                int sz = get16(extra, off + 2);
+                off += 4;
+                if (off + sz > extra.length) {
+                    break;
+                }
+                if (tag == ZIP64_EXTID) {
+                    int end = off + sz;
+                    if (size == ZIP64_MAGICVAL && off + 8 <= end) {
+                        size = get64(extra, off);
+                        off += 8;
+                    }
+                    if (csize == ZIP64_MAGICVAL && off + 8 <= end) {
+                        csize = get64(extra, off);
+                        off += 8;
+                    }
+                    if (locoff == ZIP64_MAGICVAL && off + 8 <= end) {
+                        locoff = get64(extra, off);
+                    }
+                    break;
+                }
+                off += sz;
+            }
+            return new long[] { size, csize, locoff };
+        }
+
+        /**
+         * Reads up to len bytes at the given file position.  The file is
+         * read with seek and read under its lock rather than with the
+         * channel's positional read, since the channel is closed for good
+         * when a thread blocked in it is interrupted.
+         * <p>
+         *  在给定的文件位置读取最多len个字节。文件在其锁下通过seek和read读取,而不是通过通道的位置读取,因为当阻塞在通道中的线程被中断时,通道将被永久关闭。
+         */
+        int readAt(byte[] b, int off, int len, long pos) throws IOException {
+            synchronized (zfile) {
+                zfile.seek(pos);
+                return zfile.read(b, off, len);
+            }
+        }
+
+        int readFullyAt(byte[] b, int off, int len, long pos) throws IOException {
+            synchronized (zfile) {
+                zfile.seek(pos);
+                int n = 0;
+                while (n < len) {
+                    int k = zfile.read(b, off + n, len - n);
+                    if (k < 0) {
+                        break;
+                    }
+                    n += k;
+                }
+                return n;
+            }
+        }
+
+        void close() throws IOException {
+            zfile.close();
+        }
+    }
 }
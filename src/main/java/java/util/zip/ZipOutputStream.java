@@ -283,6 +283,67 @@ class ZipOutputStream extends DeflaterOutputStream implements ZipConstants {
         writeLOC(current);
     }
 
+    /*
+     * Begins writing an entry whose data is already compressed, or stored,
+     * and whose CRC-32, size and compressed size are all known, so that
+     * they go in the LOC header and no data descriptor follows.  The data
+     * is then written with writeRaw, or written to the underlying output
+     * directly and accounted for with rawWritten.
+     * <p>
+     *  开始写入一个数据已被压缩(或存储)且其CRC-32、大小和压缩大小均已知的条目,因此它们写入LOC头中,其后不跟数据描述符。
+     * 然后使用writeRaw写入数据,或直接写入底层输出并使用rawWritten进行计数。
+     */
+    void putRawEntry(ZipEntry e) throws IOException {
+        ensureOpen();
+        if (current != null) {
+            closeEntry();
+        }
+        if (e.time == -1) {
+            e.setTime(System.currentTimeMillis());
+        }
+        if (e.method == -1) {
+            e.method = method;
+        }
+        if (e.method != DEFLATED && e.method != STORED) {
+            throw new ZipException("unsupported compression method");
+        }
+        if (e.size == -1 || e.csize == -1 || e.crc == -1) {
+            throw new ZipException(
+                "raw entry missing size, compressed size, or crc-32");
+        }
+        if (e.method == STORED && e.size != e.csize) {
+            throw new ZipException(
+                "STORED entry where compressed != uncompressed size");
+        }
+        if (! names.add(e.name)) {
+            throw new ZipException("duplicate entry: " + e.name);
+        }
+        e.flag = zc.isUTF8() ? EFS : 0;
+        XEntry xentry = new XEntry(e, written);
+        xentries.add(xentry);
+        writeLOC(xentry);
+    }
+
+    /*
+     * Writes data of the entry begun by putRawEntry.
+     * <p>
+     *  写入由putRawEntry开始的条目的数据。
+     */
+    void writeRaw(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        written += len;
+    }
+
+    /*
+     * Accounts for n bytes of data of the entry begun by putRawEntry that
+     * were written to the underlying output directly.
+     * <p>
+     *  计入由putRawEntry开始的条目中直接写入底层输出的n个字节的数据。
+     */
+    void rawWritten(long n) {
+        written += n;
+    }
+
     /**
      * Closes the current ZIP entry and positions the stream for writing
      * the next entry.
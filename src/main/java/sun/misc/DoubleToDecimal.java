@@ -0,0 +1,564 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package sun.misc;
+
+import java.io.IOException;
+
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Long.numberOfLeadingZeros;
+import static sun.misc.MathUtils.flog10pow2;
+import static sun.misc.MathUtils.flog10threeQuartersPow2;
+import static sun.misc.MathUtils.flog2pow10;
+import static sun.misc.MathUtils.g0;
+import static sun.misc.MathUtils.g1;
+import static sun.misc.MathUtils.multiplyHigh;
+import static sun.misc.MathUtils.pow10;
+
+/**
+ * Renders a {@code double} as the shortest decimal that rounds back to
+ * it, in the format specified by {@link Double#toString(double)}.
+ *
+ * <p>The conversion follows the Schubfach algorithm of Raffaello
+ * Giulietti, "The Schubfach way to render doubles".  Unlike
+ * {@link FloatingDecimal} it never needs multiprecision arithmetic and
+ * never produces more digits than required to uniquely distinguish the
+ * value from its adjacent {@code double}s.
+ *
+ * <p>The characters are produced into a per-thread buffer, so appending
+ * to a {@code char[]} or an {@code Appendable} allocates nothing.
+ *
+ * <p>
+ *  将{@code double}呈现为能舍入回该值的最短十进制数,格式由{@link Double#toString(double)}指定。
+ * 
+ *  <p>转换遵循Raffaello Giulietti的Schubfach算法,"The Schubfach way to render doubles"。
+ * 与{@link FloatingDecimal}不同,它从不需要多精度运算,并且从不产生超过唯一区分该值与其相邻{@code double}所需的位数。
+ * 
+ *  <p>字符被生成到每个线程的缓冲区中,因此追加到{@code char[]}或{@code Appendable}时不分配任何对象。
+ * 
+ */
+public final class DoubleToDecimal {
+
+    /*
+     * For full details about this code see the following references:
+     *
+     * [1] Giulietti, "The Schubfach way to render doubles",
+     *     https://drive.google.com/open?id=1luHhyQF9zKlM8yJ1nebU0OgVYhfC6CBN
+     *
+     * [2] IEEE Computer Society, "IEEE Standard for Floating-Point Arithmetic"
+     *
+     * [3] Bouvier & Zimmermann, "Division-Free Binary-to-Decimal Conversion"
+     *
+     * Divisions are avoided altogether for the benefit of those architectures
+     * that do not provide specific machine instructions or where they are slow.
+     * This is discussed in section 10 of [1].
+     */
+
+    // The precision in bits.
+    static final int P = 53;
+
+    // Exponent width in bits.
+    private static final int W = (Double.SIZE - 1) - (P - 1);
+
+    // Minimum value of the exponent: -(2^(W-1)) - P + 3.
+    static final int Q_MIN = (-1 << W - 1) - P + 3;
+
+    // Threshold to detect tiny values, as in section 8.2.1 of the paper.
+    static final long C_TINY = 3;
+
+    // The number of decimal digits needed for all doubles.
+    static final int H = 17;
+
+    // Minimum value of the significand of a normal value: 2^(P-1).
+    private static final long C_MIN = 1L << P - 1;
+
+    // Mask to extract the biased exponent.
+    private static final int BQ_MASK = (1 << W) - 1;
+
+    // Mask to extract the fraction bits.
+    private static final long T_MASK = (1L << P - 1) - 1;
+
+    // Used in rop().
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    // Used for left-to-right digit extraction.
+    private static final int MASK_28 = (1 << 28) - 1;
+
+    private static final int NON_SPECIAL    = 0;
+    private static final int PLUS_ZERO      = 1;
+    private static final int MINUS_ZERO     = 2;
+    private static final int PLUS_INF       = 3;
+    private static final int MINUS_INF      = 4;
+    private static final int NAN            = 5;
+
+    /**
+     * The maximum number of characters in the string produced for any
+     * {@code double}, for example "-2.2250738585072014E-308".
+     */
+    public static final int MAX_CHARS = 1 + H + 1 + 1 + 1 + 3;
+
+    private static final ThreadLocal<DoubleToDecimal> threadLocalDoubleToDecimal =
+        new ThreadLocal<DoubleToDecimal>() {
+            @Override
+            protected DoubleToDecimal initialValue() {
+                return new DoubleToDecimal();
+            }
+        };
+
+    private final char[] chars = new char[MAX_CHARS];
+
+    // Index into chars of rightmost valid character.
+    private int index;
+
+    private DoubleToDecimal() {
+    }
+
+    /**
+     * Returns a string rendering of the {@code double} argument.
+     *
+     * <p>
+     *  返回{@code double}参数的字符串表示。
+     * 
+     * 
+     * @param v the {@code double} to be rendered.
+     * @return a string rendering of the argument.
+     */
+    public static String toString(double v) {
+        DoubleToDecimal fd = threadLocalDoubleToDecimal.get();
+        int len = fd.toChars(v);
+        return new String(fd.chars, 0, len);
+    }
+
+    /**
+     * Writes the rendering of the {@code double} argument into
+     * {@code dst}, starting at {@code dstBegin}.  At most
+     * {@link #MAX_CHARS} characters are written.
+     *
+     * <p>
+     *  将{@code double}参数的表示写入{@code dst},从{@code dstBegin}开始。最多写入{@link #MAX_CHARS}个字符。
+     * 
+     * 
+     * @param v the {@code double} to be rendered.
+     * @param dst the destination array.
+     * @param dstBegin the start offset in the destination array.
+     * @return the index in {@code dst} just past the last character
+     *         written.
+     * @throws IndexOutOfBoundsException if {@code dst} is too small to
+     *         hold the characters.
+     */
+    public static int getChars(double v, char[] dst, int dstBegin) {
+        DoubleToDecimal fd = threadLocalDoubleToDecimal.get();
+        int len = fd.toChars(v);
+        System.arraycopy(fd.chars, 0, dst, dstBegin, len);
+        return dstBegin + len;
+    }
+
+    /**
+     * Appends the rendering of the {@code double} argument to
+     * {@code app}.
+     *
+     * <p>
+     *  将{@code double}参数的表示追加到{@code app}。
+     * 
+     * 
+     * @param v the {@code double} to be rendered.
+     * @param app the {@code Appendable} to append to.
+     * @return the {@code Appendable}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static Appendable appendTo(double v, Appendable app) throws IOException {
+        if (app instanceof StringBuilder)
+            return ((StringBuilder) app).append(v);
+        if (app instanceof StringBuffer)
+            return ((StringBuffer) app).append(v);
+        DoubleToDecimal fd = threadLocalDoubleToDecimal.get();
+        int len = fd.toChars(v);
+        char[] chars = fd.chars;
+        for (int i = 0; i < len; i++)
+            app.append(chars[i]);
+        return app;
+    }
+
+    /*
+     * Renders v into chars and returns the number of characters.
+     */
+    private int toChars(double v) {
+        index = -1;
+        switch (toDecimal(v)) {
+        case NON_SPECIAL:
+            return index + 1;
+        case PLUS_ZERO:
+            return copy("0.0");
+        case MINUS_ZERO:
+            return copy("-0.0");
+        case PLUS_INF:
+            return copy("Infinity");
+        case MINUS_INF:
+            return copy("-Infinity");
+        default:
+            return copy("NaN");
+        }
+    }
+
+    private int copy(String s) {
+        int len = s.length();
+        s.getChars(0, len, chars, 0);
+        return len;
+    }
+
+    /*
+     * Returns
+     *     PLUS_ZERO       iff v is 0.0
+     *     MINUS_ZERO      iff v is -0.0
+     *     PLUS_INF        iff v is POSITIVE_INFINITY
+     *     MINUS_INF       iff v is NEGATIVE_INFINITY
+     *     NAN             iff v is NaN
+     *     NON_SPECIAL     otherwise, with the rendering in chars
+     */
+    private int toDecimal(double v) {
+        /*
+         * For full details see references [2] and [1].
+         *
+         * For finite v != 0, determine integers c and q such that
+         *     |v| = c 2^q    and
+         *     Q_MIN <= q <= Q_MAX    and
+         *         either    2^(P-1) <= c < 2^P                 (normal)
+         *         or        0 < c < 2^(P-1)  and  q = Q_MIN    (subnormal)
+         */
+        long bits = doubleToRawLongBits(v);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> P - 1) & BQ_MASK;
+        if (bq < BQ_MASK) {
+            if (bits < 0) {
+                append('-');
+            }
+            if (bq != 0) {
+                // normal value. Here mq = -q
+                int mq = -Q_MIN + 1 - bq;
+                long c = C_MIN | t;
+                // The fast path discussed in section 8.3 of [1].
+                if (0 < mq & mq < P) {
+                    long f = c >> mq;
+                    if (f << mq == c) {
+                        return toChars(f, 0);
+                    }
+                }
+                return toDecimal(-mq, c, 0);
+            }
+            if (t != 0) {
+                // subnormal value
+                return t < C_TINY
+                       ? toDecimal(Q_MIN, 10 * t, -1)
+                       : toDecimal(Q_MIN, t, 0);
+            }
+            return bits == 0 ? PLUS_ZERO : MINUS_ZERO;
+        }
+        if (t != 0) {
+            return NAN;
+        }
+        return bits > 0 ? PLUS_INF : MINUS_INF;
+    }
+
+    private int toDecimal(int q, long c, int dk) {
+        /*
+         * The skeleton corresponds to figure 7 of [1].
+         * The efficient computations are those summarized in figure 9.
+         *
+         * Here's a correspondence between Java names and names in [1],
+         * expressed as approximate LaTeX source code and informally.
+         * Other names are identical.
+         * cb:     \bar{c}     "c-bar"
+         * cbr:    \bar{r}_c   "c-bar-r"
+         * cbl:    \bar{l}_c   "c-bar-l"
+         *
+         * vb:     \bar{v}     "v-bar"
+         * vbr:    \bar{r}_v   "v-bar-r"
+         * vbl:    \bar{l}_v   "v-bar-l"
+         *
+         * rop:    r_o'        "r-o-prime"
+         */
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        /*
+         * flog10pow2(q) = floor(q log10 2)
+         * flog10threeQuartersPow2(q) = floor(log10(3/4 2^q))
+         */
+        if (c != C_MIN | q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        // g1 and g0 are as in section 9.8.3 of [1], so g = g1 2^63 + g0
+        long g1 = g1(k);
+        long g0 = g0(k);
+
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            /*
+             * For n = 17, m = 1 the table in section 10 of [1] shows
+             *     s' = floor(s / 10) = floor(s 115_292_150_460_684_698 / 2^64)
+             *
+             * sp10 = 10 s'
+             * tp10 = 10 t'
+             * upin    iff    u' = sp10 10^k in Rv
+             * wpin    iff    w' = tp10 10^k in Rv
+             * See section 9.3 of [1].
+             */
+            long sp10 = 10 * multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return toChars(upin ? sp10 : tp10, k);
+            }
+        }
+
+        /*
+         * 10 <= s < 100    or    s >= 100  and  u', w' not in Rv
+         * uin    iff    u = s 10^k in Rv
+         * win    iff    w = t 10^k in Rv
+         * See section 9.3 of [1].
+         */
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            // Exactly one of u or w lies in Rv.
+            return toChars(uin ? s : t, k + dk);
+        }
+        /*
+         * Both u and w lie in Rv: determine the one closest to v.
+         * See section 9.3 of [1].
+         */
+        long cmp = vb - (s + t << 1);
+        return toChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+    }
+
+    /*
+     * Computes rop(cp g 2^(-127)), where g = g1 2^63 + g0
+     * See section 9.9 and figure 8 of [1].
+     */
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /*
+     * Formats the decimal f 10^e.
+     */
+    private int toChars(long f, int e) {
+        /*
+         * For details not discussed here see section 10 of [1].
+         *
+         * Determine len such that
+         *     10^(len-1) <= f < 10^len
+         */
+        int len = flog10pow2(Long.SIZE - numberOfLeadingZeros(f));
+        if (f >= pow10(len)) {
+            len += 1;
+        }
+
+        /*
+         * Let fp and ep be the original f and e, respectively.
+         * Transform f and e to ensure
+         *     10^(H-1) <= f < 10^H
+         *     fp 10^ep = f 10^(e-H) = 0.f 10^e
+         */
+        f *= pow10(H - len);
+        e += len;
+
+        /*
+         * The toChars?() methods perform left-to-right digits extraction
+         * using ints, provided that the arguments are limited to 8 digits.
+         * Therefore, split the H = 17 digits of f into:
+         *     h = the most significant digit of f
+         *     m = the next 8 most significant digits of f
+         *     l = the last 8, least significant digits of f
+         *
+         * For n = 17, m = 8 the table in section 10 of [1] shows
+         *     floor(f / 10^8) = floor(193_428_131_138_340_668 f / 2^84) =
+         *     floor(floor(193_428_131_138_340_668 f / 2^64) / 2^20)
+         * and for n = 9, m = 8
+         *     floor(hm / 10^8) = floor(1_441_151_881 hm / 2^57)
+         */
+        long hm = multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+        int l = (int) (f - 100_000_000L * hm);
+        int h = (int) (hm * 1_441_151_881L >>> 57);
+        int m = (int) (hm - 100_000_000 * h);
+
+        if (0 < e && e <= 7) {
+            return toChars1(h, m, l, e);
+        }
+        if (-3 < e && e <= 0) {
+            return toChars2(h, m, l, e);
+        }
+        return toChars3(h, m, l, e);
+    }
+
+    private int toChars1(int h, int m, int l, int e) {
+        /*
+         * 0 < e <= 7: plain format without leading zeroes.
+         * Left-to-right digits extraction:
+         * algorithm 1 in [3], with b = 10, k = 8, n = 28.
+         */
+        appendDigit(h);
+        int y = y(m);
+        int t;
+        int i = 1;
+        for (; i < e; ++i) {
+            t = 10 * y;
+            appendDigit(t >>> 28);
+            y = t & MASK_28;
+        }
+        append('.');
+        for (; i <= 8; ++i) {
+            t = 10 * y;
+            appendDigit(t >>> 28);
+            y = t & MASK_28;
+        }
+        lowDigits(l);
+        return NON_SPECIAL;
+    }
+
+    private int toChars2(int h, int m, int l, int e) {
+        // -3 < e <= 0: plain format with leading zeroes.
+        appendDigit(0);
+        append('.');
+        for (; e < 0; ++e) {
+            appendDigit(0);
+        }
+        appendDigit(h);
+        append8Digits(m);
+        lowDigits(l);
+        return NON_SPECIAL;
+    }
+
+    private int toChars3(int h, int m, int l, int e) {
+        // -3 >= e | e > 7: computerized scientific notation
+        appendDigit(h);
+        append('.');
+        append8Digits(m);
+        lowDigits(l);
+        exponent(e - 1);
+        return NON_SPECIAL;
+    }
+
+    private void lowDigits(int l) {
+        if (l != 0) {
+            append8Digits(l);
+        }
+        removeTrailingZeroes();
+    }
+
+    private void append8Digits(int m) {
+        /*
+         * Left-to-right digits extraction:
+         * algorithm 1 in [3], with b = 10, k = 8, n = 28.
+         */
+        int y = y(m);
+        for (int i = 0; i < 8; ++i) {
+            int t = 10 * y;
+            appendDigit(t >>> 28);
+            y = t & MASK_28;
+        }
+    }
+
+    private void removeTrailingZeroes() {
+        while (chars[index] == '0') {
+            --index;
+        }
+        // ... but do not remove the one directly to the right of '.'
+        if (chars[index] == '.') {
+            ++index;
+        }
+    }
+
+    private int y(int a) {
+        /*
+         * Algorithm 1 in [3] needs computation of
+         *     floor((a + 1) 2^n / b^k) - 1
+         * with a < 10^8, b = 10, k = 8, n = 28.
+         * Noting that
+         *     (a + 1) 2^n <= 10^8 2^28 < 10^17
+         * For n = 17, m = 8 the table in section 10 of [1] leads to:
+         */
+        return (int) (multiplyHigh(
+                (long) (a + 1) << 28,
+                193_428_131_138_340_668L) >>> 20) - 1;
+    }
+
+    private void exponent(int e) {
+        append('E');
+        if (e < 0) {
+            append('-');
+            e = -e;
+        }
+        if (e < 10) {
+            appendDigit(e);
+            return;
+        }
+        int d;
+        if (e >= 100) {
+            /*
+             * For n = 3, m = 2 the table in section 10 of [1] shows
+             *     floor(e / 100) = floor(1_311 e / 2^17)
+             */
+            d = e * 1_311 >>> 17;
+            appendDigit(d);
+            e -= 100 * d;
+        }
+        /*
+         * For n = 2, m = 1 the table in section 10 of [1] shows
+         *     floor(e / 10) = floor(103 e / 2^10)
+         */
+        d = e * 103 >>> 10;
+        appendDigit(d);
+        appendDigit(e - 10 * d);
+    }
+
+    private void append(int c) {
+        chars[++index] = (char) c;
+    }
+
+    private void appendDigit(int d) {
+        chars[++index] = (char) ('0' + d);
+    }
+}
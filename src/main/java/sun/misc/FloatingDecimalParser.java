@@ -0,0 +1,389 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package sun.misc;
+
+import static sun.misc.MathUtils.POW10_MAX_EXP;
+import static sun.misc.MathUtils.POW10_MIN_EXP;
+import static sun.misc.MathUtils.pow10Hi;
+import static sun.misc.MathUtils.pow10Lo;
+import static sun.misc.MathUtils.unsignedMultiplyHigh;
+
+/**
+ * Fast path for {@link Double#parseDouble(String)} and
+ * {@link Float#parseFloat(String)}.
+ *
+ * <p>Plain decimal input with up to 19 significant digits is converted
+ * without any allocation, first by Clinger's exact fast path and then by
+ * the Eisel-Lemire algorithm, which multiplies the decimal significand
+ * by a 128-bit approximation of the power of ten.  Input the fast path
+ * cannot decide (hexadecimal strings, {@code NaN}, {@code Infinity},
+ * malformed strings, subnormal results and the rare ambiguous cases)
+ * is handed to {@link FloatingDecimal}, so the result and the exceptions
+ * thrown are exactly those of the original implementation.
+ *
+ * <p>
+ *  {@link Double#parseDouble(String)}和{@link Float#parseFloat(String)}的快速路径。
+ * 
+ *  <p>最多具有19位有效数字的普通十进制输入在不分配任何对象的情况下被转换,首先使用Clinger的精确快速路径,然后使用Eisel-Lemire算法,
+ * 该算法将十进制有效数乘以十的幂的128位近似值。快速路径无法判定的输入(十六进制字符串、{@code NaN}、{@code Infinity}、格式错误的字符串、
+ * 次正规结果以及少见的模糊情况)交给{@link FloatingDecimal}处理,因此结果和抛出的异常与原始实现完全相同。
+ * 
+ */
+public final class FloatingDecimalParser {
+
+    private FloatingDecimalParser() {
+    }
+
+    // The maximum number of significant digits accumulated in a long.
+    private static final int MAX_DIGITS = 19;
+
+    // Exponents beyond this are clamped; they cannot affect the result.
+    private static final int MAX_EXP = 100_000;
+
+    // 10^22 is the largest power of ten exactly representable as a double.
+    private static final int MAX_SMALL_TEN = 22;
+
+    // 10^10 is the largest power of ten exactly representable as a float.
+    private static final int SINGLE_MAX_SMALL_TEN = 10;
+
+    private static final double[] SMALL_10_POW = {
+        1.0e0,
+        1.0e1, 1.0e2, 1.0e3, 1.0e4, 1.0e5,
+        1.0e6, 1.0e7, 1.0e8, 1.0e9, 1.0e10,
+        1.0e11, 1.0e12, 1.0e13, 1.0e14, 1.0e15,
+        1.0e16, 1.0e17, 1.0e18, 1.0e19, 1.0e20,
+        1.0e21, 1.0e22
+    };
+
+    private static final float[] SINGLE_SMALL_10_POW = {
+        1.0e0f,
+        1.0e1f, 1.0e2f, 1.0e3f, 1.0e4f, 1.0e5f,
+        1.0e6f, 1.0e7f, 1.0e8f, 1.0e9f, 1.0e10f
+    };
+
+    // Marks a failed Eisel-Lemire conversion; never a valid result.
+    private static final long FAILED = -1L;
+
+    /**
+     * Parses a {@code double} as specified by
+     * {@link Double#parseDouble(String)}.
+     *
+     * <p>
+     *  按照{@link Double#parseDouble(String)}的规定解析{@code double}。
+     * 
+     * 
+     * @param s the string to be parsed.
+     * @return the {@code double} value represented by the string.
+     * @throws NullPointerException if the string is null
+     * @throws NumberFormatException if the string does not contain
+     *         a parsable {@code double}.
+     */
+    public static double parseDouble(String s) throws NumberFormatException {
+        return parse(s, false);
+    }
+
+    /**
+     * Parses a {@code float} as specified by
+     * {@link Float#parseFloat(String)}.
+     *
+     * <p>
+     *  按照{@link Float#parseFloat(String)}的规定解析{@code float}。
+     * 
+     * 
+     * @param s the string to be parsed.
+     * @return the {@code float} value represented by the string.
+     * @throws NullPointerException if the string is null
+     * @throws NumberFormatException if the string does not contain
+     *         a parsable {@code float}.
+     */
+    public static float parseFloat(String s) throws NumberFormatException {
+        return (float) parse(s, true);
+    }
+
+    /*
+     * Scans a plain decimal string.  For single precision the result is
+     * a float widened to double, which narrows back exactly.
+     */
+    private static double parse(String in, boolean single) {
+        int i = 0;
+        int len = in.length();
+        // Whitespace is trimmed exactly as by String.trim()
+        while (i < len && in.charAt(i) <= ' ')
+            i++;
+        while (len > i && in.charAt(len - 1) <= ' ')
+            len--;
+
+        boolean isNegative = false;
+        if (i < len) {
+            char c = in.charAt(i);
+            if (c == '-') {
+                isNegative = true;
+                i++;
+            } else if (c == '+') {
+                i++;
+            }
+        }
+
+        long w = 0;             // significand, read as unsigned
+        int nDigits = 0;        // significant digits in w
+        int exp10 = 0;          // value = w 10^exp10, if !truncated
+        boolean truncated = false;
+        boolean sawDigit = false;
+        char c;
+
+        for (; i < len; i++) {
+            c = in.charAt(i);
+            if (c < '0' || c > '9')
+                break;
+            sawDigit = true;
+            if (nDigits == 0 && c == '0')
+                continue;
+            if (nDigits < MAX_DIGITS) {
+                w = 10 * w + (c - '0');
+                nDigits++;
+            } else {
+                exp10++;
+                truncated |= c != '0';
+            }
+        }
+        if (i < len && in.charAt(i) == '.') {
+            for (i++; i < len; i++) {
+                c = in.charAt(i);
+                if (c < '0' || c > '9')
+                    break;
+                sawDigit = true;
+                if (nDigits == 0 && c == '0') {
+                    exp10--;
+                } else if (nDigits < MAX_DIGITS) {
+                    w = 10 * w + (c - '0');
+                    nDigits++;
+                    exp10--;
+                } else {
+                    truncated |= c != '0';
+                }
+            }
+        }
+        if (!sawDigit)
+            return fallback(in, single);
+
+        if (i < len && (in.charAt(i) == 'e' || in.charAt(i) == 'E')) {
+            i++;
+            boolean expNegative = false;
+            if (i < len) {
+                c = in.charAt(i);
+                if (c == '-') {
+                    expNegative = true;
+                    i++;
+                } else if (c == '+') {
+                    i++;
+                }
+            }
+            int expStart = i;
+            int e = 0;
+            for (; i < len; i++) {
+                c = in.charAt(i);
+                if (c < '0' || c > '9')
+                    break;
+                if (e < MAX_EXP)
+                    e = 10 * e + (c - '0');
+            }
+            if (i == expStart)
+                return fallback(in, single);
+            exp10 += expNegative ? -e : e;
+        }
+        if (i == len - 1) {
+            c = in.charAt(i);
+            if (c == 'f' || c == 'F' || c == 'd' || c == 'D')
+                i++;
+        }
+        if (i != len)
+            return fallback(in, single);
+
+        if (w == 0)
+            return isNegative ? -0.0 : 0.0;
+
+        double v;
+        if (single) {
+            float f = toFloat(w, exp10, truncated, in);
+            v = isNegative ? -f : f;
+        } else {
+            double d = toDouble(w, exp10, truncated, in);
+            v = isNegative ? -d : d;
+        }
+        return v;
+    }
+
+    private static double toDouble(long w, int exp10, boolean truncated, String in) {
+        if (!truncated && 0 <= w && w <= 1L << 53) {
+            // Both w and 10^|exp10| are exact, so one rounding suffices.
+            if (0 <= exp10 && exp10 <= MAX_SMALL_TEN)
+                return (double) w * SMALL_10_POW[exp10];
+            if (-MAX_SMALL_TEN <= exp10 && exp10 < 0)
+                return (double) w / SMALL_10_POW[-exp10];
+        }
+        if (exp10 < POW10_MIN_EXP)
+            return 0.0;
+        if (exp10 > POW10_MAX_EXP)
+            return Double.POSITIVE_INFINITY;
+        long bits = eiselLemire64(w, exp10);
+        if (truncated && bits != FAILED && eiselLemire64(w + 1, exp10) != bits)
+            bits = FAILED;
+        if (bits == FAILED)
+            return Math.abs(FloatingDecimal.parseDouble(in));
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static float toFloat(long w, int exp10, boolean truncated, String in) {
+        if (!truncated && 0 <= w && w <= 1L << 24) {
+            if (0 <= exp10 && exp10 <= SINGLE_MAX_SMALL_TEN)
+                return (float) w * SINGLE_SMALL_10_POW[exp10];
+            if (-SINGLE_MAX_SMALL_TEN <= exp10 && exp10 < 0)
+                return (float) w / SINGLE_SMALL_10_POW[-exp10];
+        }
+        if (exp10 < POW10_MIN_EXP)
+            return 0.0f;
+        if (exp10 > POW10_MAX_EXP)
+            return Float.POSITIVE_INFINITY;
+        long bits = eiselLemire32(w, exp10);
+        if (truncated && bits != FAILED && eiselLemire32(w + 1, exp10) != bits)
+            bits = FAILED;
+        if (bits == FAILED)
+            return Math.abs(FloatingDecimal.parseFloat(in));
+        return Float.intBitsToFloat((int) bits);
+    }
+
+    private static double fallback(String in, boolean single) {
+        return single ? FloatingDecimal.parseFloat(in)
+                      : FloatingDecimal.parseDouble(in);
+    }
+
+    /*
+     * Returns the bits of the double nearest to man 10^exp10, or FAILED.
+     * See Lemire, "Number Parsing at a Gigabyte per Second", and
+     * Tao, "The Eisel-Lemire ParseNumberF64 Algorithm".
+     */
+    private static long eiselLemire64(long man, int exp10) {
+        // Normalization.
+        int clz = Long.numberOfLeadingZeros(man);
+        man <<= clz;
+        long retExp2 = (217_706L * exp10 >> 16) + 64 + 1023 - clz;
+
+        // Multiplication.
+        long pHi = pow10Hi(exp10);
+        long xHi = unsignedMultiplyHigh(man, pHi);
+        long xLo = man * pHi;
+
+        // Wider approximation.
+        if ((xHi & 0x1FF) == 0x1FF && Long.compareUnsigned(xLo + man, man) < 0) {
+            long pLo = pow10Lo(exp10);
+            long yHi = unsignedMultiplyHigh(man, pLo);
+            long yLo = man * pLo;
+            long mergedHi = xHi;
+            long mergedLo = xLo + yHi;
+            if (Long.compareUnsigned(mergedLo, xLo) < 0)
+                mergedHi++;
+            if ((mergedHi & 0x1FF) == 0x1FF && mergedLo + 1 == 0 &&
+                Long.compareUnsigned(yLo + man, man) < 0)
+                return FAILED;
+            xHi = mergedHi;
+            xLo = mergedLo;
+        }
+
+        // Shifting to 54 bits.
+        long msb = xHi >>> 63;
+        long retMantissa = xHi >>> (msb + 9);
+        retExp2 -= 1 ^ msb;
+
+        // Half-way ambiguity.
+        if (xLo == 0 && (xHi & 0x1FF) == 0 && (retMantissa & 3) == 1)
+            return FAILED;
+
+        // From 54 to 53 bits.
+        retMantissa += retMantissa & 1;
+        retMantissa >>>= 1;
+        if (retMantissa >>> 53 > 0) {
+            retMantissa >>>= 1;
+            retExp2 += 1;
+        }
+        // Subnormal and overflowing results are left to FloatingDecimal.
+        if (retExp2 <= 0 || retExp2 >= 0x7FF)
+            return FAILED;
+        return retExp2 << 52 | retMantissa & 0x000F_FFFF_FFFF_FFFFL;
+    }
+
+    /*
+     * Returns the bits of the float nearest to man 10^exp10, or FAILED.
+     */
+    private static long eiselLemire32(long man, int exp10) {
+        // Normalization.
+        int clz = Long.numberOfLeadingZeros(man);
+        man <<= clz;
+        long retExp2 = (217_706L * exp10 >> 16) + 64 + 127 - clz;
+
+        // Multiplication.
+        long pHi = pow10Hi(exp10);
+        long xHi = unsignedMultiplyHigh(man, pHi);
+        long xLo = man * pHi;
+
+        // Wider approximation.
+        if ((xHi & 0x3F_FFFF_FFFFL) == 0x3F_FFFF_FFFFL &&
+            Long.compareUnsigned(xLo + man, man) < 0) {
+            long pLo = pow10Lo(exp10);
+            long yHi = unsignedMultiplyHigh(man, pLo);
+            long yLo = man * pLo;
+            long mergedHi = xHi;
+            long mergedLo = xLo + yHi;
+            if (Long.compareUnsigned(mergedLo, xLo) < 0)
+                mergedHi++;
+            if ((mergedHi & 0x3F_FFFF_FFFFL) == 0x3F_FFFF_FFFFL && mergedLo + 1 == 0 &&
+                Long.compareUnsigned(yLo + man, man) < 0)
+                return FAILED;
+            xHi = mergedHi;
+            xLo = mergedLo;
+        }
+
+        // Shifting to 25 bits.
+        long msb = xHi >>> 63;
+        long retMantissa = xHi >>> (msb + 38);
+        retExp2 -= 1 ^ msb;
+
+        // Half-way ambiguity.
+        if (xLo == 0 && (xHi & 0x3F_FFFF_FFFFL) == 0 && (retMantissa & 3) == 1)
+            return FAILED;
+
+        // From 25 to 24 bits.
+        retMantissa += retMantissa & 1;
+        retMantissa >>>= 1;
+        if (retMantissa >>> 24 > 0) {
+            retMantissa >>>= 1;
+            retExp2 += 1;
+        }
+        if (retExp2 <= 0 || retExp2 >= 0xFF)
+            return FAILED;
+        return retExp2 << 23 | retMantissa & 0x007F_FFFFL;
+    }
+}
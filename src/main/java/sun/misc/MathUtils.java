@@ -0,0 +1,1508 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package sun.misc;
+
+/**
+ * Helpers shared by the shortest-decimal formatters
+ * {@link DoubleToDecimal}/{@link FloatToDecimal} and by the fast path of
+ * {@link FloatingDecimalParser}.
+ *
+ * <p>The floor-of-logarithm approximations below are exact over the
+ * ranges of exponents used by the callers.  The tables are generated
+ * offline with exact rational arithmetic.
+ *
+ * <p>
+ *  由最短十进制格式化器{@link DoubleToDecimal}/{@link FloatToDecimal}以及{@link FloatingDecimalParser}的快速路径共享的辅助方法。
+ * 
+ *  <p>下面的对数下取整近似在调用者使用的指数范围内是精确的。这些表是离线使用精确的有理数运算生成的。
+ * 
+ */
+final class MathUtils {
+
+    private MathUtils() {
+    }
+
+    /*
+     * The smallest and largest k such that 10^k is tabulated in
+     * g0()/g1().
+     */
+    static final int K_MIN = -324;
+    static final int K_MAX = 292;
+
+    /*
+     * The smallest and largest e such that 10^e is tabulated in
+     * pow10Hi()/pow10Lo().
+     */
+    static final int POW10_MIN_EXP = -348;
+    static final int POW10_MAX_EXP = 347;
+
+    private static final long[] POW10 = {
+        1L,
+        10L,
+        100L,
+        1_000L,
+        10_000L,
+        100_000L,
+        1_000_000L,
+        10_000_000L,
+        100_000_000L,
+        1_000_000_000L,
+        10_000_000_000L,
+        100_000_000_000L,
+        1_000_000_000_000L,
+        10_000_000_000_000L,
+        100_000_000_000_000L,
+        1_000_000_000_000_000L,
+        10_000_000_000_000_000L,
+        100_000_000_000_000_000L,
+    };
+
+    /**
+     * Returns 10<sup>e</sup>, for 0 &le; e &le; 17.
+     */
+    static long pow10(int e) {
+        return POW10[e];
+    }
+
+    /**
+     * Returns floor(log<sub>10</sub>(2<sup>q</sup>)), for
+     * |q| &le; 1_100.
+     */
+    static int flog10pow2(int q) {
+        return (int) (q * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * Returns floor(log<sub>10</sub>(3/4 2<sup>q</sup>)), for
+     * |q| &le; 1_100.
+     */
+    static int flog10threeQuartersPow2(int q) {
+        return (int) (q * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /**
+     * Returns floor(log<sub>2</sub>(10<sup>e</sup>)), for |e| &le; 400.
+     */
+    static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+    /**
+     * Returns the most significant 64 bits of the signed 128-bit
+     * product of x and y.
+     */
+    static long multiplyHigh(long x, long y) {
+        long x1 = x >> 32;
+        long x2 = x & 0xFFFFFFFFL;
+        long y1 = y >> 32;
+        long y2 = y & 0xFFFFFFFFL;
+        long z2 = x2 * y2;
+        long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        long z0 = t >> 32;
+        z1 += x2 * y1;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    /**
+     * Returns the most significant 64 bits of the unsigned 128-bit
+     * product of x and y.
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+        long result = multiplyHigh(x, y);
+        result += (y & (x >> 63));
+        result += (x & (y >> 63));
+        return result;
+    }
+
+    /*
+     * Let 10^-k = beta 2^r, for the unique pair of integer r and real beta
+     * meeting 2^125 <= beta < 2^126, and let g = floor(beta) + 1.
+     * Then g1(k) = floor(g / 2^63) and g0(k) = g mod 2^63, so that
+     * 2^62 <= g1(k) < 2^63 and 0 < g0(k) < 2^63.
+     */
+
+    /**
+     * Returns the most significant 63 bits of the 126-bit approximation
+     * of 10<sup>-k</sup>, for K_MIN &le; k &le; K_MAX.
+     */
+    static long g1(int k) {
+        return G[k - K_MIN << 1];
+    }
+
+    /**
+     * Returns the least significant 63 bits of the 126-bit approximation
+     * of 10<sup>-k</sup>, for K_MIN &le; k &le; K_MAX.
+     */
+    static long g0(int k) {
+        return G[k - K_MIN << 1 | 1];
+    }
+
+    /*
+     * Let 10^e = m 2^r, for the unique pair of integer r and real m
+     * meeting 2^127 <= m < 2^128.  Then the 128-bit truncated mantissa
+     * floor(m) is pow10Hi(e) 2^64 + pow10Lo(e), with the halves read as
+     * unsigned values.
+     */
+
+    /**
+     * Returns the most significant 64 bits of the truncated 128-bit
+     * mantissa of 10<sup>e</sup>, for POW10_MIN_EXP &le; e &le;
+     * POW10_MAX_EXP.
+     */
+    static long pow10Hi(int e) {
+        return POW10_128[e - POW10_MIN_EXP << 1];
+    }
+
+    /**
+     * Returns the least significant 64 bits of the truncated 128-bit
+     * mantissa of 10<sup>e</sup>, for POW10_MIN_EXP &le; e &le;
+     * POW10_MAX_EXP.
+     */
+    static long pow10Lo(int e) {
+        return POW10_128[e - POW10_MIN_EXP << 1 | 1];
+    }
+
+    private static final long[] G = {
+        0x4F0C_EDC9_5A71_8DD4L, 0x5B01_E8B0_9AA0_D1B5L, // -324
+        0x7E7B_160E_F71C_1621L, 0x119C_A780_F767_B5EEL, // -323
+        0x652F_44D8_C5B0_11B4L, 0x0E16_EC67_2C52_F7F2L, // -322
+        0x50F2_9D7A_37C0_0E29L, 0x5812_56B8_F042_5FF5L, // -321
+        0x40C2_1794_F966_71BAL, 0x79A8_4560_C035_1991L, // -320
+        0x679C_F287_F570_B5F7L, 0x75DA_089A_CD21_C281L, // -319
+        0x52E3_F539_9126_F7F9L, 0x44AE_6D48_A41B_0201L, // -318
+        0x424F_F761_40EB_F994L, 0x36F1_F106_E9AF_34CDL, // -317
+        0x6A19_8BCE_CE46_5C20L, 0x57E9_81A4_A918_547BL, // -316
+        0x54E1_3CA5_71D1_E34DL, 0x2CBA_CE1D_5413_76C9L, // -315
+        0x43E7_63B7_8E41_82A4L, 0x23C8_A4E4_4342_C56EL, // -314
+        0x6CA5_6C58_E39C_043AL, 0x060D_D4A0_6B9E_08B0L, // -313
+        0x56EA_BD13_E949_9CFBL, 0x1E71_76E6_BC7E_6D59L, // -312
+        0x4588_9743_2107_B0C8L, 0x7EC1_2BEB_C9FE_BDE1L, // -311
+        0x6F40_F205_01A5_E7A7L, 0x7E01_DFDF_A997_9635L, // -310
+        0x5900_C19D_9AEB_1FB9L, 0x4B34_B319_5479_44F7L, // -309
+        0x4733_CE17_AF22_7FC7L, 0x55C3_C27A_A9FA_9D93L, // -308
+        0x71EC_7CF2_B1D0_CC72L, 0x5606_03F7_765D_C8EAL, // -307
+        0x5B23_9728_8E40_A38EL, 0x7804_CFF9_2B7E_3A55L, // -306
+        0x48E9_45BA_0B66_E93FL, 0x1337_0CC7_55FE_9511L, // -305
+        0x74A8_6F90_123E_41FEL, 0x51F1_AE0B_BCCA_881BL, // -304
+        0x5D53_8C73_41CB_67FEL, 0x74C1_5809_63D5_39AFL, // -303
+        0x4AA9_3D29_016F_8665L, 0x43CD_E007_8310_FAF3L, // -302
+        0x7775_2EA8_024C_0A3CL, 0x0616_333F_381B_2B1EL, // -301
+        0x5F90_F220_01D6_6E96L, 0x3811_C298_F9AF_55B1L, // -300
+        0x4C73_F4E6_67DE_BEDEL, 0x600E_3547_2E25_DE28L, // -299
+        0x7A53_2170_A631_3164L, 0x3349_EED8_49D6_303FL, // -298
+        0x61DC_1AC0_84F4_2783L, 0x42A1_8BE0_3B11_C033L, // -297
+        0x4E49_AF00_6A5C_EC69L, 0x1BB4_6FE6_95A7_CCF5L, // -296
+        0x7D42_B19A_43C7_E0A8L, 0x2C53_E63D_BC3F_AE55L, // -295
+        0x6435_5AE1_CFD3_1A20L, 0x2376_51CA_FCFF_BEAAL, // -294
+        0x502A_AF1B_0CA8_E1B3L, 0x35F8_416F_30CC_9888L, // -293
+        0x4022_25AF_3D53_E7C2L, 0x5E60_3458_F3D6_E06DL, // -292
+        0x669D_0918_621F_D937L, 0x4A33_86F4_B957_CD7BL, // -291
+        0x5217_3A79_E819_7A92L, 0x6E8F_9F2A_2DDF_D796L, // -290
+        0x41AC_2EC7_ECE1_2EDBL, 0x720C_7F54_F17F_DFABL, // -289
+        0x6913_7E0C_AE35_17C6L, 0x1CE0_CBBB_1BFF_CC45L, // -288
+        0x540F_980A_24F7_4638L, 0x171A_3C95_AFFF_D69EL, // -287
+        0x433F_ACD4_EA5F_6B60L, 0x127B_63AA_F333_1218L, // -286
+        0x6B99_1487_DD65_7899L, 0x6A5F_05DE_51EB_5026L, // -285
+        0x5614_106C_B11D_FA14L, 0x5518_D17E_A7EF_7352L, // -284
+        0x44DC_D9F0_8DB1_94DDL, 0x2A7A_4132_1FF2_C2A8L, // -283
+        0x6E2E_2980_E2B5_BAFBL, 0x5D90_6850_331E_043FL, // -282
+        0x5824_EE00_B55E_2F2FL, 0x6473_86A6_8F4B_3699L, // -281
+        0x4683_F19A_2AB1_BF59L, 0x36C2_D21E_D908_F87BL, // -280
+        0x70D3_1C29_DDE9_3228L, 0x579E_1CFE_280E_5A5DL, // -279
+        0x5A42_7CEE_4B20_F4EDL, 0x2C7E_7D98_200B_7B7EL, // -278
+        0x4835_30BE_A280_C3F1L, 0x09FE_CAE0_19A2_C932L, // -277
+        0x7388_4DFD_D0CE_064EL, 0x4331_4499_C29E_0EB6L, // -276
+        0x5C6D_0B31_73D8_050BL, 0x4F5A_9D47_CEE4_D891L, // -275
+        0x49F0_D5C1_2979_9DA2L, 0x72AE_E439_7250_AD41L, // -274
+        0x764E_22CE_A8C2_95D1L, 0x377E_39F5_83B4_4868L, // -273
+        0x5EA4_E8A5_53CE_DE41L, 0x12CB_6191_3629_D387L, // -272
+        0x4BB7_2084_430B_E500L, 0x756F_8140_F821_7605L, // -271
+        0x7925_00D3_9E79_6E67L, 0x6F18_CECE_59CF_233CL, // -270
+        0x60EA_670F_B1FA_BEB9L, 0x3F47_0BD8_47D8_E8FDL, // -269
+        0x4D88_5272_F4C8_9894L, 0x329F_3CAD_0647_20CAL, // -268
+        0x7C0D_50B7_EE0D_C0EDL, 0x3765_2DE1_A3A5_0143L, // -267
+        0x633D_DA2C_BE71_6724L, 0x2C50_F181_4FB7_3436L, // -266
+        0x4F64_AE8A_31F4_5283L, 0x3D0D_8E01_0C92_902BL, // -265
+        0x7F07_7DA9_E986_EA6BL, 0x7B48_E334_E0EA_8045L, // -264
+        0x659F_97BB_2138_BB89L, 0x4907_1C2A_4D88_669DL, // -263
+        0x514C_7962_80FA_2FA1L, 0x20D2_7CEE_A46D_1EE4L, // -262
+        0x4109_FAB5_33FB_594DL, 0x670E_CA58_838A_7F1DL, // -261
+        0x680F_F788_532B_C216L, 0x0B4A_DD5A_6C10_CB62L, // -260
+        0x533F_F939_DC23_01ABL, 0x22A2_4AAE_BCDA_3C4EL, // -259
+        0x4299_942E_49B5_9AEFL, 0x354E_A225_63E1_C9D8L, // -258
+        0x6A8F_537D_42BC_2B18L, 0x554A_9D08_9FCF_A95AL, // -257
+        0x553F_75FD_CEFC_EF46L, 0x776E_E406_E63F_BAAEL, // -256
+        0x4432_C4CB_0BFD_8C38L, 0x5F8B_E99F_1E99_6225L, // -255
+        0x6D1E_07AB_4662_79F4L, 0x3279_75CB_6428_9D08L, // -254
+        0x574B_3955_D1E8_6190L, 0x2861_2B09_1CED_4A6DL, // -253
+        0x45D5_C777_DB20_4E0DL, 0x06B4_226D_B0BD_D524L, // -252
+        0x6FBC_7259_5E9A_167BL, 0x2453_6A49_1AC9_5506L, // -251
+        0x5963_8EAD_E548_11FCL, 0x1D0F_883A_7BD4_4405L, // -250
+        0x4782_D88B_1DD3_4196L, 0x4A72_D361_FCA9_D004L, // -249
+        0x726A_F411_C952_028AL, 0x43EA_EBCF_FAA9_4CD3L, // -248
+        0x5B88_C341_6DDB_353BL, 0x4FEF_230C_C887_70A9L, // -247
+        0x493A_35CD_F17C_2A96L, 0x0CBF_4F3D_6D39_26EEL, // -246
+        0x7529_EFAF_E8C6_AA89L, 0x6132_1862_485B_717CL, // -245
+        0x5DBB_2626_53D2_2207L, 0x675B_46B5_06AF_8DFDL, // -244
+        0x4AFC_1E85_0FDB_4E6CL, 0x52AF_6BC4_0559_3E64L, // -243
+        0x77F9_CA6E_7FC5_4A47L, 0x377F_12D3_3BC1_FD6DL, // -242
+        0x5FFB_0858_6637_6E9FL, 0x45FF_4242_9634_CABDL, // -241
+        0x4CC8_D379_EB5F_8BB2L, 0x6B32_9B68_782A_3BCBL, // -240
+        0x7ADA_EBF6_4565_AC51L, 0x2B84_2BDA_59DD_2C77L, // -239
+        0x6248_BCC5_0451_56A7L, 0x3C69_BCAE_AE4A_89F9L, // -238
+        0x4EA0_9704_0374_4552L, 0x6387_CA25_583B_A194L, // -237
+        0x7DCD_BE6C_D253_A21EL, 0x05A6_103B_C05F_68EDL, // -236
+        0x64A4_9857_0EA9_4E7EL, 0x37B8_0CFC_99E5_ED8AL, // -235
+        0x5083_AD12_7221_0B98L, 0x2C93_3D96_E184_BE08L, // -234
+        0x4069_5741_F4E7_3C79L, 0x7075_CADF_1AD0_9807L, // -233
+        0x670E_F203_2171_FA5CL, 0x4D89_4498_2AE7_59A4L, // -232
+        0x5272_5B35_B45B_2EB0L, 0x3E07_6A13_5585_E150L, // -231
+        0x41F5_15C4_9048_F226L, 0x64D2_BB42_AAD1_810DL, // -230
+        0x6988_22D4_1A0E_503EL, 0x07B7_9204_4482_6815L, // -229
+        0x546C_E8A9_AE71_D9CBL, 0x1FC6_0E69_D068_5344L, // -228
+        0x438A_53BA_F1F4_AE3CL, 0x196B_3EBB_0D20_429DL, // -227
+        0x6C10_85F7_E987_7D2DL, 0x0F11_FDF8_1500_6A94L, // -226
+        0x5673_9E5F_EE05_FDBDL, 0x58DB_3193_4400_5543L, // -225
+        0x4529_4B7F_F19E_6497L, 0x60AF_5ADC_3666_AA9CL, // -224
+        0x6EA8_78CC_B5CA_3A8CL, 0x344B_C493_8A3D_DDC7L, // -223
+        0x5886_C70A_2B08_2ED6L, 0x5D09_6A0F_A1CB_17D2L, // -222
+        0x46D2_38D4_EF39_BF12L, 0x173A_BB3F_B4A2_7975L, // -221
+        0x7150_5AEE_4B8F_981DL, 0x0B91_2B99_2103_F588L, // -220
+        0x5AA6_AF25_093F_ACE4L, 0x0940_EFAD_B403_2AD3L, // -219
+        0x4885_58EA_6DCC_8A50L, 0x0767_2624_9002_88A9L, // -218
+        0x7408_8E43_E2E0_DD4CL, 0x723E_A36D_B337_410EL, // -217
+        0x5CD3_A503_1BE7_1770L, 0x5B65_4F8A_F5C5_CDA5L, // -216
+        0x4A42_EA68_E31F_45F3L, 0x62B7_72D5_916B_0AEBL, // -215
+        0x76D1_770E_3832_0986L, 0x0458_B7BC_1BDE_77DDL, // -214
+        0x5F0D_F8D8_2CF4_D46BL, 0x1D13_C630_164B_9318L, // -213
+        0x4C0B_2D79_BD90_A9EFL, 0x30DC_9E8C_DEA2_DC13L, // -212
+        0x79AB_7BF5_FC1A_A97FL, 0x0160_FDAE_3104_9351L, // -211
+        0x6155_FCC4_C9AE_EDFFL, 0x1AB3_FE24_F403_A90EL, // -210
+        0x4DDE_63D0_A158_BE65L, 0x6229_981D_9002_EDA5L, // -209
+        0x7C97_061A_9BC1_30A2L, 0x69DC_2695_B337_E2A1L, // -208
+        0x63AC_04E2_1634_26E8L, 0x54B0_1EDE_28F9_821BL, // -207
+        0x4FBC_D0B4_DE90_1F20L, 0x43C0_18B1_BA61_34E2L, // -206
+        0x7F94_8121_6419_CB67L, 0x1F99_C11C_5D68_549DL, // -205
+        0x6610_674D_E9AE_3C52L, 0x4C7B_00E3_7DED_107EL, // -204
+        0x51A6_B90B_2158_3042L, 0x09FC_00B5_FE57_4065L, // -203
+        0x4152_2DA2_8113_59CEL, 0x3B30_0091_9845_CD1DL, // -202
+        0x6883_7C37_34EB_C2E3L, 0x784C_CDB5_C06F_AE95L, // -201
+        0x539C_635F_5D89_68B6L, 0x2D0A_3E2B_0059_5877L, // -200
+        0x42E3_82B2_B13A_BA2BL, 0x3DA1_CB55_99E1_1393L, // -199
+        0x6B05_9DEA_B52A_C378L, 0x629C_7888_F634_EC1EL, // -198
+        0x559E_17EE_F755_692DL, 0x3549_FA07_2B5D_89B1L, // -197
+        0x447E_798B_F911_20F1L, 0x1107_FB38_EF7E_07C1L, // -196
+        0x6D97_28DF_F4E8_34B5L, 0x01A6_5EC1_7F30_0C68L, // -195
+        0x57AC_20B3_2A53_5D5DL, 0x4E1E_B234_65C0_09EDL, // -194
+        0x4623_4D5C_21DC_4AB1L, 0x24E5_5B5D_1E33_3B24L, // -193
+        0x7038_7BC6_9C93_AAB5L, 0x216E_F894_FD1E_C506L, // -192
+        0x59C6_C96B_B076_222AL, 0x4DF2_6077_30E5_6A6CL, // -191
+        0x47D2_3ABC_8D2B_4E88L, 0x3E5B_805F_5A51_21F0L, // -190
+        0x72E9_F794_1512_1740L, 0x63C5_9A32_2A1B_697FL, // -189
+        0x5BEE_5FA9_AA74_DF67L, 0x0304_7B5B_54E2_BACCL, // -188
+        0x498B_7FBA_EEC3_E5ECL, 0x0269_FC49_10B5_623DL, // -187
+        0x75AB_FF91_7E06_3CACL, 0x6A43_2D41_B455_69FBL, // -186
+        0x5E23_32DA_CB38_308AL, 0x21CF_5767_C377_87FCL, // -185
+        0x4B4F_5BE2_3C2C_F3A1L, 0x67D9_12B9_692C_6CCAL, // -184
+        0x787E_F969_F9E1_85CFL, 0x595B_5128_A847_1476L, // -183
+        0x6065_9454_C7E7_9E3FL, 0x6115_DA86_ED05_A9F8L, // -182
+        0x4D1E_1043_D31F_B1CCL, 0x4DAB_1538_BD9E_2193L, // -181
+        0x7B63_4D39_51CC_4FADL, 0x62AB_5527_95C9_CF52L, // -180
+        0x62B5_D761_0E3D_0C8BL, 0x0222_AA86_116E_3F75L, // -179
+        0x4EF7_DF80_D830_D6D5L, 0x4E82_2204_DABE_992AL, // -178
+        0x7E59_659A_F381_57BCL, 0x1736_9CD4_9130_F510L, // -177
+        0x6514_5148_C2CD_DFC9L, 0x5F5E_E3DD_40F3_F740L, // -176
+        0x50DD_0DD3_CF0B_196EL, 0x1918_B64A_9A5C_C5CDL, // -175
+        0x40B0_D7DC_A5A2_7ABEL, 0x4746_F83B_AEB0_9E3EL, // -174
+        0x6781_5961_0903_F797L, 0x253E_59F9_1780_FD2FL, // -173
+        0x52CD_E11A_6D9C_C612L, 0x50FE_AE60_DF9A_6426L, // -172
+        0x423E_4DAE_BE17_04DBL, 0x5A65_584D_7FAE_B685L, // -171
+        0x69FD_4917_968B_3AF9L, 0x10A2_26E2_65E4_573BL, // -170
+        0x54CA_A0DF_ABA2_9594L, 0x0D4E_8581_EB1D_1295L, // -169
+        0x43D5_4D7F_BC82_1143L, 0x243E_D134_BC17_4211L, // -168
+        0x6C88_7BFF_9403_4ED2L, 0x06CA_E854_6025_3682L, // -167
+        0x56D3_9666_1002_A574L, 0x6BD5_86A9_E684_2B9BL, // -166
+        0x4576_11EB_4002_1DF7L, 0x0977_9EEE_5203_5616L, // -165
+        0x6F23_4FDE_CCD0_2FF1L, 0x5BF2_97E3_B66B_BCEFL, // -164
+        0x58E9_0CB2_3D73_598EL, 0x165B_ACB6_2B89_63F3L, // -163
+        0x4720_D6F4_FDF5_E13EL, 0x4516_23C4_EFA1_1CC2L, // -162
+        0x71CE_24BB_2FEF_CECAL, 0x3B56_9FA1_7F68_2E03L, // -161
+        0x5B0B_5095_BFF3_0BD5L, 0x15DE_E61A_CC53_5803L, // -160
+        0x48D5_DA11_665C_0977L, 0x2B18_B815_7042_ACCFL, // -159
+        0x7489_5CE8_A3C6_758BL, 0x5E8D_F355_806A_AE18L, // -158
+        0x5D3A_B0BA_1C9E_C46FL, 0x653E_5C44_66BB_BE7AL, // -157
+        0x4A95_5A2E_7D4B_D059L, 0x3765_169D_1EFC_9861L, // -156
+        0x7755_5D17_2EDF_B3C2L, 0x256E_8A94_FE60_F3CFL, // -155
+        0x5F77_7DAC_257F_C301L, 0x6ABE_D543_FEB3_F63FL, // -154
+        0x4C5F_97BC_EACC_9C01L, 0x3BCB_DDCF_FEF6_5E99L, // -153
+        0x7A32_8C61_77AD_C668L, 0x5FAC_9619_97F0_975BL, // -152
+        0x61C2_09E7_92F1_6B86L, 0x7FBD_44E1_465A_12AFL, // -151
+        0x4E34_D4B9_425A_BC6BL, 0x7FCA_9D81_0514_DBBFL, // -150
+        0x7D21_545B_9D5D_FA46L, 0x32DD_C8CE_6E87_C5FFL, // -149
+        0x641A_A9E2_E44B_2E9EL, 0x5BE4_A0A5_2539_6B32L, // -148
+        0x5015_54B5_836F_587EL, 0x7CB6_E6EA_842D_EF5CL, // -147
+        0x4011_1091_35F2_AD32L, 0x3092_5255_368B_25E3L, // -146
+        0x6681_B41B_8984_4850L, 0x4DB6_EA21_F0DE_A304L, // -145
+        0x5201_5CE2_D469_D373L, 0x57C5_881B_2718_826AL, // -144
+        0x419A_B0B5_76BB_0F8FL, 0x5FD1_39AF_527A_01EFL, // -143
+        0x68F7_8122_5791_B27FL, 0x4C81_F5E5_50C3_364AL, // -142
+        0x53F9_341B_7941_5B99L, 0x239B_2B1D_DA35_C508L, // -141
+        0x432D_C349_2DCD_E2E1L, 0x02E2_88E4_AE91_6A6DL, // -140
+        0x6B7C_6BA8_4949_6B01L, 0x516A_74A1_174F_10AEL, // -139
+        0x55FD_22ED_076D_EF34L, 0x4121_F6E7_45D8_DA25L, // -138
+        0x44CA_8257_3924_BF5DL, 0x1A81_9252_9E47_14EBL, // -137
+        0x6E10_D08B_8EA1_322EL, 0x5D9C_1D50_FD3E_87DDL, // -136
+        0x580D_73A2_D880_F4F2L, 0x17B0_1773_FDCB_9FE4L, // -135
+        0x4671_294F_139A_5D8EL, 0x4626_7929_97D6_1984L, // -134
+        0x70B5_0EE4_EC2A_2F4AL, 0x3D0A_5B75_BFBC_F59FL, // -133
+        0x5A2A_7250_BCEE_8C3BL, 0x4A6E_AF91_6630_C47FL, // -132
+        0x4821_F50D_63F2_09C9L, 0x21F2_260D_EB5A_36CCL, // -131
+        0x7369_8815_6CB6_760EL, 0x6983_7016_455D_247AL, // -130
+        0x5C54_6CDD_F091_F80BL, 0x6E02_C011_D117_5062L, // -129
+        0x49DD_23E4_C074_C66FL, 0x719B_CCDB_0DAC_404EL, // -128
+        0x762E_9FD4_6721_3D7FL, 0x68F9_47C4_E2AD_33B0L, // -127
+        0x5E8B_B310_5280_FDFFL, 0x6D94_396A_4EF0_F627L, // -126
+        0x4BA2_F5A6_A867_3199L, 0x3E10_2DEE_A58D_91B9L, // -125
+        0x7904_BC3D_DA3E_B5C2L, 0x3019_E317_6F48_E927L, // -124
+        0x60D0_9697_E1CB_C49BL, 0x4014_B5AC_5907_20ECL, // -123
+        0x4D73_ABAC_B4A3_03AFL, 0x4CDD_5E23_7A6C_1A57L, // -122
+        0x7BEC_45E1_2104_D2B2L, 0x47C8_969F_2A46_908AL, // -121
+        0x6323_6B1A_80D0_A88EL, 0x6CA0_787F_5505_406FL, // -120
+        0x4F4F_88E2_00A6_ED3FL, 0x0A19_F9FF_7737_66BFL, // -119
+        0x7EE5_A7D0_010B_1531L, 0x5CF6_5CCB_F1F2_3DFEL, // -118
+        0x6584_8640_00D5_AA8EL, 0x172B_7D6F_F4C1_CB32L, // -117
+        0x5136_D1CC_CD77_BBA4L, 0x78EF_978C_C3CE_3C28L, // -116
+        0x40F8_A7D7_0AC6_2FB7L, 0x13F2_DFA3_CFD8_3020L, // -115
+        0x67F4_3FBE_77A3_7F8BL, 0x3984_9906_1959_E699L, // -114
+        0x5329_CC98_5FB5_FFA2L, 0x6136_E0D1_ADE1_8548L, // -113
+        0x4287_D6E0_4C91_994FL, 0x00F8_B3DA_F181_376DL, // -112
+        0x6A72_F166_E0E8_F54BL, 0x1B27_862B_1C01_F247L, // -111
+        0x5528_C11F_1A53_F76FL, 0x2F52_D1BC_1667_F506L, // -110
+        0x4420_9A7F_4843_2C59L, 0x0C42_4163_451F_F738L, // -109
+        0x6D00_F732_0D38_46F4L, 0x7A03_9BD2_0833_2526L, // -108
+        0x5733_F8F4_D760_38C3L, 0x7B36_1641_A028_EA85L, // -107
+        0x45C3_2D90_AC4C_FA36L, 0x2F5E_7834_8020_BB9EL, // -106
+        0x6F9E_AF4D_E07B_29F0L, 0x4BCA_59ED_99CD_F8FCL, // -105
+        0x594B_BF71_8062_87F3L, 0x563B_7B24_7B0B_2D96L, // -104
+        0x476F_CC5A_CD1B_9FF6L, 0x11C9_2F50_626F_57ACL, // -103
+        0x724C_7A2A_E1C5_CCBDL, 0x02DB_7EE7_03E5_5912L, // -102
+        0x5B70_61BB_E7D1_7097L, 0x1BE2_CBEC_031D_E0DCL, // -101
+        0x4926_B496_530D_F3ACL, 0x164F_0989_9C17_E716L, // -100
+        0x750A_BA8A_1E7C_B913L, 0x3D4B_4275_C68C_A4F0L, //  -99
+        0x5DA2_2ED4_E530_940FL, 0x4AA2_9B91_6BA3_B726L, //  -98
+        0x4AE8_2577_1DC0_7672L, 0x6EE8_7C74_561C_9285L, //  -97
+        0x77D9_D58B_62CD_8A51L, 0x3173_FA53_BCFA_8408L, //  -96
+        0x5FE1_77A2_B571_3B74L, 0x278F_FB76_30C8_69A0L, //  -95
+        0x4CB4_5FB5_5DF4_2F90L, 0x1FA6_62C4_F3D3_87B3L, //  -94
+        0x7ABA_32BB_C986_B280L, 0x32A3_D13B_1FB8_D91FL, //  -93
+        0x622E_8EFC_A138_8ECDL, 0x0EE9_742F_4C93_E0E6L, //  -92
+        0x4E8B_A596_E760_723DL, 0x58BA_C359_0A0F_E71EL, //  -91
+        0x7DAC_3C24_A567_1D2FL, 0x412A_D228_1019_71C9L, //  -90
+        0x6489_C9B6_EAB8_E426L, 0x00EF_0E86_7347_8E3BL, //  -89
+        0x506E_3AF8_BBC7_1CEBL, 0x1A58_D86B_8F6C_71C9L, //  -88
+        0x4058_2F2D_6305_B0BCL, 0x1513_E056_0C56_C16EL, //  -87
+        0x66F3_7EAF_04D5_E793L, 0x3B53_0089_AD57_9BE2L, //  -86
+        0x525C_6558_D0AB_1FA9L, 0x15DC_006E_2446_164FL, //  -85
+        0x41E3_8447_0D55_B2EDL, 0x5E49_99F1_B69E_783FL, //  -84
+        0x696C_06D8_1555_EB15L, 0x7D42_8FE9_2430_C065L, //  -83
+        0x5456_6BE0_1111_88DEL, 0x3102_0CBA_835A_3384L, //  -82
+        0x4378_564C_DA74_6D7EL, 0x5A68_0A2E_CF7B_5C69L, //  -81
+        0x6BF3_BD47_C3ED_7BFDL, 0x770C_DD17_B25E_FA42L, //  -80
+        0x565C_976C_9CBD_FCCBL, 0x1270_B0DF_C1E5_9502L, //  -79
+        0x4516_DF8A_16FE_63D5L, 0x5B8D_5A4C_9B1E_10CEL, //  -78
+        0x6E8A_FF43_57FD_6C89L, 0x127B_C3AD_C4FC_E7B0L, //  -77
+        0x586F_329C_4664_56D4L, 0x0EC9_6957_D0CA_52F3L, //  -76
+        0x46BF_5BB0_3850_4576L, 0x3F07_8779_73D5_0F29L, //  -75
+        0x7132_2C4D_26E6_D58AL, 0x31A5_A58F_1FBB_4B75L, //  -74
+        0x5A8E_89D7_5252_446EL, 0x5AEA_EAD8_E62F_6F91L, //  -73
+        0x4872_07DF_750E_9D25L, 0x2F22_557A_51BF_8C74L, //  -72
+        0x73E9_A632_54E4_2EA2L, 0x1836_EF2A_1C65_AD86L, //  -71
+        0x5CBA_EB5B_771C_F21BL, 0x2CF8_BF54_E384_8AD2L, //  -70
+        0x4A2F_22AF_927D_8E7CL, 0x23FA_32AA_4F9D_3BDBL, //  -69
+        0x76B1_D118_EA62_7D93L, 0x5329_EAAA_18FB_92F8L, //  -68
+        0x5EF4_A747_21E8_6476L, 0x0F54_BBBB_472F_A8C6L, //  -67
+        0x4BF6_EC38_E7ED_1D2BL, 0x25DD_62FC_38F2_ED6CL, //  -66
+        0x798B_138E_3FE1_C845L, 0x22FB_D193_8E51_7BDFL, //  -65
+        0x613C_0FA4_FFE7_D36AL, 0x4F2F_DADC_71DA_C97FL, //  -64
+        0x4DC9_A61D_9986_42BBL, 0x58F3_157D_27E2_3ACCL, //  -63
+        0x7C75_D695_C270_6AC5L, 0x74B8_2261_D969_F7ADL, //  -62
+        0x6391_7877_CEC0_556BL, 0x1093_4EB4_ADEE_5FBEL, //  -61
+        0x4FA7_9393_0BCD_1122L, 0x4075_D890_8B25_1965L, //  -60
+        0x7F72_85B8_12E1_B504L, 0x00BC_8DB4_11D4_F56EL, //  -59
+        0x65F5_37C6_7581_5D9CL, 0x66FD_3E29_A7DD_9125L, //  -58
+        0x5190_F96B_9134_4AE3L, 0x6BFD_CB54_864A_DA84L, //  -57
+        0x4140_C789_40F6_A24FL, 0x6FFE_3C43_9EA2_486AL, //  -56
+        0x6867_A5A8_67F1_03B2L, 0x7FFD_2D38_FDD0_73DCL, //  -55
+        0x5386_1E20_5327_3628L, 0x6664_242D_97D9_F64AL, //  -54
+        0x42D1_B1B3_75B8_F820L, 0x51E9_B68A_DFE1_91D5L, //  -53
+        0x6AE9_1C52_55F4_C034L, 0x1CA9_2411_6635_B621L, //  -52
+        0x5587_49DB_77F7_0029L, 0x63BA_8341_1E91_5E81L, //  -51
+        0x446C_3B15_F992_6687L, 0x6962_029A_7EDA_B201L, //  -50
+        0x6D79_F823_28EA_3DA6L, 0x0F03_375D_97C4_5001L, //  -49
+        0x5794_C682_8721_CAEBL, 0x259C_2C4A_DFD0_4001L, //  -48
+        0x4610_9ECE_D281_6F22L, 0x5149_BD08_B30D_0001L, //  -47
+        0x701A_97B1_50CF_1837L, 0x3542_C80D_EB48_0001L, //  -46
+        0x59AE_DFC1_0D72_79C5L, 0x7768_A00B_22A0_0001L, //  -45
+        0x47BF_1967_3DF5_2E37L, 0x7920_8008_E880_0001L, //  -44
+        0x72CB_5BD8_6321_E38CL, 0x5B67_3341_7400_0001L, //  -43
+        0x5BD5_E313_8281_82D6L, 0x7C52_8F67_9000_0001L, //  -42
+        0x4977_E8DC_6867_9BDFL, 0x16A8_72B9_4000_0001L, //  -41
+        0x758C_A7C7_0D72_92FEL, 0x5773_EAC2_0000_0001L, //  -40
+        0x5E0A_1FD2_7128_7598L, 0x45F6_5568_0000_0001L, //  -39
+        0x4B3B_4CA8_5A86_C47AL, 0x04C5_1120_0000_0001L, //  -38
+        0x785E_E10D_5DA4_6D90L, 0x07A1_B500_0000_0001L, //  -37
+        0x604B_E73D_E483_8AD9L, 0x52E7_C400_0000_0001L, //  -36
+        0x4D09_85CB_1D36_08AEL, 0x0F1F_D000_0000_0001L, //  -35
+        0x7B42_6FAB_61F0_0DE3L, 0x31CC_8000_0000_0001L, //  -34
+        0x629B_8C89_1B26_7182L, 0x5B0A_0000_0000_0001L, //  -33
+        0x4EE2_D6D4_15B8_5ACEL, 0x7C08_0000_0000_0001L, //  -32
+        0x7E37_BE20_22C0_914BL, 0x1340_0000_0000_0001L, //  -31
+        0x64F9_64E6_8233_A76FL, 0x2900_0000_0000_0001L, //  -30
+        0x50C7_83EB_9B5C_85F2L, 0x5400_0000_0000_0001L, //  -29
+        0x409F_9CBC_7C4A_04C2L, 0x1000_0000_0000_0001L, //  -28
+        0x6765_C793_FA10_079DL, 0x0000_0000_0000_0001L, //  -27
+        0x52B7_D2DC_C80C_D2E4L, 0x0000_0000_0000_0001L, //  -26
+        0x422C_A8B0_A00A_4250L, 0x0000_0000_0000_0001L, //  -25
+        0x69E1_0DE7_6676_D080L, 0x0000_0000_0000_0001L, //  -24
+        0x54B4_0B1F_852B_DA00L, 0x0000_0000_0000_0001L, //  -23
+        0x43C3_3C19_3756_4800L, 0x0000_0000_0000_0001L, //  -22
+        0x6C6B_935B_8BBD_4000L, 0x0000_0000_0000_0001L, //  -21
+        0x56BC_75E2_D631_0000L, 0x0000_0000_0000_0001L, //  -20
+        0x4563_9182_44F4_0000L, 0x0000_0000_0000_0001L, //  -19
+        0x6F05_B59D_3B20_0000L, 0x0000_0000_0000_0001L, //  -18
+        0x58D1_5E17_6280_0000L, 0x0000_0000_0000_0001L, //  -17
+        0x470D_E4DF_8200_0000L, 0x0000_0000_0000_0001L, //  -16
+        0x71AF_D498_D000_0000L, 0x0000_0000_0000_0001L, //  -15
+        0x5AF3_107A_4000_0000L, 0x0000_0000_0000_0001L, //  -14
+        0x48C2_7395_0000_0000L, 0x0000_0000_0000_0001L, //  -13
+        0x746A_5288_0000_0000L, 0x0000_0000_0000_0001L, //  -12
+        0x5D21_DBA0_0000_0000L, 0x0000_0000_0000_0001L, //  -11
+        0x4A81_7C80_0000_0000L, 0x0000_0000_0000_0001L, //  -10
+        0x7735_9400_0000_0000L, 0x0000_0000_0000_0001L, //   -9
+        0x5F5E_1000_0000_0000L, 0x0000_0000_0000_0001L, //   -8
+        0x4C4B_4000_0000_0000L, 0x0000_0000_0000_0001L, //   -7
+        0x7A12_0000_0000_0000L, 0x0000_0000_0000_0001L, //   -6
+        0x61A8_0000_0000_0000L, 0x0000_0000_0000_0001L, //   -5
+        0x4E20_0000_0000_0000L, 0x0000_0000_0000_0001L, //   -4
+        0x7D00_0000_0000_0000L, 0x0000_0000_0000_0001L, //   -3
+        0x6400_0000_0000_0000L, 0x0000_0000_0000_0001L, //   -2
+        0x5000_0000_0000_0000L, 0x0000_0000_0000_0001L, //   -1
+        0x4000_0000_0000_0000L, 0x0000_0000_0000_0001L, //    0
+        0x6666_6666_6666_6666L, 0x3333_3333_3333_3334L, //    1
+        0x51EB_851E_B851_EB85L, 0x0F5C_28F5_C28F_5C29L, //    2
+        0x4189_374B_C6A7_EF9DL, 0x5916_872B_020C_49BBL, //    3
+        0x68DB_8BAC_710C_B295L, 0x74F0_D844_D013_A92BL, //    4
+        0x53E2_D623_8DA3_C211L, 0x43F3_E037_0CDC_8755L, //    5
+        0x431B_DE82_D7B6_34DAL, 0x698F_E692_70B0_6C44L, //    6
+        0x6B5F_CA6A_F2BD_215EL, 0x0F4C_A41D_811A_46D4L, //    7
+        0x55E6_3B88_C230_E77EL, 0x3F70_834A_CDAE_9F10L, //    8
+        0x44B8_2FA0_9B5A_52CBL, 0x4C5A_02A2_3E25_4C0DL, //    9
+        0x6DF3_7F67_5EF6_EADFL, 0x2D5C_D103_96A2_1347L, //   10
+        0x57F5_FF85_E592_557FL, 0x3DE3_DA69_454E_75D3L, //   11
+        0x465E_6604_B7A8_4465L, 0x7E4F_E1ED_D10B_9175L, //   12
+        0x7097_09A1_25DA_0709L, 0x4A19_697C_81AC_1BEFL, //   13
+        0x5A12_6E1A_84AE_6C07L, 0x54E1_2130_67BC_E326L, //   14
+        0x480E_BE7B_9D58_566CL, 0x43E7_4DC0_52FD_8285L, //   15
+        0x734A_CA5F_6226_F0ADL, 0x530B_AF9A_1E62_6A6DL, //   16
+        0x5C3B_D519_1B52_5A24L, 0x426F_BFAE_7EB5_21F1L, //   17
+        0x49C9_7747_490E_AE83L, 0x4EBF_CC8B_9890_E7F4L, //   18
+        0x760F_253E_DB4A_B0D2L, 0x4ACC_7A78_F41B_0CBAL, //   19
+        0x5E72_8432_4908_8D75L, 0x223D_2EC7_29AF_3D62L, //   20
+        0x4B8E_D028_3A6D_3DF7L, 0x34FD_BF05_BAF2_9781L, //   21
+        0x78E4_8040_5D7B_9658L, 0x54C9_31A2_C4B7_58CFL, //   22
+        0x60B6_CD00_4AC9_4513L, 0x5D6D_C14F_03C5_E0A5L, //   23
+        0x4D5F_0A66_A23A_9DA9L, 0x3124_9AA5_9C9E_4D51L, //   24
+        0x7BCB_43D7_69F7_62A8L, 0x4EA0_F76F_60FD_4882L, //   25
+        0x6309_0312_BB2C_4EEDL, 0x254D_92BF_80CA_A068L, //   26
+        0x4F3A_68DB_C8F0_3F24L, 0x1DD7_A899_33D5_4D20L, //   27
+        0x7EC3_DAF9_4180_6506L, 0x62F2_A75B_8622_1500L, //   28
+        0x6569_7BFA_9ACD_1D9FL, 0x025B_B916_04E8_10CDL, //   29
+        0x5121_2FFB_AF0A_7E18L, 0x6849_60DE_6A53_40A4L, //   30
+        0x40E7_5996_25A1_FE7AL, 0x203A_B3E5_21DC_33B6L, //   31
+        0x67D8_8F56_A29C_CA5DL, 0x19F7_863B_6960_52BDL, //   32
+        0x5313_A5DE_E87D_6EB0L, 0x7B2C_6B62_BAB3_7564L, //   33
+        0x4276_1E4B_ED31_255AL, 0x2F56_BC4E_FBC2_C450L, //   34
+        0x6A56_96DF_E1E8_3BC3L, 0x6557_93B1_92D1_3A1AL, //   35
+        0x5512_124C_B4B9_C969L, 0x3779_42F4_7574_2E7BL, //   36
+        0x440E_750A_2A2E_3ABAL, 0x5F94_3590_5DF6_8B96L, //   37
+        0x6CE3_EE76_A9E3_912AL, 0x65B9_EF4D_6324_1289L, //   38
+        0x571C_BEC5_54B6_0DBBL, 0x6AFB_25D7_8283_4207L, //   39
+        0x45B0_989D_DD5E_7163L, 0x08C8_EB12_CECF_6806L, //   40
+        0x6F80_F42F_C897_1BD1L, 0x5ADB_11B7_B14B_D9A3L, //   41
+        0x5933_F68C_A078_E30EL, 0x157C_0E2C_8DD6_47B5L, //   42
+        0x475C_C53D_4D2D_8271L, 0x5DFC_D823_A4AB_6C91L, //   43
+        0x722E_0862_1515_9D82L, 0x632E_269F_6DDF_141BL, //   44
+        0x5B58_06B4_DDAA_E468L, 0x4F58_1EE5_F17F_4349L, //   45
+        0x4913_3890_B155_8386L, 0x72AC_E584_C132_9C3BL, //   46
+        0x74EB_8DB4_4EEF_38D7L, 0x6AAE_3C07_9B84_2D2AL, //   47
+        0x5D89_3E29_D8BF_60ACL, 0x5558_3006_1603_5755L, //   48
+        0x4AD4_31BB_13CC_4D56L, 0x7779_C004_DE69_12ABL, //   49
+        0x77B9_E92B_52E0_7BBEL, 0x258F_99A1_63DB_5111L, //   50
+        0x5FC7_EDBC_424D_2FCBL, 0x37A6_1481_1CAF_740DL, //   51
+        0x4C9F_F163_683D_BFD5L, 0x7951_AA00_E3BF_900BL, //   52
+        0x7A99_8238_A6C9_32EFL, 0x754F_7667_D2CC_19ABL, //   53
+        0x6214_682D_523A_8F26L, 0x2AA5_F853_0F09_AE22L, //   54
+        0x4E76_B9BD_DB62_0C1EL, 0x5551_9375_A5A1_581BL, //   55
+        0x7D8A_C2C9_5F03_4697L, 0x3BB5_B8BC_3C35_59C5L, //   56
+        0x646F_023A_B269_0545L, 0x7C91_6096_9691_149EL, //   57
+        0x5058_CE95_5B87_376BL, 0x16DA_B3AB_ABA7_43B2L, //   58
+        0x4047_0BAA_AF9F_5F88L, 0x78AE_F622_EFB9_02F5L, //   59
+        0x66D8_12AA_B298_98DBL, 0x0DE4_BD04_B2C1_9E54L, //   60
+        0x5246_7555_5BAD_4715L, 0x57EA_30D0_8F01_4B76L, //   61
+        0x41D1_F777_7C8A_9F44L, 0x4654_F3DA_0C01_092CL, //   62
+        0x694F_F258_C744_3207L, 0x23BB_1FC3_4668_0EACL, //   63
+        0x543F_F513_D29C_F4D2L, 0x4FC8_E635_D1EC_D88AL, //   64
+        0x4366_5DA9_754A_5D75L, 0x263A_51C4_A7F0_AD3BL, //   65
+        0x6BD6_FC42_5543_C8BBL, 0x56C3_B607_731A_AEC4L, //   66
+        0x5645_969B_7769_6D62L, 0x789C_919F_8F48_8BD0L, //   67
+        0x4504_787C_5F87_8AB5L, 0x46E3_A7B2_D906_D640L, //   68
+        0x6E6D_8D93_CC0C_1122L, 0x3E39_0C51_5B3E_239AL, //   69
+        0x5857_A476_3CD6_741BL, 0x4B60_D6A7_7C31_B615L, //   70
+        0x46AC_8391_CA45_29AFL, 0x55E7_121F_968E_2B44L, //   71
+        0x7114_05B6_106E_A919L, 0x0971_B698_F0E3_786DL, //   72
+        0x5A76_6AF8_0D25_5414L, 0x078E_2BAD_8D82_C6BDL, //   73
+        0x485E_BBF9_A41D_DCDCL, 0x6C71_BC8A_D79B_D231L, //   74
+        0x73CA_C65C_39C9_6161L, 0x2D82_C744_8C2C_8382L, //   75
+        0x5CA2_3849_C7D4_4DE7L, 0x3E02_3903_A356_CF9BL, //   76
+        0x4A1B_603B_0643_7185L, 0x7E68_2D9C_82AB_D949L, //   77
+        0x7692_3391_A39F_1C09L, 0x4A40_48FA_6AAC_8EDBL, //   78
+        0x5EDB_5C74_82E5_B007L, 0x5500_3A61_EEF0_7249L, //   79
+        0x4BE2_B05D_3584_8CD2L, 0x7733_61E7_F259_F507L, //   80
+        0x796A_B3C8_55A0_E151L, 0x3EB8_9CA6_508F_EE71L, //   81
+        0x6122_296D_114D_810DL, 0x7EFA_16EB_73A6_585BL, //   82
+        0x4DB4_EDF0_DAA4_673EL, 0x3261_ABEF_8FB8_46AFL, //   83
+        0x7C54_AFE7_C43A_3ECAL, 0x1D69_1318_E5F3_A44BL, //   84
+        0x6376_F31F_D02E_98A1L, 0x6454_0F47_1E5C_836FL, //   85
+        0x4F92_5C19_7358_7A1BL, 0x0376_729F_4B7D_35F3L, //   86
+        0x7F50_935B_EBC0_C35EL, 0x38BD_8432_1261_EFEBL, //   87
+        0x65DA_0F7C_BC9A_35E5L, 0x13CA_D028_0EB4_BFEFL, //   88
+        0x517B_3F96_FD48_2B1DL, 0x5CA2_4020_0BC3_CCBFL, //   89
+        0x412F_6612_6439_BC17L, 0x63B5_0019_A303_0A33L, //   90
+        0x684B_D683_D38F_9359L, 0x1F88_0029_04D1_A9EAL, //   91
+        0x536F_DECF_DC72_DC47L, 0x32D3_3354_03DA_EE55L, //   92
+        0x42BF_E573_16C2_49D2L, 0x5BDC_2910_0315_8B77L, //   93
+        0x6ACC_A251_BE03_A951L, 0x12F9_DB4C_D1BC_1258L, //   94
+        0x5570_81DA_FE69_5440L, 0x7594_AF70_A7C9_A847L, //   95
+        0x445A_017B_FEBA_A9CDL, 0x4476_F2C0_863A_ED06L, //   96
+        0x6D5C_CF2C_CAC4_42E2L, 0x3A57_EACD_A391_7B3CL, //   97
+        0x577D_728A_3BD0_3581L, 0x7B79_88A4_82DA_C8FDL, //   98
+        0x45FD_F53B_630C_F79BL, 0x15FA_D3B6_CF15_6D97L, //   99
+        0x6FFC_BB92_3814_BF5EL, 0x565E_1F8A_E4EF_15BEL, //  100
+        0x5996_FC74_F9AA_32B2L, 0x11E4_E608_B725_AAFFL, //  101
+        0x47AB_FD2A_6154_F55BL, 0x27EA_51A0_9284_88CCL, //  102
+        0x72AC_C843_CEEE_555EL, 0x7310_829A_8407_4146L, //  103
+        0x5BBD_6D03_0BF1_DDE5L, 0x4273_9BAE_D005_CDD2L, //  104
+        0x4964_5735_A327_E4B7L, 0x4EC2_E2F2_4004_A4A8L, //  105
+        0x756D_5855_D1D9_6DF2L, 0x4AD1_6B1D_333A_A10CL, //  106
+        0x5DF1_1377_DB14_57F5L, 0x2241_227D_C295_4DA3L, //  107
+        0x4B27_42C6_48DD_132AL, 0x4E9A_81FE_3544_3E1CL, //  108
+        0x783E_D13D_4161_B844L, 0x175D_9CC9_EED3_9694L, //  109
+        0x6032_40FD_CDE7_C69CL, 0x7917_B0A1_8BDC_7876L, //  110
+        0x4CF5_00CB_0B1F_D217L, 0x1412_F3B4_6FE3_9392L, //  111
+        0x7B21_9ADE_7832_E9BEL, 0x5351_85ED_7FD2_85B6L, //  112
+        0x6281_48B1_F9C2_5498L, 0x42A7_9E57_9975_37C5L, //  113
+        0x4ECD_D3C1_949B_76E0L, 0x3552_E512_E12A_9304L, //  114
+        0x7E16_1F9C_20F8_BE33L, 0x6EEB_081E_3510_EB39L, //  115
+        0x64DE_7FB0_1A60_9829L, 0x3F22_6CE4_F740_BC2EL, //  116
+        0x50B1_FFC0_151A_1354L, 0x3281_F0B7_2C33_C9BEL, //  117
+        0x408E_6633_4414_DC43L, 0x4201_8D5F_568F_D498L, //  118
+        0x674A_3D1E_D354_939FL, 0x1CCF_4898_8A7F_BA8DL, //  119
+        0x52A1_CA7F_0F76_DC7FL, 0x30A5_D3AD_3B99_620BL, //  120
+        0x421B_0865_A5F8_B065L, 0x73B7_DC8A_9614_4E6FL, //  121
+        0x69C4_DA3C_3CC1_1A3CL, 0x52BF_C744_2353_B0B1L, //  122
+        0x549D_7B63_63CD_AE96L, 0x7566_3903_4F76_26F4L, //  123
+        0x43B1_2F82_B63E_2545L, 0x4451_C735_D92B_525DL, //  124
+        0x6C4E_B26A_BD30_3BA2L, 0x3A1C_71EF_C1DE_EA2EL, //  125
+        0x56A5_5B88_9759_C94EL, 0x61B0_5B26_34B2_54F2L, //  126
+        0x4551_1606_DF7B_0772L, 0x1AF3_7C1E_908E_AA5BL, //  127
+        0x6EE8_233E_325E_7250L, 0x2B1F_2CFD_B417_76F8L, //  128
+        0x58B9_B5CB_5B7E_C1D9L, 0x6F4C_23FE_29AC_5F2DL, //  129
+        0x46FA_F7D5_E2CB_CE47L, 0x72A3_4FFE_87BD_18F1L, //  130
+        0x7191_8C89_6ADF_B073L, 0x0438_7FFD_A5FB_5B1BL, //  131
+        0x5ADA_D6D4_557F_C05CL, 0x0360_6664_84C9_15AFL, //  132
+        0x48AF_1243_7799_66B0L, 0x02B3_851D_3707_448CL, //  133
+        0x744B_506B_F28F_0AB3L, 0x1DEC_082E_BE72_0746L, //  134
+        0x5D09_0D23_2872_6EF5L, 0x64BC_D358_985B_3905L, //  135
+        0x4A6D_A41C_205B_8BF7L, 0x6A30_A913_AD15_C738L, //  136
+        0x7715_D360_33C5_ACBFL, 0x5D1A_A81F_7B56_0B8CL, //  137
+        0x5F44_A919_C304_8A32L, 0x7DAE_ECE5_FC44_D609L, //  138
+        0x4C36_EDAE_359D_3B5BL, 0x7E25_8A51_969D_7808L, //  139
+        0x79F1_7C49_EF61_F893L, 0x16A2_76E8_F0FB_F33FL, //  140
+        0x618D_FD07_F2B4_C6DCL, 0x121B_9253_F3FC_C299L, //  141
+        0x4E0B_30D3_2890_9F16L, 0x41AF_A843_2997_0214L, //  142
+        0x7CDE_B485_0DB4_31BDL, 0x4F7F_739E_A8F1_9CEDL, //  143
+        0x63E5_5D37_3E29_C164L, 0x3F99_294B_BA5A_E3F1L, //  144
+        0x4FEA_B0F8_FE87_CDE9L, 0x7FAD_BAA2_FB7B_E98DL, //  145
+        0x7FDD_E7F4_CA72_E30FL, 0x7F7C_5DD1_925F_DC15L, //  146
+        0x664B_1FF7_085B_E8D9L, 0x4C63_7E41_41E6_49ABL, //  147
+        0x51D5_B32C_06AF_ED7AL, 0x704F_9834_34B8_3AEFL, //  148
+        0x4177_C289_9EF3_2462L, 0x26A6_135C_F6F9_C8BFL, //  149
+        0x68BF_9DA8_FE51_D3D0L, 0x3DD6_8561_8B29_4132L, //  150
+        0x53CC_7E20_CB74_A973L, 0x4B12_044E_08ED_CDC2L, //  151
+        0x4309_FE80_A2C3_BAC2L, 0x6F41_9D0B_3A57_D7CEL, //  152
+        0x6B43_30CD_D139_2AD1L, 0x3202_94DE_C3BF_BFB0L, //  153
+        0x55CF_5A3E_40FA_88A7L, 0x419B_AA4B_CFCC_995AL, //  154
+        0x44A5_E1CB_672E_D3B9L, 0x1AE2_EEA3_0CA3_ADE1L, //  155
+        0x6DD6_3612_3EB1_52C1L, 0x77D1_7DD1_ADD2_AFCFL, //  156
+        0x57DE_91A8_3227_7567L, 0x7974_64A7_BE42_263FL, //  157
+        0x464B_A7B9_C1B9_2AB9L, 0x4790_5086_31CE_84FFL, //  158
+        0x7079_0C5C_6928_445CL, 0x0C1A_1A70_4FB0_D4CCL, //  159
+        0x59FA_7049_EDB9_D049L, 0x567B_4859_D95A_43D6L, //  160
+        0x47FB_8D07_F161_736EL, 0x11FC_39E1_7AAE_9CABL, //  161
+        0x732C_14D9_8235_857DL, 0x032D_2968_C44A_9445L, //  162
+        0x5C23_43E1_34F7_9DFDL, 0x4F57_5453_D03B_A9D1L, //  163
+        0x49B5_CFE7_5D92_E4CAL, 0x72AC_4376_402F_BB0EL, //  164
+        0x75EF_B30B_C8EB_07ABL, 0x0446_D256_CD19_2B49L, //  165
+        0x5E59_5C09_6D88_D2EFL, 0x1D05_7512_3DAD_BC3AL, //  166
+        0x4B7A_B007_8AD3_DBF2L, 0x4A6A_C40E_97BE_302FL, //  167
+        0x78C4_4CD8_DE1F_C650L, 0x7711_39B0_F2C9_E6B1L, //  168
+        0x609D_0A47_1819_6B73L, 0x78DA_948D_8F07_EBC1L, //  169
+        0x4D4A_6E9F_467A_BC5CL, 0x60AE_DD3E_0C06_5634L, //  170
+        0x7BAA_4A98_70C4_6094L, 0x344A_FB96_79A3_BD20L, //  171
+        0x62EE_A213_8D69_E6DDL, 0x103B_FC78_614F_CA80L, //  172
+        0x4F25_4E76_0ABB_1F17L, 0x2696_6393_810C_A200L, //  173
+        0x7EA2_1723_445E_9825L, 0x2423_D285_9B47_6999L, //  174
+        0x654E_78E9_037E_E01DL, 0x69B6_4204_7C39_2148L, //  175
+        0x510B_93ED_9C65_8017L, 0x6E2B_6803_9694_1AA0L, //  176
+        0x40D6_0FF1_49EA_CCDFL, 0x71BC_5336_1210_154DL, //  177
+        0x67BC_E64E_DCAA_E166L, 0x1C60_8523_5019_BBAEL, //  178
+        0x52FD_850B_E3BB_E784L, 0x7D1A_041C_4014_9625L, //  179
+        0x4264_6A6F_E963_1F9DL, 0x4A7B_367D_0010_781DL, //  180
+        0x6A3A_43E6_4238_3295L, 0x5D91_F0C8_001A_59C8L, //  181
+        0x54FB_6985_01C6_8EDEL, 0x17A7_F3D3_3348_47D4L, //  182
+        0x43FC_546A_67D2_0BE4L, 0x7953_2975_C2A0_3976L, //  183
+        0x6CC6_ED77_0C83_463BL, 0x0EEB_7589_3766_C256L, //  184
+        0x5705_8AC5_A39C_382FL, 0x2589_2AD4_2C52_3512L, //  185
+        0x459E_089E_1C7C_F9BFL, 0x37A0_EF10_2374_F742L, //  186
+        0x6F63_40FC_FA61_8F98L, 0x5901_7E80_38BB_2536L, //  187
+        0x591C_33FD_951A_D946L, 0x7A67_9866_93C8_EA91L, //  188
+        0x4749_C331_4415_7A9FL, 0x151F_AD1E_DCA0_BBA8L, //  189
+        0x720F_9EB5_39BB_F765L, 0x0832_AE97_C767_92A5L, //  190
+        0x5B3F_B22A_9496_5F84L, 0x068E_F213_05EC_7551L, //  191
+        0x48FF_C1BB_AA11_E603L, 0x1ED8_C1A8_D189_F774L, //  192
+        0x74CC_692C_434F_D66BL, 0x4AF4_690E_1C0F_F253L, //  193
+        0x5D70_5423_690C_AB89L, 0x225D_20D8_1673_2843L, //  194
+        0x4AC0_434F_873D_5607L, 0x3517_4D79_AB8F_5369L, //  195
+        0x779A_054C_0B95_5672L, 0x21BE_E25C_45B2_1F0EL, //  196
+        0x5FAE_6AA3_3C77_785BL, 0x3498_B516_9E28_18D8L, //  197
+        0x4C8B_8882_96C5_F9E2L, 0x5D46_F745_4B53_4713L, //  198
+        0x7A78_DA6A_8AD6_5C9DL, 0x7BA4_BED5_4552_0B52L, //  199
+        0x61FA_4855_3BDE_B07EL, 0x2FB6_FF11_0441_A2A8L, //  200
+        0x4E61_D377_6318_8D31L, 0x72F8_CC0D_9D01_4EEDL, //  201
+        0x7D69_5258_9E8D_AEB6L, 0x1E5A_E015_C802_17E1L, //  202
+        0x6454_41E0_7ED7_BEF8L, 0x1848_B344_A001_ACB4L, //  203
+        0x5043_67E6_CBDF_CBF9L, 0x603A_2903_B334_8A2AL, //  204
+        0x4035_ECB8_A319_6FFBL, 0x002E_8736_28F6_D4EEL, //  205
+        0x66BC_ADF4_3828_B32BL, 0x19E4_0B89_DB24_87E3L, //  206
+        0x5230_8B29_C686_F5BCL, 0x14B6_6FA1_7C1D_3983L, //  207
+        0x41C0_6F54_9ED2_5E30L, 0x1091_F2E7_967D_C79CL, //  208
+        0x6933_E554_3150_96B3L, 0x341C_B7D8_F0C9_3F5FL, //  209
+        0x5429_8443_5AA6_DEF5L, 0x767D_5FE0_C0A0_FF80L, //  210
+        0x4354_69CF_7BB8_B25EL, 0x2B97_7FE7_0080_CC66L, //  211
+        0x6BBA_42E5_92C1_1D63L, 0x5F58_CCA4_CD9A_E0A3L, //  212
+        0x562E_9BEA_DBCD_B11CL, 0x4C47_0A1D_7148_B3B6L, //  213
+        0x44F2_1655_7CA4_8DB0L, 0x3D05_A1B1_276D_5C92L, //  214
+        0x6E50_23BB_FAA0_E2B3L, 0x7B3C_35E8_3F15_60E9L, //  215
+        0x5840_1C96_621A_4EF6L, 0x2F63_5E53_65AA_B3EDL, //  216
+        0x4699_B078_4E7B_725EL, 0x591C_4B75_EAEE_F658L, //  217
+        0x70F5_E726_E3F8_B6FDL, 0x74FA_1256_44B1_8A26L, //  218
+        0x5A5E_5285_832D_5F31L, 0x43FB_41DE_9D5A_D4EBL, //  219
+        0x484B_7537_9C24_4C27L, 0x4FFC_34B2_177B_DD89L, //  220
+        0x73AB_EEBF_603A_1372L, 0x4CC6_BAB6_8BF9_6274L, //  221
+        0x5C89_8BCC_4CFB_42C2L, 0x0A38_955E_D661_1B90L, //  222
+        0x4A07_A309_D72F_689BL, 0x21C6_DDE5_784D_AFA7L, //  223
+        0x7672_9E76_2518_A75EL, 0x693E_2FD5_8D49_190BL, //  224
+        0x5EC2_185E_8413_B918L, 0x5431_BFDE_0AA0_E0D5L, //  225
+        0x4BCE_79E5_3676_2DADL, 0x29C1_664B_3BB3_E711L, //  226
+        0x794A_5CA1_F0BD_15E2L, 0x0F9B_D6DE_C5EC_A4E8L, //  227
+        0x6108_4A1B_26FD_AB1BL, 0x2616_457F_04BD_50BAL, //  228
+        0x4DA0_3B48_EBFE_227CL, 0x1E78_3798_D097_73C8L, //  229
+        0x7C33_920E_4663_6A60L, 0x30C0_58F4_80F2_52D9L, //  230
+        0x635C_74D8_384F_884DL, 0x0D66_AD90_6728_4247L, //  231
+        0x4F7D_2A46_9372_D370L, 0x711E_F140_5286_9B6CL, //  232
+        0x7F2E_AA0A_8584_8581L, 0x34FE_4ECD_50D7_5F14L, //  233
+        0x65BE_EE6E_D136_D134L, 0x2A65_0BD7_73DF_7F43L, //  234
+        0x5165_8B8B_DA92_40F6L, 0x551D_A312_C319_329CL, //  235
+        0x411E_093C_AEDB_672BL, 0x5DB1_4F42_35AD_C217L, //  236
+        0x6830_0EC7_7E2B_D845L, 0x7C4E_E536_BC49_368AL, //  237
+        0x5359_A56C_64EF_E037L, 0x7D0B_EA92_303A_9208L, //  238
+        0x42AE_1DF0_50BF_E693L, 0x173C_BBA8_2695_41A0L, //  239
+        0x6AB0_2FE6_E799_70EBL, 0x3EC7_92A6_A422_029AL, //  240
+        0x5559_BFEB_EC7A_C0BCL, 0x3239_421E_E9B4_CEE1L, //  241
+        0x4447_CCBC_BD2F_0096L, 0x5B61_01B2_5490_A581L, //  242
+        0x6D3F_ADFA_C84B_3424L, 0x2BCE_691D_541A_A268L, //  243
+        0x5766_24C8_A03C_29B6L, 0x563E_BA7D_DCE2_1B87L, //  244
+        0x45EB_50A0_8030_215EL, 0x7832_2ECB_171B_4939L, //  245
+        0x6FDE_E767_3380_3564L, 0x59E9_E478_24F8_7527L, //  246
+        0x597F_1F85_C2CC_F783L, 0x6187_E9F9_B72D_2A86L, //  247
+        0x4798_E604_9BD7_2C69L, 0x346C_BB2E_2C24_2205L, //  248
+        0x728E_3CD4_2C8B_7A42L, 0x20AD_F849_E039_D007L, //  249
+        0x5BA4_FD76_8A09_2E9BL, 0x33BE_603B_19C7_D99FL, //  250
+        0x4950_CAC5_3B3A_8BAFL, 0x42FE_B362_7B06_47B3L, //  251
+        0x754E_113B_91F7_45E5L, 0x5197_856A_5E70_72B8L, //  252
+        0x5DD8_0DC9_4192_9E51L, 0x27AC_6ABB_7EC0_5BC6L, //  253
+        0x4B13_3E3A_9ADB_B1DAL, 0x52F0_5562_CBCD_1638L, //  254
+        0x781E_C9F7_5E2C_4FC4L, 0x1E4D_556A_DFAE_89F3L, //  255
+        0x6018_A192_B1BD_0C9CL, 0x7EA4_4455_7FBE_D4C3L, //  256
+        0x4CE0_8142_27CA_707DL, 0x4BB6_9D11_32FF_109CL, //  257
+        0x7B00_CED0_3FAA_4D95L, 0x5F8A_94E8_5198_1A93L, //  258
+        0x6267_0BD9_CC88_3E11L, 0x32D5_43ED_0E13_4875L, //  259
+        0x4EB8_D647_D6D3_64DAL, 0x5BDD_CFF0_D80F_6D2BL, //  260
+        0x7DF4_8A0C_8AEB_D491L, 0x12FC_7FE7_C018_AEABL, //  261
+        0x64C3_A1A3_A256_43A7L, 0x28C9_FFEC_99AD_5889L, //  262
+        0x509C_814F_B511_CFB9L, 0x0707_FFF0_7AF1_13A1L, //  263
+        0x407D_343F_C40E_3FC7L, 0x1F39_998D_2F27_42E7L, //  264
+        0x672E_B9FF_A016_CC71L, 0x7EC2_8F48_4B72_04A4L, //  265
+        0x528B_C7FF_B345_705BL, 0x189B_A5D3_6F8E_6A1DL, //  266
+        0x4209_6CCC_8F6A_C048L, 0x7A16_1E42_BFA5_21B1L, //  267
+        0x69A8_AE14_18AA_CD41L, 0x4356_96D1_32A1_CF81L, //  268
+        0x5486_F1A9_AD55_7101L, 0x1C45_4574_2881_72CEL, //  269
+        0x439F_27BA_F111_2734L, 0x169D_D129_BA01_28A5L, //  270
+        0x6C31_D92B_1B4E_A520L, 0x242F_B50F_9001_DAA1L, //  271
+        0x568E_4755_AF72_1DB3L, 0x368C_90D9_4001_7BB4L, //  272
+        0x453E_9F77_BF8E_7E29L, 0x120A_0D7A_999A_C95DL, //  273
+        0x6ECA_98BF_98E3_FD0EL, 0x5010_1590_F5C4_7561L, //  274
+        0x58A2_13CC_7A4F_FDA5L, 0x2673_4473_F7D0_5DE8L, //  275
+        0x46E8_0FD6_C83F_FE1DL, 0x6B8F_69F6_5FD9_E4B9L, //  276
+        0x7173_4C8A_D9FF_FCFCL, 0x45B2_4323_CC8F_D45CL, //  277
+        0x5AC2_A3A2_47FF_FD96L, 0x6AF5_0283_0A0C_A9E3L, //  278
+        0x489B_B61B_6CCC_CADFL, 0x08C4_0202_6E70_87E9L, //  279
+        0x742C_5692_47AE_1164L, 0x746C_D003_E3E7_3FDBL, //  280
+        0x5CF0_4541_D2F1_A783L, 0x76BD_7336_4FEC_3315L, //  281
+        0x4A59_D101_758E_1F9CL, 0x5EFD_F5C5_0CBC_F5ABL, //  282
+        0x76F6_1B35_88E3_65C7L, 0x4B2F_EFA1_ADFB_22ABL, //  283
+        0x5F2B_48F7_A0B5_EB06L, 0x08F3_261A_F195_B555L, //  284
+        0x4C22_A0C6_1A2B_226BL, 0x20C2_84E2_5ADE_2AABL, //  285
+        0x79D1_013C_F6AB_6A45L, 0x1AD0_D49D_5E30_4444L, //  286
+        0x6174_00FD_9222_BB6AL, 0x48A7_107D_E4F3_69D0L, //  287
+        0x4DF6_6731_41B5_62BBL, 0x53B8_D9FE_50C2_BB0DL, //  288
+        0x7CBD_71E8_6922_3792L, 0x52C1_5CCA_1AD1_2B48L, //  289
+        0x63CA_C186_BA81_C60EL, 0x7567_7D6E_7BDA_8906L, //  290
+        0x4FD5_679E_FB9B_04D8L, 0x5DEC_6458_6315_3A6CL, //  291
+        0x7FBB_D8FE_5F5E_6E27L, 0x497A_3A27_04EE_C3DFL, //  292
+    };
+
+    private static final long[] POW10_128 = {
+        0xFA8F_D5A0_081C_0288L, 0x1732_C869_CD60_E453L, // 1e-348
+        0x9C99_E584_0511_8195L, 0x0E7F_BD42_205C_8EB4L, // 1e-347
+        0xC3C0_5EE5_0655_E1FAL, 0x521F_AC92_A873_B261L, // 1e-346
+        0xF4B0_769E_47EB_5A78L, 0xE6A7_97B7_5290_9EF9L, // 1e-345
+        0x98EE_4A22_ECF3_188BL, 0x9028_BED2_939A_635CL, // 1e-344
+        0xBF29_DCAB_A82F_DEAEL, 0x7432_EE87_3880_FC33L, // 1e-343
+        0xEEF4_53D6_923B_D65AL, 0x113F_AA29_06A1_3B3FL, // 1e-342
+        0x9558_B466_1B65_65F8L, 0x4AC7_CA59_A424_C507L, // 1e-341
+        0xBAAE_E17F_A23E_BF76L, 0x5D79_BCF0_0D2D_F649L, // 1e-340
+        0xE95A_99DF_8ACE_6F53L, 0xF4D8_2C2C_1079_73DCL, // 1e-339
+        0x91D8_A02B_B6C1_0594L, 0x7907_1B9B_8A4B_E869L, // 1e-338
+        0xB64E_C836_A471_46F9L, 0x9748_E282_6CDE_E284L, // 1e-337
+        0xE3E2_7A44_4D8D_98B7L, 0xFD1B_1B23_0816_9B25L, // 1e-336
+        0x8E6D_8C6A_B078_7F72L, 0xFE30_F0F5_E50E_20F7L, // 1e-335
+        0xB208_EF85_5C96_9F4FL, 0xBDBD_2D33_5E51_A935L, // 1e-334
+        0xDE8B_2B66_B3BC_4723L, 0xAD2C_7880_35E6_1382L, // 1e-333
+        0x8B16_FB20_3055_AC76L, 0x4C3B_CB50_21AF_CC31L, // 1e-332
+        0xADDC_B9E8_3C6B_1793L, 0xDF4A_BE24_2A1B_BF3DL, // 1e-331
+        0xD953_E862_4B85_DD78L, 0xD71D_6DAD_34A2_AF0DL, // 1e-330
+        0x87D4_713D_6F33_AA6BL, 0x8672_648C_40E5_AD68L, // 1e-329
+        0xA9C9_8D8C_CB00_9506L, 0x680E_FDAF_511F_18C2L, // 1e-328
+        0xD43B_F0EF_FDC0_BA48L, 0x0212_BD1B_2566_DEF2L, // 1e-327
+        0x84A5_7695_FE98_746DL, 0x014B_B630_F760_4B57L, // 1e-326
+        0xA5CE_D43B_7E3E_9188L, 0x419E_A3BD_3538_5E2DL, // 1e-325
+        0xCF42_894A_5DCE_35EAL, 0x5206_4CAC_8286_75B9L, // 1e-324
+        0x8189_95CE_7AA0_E1B2L, 0x7343_EFEB_D194_0993L, // 1e-323
+        0xA1EB_FB42_1949_1A1FL, 0x1014_EBE6_C5F9_0BF8L, // 1e-322
+        0xCA66_FA12_9F9B_60A6L, 0xD41A_26E0_7777_4EF6L, // 1e-321
+        0xFD00_B897_4782_38D0L, 0x8920_B098_9555_22B4L, // 1e-320
+        0x9E20_735E_8CB1_6382L, 0x55B4_6E5F_5D55_35B0L, // 1e-319
+        0xC5A8_9036_2FDD_BC62L, 0xEB21_89F7_34AA_831DL, // 1e-318
+        0xF712_B443_BBD5_2B7BL, 0xA5E9_EC75_01D5_23E4L, // 1e-317
+        0x9A6B_B0AA_5565_3B2DL, 0x47B2_33C9_2125_366EL, // 1e-316
+        0xC106_9CD4_EABE_89F8L, 0x999E_C0BB_696E_840AL, // 1e-315
+        0xF148_440A_256E_2C76L, 0xC006_70EA_43CA_250DL, // 1e-314
+        0x96CD_2A86_5764_DBCAL, 0x3804_0692_6A5E_5728L, // 1e-313
+        0xBC80_7527_ED3E_12BCL, 0xC605_0837_04F5_ECF2L, // 1e-312
+        0xEBA0_9271_E88D_976BL, 0xF786_4A44_C633_682EL, // 1e-311
+        0x9344_5B87_3158_7EA3L, 0x7AB3_EE6A_FBE0_211DL, // 1e-310
+        0xB815_7268_FDAE_9E4CL, 0x5960_EA05_BAD8_2964L, // 1e-309
+        0xE61A_CF03_3D1A_45DFL, 0x6FB9_2487_298E_33BDL, // 1e-308
+        0x8FD0_C162_0630_6BABL, 0xA5D3_B6D4_79F8_E056L, // 1e-307
+        0xB3C4_F1BA_87BC_8696L, 0x8F48_A489_9877_186CL, // 1e-306
+        0xE0B6_2E29_29AB_A83CL, 0x331A_CDAB_FE94_DE87L, // 1e-305
+        0x8C71_DCD9_BA0B_4925L, 0x9FF0_C08B_7F1D_0B14L, // 1e-304
+        0xAF8E_5410_288E_1B6FL, 0x07EC_F0AE_5EE4_4DD9L, // 1e-303
+        0xDB71_E914_32B1_A24AL, 0xC9E8_2CD9_F69D_6150L, // 1e-302
+        0x8927_31AC_9FAF_056EL, 0xBE31_1C08_3A22_5CD2L, // 1e-301
+        0xAB70_FE17_C79A_C6CAL, 0x6DBD_630A_48AA_F406L, // 1e-300
+        0xD64D_3D9D_B981_787DL, 0x092C_BBCC_DAD5_B108L, // 1e-299
+        0x85F0_4682_93F0_EB4EL, 0x25BB_F560_08C5_8EA5L, // 1e-298
+        0xA76C_5823_38ED_2621L, 0xAF2A_F2B8_0AF6_F24EL, // 1e-297
+        0xD147_6E2C_0728_6FAAL, 0x1AF5_AF66_0DB4_AEE1L, // 1e-296
+        0x82CC_A4DB_8479_45CAL, 0x50D9_8D9F_C890_ED4DL, // 1e-295
+        0xA37F_CE12_6597_973CL, 0xE50F_F107_BAB5_28A0L, // 1e-294
+        0xCC5F_C196_FEFD_7D0CL, 0x1E53_ED49_A962_72C8L, // 1e-293
+        0xFF77_B1FC_BEBC_DC4FL, 0x25E8_E89C_13BB_0F7AL, // 1e-292
+        0x9FAA_CF3D_F736_09B1L, 0x77B1_9161_8C54_E9ACL, // 1e-291
+        0xC795_830D_7503_8C1DL, 0xD59D_F5B9_EF6A_2417L, // 1e-290
+        0xF97A_E3D0_D244_6F25L, 0x4B05_7328_6B44_AD1DL, // 1e-289
+        0x9BEC_CE62_836A_C577L, 0x4EE3_67F9_430A_EC32L, // 1e-288
+        0xC2E8_01FB_2445_76D5L, 0x229C_41F7_93CD_A73FL, // 1e-287
+        0xF3A2_0279_ED56_D48AL, 0x6B43_5275_78C1_110FL, // 1e-286
+        0x9845_418C_3456_44D6L, 0x830A_1389_6B78_AAA9L, // 1e-285
+        0xBE56_91EF_416B_D60CL, 0x23CC_986B_C656_D553L, // 1e-284
+        0xEDEC_366B_11C6_CB8FL, 0x2CBF_BE86_B7EC_8AA8L, // 1e-283
+        0x94B3_A202_EB1C_3F39L, 0x7BF7_D714_32F3_D6A9L, // 1e-282
+        0xB9E0_8A83_A5E3_4F07L, 0xDAF5_CCD9_3FB0_CC53L, // 1e-281
+        0xE858_AD24_8F5C_22C9L, 0xD1B3_400F_8F9C_FF68L, // 1e-280
+        0x9137_6C36_D999_95BEL, 0x2310_0809_B9C2_1FA1L, // 1e-279
+        0xB585_4744_8FFF_FB2DL, 0xABD4_0A0C_2832_A78AL, // 1e-278
+        0xE2E6_9915_B3FF_F9F9L, 0x16C9_0C8F_323F_516CL, // 1e-277
+        0x8DD0_1FAD_907F_FC3BL, 0xAE3D_A7D9_7F67_92E3L, // 1e-276
+        0xB144_2798_F49F_FB4AL, 0x99CD_11CF_DF41_779CL, // 1e-275
+        0xDD95_317F_31C7_FA1DL, 0x4040_5643_D711_D583L, // 1e-274
+        0x8A7D_3EEF_7F1C_FC52L, 0x4828_35EA_666B_2572L, // 1e-273
+        0xAD1C_8EAB_5EE4_3B66L, 0xDA32_4365_0005_EECFL, // 1e-272
+        0xD863_B256_369D_4A40L, 0x90BE_D43E_4007_6A82L, // 1e-271
+        0x873E_4F75_E222_4E68L, 0x5A77_44A6_E804_A291L, // 1e-270
+        0xA90D_E353_5AAA_E202L, 0x7115_15D0_A205_CB36L, // 1e-269
+        0xD351_5C28_3155_9A83L, 0x0D5A_5B44_CA87_3E03L, // 1e-268
+        0x8412_D999_1ED5_8091L, 0xE858_790A_FE94_86C2L, // 1e-267
+        0xA517_8FFF_668A_E0B6L, 0x626E_974D_BE39_A872L, // 1e-266
+        0xCE5D_73FF_402D_98E3L, 0xFB0A_3D21_2DC8_128FL, // 1e-265
+        0x80FA_687F_881C_7F8EL, 0x7CE6_6634_BC9D_0B99L, // 1e-264
+        0xA139_029F_6A23_9F72L, 0x1C1F_FFC1_EBC4_4E80L, // 1e-263
+        0xC987_4347_44AC_874EL, 0xA327_FFB2_66B5_6220L, // 1e-262
+        0xFBE9_1419_15D7_A922L, 0x4BF1_FF9F_0062_BAA8L, // 1e-261
+        0x9D71_AC8F_ADA6_C9B5L, 0x6F77_3FC3_603D_B4A9L, // 1e-260
+        0xC4CE_17B3_9910_7C22L, 0xCB55_0FB4_384D_21D3L, // 1e-259
+        0xF601_9DA0_7F54_9B2BL, 0x7E2A_53A1_4660_6A48L, // 1e-258
+        0x99C1_0284_4F94_E0FBL, 0x2EDA_7444_CBFC_426DL, // 1e-257
+        0xC031_4325_637A_1939L, 0xFA91_1155_FEFB_5308L, // 1e-256
+        0xF03D_93EE_BC58_9F88L, 0x7935_55AB_7EBA_27CAL, // 1e-255
+        0x9626_7C75_35B7_63B5L, 0x4BC1_558B_2F34_58DEL, // 1e-254
+        0xBBB0_1B92_8325_3CA2L, 0x9EB1_AAED_FB01_6F16L, // 1e-253
+        0xEA9C_2277_23EE_8BCBL, 0x465E_15A9_79C1_CADCL, // 1e-252
+        0x92A1_958A_7675_175FL, 0x0BFA_CD89_EC19_1EC9L, // 1e-251
+        0xB749_FAED_1412_5D36L, 0xCEF9_80EC_671F_667BL, // 1e-250
+        0xE51C_79A8_5916_F484L, 0x82B7_E127_80E7_401AL, // 1e-249
+        0x8F31_CC09_37AE_58D2L, 0xD1B2_ECB8_B090_8810L, // 1e-248
+        0xB2FE_3F0B_8599_EF07L, 0x861F_A7E6_DCB4_AA15L, // 1e-247
+        0xDFBD_CECE_6700_6AC9L, 0x67A7_91E0_93E1_D49AL, // 1e-246
+        0x8BD6_A141_0060_42BDL, 0xE0C8_BB2C_5C6D_24E0L, // 1e-245
+        0xAECC_4991_4078_536DL, 0x58FA_E9F7_7388_6E18L, // 1e-244
+        0xDA7F_5BF5_9096_6848L, 0xAF39_A475_506A_899EL, // 1e-243
+        0x888F_9979_7A5E_012DL, 0x6D84_06C9_5242_9603L, // 1e-242
+        0xAAB3_7FD7_D8F5_8178L, 0xC8E5_087B_A6D3_3B83L, // 1e-241
+        0xD560_5FCD_CF32_E1D6L, 0xFB1E_4A9A_9088_0A64L, // 1e-240
+        0x855C_3BE0_A17F_CD26L, 0x5CF2_EEA0_9A55_067FL, // 1e-239
+        0xA6B3_4AD8_C9DF_C06FL, 0xF42F_AA48_C0EA_481EL, // 1e-238
+        0xD060_1D8E_FC57_B08BL, 0xF13B_94DA_F124_DA26L, // 1e-237
+        0x823C_1279_5DB6_CE57L, 0x76C5_3D08_D6B7_0858L, // 1e-236
+        0xA2CB_1717_B524_81EDL, 0x5476_8C4B_0C64_CA6EL, // 1e-235
+        0xCB7D_DCDD_A26D_A268L, 0xA994_2F5D_CF7D_FD09L, // 1e-234
+        0xFE5D_5415_0B09_0B02L, 0xD3F9_3B35_435D_7C4CL, // 1e-233
+        0x9EFA_548D_26E5_A6E1L, 0xC47B_C501_4A1A_6DAFL, // 1e-232
+        0xC6B8_E9B0_709F_109AL, 0x359A_B641_9CA1_091BL, // 1e-231
+        0xF867_241C_8CC6_D4C0L, 0xC301_63D2_03C9_4B62L, // 1e-230
+        0x9B40_7691_D7FC_44F8L, 0x79E0_DE63_425D_CF1DL, // 1e-229
+        0xC210_9436_4DFB_5636L, 0x9859_15FC_12F5_42E4L, // 1e-228
+        0xF294_B943_E17A_2BC4L, 0x3E6F_5B7B_17B2_939DL, // 1e-227
+        0x979C_F3CA_6CEC_5B5AL, 0xA705_992C_EECF_9C42L, // 1e-226
+        0xBD84_30BD_0827_7231L, 0x50C6_FF78_2A83_8353L, // 1e-225
+        0xECE5_3CEC_4A31_4EBDL, 0xA4F8_BF56_3524_6428L, // 1e-224
+        0x940F_4613_AE5E_D136L, 0x871B_7795_E136_BE99L, // 1e-223
+        0xB913_1798_99F6_8584L, 0x28E2_557B_5984_6E3FL, // 1e-222
+        0xE757_DD7E_C074_26E5L, 0x331A_EADA_2FE5_89CFL, // 1e-221
+        0x9096_EA6F_3848_984FL, 0x3FF0_D2C8_5DEF_7621L, // 1e-220
+        0xB4BC_A50B_065A_BE63L, 0x0FED_077A_756B_53A9L, // 1e-219
+        0xE1EB_CE4D_C7F1_6DFBL, 0xD3E8_4959_12C6_2894L, // 1e-218
+        0x8D33_60F0_9CF6_E4BDL, 0x6471_2DD7_ABBB_D95CL, // 1e-217
+        0xB080_392C_C434_9DECL, 0xBD8D_794D_96AA_CFB3L, // 1e-216
+        0xDCA0_4777_F541_C567L, 0xECF0_D7A0_FC55_83A0L, // 1e-215
+        0x89E4_2CAA_F949_1B60L, 0xF416_86C4_9DB5_7244L, // 1e-214
+        0xAC5D_37D5_B79B_6239L, 0x311C_2875_C522_CED5L, // 1e-213
+        0xD774_85CB_2582_3AC7L, 0x7D63_3293_366B_828BL, // 1e-212
+        0x86A8_D39E_F771_64BCL, 0xAE5D_FF9C_0203_3197L, // 1e-211
+        0xA853_0886_B54D_BDEBL, 0xD9F5_7F83_0283_FDFCL, // 1e-210
+        0xD267_CAA8_62A1_2D66L, 0xD072_DF63_C324_FD7BL, // 1e-209
+        0x8380_DEA9_3DA4_BC60L, 0x4247_CB9E_59F7_1E6DL, // 1e-208
+        0xA461_1653_8D0D_EB78L, 0x52D9_BE85_F074_E608L, // 1e-207
+        0xCD79_5BE8_7051_6656L, 0x6790_2E27_6C92_1F8BL, // 1e-206
+        0x806B_D971_4632_DFF6L, 0x00BA_1CD8_A3DB_53B6L, // 1e-205
+        0xA086_CFCD_97BF_97F3L, 0x80E8_A40E_CCD2_28A4L, // 1e-204
+        0xC8A8_83C0_FDAF_7DF0L, 0x6122_CD12_8006_B2CDL, // 1e-203
+        0xFAD2_A4B1_3D1B_5D6CL, 0x796B_8057_2008_5F81L, // 1e-202
+        0x9CC3_A6EE_C631_1A63L, 0xCBE3_3036_7405_3BB0L, // 1e-201
+        0xC3F4_90AA_77BD_60FCL, 0xBEDB_FC44_1106_8A9CL, // 1e-200
+        0xF4F1_B4D5_15AC_B93BL, 0xEE92_FB55_1548_2D44L, // 1e-199
+        0x9917_1105_2D8B_F3C5L, 0x751B_DD15_2D4D_1C4AL, // 1e-198
+        0xBF5C_D546_78EE_F0B6L, 0xD262_D45A_78A0_635DL, // 1e-197
+        0xEF34_0A98_172A_ACE4L, 0x86FB_8971_16C8_7C34L, // 1e-196
+        0x9580_869F_0E7A_AC0EL, 0xD45D_35E6_AE3D_4DA0L, // 1e-195
+        0xBAE0_A846_D219_5712L, 0x8974_8360_59CC_A109L, // 1e-194
+        0xE998_D258_869F_ACD7L, 0x2BD1_A438_703F_C94BL, // 1e-193
+        0x91FF_8377_5423_CC06L, 0x7B63_06A3_4627_DDCFL, // 1e-192
+        0xB67F_6455_292C_BF08L, 0x1A3B_C84C_17B1_D542L, // 1e-191
+        0xE41F_3D6A_7377_EECAL, 0x20CA_BA5F_1D9E_4A93L, // 1e-190
+        0x8E93_8662_882A_F53EL, 0x547E_B47B_7282_EE9CL, // 1e-189
+        0xB238_67FB_2A35_B28DL, 0xE99E_619A_4F23_AA43L, // 1e-188
+        0xDEC6_81F9_F4C3_1F31L, 0x6405_FA00_E2EC_94D4L, // 1e-187
+        0x8B3C_113C_38F9_F37EL, 0xDE83_BC40_8DD3_DD04L, // 1e-186
+        0xAE0B_158B_4738_705EL, 0x9624_AB50_B148_D445L, // 1e-185
+        0xD98D_DAEE_1906_8C76L, 0x3BAD_D624_DD9B_0957L, // 1e-184
+        0x87F8_A8D4_CFA4_17C9L, 0xE54C_A5D7_0A80_E5D6L, // 1e-183
+        0xA9F6_D30A_038D_1DBCL, 0x5E9F_CF4C_CD21_1F4CL, // 1e-182
+        0xD474_87CC_8470_652BL, 0x7647_C320_0069_671FL, // 1e-181
+        0x84C8_D4DF_D2C6_3F3BL, 0x29EC_D9F4_0041_E073L, // 1e-180
+        0xA5FB_0A17_C777_CF09L, 0xF468_1071_0052_5890L, // 1e-179
+        0xCF79_CC9D_B955_C2CCL, 0x7182_148D_4066_EEB4L, // 1e-178
+        0x81AC_1FE2_93D5_99BFL, 0xC6F1_4CD8_4840_5530L, // 1e-177
+        0xA217_27DB_38CB_002FL, 0xB8AD_A00E_5A50_6A7CL, // 1e-176
+        0xCA9C_F1D2_06FD_C03BL, 0xA6D9_0811_F0E4_851CL, // 1e-175
+        0xFD44_2E46_88BD_304AL, 0x908F_4A16_6D1D_A663L, // 1e-174
+        0x9E4A_9CEC_1576_3E2EL, 0x9A59_8E4E_0432_87FEL, // 1e-173
+        0xC5DD_4427_1AD3_CDBAL, 0x40EF_F1E1_853F_29FDL, // 1e-172
+        0xF754_9530_E188_C128L, 0xD12B_EE59_E68E_F47CL, // 1e-171
+        0x9A94_DD3E_8CF5_78B9L, 0x82BB_74F8_3019_58CEL, // 1e-170
+        0xC13A_148E_3032_D6E7L, 0xE36A_5236_3C1F_AF01L, // 1e-169
+        0xF188_99B1_BC3F_8CA1L, 0xDC44_E6C3_CB27_9AC1L, // 1e-168
+        0x96F5_600F_15A7_B7E5L, 0x29AB_103A_5EF8_C0B9L, // 1e-167
+        0xBCB2_B812_DB11_A5DEL, 0x7415_D448_F6B6_F0E7L, // 1e-166
+        0xEBDF_6617_91D6_0F56L, 0x111B_495B_3464_AD21L, // 1e-165
+        0x936B_9FCE_BB25_C995L, 0xCAB1_0DD9_00BE_EC34L, // 1e-164
+        0xB846_87C2_69EF_3BFBL, 0x3D5D_514F_40EE_A742L, // 1e-163
+        0xE658_29B3_046B_0AFAL, 0x0CB4_A5A3_112A_5112L, // 1e-162
+        0x8FF7_1A0F_E2C2_E6DCL, 0x47F0_E785_EABA_72ABL, // 1e-161
+        0xB3F4_E093_DB73_A093L, 0x59ED_2167_6569_0F56L, // 1e-160
+        0xE0F2_18B8_D250_88B8L, 0x3068_69C1_3EC3_532CL, // 1e-159
+        0x8C97_4F73_8372_5573L, 0x1E41_4218_C73A_13FBL, // 1e-158
+        0xAFBD_2350_644E_EACFL, 0xE5D1_929E_F908_98FAL, // 1e-157
+        0xDBAC_6C24_7D62_A583L, 0xDF45_F746_B74A_BF39L, // 1e-156
+        0x894B_C396_CE5D_A772L, 0x6B8B_BA8C_328E_B783L, // 1e-155
+        0xAB9E_B47C_81F5_114FL, 0x066E_A92F_3F32_6564L, // 1e-154
+        0xD686_619B_A272_55A2L, 0xC80A_537B_0EFE_FEBDL, // 1e-153
+        0x8613_FD01_4587_7585L, 0xBD06_742C_E95F_5F36L, // 1e-152
+        0xA798_FC41_96E9_52E7L, 0x2C48_1138_23B7_3704L, // 1e-151
+        0xD17F_3B51_FCA3_A7A0L, 0xF75A_1586_2CA5_04C5L, // 1e-150
+        0x82EF_8513_3DE6_48C4L, 0x9A98_4D73_DBE7_22FBL, // 1e-149
+        0xA3AB_6658_0D5F_DAF5L, 0xC13E_60D0_D2E0_EBBAL, // 1e-148
+        0xCC96_3FEE_10B7_D1B3L, 0x318D_F905_0799_26A8L, // 1e-147
+        0xFFBB_CFE9_94E5_C61FL, 0xFDF1_7746_497F_7052L, // 1e-146
+        0x9FD5_61F1_FD0F_9BD3L, 0xFEB6_EA8B_EDEF_A633L, // 1e-145
+        0xC7CA_BA6E_7C53_82C8L, 0xFE64_A52E_E96B_8FC0L, // 1e-144
+        0xF9BD_690A_1B68_637BL, 0x3DFD_CE7A_A3C6_73B0L, // 1e-143
+        0x9C16_61A6_5121_3E2DL, 0x06BE_A10C_A65C_084EL, // 1e-142
+        0xC31B_FA0F_E569_8DB8L, 0x486E_494F_CFF3_0A62L, // 1e-141
+        0xF3E2_F893_DEC3_F126L, 0x5A89_DBA3_C3EF_CCFAL, // 1e-140
+        0x986D_DB5C_6B3A_76B7L, 0xF896_2946_5A75_E01CL, // 1e-139
+        0xBE89_5233_8609_1465L, 0xF6BB_B397_F113_5823L, // 1e-138
+        0xEE2B_A6C0_678B_597FL, 0x746A_A07D_ED58_2E2CL, // 1e-137
+        0x94DB_4838_40B7_17EFL, 0xA8C2_A44E_B457_1CDCL, // 1e-136
+        0xBA12_1A46_50E4_DDEBL, 0x92F3_4D62_616C_E413L, // 1e-135
+        0xE896_A0D7_E51E_1566L, 0x77B0_20BA_F9C8_1D17L, // 1e-134
+        0x915E_2486_EF32_CD60L, 0x0ACE_1474_DC1D_122EL, // 1e-133
+        0xB5B5_ADA8_AAFF_80B8L, 0x0D81_9992_1324_56BAL, // 1e-132
+        0xE323_1912_D5BF_60E6L, 0x10E1_FFF6_97ED_6C69L, // 1e-131
+        0x8DF5_EFAB_C597_9C8FL, 0xCA8D_3FFA_1EF4_63C1L, // 1e-130
+        0xB173_6B96_B6FD_83B3L, 0xBD30_8FF8_A6B1_7CB2L, // 1e-129
+        0xDDD0_467C_64BC_E4A0L, 0xAC7C_B3F6_D05D_DBDEL, // 1e-128
+        0x8AA2_2C0D_BEF6_0EE4L, 0x6BCD_F07A_423A_A96BL, // 1e-127
+        0xAD4A_B711_2EB3_929DL, 0x86C1_6C98_D2C9_53C6L, // 1e-126
+        0xD89D_64D5_7A60_7744L, 0xE871_C7BF_077B_A8B7L, // 1e-125
+        0x8762_5F05_6C7C_4A8BL, 0x1147_1CD7_64AD_4972L, // 1e-124
+        0xA93A_F6C6_C79B_5D2DL, 0xD598_E40D_3DD8_9BCFL, // 1e-123
+        0xD389_B478_7982_3479L, 0x4AFF_1D10_8D4E_C2C3L, // 1e-122
+        0x8436_10CB_4BF1_60CBL, 0xCEDF_722A_5851_39BAL, // 1e-121
+        0xA543_94FE_1EED_B8FEL, 0xC297_4EB4_EE65_8828L, // 1e-120
+        0xCE94_7A3D_A6A9_273EL, 0x733D_2262_29FE_EA32L, // 1e-119
+        0x811C_CC66_8829_B887L, 0x0806_357D_5A3F_525FL, // 1e-118
+        0xA163_FF80_2A34_26A8L, 0xCA07_C2DC_B0CF_26F7L, // 1e-117
+        0xC9BC_FF60_34C1_3052L, 0xFC89_B393_DD02_F0B5L, // 1e-116
+        0xFC2C_3F38_41F1_7C67L, 0xBBAC_2078_D443_ACE2L, // 1e-115
+        0x9D9B_A783_2936_EDC0L, 0xD54B_944B_84AA_4C0DL, // 1e-114
+        0xC502_9163_F384_A931L, 0x0A9E_795E_65D4_DF11L, // 1e-113
+        0xF643_35BC_F065_D37DL, 0x4D46_17B5_FF4A_16D5L, // 1e-112
+        0x99EA_0196_163F_A42EL, 0x504B_CED1_BF8E_4E45L, // 1e-111
+        0xC064_81FB_9BCF_8D39L, 0xE45E_C286_2F71_E1D6L, // 1e-110
+        0xF07D_A27A_82C3_7088L, 0x5D76_7327_BB4E_5A4CL, // 1e-109
+        0x964E_858C_91BA_2655L, 0x3A6A_07F8_D510_F86FL, // 1e-108
+        0xBBE2_26EF_B628_AFEAL, 0x8904_89F7_0A55_368BL, // 1e-107
+        0xEADA_B0AB_A3B2_DBE5L, 0x2B45_AC74_CCEA_842EL, // 1e-106
+        0x92C8_AE6B_464F_C96FL, 0x3B0B_8BC9_0012_929DL, // 1e-105
+        0xB77A_DA06_17E3_BBCBL, 0x09CE_6EBB_4017_3744L, // 1e-104
+        0xE559_9087_9DDC_AABDL, 0xCC42_0A6A_101D_0515L, // 1e-103
+        0x8F57_FA54_C2A9_EAB6L, 0x9FA9_4682_4A12_232DL, // 1e-102
+        0xB32D_F8E9_F354_6564L, 0x4793_9822_DC96_ABF9L, // 1e-101
+        0xDFF9_7724_7029_7EBDL, 0x5978_7E2B_93BC_56F7L, // 1e-100
+        0x8BFB_EA76_C619_EF36L, 0x57EB_4EDB_3C55_B65AL, // 1e-99
+        0xAEFA_E514_77A0_6B03L, 0xEDE6_2292_0B6B_23F1L, // 1e-98
+        0xDAB9_9E59_9588_85C4L, 0xE95F_AB36_8E45_ECEDL, // 1e-97
+        0x88B4_02F7_FD75_539BL, 0x11DB_CB02_18EB_B414L, // 1e-96
+        0xAAE1_03B5_FCD2_A881L, 0xD652_BDC2_9F26_A119L, // 1e-95
+        0xD599_44A3_7C07_52A2L, 0x4BE7_6D33_46F0_495FL, // 1e-94
+        0x857F_CAE6_2D84_93A5L, 0x6F70_A440_0C56_2DDBL, // 1e-93
+        0xA6DF_BD9F_B8E5_B88EL, 0xCB4C_CD50_0F6B_B952L, // 1e-92
+        0xD097_AD07_A71F_26B2L, 0x7E20_00A4_1346_A7A7L, // 1e-91
+        0x825E_CC24_C873_782FL, 0x8ED4_0066_8C0C_28C8L, // 1e-90
+        0xA2F6_7F2D_FA90_563BL, 0x7289_0080_2F0F_32FAL, // 1e-89
+        0xCBB4_1EF9_7934_6BCAL, 0x4F2B_40A0_3AD2_FFB9L, // 1e-88
+        0xFEA1_26B7_D781_86BCL, 0xE2F6_10C8_4987_BFA8L, // 1e-87
+        0x9F24_B832_E6B0_F436L, 0x0DD9_CA7D_2DF4_D7C9L, // 1e-86
+        0xC6ED_E63F_A05D_3143L, 0x9150_3D1C_7972_0DBBL, // 1e-85
+        0xF8A9_5FCF_8874_7D94L, 0x75A4_4C63_97CE_912AL, // 1e-84
+        0x9B69_DBE1_B548_CE7CL, 0xC986_AFBE_3EE1_1ABAL, // 1e-83
+        0xC244_52DA_229B_021BL, 0xFBE8_5BAD_CE99_6168L, // 1e-82
+        0xF2D5_6790_AB41_C2A2L, 0xFAE2_7299_423F_B9C3L, // 1e-81
+        0x97C5_60BA_6B09_19A5L, 0xDCCD_879F_C967_D41AL, // 1e-80
+        0xBDB6_B8E9_05CB_600FL, 0x5400_E987_BBC1_C920L, // 1e-79
+        0xED24_6723_473E_3813L, 0x2901_23E9_AAB2_3B68L, // 1e-78
+        0x9436_C076_0C86_E30BL, 0xF9A0_B672_0AAF_6521L, // 1e-77
+        0xB944_7093_8FA8_9BCEL, 0xF808_E40E_8D5B_3E69L, // 1e-76
+        0xE795_8CB8_7392_C2C2L, 0xB60B_1D12_30B2_0E04L, // 1e-75
+        0x90BD_77F3_483B_B9B9L, 0xB1C6_F22B_5E6F_48C2L, // 1e-74
+        0xB4EC_D5F0_1A4A_A828L, 0x1E38_AEB6_360B_1AF3L, // 1e-73
+        0xE228_0B6C_20DD_5232L, 0x25C6_DA63_C38D_E1B0L, // 1e-72
+        0x8D59_0723_948A_535FL, 0x579C_487E_5A38_AD0EL, // 1e-71
+        0xB0AF_48EC_79AC_E837L, 0x2D83_5A9D_F0C6_D851L, // 1e-70
+        0xDCDB_1B27_9818_2244L, 0xF8E4_3145_6CF8_8E65L, // 1e-69
+        0x8A08_F0F8_BF0F_156BL, 0x1B8E_9ECB_641B_58FFL, // 1e-68
+        0xAC8B_2D36_EED2_DAC5L, 0xE272_467E_3D22_2F3FL, // 1e-67
+        0xD7AD_F884_AA87_9177L, 0x5B0E_D81D_CC6A_BB0FL, // 1e-66
+        0x86CC_BB52_EA94_BAEAL, 0x98E9_4712_9FC2_B4E9L, // 1e-65
+        0xA87F_EA27_A539_E9A5L, 0x3F23_98D7_47B3_6224L, // 1e-64
+        0xD29F_E4B1_8E88_640EL, 0x8EEC_7F0D_19A0_3AADL, // 1e-63
+        0x83A3_EEEE_F915_3E89L, 0x1953_CF68_3004_24ACL, // 1e-62
+        0xA48C_EAAA_B75A_8E2BL, 0x5FA8_C342_3C05_2DD7L, // 1e-61
+        0xCDB0_2555_6531_31B6L, 0x3792_F412_CB06_794DL, // 1e-60
+        0x808E_1755_5F3E_BF11L, 0xE2BB_D88B_BEE4_0BD0L, // 1e-59
+        0xA0B1_9D2A_B70E_6ED6L, 0x5B6A_CEAE_AE9D_0EC4L, // 1e-58
+        0xC8DE_0475_64D2_0A8BL, 0xF245_825A_5A44_5275L, // 1e-57
+        0xFB15_8592_BE06_8D2EL, 0xEED6_E2F0_F0D5_6712L, // 1e-56
+        0x9CED_737B_B6C4_183DL, 0x5546_4DD6_9685_606BL, // 1e-55
+        0xC428_D05A_A475_1E4CL, 0xAA97_E14C_3C26_B886L, // 1e-54
+        0xF533_0471_4D92_65DFL, 0xD53D_D99F_4B30_66A8L, // 1e-53
+        0x993F_E2C6_D07B_7FABL, 0xE546_A803_8EFE_4029L, // 1e-52
+        0xBF8F_DB78_849A_5F96L, 0xDE98_5204_72BD_D033L, // 1e-51
+        0xEF73_D256_A5C0_F77CL, 0x963E_6685_8F6D_4440L, // 1e-50
+        0x95A8_6376_2798_9AADL, 0xDDE7_0013_79A4_4AA8L, // 1e-49
+        0xBB12_7C53_B17E_C159L, 0x5560_C018_580D_5D52L, // 1e-48
+        0xE9D7_1B68_9DDE_71AFL, 0xAAB8_F01E_6E10_B4A6L, // 1e-47
+        0x9226_7121_62AB_070DL, 0xCAB3_9613_04CA_70E8L, // 1e-46
+        0xB6B0_0D69_BB55_C8D1L, 0x3D60_7B97_C5FD_0D22L, // 1e-45
+        0xE45C_10C4_2A2B_3B05L, 0x8CB8_9A7D_B77C_506AL, // 1e-44
+        0x8EB9_8A7A_9A5B_04E3L, 0x77F3_608E_92AD_B242L, // 1e-43
+        0xB267_ED19_40F1_C61CL, 0x55F0_38B2_3759_1ED3L, // 1e-42
+        0xDF01_E85F_912E_37A3L, 0x6B6C_46DE_C52F_6688L, // 1e-41
+        0x8B61_313B_BABC_E2C6L, 0x2323_AC4B_3B3D_A015L, // 1e-40
+        0xAE39_7D8A_A96C_1B77L, 0xABEC_975E_0A0D_081AL, // 1e-39
+        0xD9C7_DCED_53C7_2255L, 0x96E7_BD35_8C90_4A21L, // 1e-38
+        0x881C_EA14_545C_7575L, 0x7E50_D641_77DA_2E54L, // 1e-37
+        0xAA24_2499_6973_92D2L, 0xDDE5_0BD1_D5D0_B9E9L, // 1e-36
+        0xD4AD_2DBF_C3D0_7787L, 0x955E_4EC6_4B44_E864L, // 1e-35
+        0x84EC_3C97_DA62_4AB4L, 0xBD5A_F13B_EF0B_113EL, // 1e-34
+        0xA627_4BBD_D0FA_DD61L, 0xECB1_AD8A_EACD_D58EL, // 1e-33
+        0xCFB1_1EAD_4539_94BAL, 0x67DE_18ED_A581_4AF2L, // 1e-32
+        0x81CE_B32C_4B43_FCF4L, 0x80EA_CF94_8770_CED7L, // 1e-31
+        0xA242_5FF7_5E14_FC31L, 0xA125_8379_A94D_028DL, // 1e-30
+        0xCAD2_F7F5_359A_3B3EL, 0x096E_E458_13A0_4330L, // 1e-29
+        0xFD87_B5F2_8300_CA0DL, 0x8BCA_9D6E_1888_53FCL, // 1e-28
+        0x9E74_D1B7_91E0_7E48L, 0x775E_A264_CF55_347DL, // 1e-27
+        0xC612_0625_7658_9DDAL, 0x9536_4AFE_032A_819DL, // 1e-26
+        0xF796_87AE_D3EE_C551L, 0x3A83_DDBD_83F5_2204L, // 1e-25
+        0x9ABE_14CD_4475_3B52L, 0xC492_6A96_7279_3542L, // 1e-24
+        0xC16D_9A00_9592_8A27L, 0x75B7_053C_0F17_8293L, // 1e-23
+        0xF1C9_0080_BAF7_2CB1L, 0x5324_C68B_12DD_6338L, // 1e-22
+        0x971D_A050_74DA_7BEEL, 0xD3F6_FC16_EBCA_5E03L, // 1e-21
+        0xBCE5_0864_9211_1AEAL, 0x88F4_BB1C_A6BC_F584L, // 1e-20
+        0xEC1E_4A7D_B695_61A5L, 0x2B31_E9E3_D06C_32E5L, // 1e-19
+        0x9392_EE8E_921D_5D07L, 0x3AFF_322E_6243_9FCFL, // 1e-18
+        0xB877_AA32_36A4_B449L, 0x09BE_FEB9_FAD4_87C2L, // 1e-17
+        0xE695_94BE_C44D_E15BL, 0x4C2E_BE68_7989_A9B3L, // 1e-16
+        0x901D_7CF7_3AB0_ACD9L, 0x0F9D_3701_4BF6_0A10L, // 1e-15
+        0xB424_DC35_095C_D80FL, 0x5384_84C1_9EF3_8C94L, // 1e-14
+        0xE12E_1342_4BB4_0E13L, 0x2865_A5F2_06B0_6FB9L, // 1e-13
+        0x8CBC_CC09_6F50_88CBL, 0xF93F_87B7_442E_45D3L, // 1e-12
+        0xAFEB_FF0B_CB24_AAFEL, 0xF78F_69A5_1539_D748L, // 1e-11
+        0xDBE6_FECE_BDED_D5BEL, 0xB573_440E_5A88_4D1BL, // 1e-10
+        0x8970_5F41_36B4_A597L, 0x3168_0A88_F895_3030L, // 1e-9
+        0xABCC_7711_8461_CEFCL, 0xFDC2_0D2B_36BA_7C3DL, // 1e-8
+        0xD6BF_94D5_E57A_42BCL, 0x3D32_9076_0469_1B4CL, // 1e-7
+        0x8637_BD05_AF6C_69B5L, 0xA63F_9A49_C2C1_B10FL, // 1e-6
+        0xA7C5_AC47_1B47_8423L, 0x0FCF_80DC_3372_1D53L, // 1e-5
+        0xD1B7_1758_E219_652BL, 0xD3C3_6113_404E_A4A8L, // 1e-4
+        0x8312_6E97_8D4F_DF3BL, 0x645A_1CAC_0831_26E9L, // 1e-3
+        0xA3D7_0A3D_70A3_D70AL, 0x3D70_A3D7_0A3D_70A3L, // 1e-2
+        0xCCCC_CCCC_CCCC_CCCCL, 0xCCCC_CCCC_CCCC_CCCCL, // 1e-1
+        0x8000_0000_0000_0000L, 0x0000_0000_0000_0000L, // 1e0
+        0xA000_0000_0000_0000L, 0x0000_0000_0000_0000L, // 1e1
+        0xC800_0000_0000_0000L, 0x0000_0000_0000_0000L, // 1e2
+        0xFA00_0000_0000_0000L, 0x0000_0000_0000_0000L, // 1e3
+        0x9C40_0000_0000_0000L, 0x0000_0000_0000_0000L, // 1e4
+        0xC350_0000_0000_0000L, 0x0000_0000_0000_0000L, // 1e5
+        0xF424_0000_0000_0000L, 0x0000_0000_0000_0000L, // 1e6
+        0x9896_8000_0000_0000L, 0x0000_0000_0000_0000L, // 1e7
+        0xBEBC_2000_0000_0000L, 0x0000_0000_0000_0000L, // 1e8
+        0xEE6B_2800_0000_0000L, 0x0000_0000_0000_0000L, // 1e9
+        0x9502_F900_0000_0000L, 0x0000_0000_0000_0000L, // 1e10
+        0xBA43_B740_0000_0000L, 0x0000_0000_0000_0000L, // 1e11
+        0xE8D4_A510_0000_0000L, 0x0000_0000_0000_0000L, // 1e12
+        0x9184_E72A_0000_0000L, 0x0000_0000_0000_0000L, // 1e13
+        0xB5E6_20F4_8000_0000L, 0x0000_0000_0000_0000L, // 1e14
+        0xE35F_A931_A000_0000L, 0x0000_0000_0000_0000L, // 1e15
+        0x8E1B_C9BF_0400_0000L, 0x0000_0000_0000_0000L, // 1e16
+        0xB1A2_BC2E_C500_0000L, 0x0000_0000_0000_0000L, // 1e17
+        0xDE0B_6B3A_7640_0000L, 0x0000_0000_0000_0000L, // 1e18
+        0x8AC7_2304_89E8_0000L, 0x0000_0000_0000_0000L, // 1e19
+        0xAD78_EBC5_AC62_0000L, 0x0000_0000_0000_0000L, // 1e20
+        0xD8D7_26B7_177A_8000L, 0x0000_0000_0000_0000L, // 1e21
+        0x8786_7832_6EAC_9000L, 0x0000_0000_0000_0000L, // 1e22
+        0xA968_163F_0A57_B400L, 0x0000_0000_0000_0000L, // 1e23
+        0xD3C2_1BCE_CCED_A100L, 0x0000_0000_0000_0000L, // 1e24
+        0x8459_5161_4014_84A0L, 0x0000_0000_0000_0000L, // 1e25
+        0xA56F_A5B9_9019_A5C8L, 0x0000_0000_0000_0000L, // 1e26
+        0xCECB_8F27_F420_0F3AL, 0x0000_0000_0000_0000L, // 1e27
+        0x813F_3978_F894_0984L, 0x4000_0000_0000_0000L, // 1e28
+        0xA18F_07D7_36B9_0BE5L, 0x5000_0000_0000_0000L, // 1e29
+        0xC9F2_C9CD_0467_4EDEL, 0xA400_0000_0000_0000L, // 1e30
+        0xFC6F_7C40_4581_2296L, 0x4D00_0000_0000_0000L, // 1e31
+        0x9DC5_ADA8_2B70_B59DL, 0xF020_0000_0000_0000L, // 1e32
+        0xC537_1912_364C_E305L, 0x6C28_0000_0000_0000L, // 1e33
+        0xF684_DF56_C3E0_1BC6L, 0xC732_0000_0000_0000L, // 1e34
+        0x9A13_0B96_3A6C_115CL, 0x3C7F_4000_0000_0000L, // 1e35
+        0xC097_CE7B_C907_15B3L, 0x4B9F_1000_0000_0000L, // 1e36
+        0xF0BD_C21A_BB48_DB20L, 0x1E86_D400_0000_0000L, // 1e37
+        0x9676_9950_B50D_88F4L, 0x1314_4480_0000_0000L, // 1e38
+        0xBC14_3FA4_E250_EB31L, 0x17D9_55A0_0000_0000L, // 1e39
+        0xEB19_4F8E_1AE5_25FDL, 0x5DCF_AB08_0000_0000L, // 1e40
+        0x92EF_D1B8_D0CF_37BEL, 0x5AA1_CAE5_0000_0000L, // 1e41
+        0xB7AB_C627_0503_05ADL, 0xF14A_3D9E_4000_0000L, // 1e42
+        0xE596_B7B0_C643_C719L, 0x6D9C_CD05_D000_0000L, // 1e43
+        0x8F7E_32CE_7BEA_5C6FL, 0xE482_0023_A200_0000L, // 1e44
+        0xB35D_BF82_1AE4_F38BL, 0xDDA2_802C_8A80_0000L, // 1e45
+        0xE035_2F62_A19E_306EL, 0xD50B_2037_AD20_0000L, // 1e46
+        0x8C21_3D9D_A502_DE45L, 0x4526_F422_CC34_0000L, // 1e47
+        0xAF29_8D05_0E43_95D6L, 0x9670_B12B_7F41_0000L, // 1e48
+        0xDAF3_F046_51D4_7B4CL, 0x3C0C_DD76_5F11_4000L, // 1e49
+        0x88D8_762B_F324_CD0FL, 0xA588_0A69_FB6A_C800L, // 1e50
+        0xAB0E_93B6_EFEE_0053L, 0x8EEA_0D04_7A45_7A00L, // 1e51
+        0xD5D2_38A4_ABE9_8068L, 0x72A4_9045_98D6_D880L, // 1e52
+        0x85A3_6366_EB71_F041L, 0x47A6_DA2B_7F86_4750L, // 1e53
+        0xA70C_3C40_A64E_6C51L, 0x9990_90B6_5F67_D924L, // 1e54
+        0xD0CF_4B50_CFE2_0765L, 0xFFF4_B4E3_F741_CF6DL, // 1e55
+        0x8281_8F12_81ED_449FL, 0xBFF8_F10E_7A89_21A4L, // 1e56
+        0xA321_F2D7_2268_95C7L, 0xAFF7_2D52_192B_6A0DL, // 1e57
+        0xCBEA_6F8C_EB02_BB39L, 0x9BF4_F8A6_9F76_4490L, // 1e58
+        0xFEE5_0B70_25C3_6A08L, 0x02F2_36D0_4753_D5B4L, // 1e59
+        0x9F4F_2726_179A_2245L, 0x01D7_6242_2C94_6590L, // 1e60
+        0xC722_F0EF_9D80_AAD6L, 0x424D_3AD2_B7B9_7EF5L, // 1e61
+        0xF8EB_AD2B_84E0_D58BL, 0xD2E0_8987_65A7_DEB2L, // 1e62
+        0x9B93_4C3B_330C_8577L, 0x63CC_55F4_9F88_EB2FL, // 1e63
+        0xC278_1F49_FFCF_A6D5L, 0x3CBF_6B71_C76B_25FBL, // 1e64
+        0xF316_271C_7FC3_908AL, 0x8BEF_464E_3945_EF7AL, // 1e65
+        0x97ED_D871_CFDA_3A56L, 0x9775_8BF0_E3CB_B5ACL, // 1e66
+        0xBDE9_4E8E_43D0_C8ECL, 0x3D52_EEED_1CBE_A317L, // 1e67
+        0xED63_A231_D4C4_FB27L, 0x4CA7_AAA8_63EE_4BDDL, // 1e68
+        0x945E_455F_24FB_1CF8L, 0x8FE8_CAA9_3E74_EF6AL, // 1e69
+        0xB975_D6B6_EE39_E436L, 0xB3E2_FD53_8E12_2B44L, // 1e70
+        0xE7D3_4C64_A9C8_5D44L, 0x60DB_BCA8_7196_B616L, // 1e71
+        0x90E4_0FBE_EA1D_3A4AL, 0xBC89_55E9_46FE_31CDL, // 1e72
+        0xB51D_13AE_A4A4_88DDL, 0x6BAB_AB63_98BD_BE41L, // 1e73
+        0xE264_589A_4DCD_AB14L, 0xC696_963C_7EED_2DD1L, // 1e74
+        0x8D7E_B760_70A0_8AECL, 0xFC1E_1DE5_CF54_3CA2L, // 1e75
+        0xB0DE_6538_8CC8_ADA8L, 0x3B25_A55F_4329_4BCBL, // 1e76
+        0xDD15_FE86_AFFA_D912L, 0x49EF_0EB7_13F3_9EBEL, // 1e77
+        0x8A2D_BF14_2DFC_C7ABL, 0x6E35_6932_6C78_4337L, // 1e78
+        0xACB9_2ED9_397B_F996L, 0x49C2_C37F_0796_5404L, // 1e79
+        0xD7E7_7A8F_87DA_F7FBL, 0xDC33_745E_C97B_E906L, // 1e80
+        0x86F0_AC99_B4E8_DAFDL, 0x69A0_28BB_3DED_71A3L, // 1e81
+        0xA8AC_D7C0_2223_11BCL, 0xC408_32EA_0D68_CE0CL, // 1e82
+        0xD2D8_0DB0_2AAB_D62BL, 0xF50A_3FA4_90C3_0190L, // 1e83
+        0x83C7_088E_1AAB_65DBL, 0x7926_67C6_DA79_E0FAL, // 1e84
+        0xA4B8_CAB1_A156_3F52L, 0x5770_01B8_9118_5938L, // 1e85
+        0xCDE6_FD5E_09AB_CF26L, 0xED4C_0226_B55E_6F86L, // 1e86
+        0x80B0_5E5A_C60B_6178L, 0x544F_8158_315B_05B4L, // 1e87
+        0xA0DC_75F1_778E_39D6L, 0x6963_61AE_3DB1_C721L, // 1e88
+        0xC913_936D_D571_C84CL, 0x03BC_3A19_CD1E_38E9L, // 1e89
+        0xFB58_7849_4ACE_3A5FL, 0x04AB_48A0_4065_C723L, // 1e90
+        0x9D17_4B2D_CEC0_E47BL, 0x62EB_0D64_283F_9C76L, // 1e91
+        0xC45D_1DF9_4271_1D9AL, 0x3BA5_D0BD_324F_8394L, // 1e92
+        0xF574_6577_930D_6500L, 0xCA8F_44EC_7EE3_6479L, // 1e93
+        0x9968_BF6A_BBE8_5F20L, 0x7E99_8B13_CF4E_1ECBL, // 1e94
+        0xBFC2_EF45_6AE2_76E8L, 0x9E3F_EDD8_C321_A67EL, // 1e95
+        0xEFB3_AB16_C59B_14A2L, 0xC5CF_E94E_F3EA_101EL, // 1e96
+        0x95D0_4AEE_3B80_ECE5L, 0xBBA1_F1D1_5872_4A12L, // 1e97
+        0xBB44_5DA9_CA61_281FL, 0x2A8A_6E45_AE8E_DC97L, // 1e98
+        0xEA15_7514_3CF9_7226L, 0xF52D_09D7_1A32_93BDL, // 1e99
+        0x924D_692C_A61B_E758L, 0x593C_2626_705F_9C56L, // 1e100
+        0xB6E0_C377_CFA2_E12EL, 0x6F8B_2FB0_0C77_836CL, // 1e101
+        0xE498_F455_C38B_997AL, 0x0B6D_FB9C_0F95_6447L, // 1e102
+        0x8EDF_98B5_9A37_3FECL, 0x4724_BD41_89BD_5EACL, // 1e103
+        0xB297_7EE3_00C5_0FE7L, 0x58ED_EC91_EC2C_B657L, // 1e104
+        0xDF3D_5E9B_C0F6_53E1L, 0x2F29_67B6_6737_E3EDL, // 1e105
+        0x8B86_5B21_5899_F46CL, 0xBD79_E0D2_0082_EE74L, // 1e106
+        0xAE67_F1E9_AEC0_7187L, 0xECD8_5906_80A3_AA11L, // 1e107
+        0xDA01_EE64_1A70_8DE9L, 0xE80E_6F48_20CC_9495L, // 1e108
+        0x8841_34FE_9086_58B2L, 0x3109_058D_147F_DCDDL, // 1e109
+        0xAA51_823E_34A7_EEDEL, 0xBD4B_46F0_599F_D415L, // 1e110
+        0xD4E5_E2CD_C1D1_EA96L, 0x6C9E_18AC_7007_C91AL, // 1e111
+        0x850F_ADC0_9923_329EL, 0x03E2_CF6B_C604_DDB0L, // 1e112
+        0xA653_9930_BF6B_FF45L, 0x84DB_8346_B786_151CL, // 1e113
+        0xCFE8_7F7C_EF46_FF16L, 0xE612_6418_6567_9A63L, // 1e114
+        0x81F1_4FAE_158C_5F6EL, 0x4FCB_7E8F_3F60_C07EL, // 1e115
+        0xA26D_A399_9AEF_7749L, 0xE3BE_5E33_0F38_F09DL, // 1e116
+        0xCB09_0C80_01AB_551CL, 0x5CAD_F5BF_D307_2CC5L, // 1e117
+        0xFDCB_4FA0_0216_2A63L, 0x73D9_732F_C7C8_F7F6L, // 1e118
+        0x9E9F_11C4_014D_DA7EL, 0x2867_E7FD_DCDD_9AFAL, // 1e119
+        0xC646_D635_01A1_511DL, 0xB281_E1FD_5415_01B8L, // 1e120
+        0xF7D8_8BC2_4209_A565L, 0x1F22_5A7C_A91A_4226L, // 1e121
+        0x9AE7_5759_6946_075FL, 0x3375_788D_E9B0_6958L, // 1e122
+        0xC1A1_2D2F_C397_8937L, 0x0052_D6B1_641C_83AEL, // 1e123
+        0xF209_787B_B47D_6B84L, 0xC067_8C5D_BD23_A49AL, // 1e124
+        0x9745_EB4D_50CE_6332L, 0xF840_B7BA_9636_46E0L, // 1e125
+        0xBD17_6620_A501_FBFFL, 0xB650_E5A9_3BC3_D898L, // 1e126
+        0xEC5D_3FA8_CE42_7AFFL, 0xA3E5_1F13_8AB4_CEBEL, // 1e127
+        0x93BA_47C9_80E9_8CDFL, 0xC66F_336C_36B1_0137L, // 1e128
+        0xB8A8_D9BB_E123_F017L, 0xB80B_0047_445D_4184L, // 1e129
+        0xE6D3_102A_D96C_EC1DL, 0xA60D_C059_1574_91E5L, // 1e130
+        0x9043_EA1A_C7E4_1392L, 0x87C8_9837_AD68_DB2FL, // 1e131
+        0xB454_E4A1_79DD_1877L, 0x29BA_BE45_98C3_11FBL, // 1e132
+        0xE16A_1DC9_D854_5E94L, 0xF429_6DD6_FEF3_D67AL, // 1e133
+        0x8CE2_529E_2734_BB1DL, 0x1899_E4A6_5F58_660CL, // 1e134
+        0xB01A_E745_B101_E9E4L, 0x5EC0_5DCF_F72E_7F8FL, // 1e135
+        0xDC21_A117_1D42_645DL, 0x7670_7543_F4FA_1F73L, // 1e136
+        0x8995_04AE_7249_7EBAL, 0x6A06_494A_791C_53A8L, // 1e137
+        0xABFA_45DA_0EDB_DE69L, 0x0487_DB9D_1763_6892L, // 1e138
+        0xD6F8_D750_9292_D603L, 0x45A9_D284_5D3C_42B6L, // 1e139
+        0x865B_8692_5B9B_C5C2L, 0x0B8A_2392_BA45_A9B2L, // 1e140
+        0xA7F2_6836_F282_B732L, 0x8E6C_AC77_68D7_141EL, // 1e141
+        0xD1EF_0244_AF23_64FFL, 0x3207_D795_430C_D926L, // 1e142
+        0x8335_616A_ED76_1F1FL, 0x7F44_E6BD_49E8_07B8L, // 1e143
+        0xA402_B9C5_A8D3_A6E7L, 0x5F16_206C_9C62_09A6L, // 1e144
+        0xCD03_6837_1308_90A1L, 0x36DB_A887_C37A_8C0FL, // 1e145
+        0x8022_2122_6BE5_5A64L, 0xC249_4954_DA2C_9789L, // 1e146
+        0xA02A_A96B_06DE_B0FDL, 0xF2DB_9BAA_10B7_BD6CL, // 1e147
+        0xC835_53C5_C896_5D3DL, 0x6F92_8294_94E5_ACC7L, // 1e148
+        0xFA42_A8B7_3ABB_F48CL, 0xCB77_2339_BA1F_17F9L, // 1e149
+        0x9C69_A972_84B5_78D7L, 0xFF2A_7604_1453_6EFBL, // 1e150
+        0xC384_13CF_25E2_D70DL, 0xFEF5_1385_1968_4ABAL, // 1e151
+        0xF465_18C2_EF5B_8CD1L, 0x7EB2_5866_5FC2_5D69L, // 1e152
+        0x98BF_2F79_D599_3802L, 0xEF2F_773F_FBD9_7A61L, // 1e153
+        0xBEEE_FB58_4AFF_8603L, 0xAAFB_550F_FACF_D8FAL, // 1e154
+        0xEEAA_BA2E_5DBF_6784L, 0x95BA_2A53_F983_CF38L, // 1e155
+        0x952A_B45C_FA97_A0B2L, 0xDD94_5A74_7BF2_6183L, // 1e156
+        0xBA75_6174_393D_88DFL, 0x94F9_7111_9AEE_F9E4L, // 1e157
+        0xE912_B9D1_478C_EB17L, 0x7A37_CD56_01AA_B85DL, // 1e158
+        0x91AB_B422_CCB8_12EEL, 0xAC62_E055_C10A_B33AL, // 1e159
+        0xB616_A12B_7FE6_17AAL, 0x577B_986B_314D_6009L, // 1e160
+        0xE39C_4976_5FDF_9D94L, 0xED5A_7E85_FDA0_B80BL, // 1e161
+        0x8E41_ADE9_FBEB_C27DL, 0x1458_8F13_BE84_7307L, // 1e162
+        0xB1D2_1964_7AE6_B31CL, 0x596E_B2D8_AE25_8FC8L, // 1e163
+        0xDE46_9FBD_99A0_5FE3L, 0x6FCA_5F8E_D9AE_F3BBL, // 1e164
+        0x8AEC_23D6_8004_3BEEL, 0x25DE_7BB9_480D_5854L, // 1e165
+        0xADA7_2CCC_2005_4AE9L, 0xAF56_1AA7_9A10_AE6AL, // 1e166
+        0xD910_F7FF_2806_9DA4L, 0x1B2B_A151_8094_DA04L, // 1e167
+        0x87AA_9AFF_7904_2286L, 0x90FB_44D2_F05D_0842L, // 1e168
+        0xA995_41BF_5745_2B28L, 0x353A_1607_AC74_4A53L, // 1e169
+        0xD3FA_922F_2D16_75F2L, 0x4288_9B89_9791_5CE8L, // 1e170
+        0x847C_9B5D_7C2E_09B7L, 0x6995_6135_FEBA_DA11L, // 1e171
+        0xA59B_C234_DB39_8C25L, 0x43FA_B983_7E69_9095L, // 1e172
+        0xCF02_B2C2_1207_EF2EL, 0x94F9_67E4_5E03_F4BBL, // 1e173
+        0x8161_AFB9_4B44_F57DL, 0x1D1B_E0EE_BAC2_78F5L, // 1e174
+        0xA1BA_1BA7_9E16_32DCL, 0x6462_D92A_6973_1732L, // 1e175
+        0xCA28_A291_859B_BF93L, 0x7D7B_8F75_03CF_DCFEL, // 1e176
+        0xFCB2_CB35_E702_AF78L, 0x5CDA_7352_44C3_D43EL, // 1e177
+        0x9DEF_BF01_B061_ADABL, 0x3A08_8813_6AFA_64A7L, // 1e178
+        0xC56B_AEC2_1C7A_1916L, 0x088A_AA18_45B8_FDD0L, // 1e179
+        0xF6C6_9A72_A398_9F5BL, 0x8AAD_549E_5727_3D45L, // 1e180
+        0x9A3C_2087_A63F_6399L, 0x36AC_54E2_F678_864BL, // 1e181
+        0xC0CB_28A9_8FCF_3C7FL, 0x8457_6A1B_B416_A7DDL, // 1e182
+        0xF0FD_F2D3_F3C3_0B9FL, 0x656D_44A2_A11C_51D5L, // 1e183
+        0x969E_B7C4_7859_E743L, 0x9F64_4AE5_A4B1_B325L, // 1e184
+        0xBC46_65B5_9670_6114L, 0x873D_5D9F_0DDE_1FEEL, // 1e185
+        0xEB57_FF22_FC0C_7959L, 0xA90C_B506_D155_A7EAL, // 1e186
+        0x9316_FF75_DD87_CBD8L, 0x09A7_F124_42D5_88F2L, // 1e187
+        0xB7DC_BF53_54E9_BECEL, 0x0C11_ED6D_538A_EB2FL, // 1e188
+        0xE5D3_EF28_2A24_2E81L, 0x8F16_68C8_A86D_A5FAL, // 1e189
+        0x8FA4_7579_1A56_9D10L, 0xF96E_017D_6944_87BCL, // 1e190
+        0xB38D_92D7_60EC_4455L, 0x37C9_81DC_C395_A9ACL, // 1e191
+        0xE070_F78D_3927_556AL, 0x85BB_E253_F47B_1417L, // 1e192
+        0x8C46_9AB8_43B8_9562L, 0x9395_6D74_78CC_EC8EL, // 1e193
+        0xAF58_4166_54A6_BABBL, 0x387A_C8D1_9700_27B2L, // 1e194
+        0xDB2E_51BF_E9D0_696AL, 0x0699_7B05_FCC0_319EL, // 1e195
+        0x88FC_F317_F222_41E2L, 0x441F_ECE3_BDF8_1F03L, // 1e196
+        0xAB3C_2FDD_EEAA_D25AL, 0xD527_E81C_AD76_26C3L, // 1e197
+        0xD60B_3BD5_6A55_86F1L, 0x8A71_E223_D8D3_B074L, // 1e198
+        0x85C7_0565_6275_7456L, 0xF687_2D56_6784_4E49L, // 1e199
+        0xA738_C6BE_BB12_D16CL, 0xB428_F8AC_0165_61DBL, // 1e200
+        0xD106_F86E_69D7_85C7L, 0xE133_36D7_01BE_BA52L, // 1e201
+        0x82A4_5B45_0226_B39CL, 0xECC0_0246_6117_3473L, // 1e202
+        0xA34D_7216_42B0_6084L, 0x27F0_02D7_F95D_0190L, // 1e203
+        0xCC20_CE9B_D35C_78A5L, 0x31EC_038D_F7B4_41F4L, // 1e204
+        0xFF29_0242_C833_96CEL, 0x7E67_0471_75A1_5271L, // 1e205
+        0x9F79_A169_BD20_3E41L, 0x0F00_62C6_E984_D386L, // 1e206
+        0xC758_09C4_2C68_4DD1L, 0x52C0_7B78_A3E6_0868L, // 1e207
+        0xF92E_0C35_3782_6145L, 0xA770_9A56_CCDF_8A82L, // 1e208
+        0x9BBC_C7A1_42B1_7CCBL, 0x88A6_6076_400B_B691L, // 1e209
+        0xC2AB_F989_935D_DBFEL, 0x6ACF_F893_D00E_A435L, // 1e210
+        0xF356_F7EB_F835_52FEL, 0x0583_F6B8_C412_4D43L, // 1e211
+        0x9816_5AF3_7B21_53DEL, 0xC372_7A33_7A8B_704AL, // 1e212
+        0xBE1B_F1B0_59E9_A8D6L, 0x744F_18C0_592E_4C5CL, // 1e213
+        0xEDA2_EE1C_7064_130CL, 0x1162_DEF0_6F79_DF73L, // 1e214
+        0x9485_D4D1_C63E_8BE7L, 0x8ADD_CB56_45AC_2BA8L, // 1e215
+        0xB9A7_4A06_37CE_2EE1L, 0x6D95_3E2B_D717_3692L, // 1e216
+        0xE811_1C87_C5C1_BA99L, 0xC8FA_8DB6_CCDD_0437L, // 1e217
+        0x910A_B1D4_DB99_14A0L, 0x1D9C_9892_400A_22A2L, // 1e218
+        0xB54D_5E4A_127F_59C8L, 0x2503_BEB6_D00C_AB4BL, // 1e219
+        0xE2A0_B5DC_971F_303AL, 0x2E44_AE64_840F_D61DL, // 1e220
+        0x8DA4_71A9_DE73_7E24L, 0x5CEA_ECFE_D289_E5D2L, // 1e221
+        0xB10D_8E14_5610_5DADL, 0x7425_A83E_872C_5F47L, // 1e222
+        0xDD50_F199_6B94_7518L, 0xD12F_124E_28F7_7719L, // 1e223
+        0x8A52_96FF_E33C_C92FL, 0x82BD_6B70_D99A_AA6FL, // 1e224
+        0xACE7_3CBF_DC0B_FB7BL, 0x636C_C64D_1001_550BL, // 1e225
+        0xD821_0BEF_D30E_FA5AL, 0x3C47_F7E0_5401_AA4EL, // 1e226
+        0x8714_A775_E3E9_5C78L, 0x65AC_FAEC_3481_0A71L, // 1e227
+        0xA8D9_D153_5CE3_B396L, 0x7F18_39A7_41A1_4D0DL, // 1e228
+        0xD310_45A8_341C_A07CL, 0x1EDE_4811_1209_A050L, // 1e229
+        0x83EA_2B89_2091_E44DL, 0x934A_ED0A_AB46_0432L, // 1e230
+        0xA4E4_B66B_68B6_5D60L, 0xF81D_A84D_5617_853FL, // 1e231
+        0xCE1D_E406_42E3_F4B9L, 0x3625_1260_AB9D_668EL, // 1e232
+        0x80D2_AE83_E9CE_78F3L, 0xC1D7_2B7C_6B42_6019L, // 1e233
+        0xA107_5A24_E442_1730L, 0xB24C_F65B_8612_F81FL, // 1e234
+        0xC949_30AE_1D52_9CFCL, 0xDEE0_33F2_6797_B627L, // 1e235
+        0xFB9B_7CD9_A4A7_443CL, 0x1698_40EF_017D_A3B1L, // 1e236
+        0x9D41_2E08_06E8_8AA5L, 0x8E1F_2895_60EE_864EL, // 1e237
+        0xC491_798A_08A2_AD4EL, 0xF1A6_F2BA_B92A_27E2L, // 1e238
+        0xF5B5_D7EC_8ACB_58A2L, 0xAE10_AF69_6774_B1DBL, // 1e239
+        0x9991_A6F3_D6BF_1765L, 0xACCA_6DA1_E0A8_EF29L, // 1e240
+        0xBFF6_10B0_CC6E_DD3FL, 0x17FD_090A_58D3_2AF3L, // 1e241
+        0xEFF3_94DC_FF8A_948EL, 0xDDFC_4B4C_EF07_F5B0L, // 1e242
+        0x95F8_3D0A_1FB6_9CD9L, 0x4ABD_AF10_1564_F98EL, // 1e243
+        0xBB76_4C4C_A7A4_440FL, 0x9D6D_1AD4_1ABE_37F1L, // 1e244
+        0xEA53_DF5F_D18D_5513L, 0x84C8_6189_216D_C5EDL, // 1e245
+        0x9274_6B9B_E2F8_552CL, 0x32FD_3CF5_B4E4_9BB4L, // 1e246
+        0xB711_8682_DBB6_6A77L, 0x3FBC_8C33_221D_C2A1L, // 1e247
+        0xE4D5_E823_92A4_0515L, 0x0FAB_AF3F_EAA5_334AL, // 1e248
+        0x8F05_B116_3BA6_832DL, 0x29CB_4D87_F2A7_400EL, // 1e249
+        0xB2C7_1D5B_CA90_23F8L, 0x743E_20E9_EF51_1012L, // 1e250
+        0xDF78_E4B2_BD34_2CF6L, 0x914D_A924_6B25_5416L, // 1e251
+        0x8BAB_8EEF_B640_9C1AL, 0x1AD0_89B6_C2F7_548EL, // 1e252
+        0xAE96_72AB_A3D0_C320L, 0xA184_AC24_73B5_29B1L, // 1e253
+        0xDA3C_0F56_8CC4_F3E8L, 0xC9E5_D72D_90A2_741EL, // 1e254
+        0x8865_8996_17FB_1871L, 0x7E2F_A67C_7A65_8892L, // 1e255
+        0xAA7E_EBFB_9DF9_DE8DL, 0xDDBB_901B_98FE_EAB7L, // 1e256
+        0xD51E_A6FA_8578_5631L, 0x552A_7422_7F3E_A565L, // 1e257
+        0x8533_285C_936B_35DEL, 0xD53A_8895_8F87_275FL, // 1e258
+        0xA67F_F273_B846_0356L, 0x8A89_2ABA_F368_F137L, // 1e259
+        0xD01F_EF10_A657_842CL, 0x2D2B_7569_B043_2D85L, // 1e260
+        0x8213_F56A_67F6_B29BL, 0x9C3B_2962_0E29_FC73L, // 1e261
+        0xA298_F2C5_01F4_5F42L, 0x8349_F3BA_91B4_7B8FL, // 1e262
+        0xCB3F_2F76_4271_7713L, 0x241C_70A9_3621_9A73L, // 1e263
+        0xFE0E_FB53_D30D_D4D7L, 0xED23_8CD3_83AA_0110L, // 1e264
+        0x9EC9_5D14_63E8_A506L, 0xF436_3804_324A_40AAL, // 1e265
+        0xC67B_B459_7CE2_CE48L, 0xB143_C605_3EDC_D0D5L, // 1e266
+        0xF81A_A16F_DC1B_81DAL, 0xDD94_B786_8E94_050AL, // 1e267
+        0x9B10_A4E5_E991_3128L, 0xCA7C_F2B4_191C_8326L, // 1e268
+        0xC1D4_CE1F_63F5_7D72L, 0xFD1C_2F61_1F63_A3F0L, // 1e269
+        0xF24A_01A7_3CF2_DCCFL, 0xBC63_3B39_673C_8CECL, // 1e270
+        0x976E_4108_8617_CA01L, 0xD5BE_0503_E085_D813L, // 1e271
+        0xBD49_D14A_A79D_BC82L, 0x4B2D_8644_D8A7_4E18L, // 1e272
+        0xEC9C_459D_5185_2BA2L, 0xDDF8_E7D6_0ED1_219EL, // 1e273
+        0x93E1_AB82_52F3_3B45L, 0xCABB_90E5_C942_B503L, // 1e274
+        0xB8DA_1662_E7B0_0A17L, 0x3D6A_751F_3B93_6243L, // 1e275
+        0xE710_9BFB_A19C_0C9DL, 0x0CC5_1267_0A78_3AD4L, // 1e276
+        0x906A_617D_4501_87E2L, 0x27FB_2B80_668B_24C5L, // 1e277
+        0xB484_F9DC_9641_E9DAL, 0xB1F9_F660_802D_EDF6L, // 1e278
+        0xE1A6_3853_BBD2_6451L, 0x5E78_73F8_A039_6973L, // 1e279
+        0x8D07_E334_5563_7EB2L, 0xDB0B_487B_6423_E1E8L, // 1e280
+        0xB049_DC01_6ABC_5E5FL, 0x91CE_1A9A_3D2C_DA62L, // 1e281
+        0xDC5C_5301_C56B_75F7L, 0x7641_A140_CC78_10FBL, // 1e282
+        0x89B9_B3E1_1B63_29BAL, 0xA9E9_04C8_7FCB_0A9DL, // 1e283
+        0xAC28_20D9_623B_F429L, 0x5463_45FA_9FBD_CD44L, // 1e284
+        0xD732_290F_BACA_F133L, 0xA97C_1779_47AD_4095L, // 1e285
+        0x867F_59A9_D4BE_D6C0L, 0x49ED_8EAB_CCCC_485DL, // 1e286
+        0xA81F_3014_49EE_8C70L, 0x5C68_F256_BFFF_5A74L, // 1e287
+        0xD226_FC19_5C6A_2F8CL, 0x7383_2EEC_6FFF_3111L, // 1e288
+        0x8358_5D8F_D9C2_5DB7L, 0xC831_FD53_C5FF_7EABL, // 1e289
+        0xA42E_74F3_D032_F525L, 0xBA3E_7CA8_B77F_5E55L, // 1e290
+        0xCD3A_1230_C43F_B26FL, 0x28CE_1BD2_E55F_35EBL, // 1e291
+        0x8044_4B5E_7AA7_CF85L, 0x7980_D163_CF5B_81B3L, // 1e292
+        0xA055_5E36_1951_C366L, 0xD7E1_05BC_C332_621FL, // 1e293
+        0xC86A_B5C3_9FA6_3440L, 0x8DD9_472B_F3FE_FAA7L, // 1e294
+        0xFA85_6334_878F_C150L, 0xB14F_98F6_F0FE_B951L, // 1e295
+        0x9C93_5E00_D4B9_D8D2L, 0x6ED1_BF9A_569F_33D3L, // 1e296
+        0xC3B8_3581_09E8_4F07L, 0x0A86_2F80_EC47_00C8L, // 1e297
+        0xF4A6_42E1_4C62_62C8L, 0xCD27_BB61_2758_C0FAL, // 1e298
+        0x98E7_E9CC_CFBD_7DBDL, 0x8038_D51C_B897_789CL, // 1e299
+        0xBF21_E440_03AC_DD2CL, 0xE047_0A63_E6BD_56C3L, // 1e300
+        0xEEEA_5D50_0498_1478L, 0x1858_CCFC_E06C_AC74L, // 1e301
+        0x9552_7A52_02DF_0CCBL, 0x0F37_801E_0C43_EBC8L, // 1e302
+        0xBAA7_18E6_8396_CFFDL, 0xD305_6025_8F54_E6BAL, // 1e303
+        0xE950_DF20_247C_83FDL, 0x47C6_B82E_F32A_2069L, // 1e304
+        0x91D2_8B74_16CD_D27EL, 0x4CDC_331D_57FA_5441L, // 1e305
+        0xB647_2E51_1C81_471DL, 0xE013_3FE4_ADF8_E952L, // 1e306
+        0xE3D8_F9E5_63A1_98E5L, 0x5818_0FDD_D977_23A6L, // 1e307
+        0x8E67_9C2F_5E44_FF8FL, 0x570F_09EA_A7EA_7648L, // 1e308
+        0xB201_833B_35D6_3F73L, 0x2CD2_CC65_51E5_13DAL, // 1e309
+        0xDE81_E40A_034B_CF4FL, 0xF807_7F7E_A65E_58D1L, // 1e310
+        0x8B11_2E86_420F_6191L, 0xFB04_AFAF_27FA_F782L, // 1e311
+        0xADD5_7A27_D293_39F6L, 0x79C5_DB9A_F1F9_B563L, // 1e312
+        0xD94A_D8B1_C738_0874L, 0x1837_5281_AE78_22BCL, // 1e313
+        0x87CE_C76F_1C83_0548L, 0x8F22_9391_0D0B_15B5L, // 1e314
+        0xA9C2_794A_E3A3_C69AL, 0xB2EB_3875_504D_DB22L, // 1e315
+        0xD433_179D_9C8C_B841L, 0x5FA6_0692_A461_51EBL, // 1e316
+        0x849F_EEC2_81D7_F328L, 0xDBC7_C41B_A6BC_D333L, // 1e317
+        0xA5C7_EA73_224D_EFF3L, 0x12B9_B522_906C_0800L, // 1e318
+        0xCF39_E50F_EAE1_6BEFL, 0xD768_226B_3487_0A00L, // 1e319
+        0x8184_2F29_F2CC_E375L, 0xE6A1_1583_00D4_6640L, // 1e320
+        0xA1E5_3AF4_6F80_1C53L, 0x6049_5AE3_C109_7FD0L, // 1e321
+        0xCA5E_89B1_8B60_2368L, 0x385B_B19C_B14B_DFC4L, // 1e322
+        0xFCF6_2C1D_EE38_2C42L, 0x4672_9E03_DD9E_D7B5L, // 1e323
+        0x9E19_DB92_B4E3_1BA9L, 0x6C07_A2C2_6A83_46D1L, // 1e324
+        0xC5A0_5277_621B_E293L, 0xC709_8B73_0524_1885L, // 1e325
+        0xF708_6715_3AA2_DB38L, 0xB8CB_EE4F_C66D_1EA7L, // 1e326
+        0x9A65_406D_44A5_C903L, 0x737F_74F1_DC04_3328L, // 1e327
+        0xC0FE_9088_95CF_3B44L, 0x505F_522E_5305_3FF2L, // 1e328
+        0xF13E_34AA_BB43_0A15L, 0x6477_26B9_E7C6_8FEFL, // 1e329
+        0x96C6_E0EA_B509_E64DL, 0x5ECA_7834_30DC_19F5L, // 1e330
+        0xBC78_9925_624C_5FE0L, 0xB67D_1641_3D13_2072L, // 1e331
+        0xEB96_BF6E_BADF_77D8L, 0xE41C_5BD1_8C57_E88FL, // 1e332
+        0x933E_37A5_34CB_AAE7L, 0x8E91_B962_F7B6_F159L, // 1e333
+        0xB80D_C58E_81FE_95A1L, 0x7236_27BB_B5A4_ADB0L, // 1e334
+        0xE611_36F2_227E_3B09L, 0xCEC3_B1AA_A30D_D91CL, // 1e335
+        0x8FCA_C257_558E_E4E6L, 0x213A_4F0A_A5E8_A7B1L, // 1e336
+        0xB3BD_72ED_2AF2_9E1FL, 0xA988_E2CD_4F62_D19DL, // 1e337
+        0xE0AC_CFA8_75AF_45A7L, 0x93EB_1B80_A33B_8605L, // 1e338
+        0x8C6C_01C9_498D_8B88L, 0xBC72_F130_6605_33C3L, // 1e339
+        0xAF87_023B_9BF0_EE6AL, 0xEB8F_AD7C_7F86_80B4L, // 1e340
+        0xDB68_C2CA_82ED_2A05L, 0xA673_98DB_9F68_20E1L, // 1e341
+        0x8921_79BE_91D4_3A43L, 0x8808_3F89_43A1_148CL, // 1e342
+        0xAB69_D82E_3649_48D4L, 0x6A0A_4F6B_9489_59B0L, // 1e343
+        0xD644_4E39_C3DB_9B09L, 0x848C_E346_79AB_B01CL, // 1e344
+        0x85EA_B0E4_1A69_40E5L, 0xF2D8_0E0C_0C0B_4E11L, // 1e345
+        0xA765_5D1D_2103_911FL, 0x6F8E_118F_0F0E_2195L, // 1e346
+        0xD13E_B464_6944_7567L, 0x4B71_95F2_D2D1_A9FBL, // 1e347
+    };
+}
@@ -0,0 +1,65 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package sun.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Gives core reflection access to the trusted method handle lookup of
+ * {@code java.lang.invoke}, without handing out the lookup itself.  The
+ * implementation is registered by {@code java.lang.invoke.MethodHandles}
+ * through {@link MethodHandleAccessorFactory#setJavaLangInvokeAccess}.
+ *
+ * <p>
+ *  使核心反射能够访问{@code java.lang.invoke}的受信任方法句柄查找,而无需交出查找本身。
+ * 其实现由{@code java.lang.invoke.MethodHandles}通过{@link MethodHandleAccessorFactory#setJavaLangInvokeAccess}注册。
+ *
+ */
+public interface JavaLangInvokeAccess {
+    /**
+     * Returns a direct method handle invoking the given method as
+     * {@link Method#invoke} would, regardless of its accessibility, or
+     * {@code null} if the method is caller-sensitive.
+     *
+     * <p>
+     *  返回一个直接方法句柄,它像{@link Method#invoke}一样调用给定的方法,而不管其可访问性;如果该方法对调用者敏感,则返回{@code null}。
+     *
+     */
+    MethodHandle unreflect(Method m);
+
+    /**
+     * Returns a direct method handle creating instances through the given
+     * constructor, regardless of its accessibility.
+     *
+     * <p>
+     *  返回一个直接方法句柄,通过给定的构造函数创建实例,而不管其可访问性。
+     *
+     */
+    MethodHandle unreflectConstructor(Constructor<?> c);
+}
@@ -0,0 +1,208 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package sun.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import sun.invoke.util.Wrapper;
+import sun.misc.Unsafe;
+import sun.misc.VM;
+
+/**
+ * Creates method and constructor accessors backed by direct method
+ * handles.
+ *
+ * <p>The accessors produced by {@link ReflectionFactory} start out
+ * calling through JNI and, after {@code sun.reflect.inflationThreshold}
+ * invocations, spin a new class for every method or constructor.  The
+ * accessors created here are plain objects holding a method handle,
+ * whose lambda forms are shared by every member of the same shape and
+ * which the JIT compiler can inline from the first call.
+ *
+ * <p>Direct method handle accessors are not used before the VM has
+ * booted, for members of {@code java.lang.invoke} and {@code
+ * sun.invoke}, on which method handles themselves depend, and for
+ * caller-sensitive methods.  They can be disabled altogether with
+ * {@code -Dsun.reflect.useDirectMethodHandle=false}.
+ *
+ * <p>
+ *  创建由直接方法句柄支持的方法和构造函数访问器。
+ *
+ *  <p>由{@link ReflectionFactory}生成的访问器开始时通过JNI调用,在{@code sun.reflect.inflationThreshold}次调用之后,
+ * 为每个方法或构造函数生成一个新类。此处创建的访问器是持有方法句柄的普通对象,其lambda形式由相同形状的所有成员共享,JIT编译器从第一次调用起就可以内联它们。
+ *
+ *  <p>在VM启动之前、对于方法句柄本身所依赖的{@code java.lang.invoke}和{@code sun.invoke}的成员以及对调用者敏感的方法,
+ * 不使用直接方法句柄访问器。可以使用{@code -Dsun.reflect.useDirectMethodHandle=false}完全禁用它们。
+ *
+ */
+public final class MethodHandleAccessorFactory {
+    private static final Unsafe unsafe = Unsafe.getUnsafe();
+
+    private static volatile JavaLangInvokeAccess javaLangInvokeAccess;
+
+    // Read from the saved system properties once the VM has booted
+    private static boolean useDirectMethodHandle = true;
+    private static volatile boolean initted = false;
+
+    private MethodHandleAccessorFactory() {
+    }
+
+    /**
+     * Registers the trusted lookup bridge.  Called once, by {@code
+     * java.lang.invoke.MethodHandles.Lookup} during its initialization.
+     *
+     * <p>
+     *  注册受信任的查找桥。由{@code java.lang.invoke.MethodHandles.Lookup}在其初始化期间调用一次。
+     *
+     */
+    public static void setJavaLangInvokeAccess(JavaLangInvokeAccess access) {
+        if (javaLangInvokeAccess != null) {
+            throw new InternalError("JavaLangInvokeAccess already set");
+        }
+        javaLangInvokeAccess = access;
+    }
+
+    /**
+     * Returns an accessor invoking the given method through a direct
+     * method handle, or {@code null} if the method must be invoked
+     * through the accessors of {@link ReflectionFactory}.
+     *
+     * <p>
+     *  返回一个通过直接方法句柄调用给定方法的访问器;如果该方法必须通过{@link ReflectionFactory}的访问器调用,则返回{@code null}。
+     *
+     */
+    public static MethodAccessor newMethodAccessor(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!useDirectMethodHandle(declaringClass)) {
+            return null;
+        }
+        JavaLangInvokeAccess access = access();
+        if (access == null) {
+            return null;
+        }
+        MethodHandle target = access.unreflect(method);
+        if (target == null) {
+            return null;
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            // Report a failed initialization as Method.invoke specifies,
+            // rather than as thrown by the target
+            unsafe.ensureClassInitialized(declaringClass);
+        }
+        return new MethodHandleMethodAccessor(method, target);
+    }
+
+    /**
+     * Returns an accessor invoking the given constructor through a direct
+     * method handle, or {@code null} if the constructor must be invoked
+     * through the accessors of {@link ReflectionFactory}.
+     *
+     * <p>
+     *  返回一个通过直接方法句柄调用给定构造函数的访问器;如果该构造函数必须通过{@link ReflectionFactory}的访问器调用,则返回{@code null}。
+     *
+     */
+    public static ConstructorAccessor newConstructorAccessor(Constructor<?> c) {
+        Class<?> declaringClass = c.getDeclaringClass();
+        if (Modifier.isAbstract(declaringClass.getModifiers())
+            || declaringClass == Class.class
+            || !useDirectMethodHandle(declaringClass)) {
+            return null;
+        }
+        JavaLangInvokeAccess access = access();
+        if (access == null) {
+            return null;
+        }
+        MethodHandle target = access.unreflectConstructor(c);
+        unsafe.ensureClassInitialized(declaringClass);
+        return new MethodHandleConstructorAccessor(c, target);
+    }
+
+    /**
+     * Returns true if the given arguments can be passed to parameters of
+     * the given types by reflection: each argument is either an instance
+     * of its reference parameter type or null, or a wrapper whose
+     * primitive value widens to its primitive parameter type.  Used to
+     * tell argument errors from exceptions thrown by the target.
+     */
+    static boolean argumentsMatch(Class<?>[] types, Object[] args) {
+        for (int i = 0; i < types.length; i++) {
+            Class<?> type = types[i];
+            Object arg = args[i];
+            if (type.isPrimitive()) {
+                if (arg == null || !Wrapper.isWrapperType(arg.getClass())) {
+                    return false;
+                }
+                Wrapper from = Wrapper.forWrapperType(arg.getClass());
+                if (!Wrapper.forPrimitiveType(type).isConvertibleFrom(from)) {
+                    return false;
+                }
+            } else if (arg != null && !type.isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean useDirectMethodHandle(Class<?> declaringClass) {
+        if (!VM.isBooted()) {
+            return false;
+        }
+        checkInitted();
+        if (!useDirectMethodHandle) {
+            return false;
+        }
+        // Method handles are built on these; reflecting on them through
+        // method handles could recurse while they are being set up
+        String name = declaringClass.getName();
+        return !name.startsWith("java.lang.invoke.")
+            && !name.startsWith("sun.invoke.");
+    }
+
+    private static JavaLangInvokeAccess access() {
+        JavaLangInvokeAccess access = javaLangInvokeAccess;
+        if (access == null) {
+            unsafe.ensureClassInitialized(MethodHandles.Lookup.class);
+            // Still null if Lookup is being initialized by this thread
+            access = javaLangInvokeAccess;
+        }
+        return access;
+    }
+
+    private static void checkInitted() {
+        if (initted) {
+            return;
+        }
+        String val = VM.getSavedProperty("sun.reflect.useDirectMethodHandle");
+        if (val != null && val.equals("false")) {
+            useDirectMethodHandle = false;
+        }
+        initted = true;
+    }
+}
@@ -0,0 +1,72 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package sun.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/** Invokes a constructor through a direct method handle, spread over
+    the argument array and adapted to {@code (Object[])Object}. */
+
+class MethodHandleConstructorAccessor implements ConstructorAccessor {
+    private static final MethodType GENERIC_TYPE =
+        MethodType.methodType(Object.class, Object[].class);
+
+    private final MethodHandle target;
+    private final Class<?>[] parameterTypes;
+
+    MethodHandleConstructorAccessor(Constructor<?> c, MethodHandle mh) {
+        parameterTypes = c.getParameterTypes();
+        target = mh.asFixedArity()
+                   .asSpreader(Object[].class, parameterTypes.length)
+                   .asType(GENERIC_TYPE);
+    }
+
+    public Object newInstance(Object[] args)
+        throws InstantiationException,
+               IllegalArgumentException,
+               InvocationTargetException
+    {
+        int argc = (args == null) ? 0 : args.length;
+        if (argc != parameterTypes.length) {
+            throw new IllegalArgumentException("wrong number of arguments");
+        }
+        try {
+            return (Object) target.invokeExact(args);
+        } catch (ClassCastException | NullPointerException e) {
+            // See MethodHandleMethodAccessor.invoke
+            if (!MethodHandleAccessorFactory.argumentsMatch(parameterTypes, args)) {
+                throw new IllegalArgumentException("argument type mismatch");
+            }
+            throw new InvocationTargetException(e);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/***** Lobxxx Translate Finished ******/
+/*
+ * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package sun.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/** Invokes a method through a direct method handle, spread over the
+    argument array and adapted to {@code (Object, Object[])Object}. */
+
+class MethodHandleMethodAccessor implements MethodAccessor {
+    private static final MethodType GENERIC_TYPE =
+        MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final MethodHandle target;
+    private final Class<?> declaringClass;
+    private final Class<?>[] parameterTypes;
+    private final boolean isStatic;
+
+    MethodHandleMethodAccessor(Method method, MethodHandle mh) {
+        declaringClass = method.getDeclaringClass();
+        parameterTypes = method.getParameterTypes();
+        isStatic = Modifier.isStatic(method.getModifiers());
+        mh = mh.asFixedArity().asSpreader(Object[].class, parameterTypes.length);
+        if (isStatic) {
+            mh = MethodHandles.dropArguments(mh, 0, Object.class);
+        }
+        target = mh.asType(GENERIC_TYPE);
+    }
+
+    public Object invoke(Object obj, Object[] args)
+        throws IllegalArgumentException, InvocationTargetException
+    {
+        int argc = (args == null) ? 0 : args.length;
+        if (argc != parameterTypes.length) {
+            throw new IllegalArgumentException("wrong number of arguments");
+        }
+        if (!isStatic) {
+            if (obj == null) {
+                throw new NullPointerException();
+            }
+            if (!declaringClass.isInstance(obj)) {
+                throw new IllegalArgumentException(
+                    "object is not an instance of declaring class");
+            }
+        }
+        try {
+            return (Object) target.invokeExact(obj, args);
+        } catch (ClassCastException | NullPointerException e) {
+            // Either an argument could not be converted, or the target
+            // threw; the conversions are pure, so the arguments tell which
+            if (!MethodHandleAccessorFactory.argumentsMatch(parameterTypes, args)) {
+                throw new IllegalArgumentException("argument type mismatch");
+            }
+            throw new InvocationTargetException(e);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}